@@ -9,7 +9,11 @@ dependencies {
 
 	compileOnly("org.springframework:spring-webmvc")
 	compileOnly("javax.servlet:javax.servlet-api")
+	compileOnly("org.apache.tomcat.embed:tomcat-embed-core")
+	compileOnly("org.eclipse.jetty:jetty-server")
+	compileOnly("io.undertow:undertow-servlet")
 	compileOnly("org.springframework:spring-webflux")
+	compileOnly("io.projectreactor.netty:reactor-netty")
 	compileOnly("org.springframework:spring-jdbc")
 	compileOnly("org.jooq:jooq")
 	compileOnly("de.flapdoodle.embed:de.flapdoodle.embed.mongo")
@@ -23,10 +27,16 @@ dependencies {
 	compileOnly("redis.clients:jedis")
 	compileOnly("io.lettuce:lettuce-core")
 	compileOnly("com.fasterxml.jackson.core:jackson-databind")
+	compileOnly("com.fasterxml.jackson.module:jackson-module-afterburner")
+	compileOnly("com.fasterxml.jackson.module:jackson-module-parameter-names")
+	compileOnly("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
+	compileOnly("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+	compileOnly("com.google.protobuf:protobuf-java:3.13.0")
 	compileOnly("com.samskivert:jmustache")
 	compileOnly("org.thymeleaf:thymeleaf")
 	compileOnly("org.thymeleaf:thymeleaf-spring5")
 	compileOnly("org.springframework:spring-r2dbc")
+	compileOnly("io.r2dbc:r2dbc-pool")
 	compileOnly("io.r2dbc:r2dbc-postgresql")
 	compileOnly("io.r2dbc:r2dbc-h2")
 	compileOnly("io.r2dbc:r2dbc-mssql")
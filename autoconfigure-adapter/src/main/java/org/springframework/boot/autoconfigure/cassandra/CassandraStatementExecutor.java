@@ -0,0 +1,278 @@
+package org.springframework.boot.autoconfigure.cassandra;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Statement;
+
+/**
+ * Execute CQL statements with a {@link CqlSession}, preparing each query once and caching its
+ * {@link PreparedStatement} in an LRU cache bounded by {@link CassandraStatementProperties#getCacheSize()}.
+ *
+ * <p>The asynchronous executions are limited to {@link CassandraStatementProperties#getMaxInFlight()} concurrent
+ * requests, the other ones being queued without blocking the caller until a request completes. They never block,
+ * the queries being prepared asynchronously, so they can be chained from the callbacks of other executions which run
+ * on the driver threads. Batched writes are grouped by keyspace, table and routing key into unlogged batches, so that
+ * each batch targets a single partition and is routed by the driver to one of its replicas.
+ */
+public class CassandraStatementExecutor {
+
+	private final CqlSession session;
+
+	private final CassandraStatementProperties properties;
+
+	private final Map<String, CompletableFuture<PreparedStatement>> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+	private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final AtomicInteger draining = new AtomicInteger();
+
+	public CassandraStatementExecutor(CqlSession session, CassandraStatementProperties properties) {
+		this.session = session;
+		this.properties = properties;
+	}
+
+	/**
+	 * Return the prepared statement of the specified query, preparing it asynchronously if not cached. Concurrent
+	 * calls for a query being prepared share the same preparation, and a failed preparation is not cached.
+	 */
+	public CompletionStage<PreparedStatement> prepareAsync(String cql) {
+		CompletableFuture<PreparedStatement> prepared;
+		boolean preparing = false;
+		synchronized (this.cache) {
+			prepared = this.cache.get(cql);
+			if (prepared == null) {
+				prepared = new CompletableFuture<>();
+				preparing = true;
+				this.cache.put(cql, prepared);
+				if (this.cache.size() > this.properties.getCacheSize()) {
+					this.cache.remove(this.cache.keySet().iterator().next());
+				}
+			}
+		}
+		if (preparing) {
+			CompletableFuture<PreparedStatement> preparation = prepared;
+			this.session.prepareAsync(cql).whenComplete((statement, ex) -> {
+				if (ex != null) {
+					synchronized (this.cache) {
+						this.cache.remove(cql, preparation);
+					}
+					preparation.completeExceptionally(ex);
+				}
+				else {
+					preparation.complete(statement);
+				}
+			});
+		}
+		return prepared.thenApply((statement) -> statement);
+	}
+
+	/**
+	 * Return the prepared statement of the specified query, preparing it if not cached. Blocks until the query is
+	 * prepared, so must not be called from a driver thread, like the callback of an asynchronous execution.
+	 * @see #prepareAsync(String)
+	 */
+	public PreparedStatement prepare(String cql) {
+		try {
+			return prepareAsync(cql).toCompletableFuture().join();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) ex.getCause();
+			}
+			throw ex;
+		}
+	}
+
+	/**
+	 * Bind the specified values to the prepared statement of the specified query. Blocks on a cache miss, like
+	 * {@link #prepare(String)}.
+	 */
+	public BoundStatement bind(String cql, Object... values) {
+		return prepare(cql).bind(values);
+	}
+
+	/**
+	 * Execute the specified query with the specified values synchronously, outside of the in-flight limit.
+	 */
+	public ResultSet execute(String cql, Object... values) {
+		return this.session.execute(bind(cql, values));
+	}
+
+	/**
+	 * Execute the specified query with the specified values asynchronously.
+	 */
+	public CompletionStage<AsyncResultSet> executeAsync(String cql, Object... values) {
+		return submit(() -> prepareAsync(cql).thenCompose((prepared) -> this.session.executeAsync(prepared.bind(values))));
+	}
+
+	/**
+	 * Execute the specified statement asynchronously.
+	 */
+	public CompletionStage<AsyncResultSet> executeAsync(Statement<?> statement) {
+		return submit(() -> this.session.executeAsync(statement));
+	}
+
+	/**
+	 * Execute the specified write statements asynchronously, grouped by keyspace, table and routing key in unlogged
+	 * batches of at most {@link CassandraStatementProperties#getMaxBatchSize()} statements. The statements without a
+	 * routing key, or which are not bound statements of a prepared query and thus don't expose their table, are
+	 * executed one by one.
+	 */
+	public CompletionStage<Void> executeBatched(Iterable<? extends BatchableStatement<?>> statements) {
+		Map<Partition, List<BatchableStatement<?>>> partitions = new LinkedHashMap<>();
+		List<CompletableFuture<AsyncResultSet>> results = new ArrayList<>();
+		for (BatchableStatement<?> statement : statements) {
+			Partition key = Partition.of(statement);
+			if (key == null) {
+				results.add(executeAsync(statement).toCompletableFuture());
+				continue;
+			}
+			List<BatchableStatement<?>> partition = partitions.computeIfAbsent(key, (k) -> new ArrayList<>());
+			partition.add(statement);
+			if (partition.size() == this.properties.getMaxBatchSize()) {
+				results.add(executeAsync(batch(partitions.remove(key))).toCompletableFuture());
+			}
+		}
+		for (List<BatchableStatement<?>> partition : partitions.values()) {
+			results.add(executeAsync(partition.size() == 1 ? partition.get(0) : batch(partition)).toCompletableFuture());
+		}
+		return CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0]));
+	}
+
+	private static BatchStatement batch(List<BatchableStatement<?>> statements) {
+		return BatchStatement.newInstance(BatchType.UNLOGGED).addAll(statements);
+	}
+
+	private <T> CompletionStage<T> submit(Supplier<CompletionStage<T>> execution) {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		this.pending.add(() -> {
+			CompletionStage<T> stage;
+			try {
+				stage = execution.get();
+			}
+			catch (Throwable ex) {
+				CompletableFuture<T> failed = new CompletableFuture<>();
+				failed.completeExceptionally(ex);
+				stage = failed;
+			}
+			stage.whenComplete((value, ex) -> {
+				this.inFlight.decrementAndGet();
+				drain();
+				if (ex != null) {
+					result.completeExceptionally(ex);
+				}
+				else {
+					result.complete(value);
+				}
+			});
+		});
+		drain();
+		return result;
+	}
+
+	/**
+	 * Start the pending executions within the in-flight limit. Only one thread drains at a time, the calls made
+	 * meanwhile, including the ones from executions completing synchronously, being handled by its loop instead of
+	 * recursively.
+	 */
+	private void drain() {
+		if (this.draining.getAndIncrement() != 0) {
+			return;
+		}
+		int missed = 1;
+		do {
+			while (!this.pending.isEmpty()) {
+				int current = this.inFlight.get();
+				if (current >= this.properties.getMaxInFlight()) {
+					break;
+				}
+				if (this.inFlight.compareAndSet(current, current + 1)) {
+					Runnable execution = this.pending.poll();
+					if (execution == null) {
+						this.inFlight.decrementAndGet();
+						break;
+					}
+					execution.run();
+				}
+			}
+			missed = this.draining.addAndGet(-missed);
+		}
+		while (missed != 0);
+	}
+
+
+	/**
+	 * The keyspace, table and routing key of a bound statement, identifying the partition it writes to.
+	 */
+	private static final class Partition {
+
+		private final CqlIdentifier keyspace;
+
+		private final CqlIdentifier table;
+
+		private final ByteBuffer routingKey;
+
+		private Partition(CqlIdentifier keyspace, CqlIdentifier table, ByteBuffer routingKey) {
+			this.keyspace = keyspace;
+			this.table = table;
+			this.routingKey = routingKey;
+		}
+
+		static Partition of(BatchableStatement<?> statement) {
+			ByteBuffer routingKey = statement.getRoutingKey();
+			if (routingKey == null || !(statement instanceof BoundStatement)) {
+				return null;
+			}
+			ColumnDefinitions variables = ((BoundStatement) statement).getPreparedStatement().getVariableDefinitions();
+			if (variables.size() == 0) {
+				return null;
+			}
+			ColumnDefinition variable = variables.get(0);
+			return new Partition(variable.getKeyspace(), variable.getTable(), routingKey);
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof Partition)) {
+				return false;
+			}
+			Partition partition = (Partition) other;
+			return this.keyspace.equals(partition.keyspace) && this.table.equals(partition.table)
+					&& this.routingKey.equals(partition.routingKey);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.keyspace, this.table, this.routingKey);
+		}
+	}
+
+}
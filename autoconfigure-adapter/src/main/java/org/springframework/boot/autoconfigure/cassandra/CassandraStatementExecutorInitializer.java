@@ -0,0 +1,24 @@
+package org.springframework.boot.autoconfigure.cassandra;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.support.GenericApplicationContext;
+
+/**
+ * {@link ApplicationContextInitializer} registering a {@link CassandraStatementExecutor} using the {@link CqlSession}.
+ */
+public class CassandraStatementExecutorInitializer implements ApplicationContextInitializer<GenericApplicationContext> {
+
+	private final CassandraStatementProperties properties;
+
+	public CassandraStatementExecutorInitializer(CassandraStatementProperties properties) {
+		this.properties = properties;
+	}
+
+	@Override
+	public void initialize(GenericApplicationContext context) {
+		context.registerBean(CassandraStatementExecutor.class, () -> new CassandraStatementExecutor(context.getBean(CqlSession.class), this.properties));
+	}
+
+}
@@ -0,0 +1,48 @@
+package org.springframework.boot.autoconfigure.cassandra;
+
+/**
+ * Cassandra statement execution settings.
+ * @see CassandraStatementExecutor
+ */
+public class CassandraStatementProperties {
+
+	/**
+	 * Maximum number of prepared statements cached by CQL query.
+	 */
+	private int cacheSize = 1000;
+
+	/**
+	 * Maximum number of statements and batches executed asynchronously at the same time, the other ones being queued.
+	 */
+	private int maxInFlight = 256;
+
+	/**
+	 * Maximum number of statements per unlogged batch.
+	 */
+	private int maxBatchSize = 50;
+
+	public int getCacheSize() {
+		return this.cacheSize;
+	}
+
+	public void setCacheSize(int cacheSize) {
+		this.cacheSize = cacheSize;
+	}
+
+	public int getMaxInFlight() {
+		return this.maxInFlight;
+	}
+
+	public void setMaxInFlight(int maxInFlight) {
+		this.maxInFlight = maxInFlight;
+	}
+
+	public int getMaxBatchSize() {
+		return this.maxBatchSize;
+	}
+
+	public void setMaxBatchSize(int maxBatchSize) {
+		this.maxBatchSize = maxBatchSize;
+	}
+
+}
@@ -0,0 +1,73 @@
+package org.springframework.boot.autoconfigure.context;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.LazyInitializationBeanFactoryPostProcessor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.support.GenericApplicationContext;
+
+/**
+ * Make all the bean definitions without an explicit lazy-init flag lazy, including the ones registered by the other
+ * initializers, and optionally instantiate the remaining singletons in a background thread once the application is
+ * ready, so that they are not created on the request path.
+ *
+ * Bean definitions explicitly flagged with {@code lazyInit=false} remain eagerly initialized.
+ */
+public class LazyInitializationInitializer implements ApplicationContextInitializer<GenericApplicationContext> {
+
+	private final boolean warmUp;
+
+	public LazyInitializationInitializer(boolean warmUp) {
+		this.warmUp = warmUp;
+	}
+
+	@Override
+	public void initialize(GenericApplicationContext context) {
+		context.addBeanFactoryPostProcessor(new LazyInitializationBeanFactoryPostProcessor());
+		if (this.warmUp) {
+			context.addApplicationListener(new WarmUpListener(context.getBeanFactory()));
+		}
+	}
+
+
+	private static class WarmUpListener implements ApplicationListener<ApplicationReadyEvent> {
+
+		private static final Log logger = LogFactory.getLog(LazyInitializationInitializer.class);
+
+		private final ConfigurableListableBeanFactory beanFactory;
+
+		WarmUpListener(ConfigurableListableBeanFactory beanFactory) {
+			this.beanFactory = beanFactory;
+		}
+
+		@Override
+		public void onApplicationEvent(ApplicationReadyEvent event) {
+			Thread thread = new Thread(this::warmUp, "lazy-initialization-warm-up");
+			thread.setDaemon(true);
+			thread.start();
+		}
+
+		private void warmUp() {
+			for (String beanName : this.beanFactory.getBeanDefinitionNames()) {
+				BeanDefinition beanDefinition = this.beanFactory.getMergedBeanDefinition(beanName);
+				if (beanDefinition.isAbstract() || !beanDefinition.isSingleton() || this.beanFactory.containsSingleton(beanName)) {
+					continue;
+				}
+				try {
+					this.beanFactory.getBean(beanName);
+				}
+				catch (RuntimeException ex) {
+					if (logger.isDebugEnabled()) {
+						logger.debug("Warm-up of lazy bean '" + beanName + "' failed", ex);
+					}
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,190 @@
+package org.springframework.boot.autoconfigure.context;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.BeanCreationNotAllowedException;
+import org.springframework.beans.factory.BeanCurrentlyInCreationException;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.NamedThreadLocal;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Create the supplier-based singletons of the specified types concurrently, once all the other eager singletons have
+ * been instantiated and before the application context refresh completes, even when the application is lazy.
+ * Typically useful for clients which perform blocking I/O on creation, in order to get a startup time close to the
+ * slowest of them instead of their sum.
+ *
+ * Only leaf beans are created concurrently: bean definitions declaring {@code dependsOn} are excluded, and a supplier
+ * which triggers the creation of another bean is abandoned and run again sequentially by the bean factory, so that
+ * dependencies are resolved and registered as usual. The resulting instances are post-processed and registered by
+ * the bean factory on the calling thread, after all the concurrent suppliers have completed.
+ */
+public class ParallelInitializationInitializer implements ApplicationContextInitializer<GenericApplicationContext> {
+
+	private final Class<?>[] beanTypes;
+
+	public ParallelInitializationInitializer(Class<?>... beanTypes) {
+		this.beanTypes = beanTypes;
+	}
+
+	@Override
+	public void initialize(GenericApplicationContext context) {
+		Map<String, ParallelSupplier> suppliers = new LinkedHashMap<>();
+		context.addBeanFactoryPostProcessor(new ParallelInitializationBeanFactoryPostProcessor(this.beanTypes, suppliers));
+		context.registerBean(ParallelInitializationInitializer.class.getName(), SmartInitializingSingleton.class, () -> () -> {
+			ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+			List<String> beanNames = new ArrayList<>();
+			suppliers.forEach((beanName, supplier) -> {
+				if (!beanFactory.containsSingleton(beanName)) {
+					beanNames.add(beanName);
+				}
+			});
+			if (beanNames.isEmpty()) {
+				return;
+			}
+			ForkJoinPool pool = new ForkJoinPool(beanNames.size());
+			try {
+				beanNames.forEach(beanName -> suppliers.get(beanName).start(pool));
+				// Wait for completion before asking the bean factory, which creates singletons holding a global lock
+				beanNames.forEach(beanName -> suppliers.get(beanName).await());
+				beanNames.forEach(beanFactory::getBean);
+			}
+			finally {
+				pool.shutdown();
+			}
+		}, definition -> definition.setLazyInit(false));
+	}
+
+
+	private static class ParallelInitializationBeanFactoryPostProcessor implements BeanFactoryPostProcessor {
+
+		private final Class<?>[] beanTypes;
+
+		private final Map<String, ParallelSupplier> suppliers;
+
+		ParallelInitializationBeanFactoryPostProcessor(Class<?>[] beanTypes, Map<String, ParallelSupplier> suppliers) {
+			this.beanTypes = beanTypes;
+			this.suppliers = suppliers;
+		}
+
+		@Override
+		public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+			for (Class<?> beanType : this.beanTypes) {
+				for (String beanName : beanFactory.getBeanNamesForType(beanType, false, false)) {
+					BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
+					if (isLeafSupplierBean(beanDefinition) && !this.suppliers.containsKey(beanName)) {
+						AbstractBeanDefinition abstractBeanDefinition = (AbstractBeanDefinition) beanDefinition;
+						ParallelSupplier supplier = new ParallelSupplier(beanName, abstractBeanDefinition.getInstanceSupplier());
+						abstractBeanDefinition.setInstanceSupplier(supplier);
+						abstractBeanDefinition.setLazyInit(true);
+						this.suppliers.put(beanName, supplier);
+					}
+				}
+			}
+			if (!this.suppliers.isEmpty()) {
+				beanFactory.addBeanPostProcessor(new LeafBeanPostProcessor());
+			}
+		}
+
+		private boolean isLeafSupplierBean(BeanDefinition beanDefinition) {
+			return beanDefinition instanceof AbstractBeanDefinition
+					&& ((AbstractBeanDefinition) beanDefinition).getInstanceSupplier() != null
+					&& beanDefinition.isSingleton()
+					&& ObjectUtils.isEmpty(beanDefinition.getDependsOn());
+		}
+	}
+
+	/**
+	 * Reject the creation of any bean from a concurrent supplier, which would otherwise happen outside of the
+	 * dependency tracking of the bean factory and contend for its singleton lock.
+	 */
+	private static class LeafBeanPostProcessor implements InstantiationAwareBeanPostProcessor {
+
+		@Override
+		public Object postProcessBeforeInstantiation(Class<?> beanClass, String beanName) {
+			ParallelSupplier current = ParallelSupplier.current.get();
+			if (current != null) {
+				current.sequential = true;
+				throw new BeanCreationNotAllowedException(beanName,
+						"Bean '" + current.beanName + "' is created in parallel and can't depend on beans not yet created");
+			}
+			return null;
+		}
+	}
+
+	private static class ParallelSupplier implements Supplier<Object> {
+
+		private static final ThreadLocal<ParallelSupplier> current = new NamedThreadLocal<>("Parallel bean in creation");
+
+		private final String beanName;
+
+		private final Supplier<?> supplier;
+
+		private volatile CompletableFuture<Object> future;
+
+		private volatile boolean sequential;
+
+		ParallelSupplier(String beanName, Supplier<?> supplier) {
+			this.beanName = beanName;
+			this.supplier = supplier;
+		}
+
+		void start(Executor executor) {
+			if (this.future == null) {
+				this.future = CompletableFuture.supplyAsync(() -> {
+					current.set(this);
+					try {
+						return this.supplier.get();
+					}
+					finally {
+						current.remove();
+					}
+				}, executor);
+			}
+		}
+
+		void await() {
+			CompletableFuture<Object> future = this.future;
+			if (future != null) {
+				future.handle((instance, ex) -> instance).join();
+			}
+		}
+
+		@Override
+		public Object get() {
+			CompletableFuture<Object> future = this.future;
+			if (future == null || this.sequential) {
+				return this.supplier.get();
+			}
+			// Called by the bean factory with its singleton lock held, so never block on a pending supplier
+			if (!future.isDone()) {
+				throw new BeanCurrentlyInCreationException(this.beanName, "Bean is currently created in parallel");
+			}
+			try {
+				return future.join();
+			}
+			catch (CompletionException ex) {
+				if (ex.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) ex.getCause();
+				}
+				throw ex;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,284 @@
+package org.springframework.boot.autoconfigure.data;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxOperator;
+import reactor.core.publisher.Operators;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.Context;
+
+/**
+ * Buffer the elements of a {@link Flux} by count and by time, like {@link Flux#bufferTimeout(int, Duration)} but
+ * honoring the downstream demand: a buffer closed by the timer while there is no demand is kept and emitted as soon as
+ * a buffer is requested, instead of failing with an overflow error.
+ *
+ * <p>The elements are requested from the source in rounds of at most {@code maxSize} elements, the next round being
+ * requested once the previous one has been received and all the closed buffers have been emitted. A slow consumer
+ * thus backpressures the source, with at most {@code maxSize} elements retained, although they may be split in
+ * several partial buffers closed by the timer while waiting for demand.
+ *
+ * <p>An error from the source is propagated immediately, discarding the pending buffers.
+ */
+public class BufferTimeoutOperator<T> extends FluxOperator<T, List<T>> {
+
+	private final int maxSize;
+
+	private final Duration maxTime;
+
+	private final Scheduler timer;
+
+	public BufferTimeoutOperator(Flux<? extends T> source, int maxSize, Duration maxTime) {
+		this(source, maxSize, maxTime, Schedulers.parallel());
+	}
+
+	public BufferTimeoutOperator(Flux<? extends T> source, int maxSize, Duration maxTime, Scheduler timer) {
+		super(source);
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("maxSize must be strictly positive, was: " + maxSize);
+		}
+		this.maxSize = maxSize;
+		this.maxTime = maxTime;
+		this.timer = timer;
+	}
+
+	@Override
+	public void subscribe(CoreSubscriber<? super List<T>> actual) {
+		this.source.subscribe(new BufferTimeoutSubscriber<>(actual, this.maxSize, this.maxTime, this.timer));
+	}
+
+
+	private static class BufferTimeoutSubscriber<T> implements CoreSubscriber<T>, Subscription {
+
+		private final CoreSubscriber<? super List<T>> actual;
+
+		private final int maxSize;
+
+		private final Duration maxTime;
+
+		private final Scheduler timer;
+
+		private final Deque<List<T>> closed = new ArrayDeque<>();
+
+		private Subscription upstream;
+
+		private List<T> buffer;
+
+		private long index;
+
+		private Disposable timeout;
+
+		private long requested;
+
+		private long outstanding;
+
+		private boolean done;
+
+		private Throwable error;
+
+		private boolean cancelled;
+
+		private boolean draining;
+
+		private boolean missed;
+
+		BufferTimeoutSubscriber(CoreSubscriber<? super List<T>> actual, int maxSize, Duration maxTime, Scheduler timer) {
+			this.actual = actual;
+			this.maxSize = maxSize;
+			this.maxTime = maxTime;
+			this.timer = timer;
+			this.buffer = new ArrayList<>(maxSize);
+		}
+
+		@Override
+		public Context currentContext() {
+			return this.actual.currentContext();
+		}
+
+		@Override
+		public void onSubscribe(Subscription subscription) {
+			if (Operators.validate(this.upstream, subscription)) {
+				this.upstream = subscription;
+				this.actual.onSubscribe(this);
+				drain();
+			}
+		}
+
+		@Override
+		public void onNext(T element) {
+			synchronized (this) {
+				if (this.done || this.cancelled) {
+					return;
+				}
+				if (this.outstanding > 0) {
+					this.outstanding--;
+				}
+				this.buffer.add(element);
+				if (this.buffer.size() == this.maxSize) {
+					close();
+				}
+				else if (this.buffer.size() == 1) {
+					long current = this.index;
+					this.timeout = this.timer.schedule(() -> timeout(current), this.maxTime.toMillis(), TimeUnit.MILLISECONDS);
+				}
+			}
+			drain();
+		}
+
+		@Override
+		public void onError(Throwable error) {
+			synchronized (this) {
+				if (this.done || this.cancelled) {
+					return;
+				}
+				this.done = true;
+				this.error = error;
+				disposeTimeout();
+			}
+			drain();
+		}
+
+		@Override
+		public void onComplete() {
+			synchronized (this) {
+				if (this.done || this.cancelled) {
+					return;
+				}
+				this.done = true;
+				if (!this.buffer.isEmpty()) {
+					close();
+				}
+				disposeTimeout();
+			}
+			drain();
+		}
+
+		@Override
+		public void request(long n) {
+			if (Operators.validate(n)) {
+				synchronized (this) {
+					this.requested = Operators.addCap(this.requested, n);
+				}
+				drain();
+			}
+		}
+
+		@Override
+		public void cancel() {
+			synchronized (this) {
+				if (this.cancelled) {
+					return;
+				}
+				this.cancelled = true;
+				this.closed.clear();
+				disposeTimeout();
+			}
+			this.upstream.cancel();
+		}
+
+		private void timeout(long index) {
+			synchronized (this) {
+				if (this.index != index || this.done || this.cancelled || this.buffer.isEmpty()) {
+					return;
+				}
+				this.timeout = null;
+				close();
+			}
+			drain();
+		}
+
+		// Called with the monitor held
+		private void close() {
+			this.closed.add(this.buffer);
+			this.buffer = new ArrayList<>(this.maxSize);
+			this.index++;
+			disposeTimeout();
+		}
+
+		// Called with the monitor held
+		private void disposeTimeout() {
+			if (this.timeout != null) {
+				this.timeout.dispose();
+				this.timeout = null;
+			}
+		}
+
+		private void drain() {
+			synchronized (this) {
+				if (this.draining) {
+					this.missed = true;
+					return;
+				}
+				this.draining = true;
+			}
+			for (;;) {
+				List<T> next = null;
+				long toRequest = 0;
+				boolean terminate = false;
+				boolean exit = false;
+				Throwable error;
+				synchronized (this) {
+					error = this.error;
+					if (this.cancelled) {
+						this.draining = false;
+						return;
+					}
+					if (error != null || (this.done && this.closed.isEmpty())) {
+						terminate = true;
+						this.cancelled = true;
+						this.closed.clear();
+						this.draining = false;
+					}
+					else if (this.requested > 0 && !this.closed.isEmpty()) {
+						next = this.closed.poll();
+						if (this.requested != Long.MAX_VALUE) {
+							this.requested--;
+						}
+					}
+					else {
+						// Request the next round only once the previous one is received and emitted
+						if (!this.done && this.closed.isEmpty() && this.outstanding == 0) {
+							toRequest = this.maxSize - this.buffer.size();
+							this.outstanding = toRequest;
+						}
+						if (this.missed) {
+							this.missed = false;
+						}
+						else {
+							this.draining = false;
+							exit = true;
+						}
+					}
+				}
+				if (terminate) {
+					if (error != null) {
+						this.actual.onError(error);
+					}
+					else {
+						this.actual.onComplete();
+					}
+					return;
+				}
+				if (next != null) {
+					this.actual.onNext(next);
+				}
+				if (toRequest > 0) {
+					this.upstream.request(toRequest);
+				}
+				if (exit) {
+					return;
+				}
+			}
+		}
+	}
+
+}
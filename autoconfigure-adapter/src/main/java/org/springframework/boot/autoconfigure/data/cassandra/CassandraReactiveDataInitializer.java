@@ -21,5 +21,6 @@ public class CassandraReactiveDataInitializer implements ApplicationContextIniti
 		context.registerBean(ReactiveSession.class, () -> configuration.reactiveCassandraSession(context.getBean(CqlSession.class)));
 		context.registerBean(ReactiveSessionFactory.class, () -> configuration.reactiveCassandraSessionFactory(context.getBean(ReactiveSession.class)));
 		context.registerBean(ReactiveCassandraTemplate.class, () -> configuration.reactiveCassandraTemplate(context.getBean(ReactiveSession.class), context.getBean(CassandraConverter.class)));
+		context.registerBean(ReactiveCassandraPageStreamer.class, () -> new ReactiveCassandraPageStreamer(context.getBean(ReactiveCassandraTemplate.class)));
 	}
 }
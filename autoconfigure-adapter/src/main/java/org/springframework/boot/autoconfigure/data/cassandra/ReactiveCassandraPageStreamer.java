@@ -0,0 +1,103 @@
+package org.springframework.boot.autoconfigure.data.cassandra;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import org.springframework.data.cassandra.core.ReactiveCassandraTemplate;
+import org.springframework.data.cassandra.core.query.CassandraPageRequest;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Stream the results of a query page by page with a {@link ReactiveCassandraTemplate}, each page being fetched
+ * with the paging state of the previous one only once the subscriber has requested it, so that no page is buffered
+ * ahead of the subscriber and large result sets are never materialized.
+ *
+ * <p>The size of the pages is the one of the statement if set, or the page size of the driver configuration.
+ */
+public class ReactiveCassandraPageStreamer {
+
+	private final ReactiveCassandraTemplate template;
+
+	public ReactiveCassandraPageStreamer(ReactiveCassandraTemplate template) {
+		this.template = template;
+	}
+
+	/**
+	 * Stream the pages of the results of the specified query.
+	 */
+	public <T> Flux<Slice<T>> pages(String cql, Class<T> entityClass) {
+		return pages(SimpleStatement.newInstance(cql), entityClass);
+	}
+
+	/**
+	 * Stream the pages of the results of the specified statement.
+	 */
+	public <T> Flux<Slice<T>> pages(Statement<?> statement, Class<T> entityClass) {
+		return Flux.create((sink) -> new PageFetcher<>(sink, statement, entityClass));
+	}
+
+	/**
+	 * Stream the results of the specified statement, fetching at most one page ahead of the rows being consumed.
+	 */
+	public <T> Flux<T> rows(Statement<?> statement, Class<T> entityClass) {
+		return pages(statement, entityClass).concatMapIterable(Slice::getContent, 1);
+	}
+
+
+	/**
+	 * Fetch the next page when there is demand and no page is being fetched, until the last page is emitted.
+	 */
+	private class PageFetcher<T> {
+
+		private final FluxSink<Slice<T>> sink;
+
+		private final Class<T> entityClass;
+
+		private final AtomicBoolean fetching = new AtomicBoolean();
+
+		private volatile Statement<?> next;
+
+		private volatile Disposable current;
+
+		PageFetcher(FluxSink<Slice<T>> sink, Statement<?> statement, Class<T> entityClass) {
+			this.sink = sink;
+			this.entityClass = entityClass;
+			this.next = statement;
+			sink.onDispose(() -> {
+				Disposable current = this.current;
+				if (current != null) {
+					current.dispose();
+				}
+			});
+			sink.onRequest((n) -> fetch());
+			fetch();
+		}
+
+		private void fetch() {
+			Statement<?> statement = this.next;
+			if (statement != null && this.sink.requestedFromDownstream() > 0 && !this.sink.isCancelled()
+					&& this.fetching.compareAndSet(false, true)) {
+				this.current = ReactiveCassandraPageStreamer.this.template.slice(statement, this.entityClass)
+						.subscribe(this::onSlice, this.sink::error);
+			}
+		}
+
+		private void onSlice(Slice<T> slice) {
+			this.next = (slice.hasNext() ?
+					this.next.setPagingState(((CassandraPageRequest) slice.nextPageable()).getPagingState()) : null);
+			this.sink.next(slice);
+			if (this.next == null) {
+				this.sink.complete();
+				return;
+			}
+			this.fetching.set(false);
+			fetch();
+		}
+	}
+
+}
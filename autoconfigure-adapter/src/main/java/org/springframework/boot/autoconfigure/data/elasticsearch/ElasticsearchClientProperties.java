@@ -0,0 +1,64 @@
+package org.springframework.boot.autoconfigure.data.elasticsearch;
+
+import java.time.Duration;
+
+/**
+ * Elasticsearch client connection settings, the timeouts defaulting to the ones of the Spring Data client configuration.
+ * @see HttpAsyncElasticsearchClientConfigurer
+ * @see ReactorNettyElasticsearchClientConfigurer
+ */
+public class ElasticsearchClientProperties {
+
+    /**
+     * Connection timeout.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Read and write timeout of the sockets.
+     */
+    private Duration socketTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Maximum number of connections per node.
+     */
+    private Integer maxConnections;
+
+    /**
+     * Whether to request compressed responses, only supported by the reactive client.
+     */
+    private boolean compression = false;
+
+    public Duration getConnectTimeout() {
+        return this.connectTimeout;
+    }
+
+    public void setConnectTimeout(Duration connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public Duration getSocketTimeout() {
+        return this.socketTimeout;
+    }
+
+    public void setSocketTimeout(Duration socketTimeout) {
+        this.socketTimeout = socketTimeout;
+    }
+
+    public Integer getMaxConnections() {
+        return this.maxConnections;
+    }
+
+    public void setMaxConnections(Integer maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public boolean isCompression() {
+        return this.compression;
+    }
+
+    public void setCompression(boolean compression) {
+        this.compression = compression;
+    }
+
+}
@@ -0,0 +1,35 @@
+package org.springframework.boot.autoconfigure.data.elasticsearch;
+
+import java.util.function.Function;
+
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+
+/**
+ * {@link HttpAsyncClientBuilder} configurer of the Elasticsearch REST client, applying the maximum number of
+ * connections per node of {@link ElasticsearchClientProperties} to its connection pool, the total being this maximum
+ * for each of the configured nodes, and then the specified configurer.
+ */
+public class HttpAsyncElasticsearchClientConfigurer implements Function<HttpAsyncClientBuilder, HttpAsyncClientBuilder> {
+
+    private final ElasticsearchClientProperties properties;
+
+    private final int nodes;
+
+    private final Function<HttpAsyncClientBuilder, HttpAsyncClientBuilder> configurer;
+
+    public HttpAsyncElasticsearchClientConfigurer(ElasticsearchClientProperties properties, int nodes, Function<HttpAsyncClientBuilder, HttpAsyncClientBuilder> configurer) {
+        this.properties = properties;
+        this.nodes = nodes;
+        this.configurer = configurer;
+    }
+
+    @Override
+    public HttpAsyncClientBuilder apply(HttpAsyncClientBuilder builder) {
+        if (this.properties.getMaxConnections() != null) {
+            builder.setMaxConnPerRoute(this.properties.getMaxConnections());
+            builder.setMaxConnTotal(Math.multiplyExact(this.properties.getMaxConnections(), Math.max(this.nodes, 1)));
+        }
+        return this.configurer.apply(builder);
+    }
+
+}
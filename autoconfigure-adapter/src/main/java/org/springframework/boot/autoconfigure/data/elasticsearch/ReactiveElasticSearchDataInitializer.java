@@ -10,12 +10,30 @@ public class ReactiveElasticSearchDataInitializer implements ApplicationContextI
 
     private final ClientConfiguration clientConfiguration;
 
+    private final ReactorNettyElasticsearchClientConfigurer clientConfigurer;
+
     public ReactiveElasticSearchDataInitializer(ClientConfiguration clientConfiguration) {
+        this(clientConfiguration, null);
+    }
+
+    /**
+     * Create an initializer also registering the {@code WebClient} configurer of the client configuration, so that
+     * its connection pool is disposed with the application context.
+     */
+    public ReactiveElasticSearchDataInitializer(ClientConfiguration clientConfiguration, ReactorNettyElasticsearchClientConfigurer clientConfigurer) {
         this.clientConfiguration = clientConfiguration;
+        this.clientConfigurer = clientConfigurer;
     }
 
     @Override
     public void initialize(GenericApplicationContext context) {
-        context.registerBean(ReactiveElasticsearchClient.class, () -> ReactiveRestClients.create(clientConfiguration));
+        if (clientConfigurer != null) {
+            context.registerBean(ReactorNettyElasticsearchClientConfigurer.class, () -> clientConfigurer);
+        }
+        context.registerBean(ReactiveElasticsearchClient.class, () -> ReactiveRestClients.create(clientConfiguration), (definition) -> {
+            if (clientConfigurer != null) {
+                definition.setDependsOn(ReactorNettyElasticsearchClientConfigurer.class.getName());
+            }
+        });
     }
 }
@@ -0,0 +1,73 @@
+package org.springframework.boot.autoconfigure.data.elasticsearch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import reactor.core.publisher.Flux;
+
+import org.springframework.boot.autoconfigure.data.BufferTimeoutOperator;
+import org.springframework.data.elasticsearch.client.reactive.ReactiveElasticsearchClient;
+
+/**
+ * Execute the index, update or delete requests of a {@link Flux} in bulk requests with a
+ * {@link ReactiveElasticsearchClient}.
+ *
+ * <p>The requests are buffered by count, and by time when a maximum wait time is configured, and each buffer is split
+ * in bulk requests not exceeding {@link ReactiveElasticsearchBulkProperties#getMaxSize()}. At most
+ * {@link ReactiveElasticsearchBulkProperties#getConcurrency()} bulk requests are executed concurrently, the requests
+ * being requested as they complete, including when a buffer is closed by the maximum wait time while all the bulk
+ * requests are in progress, see {@link BufferTimeoutOperator}. A request larger than the maximum size on its own is
+ * executed alone in a bulk request. The bulk requests are timed with the Reactor metrics named
+ * {@code spring.data.elasticsearch.bulk} when Micrometer is available on the classpath.
+ *
+ * <p>The failures of the individual requests are reported by the {@link BulkResponse}, not as errors.
+ */
+public class ReactiveElasticsearchBulkIndexer {
+
+    private static final String METRICS_NAME = "spring.data.elasticsearch.bulk";
+
+    private final ReactiveElasticsearchClient client;
+
+    private final ReactiveElasticsearchBulkProperties properties;
+
+    public ReactiveElasticsearchBulkIndexer(ReactiveElasticsearchClient client, ReactiveElasticsearchBulkProperties properties) {
+        this.client = client;
+        this.properties = properties;
+    }
+
+    /**
+     * Execute the specified requests in bulk requests.
+     * @return the response of each bulk request, in completion order
+     */
+    public Flux<BulkResponse> index(Flux<? extends DocWriteRequest<?>> requests) {
+        Flux<? extends List<? extends DocWriteRequest<?>>> buffers = (this.properties.getMaxWaitTime() != null ?
+                new BufferTimeoutOperator<DocWriteRequest<?>>(requests, this.properties.getMaxActions(), this.properties.getMaxWaitTime()) :
+                requests.buffer(this.properties.getMaxActions()));
+        return buffers.concatMapIterable(this::bulkRequests, 1)
+                .flatMap((bulkRequest) -> this.client.bulk(bulkRequest)
+                        .name(METRICS_NAME)
+                        .metrics(), this.properties.getConcurrency());
+    }
+
+    private List<BulkRequest> bulkRequests(List<? extends DocWriteRequest<?>> requests) {
+        long maxSize = this.properties.getMaxSize().toBytes();
+        List<BulkRequest> bulkRequests = new ArrayList<>();
+        BulkRequest bulkRequest = new BulkRequest();
+        for (DocWriteRequest<?> request : requests) {
+            long size = new BulkRequest().add(request).estimatedSizeInBytes();
+            if (bulkRequest.numberOfActions() > 0 && bulkRequest.estimatedSizeInBytes() + size > maxSize) {
+                bulkRequests.add(bulkRequest);
+                bulkRequest = new BulkRequest();
+            }
+            bulkRequest.add(request);
+        }
+        if (bulkRequest.numberOfActions() > 0) {
+            bulkRequests.add(bulkRequest);
+        }
+        return bulkRequests;
+    }
+
+}
@@ -0,0 +1,24 @@
+package org.springframework.boot.autoconfigure.data.elasticsearch;
+
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.data.elasticsearch.client.reactive.ReactiveElasticsearchClient;
+
+/**
+ * {@link ApplicationContextInitializer} registering a {@link ReactiveElasticsearchBulkIndexer} using the
+ * {@link ReactiveElasticsearchClient}.
+ */
+public class ReactiveElasticsearchBulkIndexerInitializer implements ApplicationContextInitializer<GenericApplicationContext> {
+
+    private final ReactiveElasticsearchBulkProperties properties;
+
+    public ReactiveElasticsearchBulkIndexerInitializer(ReactiveElasticsearchBulkProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void initialize(GenericApplicationContext context) {
+        context.registerBean(ReactiveElasticsearchBulkIndexer.class, () -> new ReactiveElasticsearchBulkIndexer(context.getBean(ReactiveElasticsearchClient.class), this.properties));
+    }
+
+}
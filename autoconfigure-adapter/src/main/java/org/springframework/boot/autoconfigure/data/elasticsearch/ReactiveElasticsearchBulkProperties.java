@@ -0,0 +1,66 @@
+package org.springframework.boot.autoconfigure.data.elasticsearch;
+
+import java.time.Duration;
+
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Reactive Elasticsearch bulk indexing settings.
+ * @see ReactiveElasticsearchBulkIndexer
+ */
+public class ReactiveElasticsearchBulkProperties {
+
+    /**
+     * Maximum number of requests per bulk request.
+     */
+    private int maxActions = 1000;
+
+    /**
+     * Maximum estimated size of a bulk request.
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(5);
+
+    /**
+     * Maximum time to wait for a bulk request to be full before executing it, bulk requests are only executed when
+     * full or when the indexed requests complete if not set.
+     */
+    private Duration maxWaitTime;
+
+    /**
+     * Maximum number of bulk requests executed concurrently.
+     */
+    private int concurrency = 1;
+
+    public int getMaxActions() {
+        return this.maxActions;
+    }
+
+    public void setMaxActions(int maxActions) {
+        this.maxActions = maxActions;
+    }
+
+    public DataSize getMaxSize() {
+        return this.maxSize;
+    }
+
+    public void setMaxSize(DataSize maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Duration getMaxWaitTime() {
+        return this.maxWaitTime;
+    }
+
+    public void setMaxWaitTime(Duration maxWaitTime) {
+        this.maxWaitTime = maxWaitTime;
+    }
+
+    public int getConcurrency() {
+        return this.concurrency;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+}
@@ -0,0 +1,79 @@
+package org.springframework.boot.autoconfigure.data.elasticsearch;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * {@code WebClient} configurer of the reactive Elasticsearch client, replacing its connector by one using a dedicated
+ * Reactor Netty connection pool, disposed with the application context, when a maximum number of connections or the
+ * compression is configured with {@link ElasticsearchClientProperties}, and then applying the specified configurer.
+ *
+ * <p>The connector is configured with the same timeouts and SSL support as the default one of the client.
+ */
+public class ReactorNettyElasticsearchClientConfigurer implements Function<WebClient, WebClient>, DisposableBean {
+
+    private final ElasticsearchClientProperties properties;
+
+    private final boolean useSsl;
+
+    private final Function<WebClient, WebClient> configurer;
+
+    private ReactorClientHttpConnector connector;
+
+    private ConnectionProvider connectionProvider;
+
+    public ReactorNettyElasticsearchClientConfigurer(ElasticsearchClientProperties properties, boolean useSsl, Function<WebClient, WebClient> configurer) {
+        this.properties = properties;
+        this.useSsl = useSsl;
+        this.configurer = configurer;
+    }
+
+    @Override
+    public WebClient apply(WebClient webClient) {
+        if (this.properties.getMaxConnections() != null || this.properties.isCompression()) {
+            webClient = webClient.mutate().clientConnector(connector()).build();
+        }
+        return this.configurer.apply(webClient);
+    }
+
+    private synchronized ReactorClientHttpConnector connector() {
+        if (this.connector == null) {
+            ConnectionProvider.Builder builder = ConnectionProvider.builder("elasticsearch");
+            if (this.properties.getMaxConnections() != null) {
+                builder.maxConnections(this.properties.getMaxConnections());
+            }
+            this.connectionProvider = builder.build();
+            long connectTimeout = this.properties.getConnectTimeout().toMillis();
+            long socketTimeout = this.properties.getSocketTimeout().toMillis();
+            HttpClient httpClient = HttpClient.create(this.connectionProvider)
+                    .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(connectTimeout))
+                    .doOnConnected((connection) -> connection
+                            .addHandlerLast(new ReadTimeoutHandler(socketTimeout, TimeUnit.MILLISECONDS))
+                            .addHandlerLast(new WriteTimeoutHandler(socketTimeout, TimeUnit.MILLISECONDS)))
+                    .compress(this.properties.isCompression());
+            if (this.useSsl) {
+                httpClient = httpClient.secure();
+            }
+            this.connector = new ReactorClientHttpConnector(httpClient);
+        }
+        return this.connector;
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (this.connectionProvider != null) {
+            this.connectionProvider.dispose();
+        }
+    }
+
+}
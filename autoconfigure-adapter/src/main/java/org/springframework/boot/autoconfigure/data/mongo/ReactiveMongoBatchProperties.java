@@ -0,0 +1,64 @@
+package org.springframework.boot.autoconfigure.data.mongo;
+
+import java.time.Duration;
+
+/**
+ * Reactive MongoDB batch writes settings.
+ * @see ReactiveMongoBatchWriter
+ */
+public class ReactiveMongoBatchProperties {
+
+	/**
+	 * Maximum number of documents or write requests per batch.
+	 */
+	private int batchSize = 1000;
+
+	/**
+	 * Maximum time to wait for a batch to be full before writing it, batches are only written when full or when the
+	 * written elements complete if not set.
+	 */
+	private Duration maxWaitTime;
+
+	/**
+	 * Maximum number of batches written concurrently.
+	 */
+	private int concurrency = 4;
+
+	/**
+	 * Whether the documents of a batch are written in order, stopping at the first error.
+	 */
+	private boolean ordered = false;
+
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	public Duration getMaxWaitTime() {
+		return this.maxWaitTime;
+	}
+
+	public void setMaxWaitTime(Duration maxWaitTime) {
+		this.maxWaitTime = maxWaitTime;
+	}
+
+	public int getConcurrency() {
+		return this.concurrency;
+	}
+
+	public void setConcurrency(int concurrency) {
+		this.concurrency = concurrency;
+	}
+
+	public boolean isOrdered() {
+		return this.ordered;
+	}
+
+	public void setOrdered(boolean ordered) {
+		this.ordered = ordered;
+	}
+
+}
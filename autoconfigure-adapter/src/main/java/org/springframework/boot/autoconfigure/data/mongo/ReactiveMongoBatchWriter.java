@@ -0,0 +1,91 @@
+package org.springframework.boot.autoconfigure.data.mongo;
+
+import java.util.List;
+import java.util.function.Function;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.InsertManyResult;
+import org.bson.Document;
+import reactor.core.publisher.Flux;
+
+import org.springframework.boot.autoconfigure.data.BufferTimeoutOperator;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+/**
+ * Write the elements of a {@link Flux} in batches of {@code insertMany} or {@code bulkWrite} operations, unordered by
+ * default, with the collections and the converter of a {@link ReactiveMongoTemplate}.
+ *
+ * <p>The elements are buffered by count, and by time when a maximum wait time is configured, and at most
+ * {@link ReactiveMongoBatchProperties#getConcurrency()} batches are written concurrently, the elements being requested
+ * as the batches complete. A batch closed by the maximum wait time while all the writes are in progress waits for one
+ * of them to complete, see {@link BufferTimeoutOperator}. The batch writes are timed with the Reactor metrics named {@code spring.data.mongodb.batch},
+ * tagged with the operation and the collection, when Micrometer is available on the classpath.
+ *
+ * <p>Unlike {@link ReactiveMongoTemplate#insertAll}, no mapping lifecycle event is published and the identifiers
+ * generated by the driver are not set on the entities.
+ */
+public class ReactiveMongoBatchWriter {
+
+	private static final String METRICS_NAME = "spring.data.mongodb.batch";
+
+	private final ReactiveMongoTemplate template;
+
+	private final ReactiveMongoBatchProperties properties;
+
+	public ReactiveMongoBatchWriter(ReactiveMongoTemplate template, ReactiveMongoBatchProperties properties) {
+		this.template = template;
+		this.properties = properties;
+	}
+
+	/**
+	 * Insert the entities in batches in the collection of the specified entity class.
+	 * @return the result of each batch, in completion order
+	 */
+	public <T> Flux<InsertManyResult> insert(Flux<? extends T> entities, Class<T> entityClass) {
+		return insert(entities, this.template.getCollectionName(entityClass));
+	}
+
+	/**
+	 * Insert the entities, or {@link Document documents}, in batches in the specified collection.
+	 * @return the result of each batch, in completion order
+	 */
+	public Flux<InsertManyResult> insert(Flux<?> entities, String collectionName) {
+		InsertManyOptions options = new InsertManyOptions().ordered(this.properties.isOrdered());
+		return write(entities.map(this::toDocument), collectionName, "insert",
+				(batch) -> this.template.execute(collectionName, (collection) -> collection.insertMany(batch, options)));
+	}
+
+	/**
+	 * Execute the write requests in batches of bulk writes on the specified collection.
+	 * @return the result of each batch, in completion order
+	 */
+	public <W extends WriteModel<Document>> Flux<BulkWriteResult> bulkWrite(Flux<W> requests, String collectionName) {
+		BulkWriteOptions options = new BulkWriteOptions().ordered(this.properties.isOrdered());
+		return write(requests, collectionName, "bulkWrite",
+				(batch) -> this.template.execute(collectionName, (collection) -> collection.bulkWrite(batch, options)));
+	}
+
+	private <T, R> Flux<R> write(Flux<T> elements, String collectionName, String operation, Function<List<T>, Flux<R>> writer) {
+		Flux<List<T>> batches = (this.properties.getMaxWaitTime() != null ?
+				new BufferTimeoutOperator<>(elements, this.properties.getBatchSize(), this.properties.getMaxWaitTime()) :
+				elements.buffer(this.properties.getBatchSize()));
+		return batches.flatMap((batch) -> writer.apply(batch)
+				.name(METRICS_NAME)
+				.tag("operation", operation)
+				.tag("collection", collectionName)
+				.metrics(), this.properties.getConcurrency());
+	}
+
+	private Document toDocument(Object entity) {
+		if (entity instanceof Document) {
+			return (Document) entity;
+		}
+		Document document = new Document();
+		this.template.getConverter().write(entity, document);
+		return document;
+	}
+
+}
@@ -0,0 +1,24 @@
+package org.springframework.boot.autoconfigure.data.mongo;
+
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+/**
+ * {@link ApplicationContextInitializer} registering a {@link ReactiveMongoBatchWriter} using the
+ * {@link ReactiveMongoTemplate}.
+ */
+public class ReactiveMongoBatchWriterInitializer implements ApplicationContextInitializer<GenericApplicationContext> {
+
+	private final ReactiveMongoBatchProperties properties;
+
+	public ReactiveMongoBatchWriterInitializer(ReactiveMongoBatchProperties properties) {
+		this.properties = properties;
+	}
+
+	@Override
+	public void initialize(GenericApplicationContext context) {
+		context.registerBean(ReactiveMongoBatchWriter.class, () -> new ReactiveMongoBatchWriter(context.getBean(ReactiveMongoTemplate.class), this.properties));
+	}
+
+}
@@ -0,0 +1,29 @@
+package org.springframework.boot.autoconfigure.data.redis;
+
+/**
+ * Thread pool sizes of the Lettuce {@code ClientResources} shared by all the connection factories of an application
+ * context, unset values keep Lettuce defaults (the number of available processors).
+ */
+public class ClientResourcesProperties {
+
+	private Integer ioThreadPoolSize;
+
+	private Integer computationThreadPoolSize;
+
+	public Integer getIoThreadPoolSize() {
+		return this.ioThreadPoolSize;
+	}
+
+	public void setIoThreadPoolSize(Integer ioThreadPoolSize) {
+		this.ioThreadPoolSize = ioThreadPoolSize;
+	}
+
+	public Integer getComputationThreadPoolSize() {
+		return this.computationThreadPoolSize;
+	}
+
+	public void setComputationThreadPoolSize(Integer computationThreadPoolSize) {
+		this.computationThreadPoolSize = computationThreadPoolSize;
+	}
+
+}
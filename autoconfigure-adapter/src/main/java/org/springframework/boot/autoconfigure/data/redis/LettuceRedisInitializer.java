@@ -8,26 +8,52 @@ import org.springframework.data.redis.connection.RedisClusterConfiguration;
 import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 
-import java.net.UnknownHostException;
-
 /**
  * {@link ApplicationContextInitializer} adapter for {@link LettuceConnectionConfiguration}
+ *
+ * A single {@link ClientResources} bean is registered per application context, shared by all the Lettuce connection
+ * factories and shut down when the context is closed. When several initializers are applied, the client resources
+ * are configured by the first one.
  */
 public class LettuceRedisInitializer implements ApplicationContextInitializer<GenericApplicationContext> {
+
+	static final String CLIENT_RESOURCES_BEAN_NAME = "lettuceClientResources";
+
 	private final RedisProperties redisProperties;
 
+	private final ClientResourcesProperties clientResourcesProperties;
+
 	public LettuceRedisInitializer(RedisProperties redisProperties) {
+		this(redisProperties, new ClientResourcesProperties());
+	}
+
+	public LettuceRedisInitializer(RedisProperties redisProperties, ClientResourcesProperties clientResourcesProperties) {
 		this.redisProperties = redisProperties;
+		this.clientResourcesProperties = clientResourcesProperties;
 	}
 
     @Override
     public void initialize(GenericApplicationContext context) {
+		if (!context.containsBeanDefinition(CLIENT_RESOURCES_BEAN_NAME)) {
+			context.registerBean(CLIENT_RESOURCES_BEAN_NAME, DefaultClientResources.class, this::getClientResources, bd -> bd.setDestroyMethodName("shutdown"));
+		}
         context.registerBean(LettuceConnectionFactory.class, () -> getLettuceConnectionFactory(context));
     }
 
+	private DefaultClientResources getClientResources() {
+		DefaultClientResources.Builder builder = DefaultClientResources.builder();
+		if (clientResourcesProperties.getIoThreadPoolSize() != null) {
+			builder.ioThreadPoolSize(clientResourcesProperties.getIoThreadPoolSize());
+		}
+		if (clientResourcesProperties.getComputationThreadPoolSize() != null) {
+			builder.computationThreadPoolSize(clientResourcesProperties.getComputationThreadPoolSize());
+		}
+		return builder.build();
+	}
+
 	private LettuceConnectionFactory getLettuceConnectionFactory(GenericApplicationContext context) {
 		final LettuceConnectionConfiguration configuration = new LettuceConnectionConfiguration(redisProperties, context.getBeanProvider(RedisSentinelConfiguration.class), context.getBeanProvider(RedisClusterConfiguration.class));
-		final ClientResources clientResources = DefaultClientResources.create();
+		final ClientResources clientResources = context.getBean(CLIENT_RESOURCES_BEAN_NAME, ClientResources.class);
 		return configuration.redisConnectionFactory(context.getBeanProvider(LettuceClientConfigurationBuilderCustomizer.class), clientResources);
 	}
 }
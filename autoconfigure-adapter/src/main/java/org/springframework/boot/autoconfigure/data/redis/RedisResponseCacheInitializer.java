@@ -0,0 +1,26 @@
+package org.springframework.boot.autoconfigure.data.redis;
+
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+
+/**
+ * {@link ApplicationContextInitializer} registering a {@link RedisResponseCacheWebFilter} backed by the
+ * {@code reactiveRedisTemplate} bean registered by {@link RedisReactiveInitializer}.
+ */
+public class RedisResponseCacheInitializer implements ApplicationContextInitializer<GenericApplicationContext> {
+
+	private final ResponseCacheProperties properties;
+
+	public RedisResponseCacheInitializer(ResponseCacheProperties properties) {
+		this.properties = properties;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void initialize(GenericApplicationContext context) {
+		context.registerBean("redisResponseCacheWebFilter", RedisResponseCacheWebFilter.class,
+				() -> new RedisResponseCacheWebFilter(context.getBean("reactiveRedisTemplate", ReactiveRedisTemplate.class), this.properties));
+	}
+
+}
@@ -0,0 +1,258 @@
+package org.springframework.boot.autoconfigure.data.redis;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.UriUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * {@link WebFilter} caching the status, headers and body of successful GET responses in Redis, so that hot endpoints
+ * are served without invoking their handler until the entry expires.
+ *
+ * <p>The cache key is derived from the path, the sorted query parameters and the configured request headers, each of
+ * them percent-encoded. Requests carrying an {@code Authorization} or a {@code Cookie} header are never served from
+ * or stored in the cache, since their response is likely specific to the caller.
+ * Concurrent misses on the same key within an application are coalesced: only the first request invokes the handler,
+ * the other ones wait up to {@link ResponseCacheProperties#getLockTimeout()} for its response. Streaming responses,
+ * responses with a {@code Set-Cookie} header and responses marked {@code no-store} or {@code private} are not cached,
+ * and Redis errors fall back to invoking the handler.
+ */
+public class RedisResponseCacheWebFilter implements WebFilter {
+
+	private static final Log logger = LogFactory.getLog(RedisResponseCacheWebFilter.class);
+
+	private static final Set<String> EXCLUDED_HEADERS = new HashSet<>(Arrays.asList(
+			HttpHeaders.CONNECTION.toLowerCase(), HttpHeaders.TRANSFER_ENCODING.toLowerCase(),
+			HttpHeaders.SET_COOKIE.toLowerCase(), HttpHeaders.DATE.toLowerCase()));
+
+	private final ReactiveRedisTemplate<Object, Object> redisTemplate;
+
+	private final ResponseCacheProperties properties;
+
+	private final List<PathPattern> pathPatterns;
+
+	private final ConcurrentMap<String, Mono<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+
+	public RedisResponseCacheWebFilter(ReactiveRedisTemplate<Object, Object> redisTemplate, ResponseCacheProperties properties) {
+		this.redisTemplate = redisTemplate;
+		this.properties = properties;
+		this.pathPatterns = properties.getPathPatterns().stream()
+				.map(PathPatternParser.defaultInstance::parse)
+				.collect(Collectors.toList());
+	}
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		ServerHttpRequest request = exchange.getRequest();
+		if (request.getMethod() != HttpMethod.GET || isCredentialed(request) || !matches(request)) {
+			return chain.filter(exchange);
+		}
+		String key = key(request);
+		return this.redisTemplate.opsForValue().get(key)
+				.cast(CachedResponse.class)
+				.onErrorResume(ex -> {
+					logger.warn("Response cache lookup failed for key " + key, ex);
+					return Mono.empty();
+				})
+				.map(Optional::of)
+				.defaultIfEmpty(Optional.empty())
+				.flatMap(cached -> cached.isPresent() ? write(exchange, cached.get()) : miss(exchange, chain, key));
+	}
+
+	private boolean matches(ServerHttpRequest request) {
+		return this.pathPatterns.isEmpty() ||
+				this.pathPatterns.stream().anyMatch(pattern -> pattern.matches(request.getPath().pathWithinApplication()));
+	}
+
+	private boolean isCredentialed(ServerHttpRequest request) {
+		HttpHeaders headers = request.getHeaders();
+		return headers.containsKey(HttpHeaders.AUTHORIZATION) || headers.containsKey(HttpHeaders.COOKIE);
+	}
+
+	/**
+	 * Each component is percent-encoded so that separators appearing in decoded values can't make two different
+	 * requests share a key.
+	 */
+	private String key(ServerHttpRequest request) {
+		StringBuilder key = new StringBuilder(this.properties.getKeyPrefix())
+				.append(UriUtils.encodePath(request.getPath().pathWithinApplication().value(), StandardCharsets.UTF_8));
+		new TreeMap<>(request.getQueryParams()).forEach((name, values) -> {
+			key.append(key.indexOf("?") == -1 ? '?' : '&').append(encode(name));
+			for (int i = 0; i < values.size(); i++) {
+				String value = values.get(i);
+				key.append(i == 0 ? '=' : ',');
+				if (value != null) {
+					key.append('"').append(encode(value)).append('"');
+				}
+			}
+		});
+		for (String header : this.properties.getVaryHeaders()) {
+			List<String> values = request.getHeaders().getOrEmpty(header);
+			key.append('|').append(encode(header.toLowerCase())).append('=')
+					.append(values.stream().map(RedisResponseCacheWebFilter::encode).collect(Collectors.joining(",")));
+		}
+		return key.toString();
+	}
+
+	private static String encode(String component) {
+		return UriUtils.encode(component, StandardCharsets.UTF_8);
+	}
+
+	private Mono<Void> miss(ServerWebExchange exchange, WebFilterChain chain, String key) {
+		Sinks.One<CachedResponse> sink = Sinks.one();
+		Mono<CachedResponse> pending = sink.asMono();
+		Mono<CachedResponse> shared = this.inFlight.putIfAbsent(key, pending);
+		if (shared != null) {
+			return shared.timeout(this.properties.getLockTimeout())
+					.map(Optional::of)
+					.onErrorReturn(Optional.empty())
+					.defaultIfEmpty(Optional.empty())
+					.flatMap(cached -> cached.isPresent() ? write(exchange, cached.get()) : chain.filter(exchange));
+		}
+		CachingResponseDecorator response = new CachingResponseDecorator(exchange.getResponse());
+		return chain.filter(exchange.mutate().response(response).build())
+				.then(Mono.defer(() -> {
+					CachedResponse cached = response.toCachedResponse();
+					if (cached == null) {
+						return Mono.empty();
+					}
+					sink.tryEmitValue(cached);
+					return this.redisTemplate.opsForValue().set(key, cached, this.properties.getTimeToLive())
+							.onErrorResume(ex -> {
+								logger.warn("Response cache update failed for key " + key, ex);
+								return Mono.empty();
+							})
+							.then();
+				}))
+				.doFinally(signal -> {
+					this.inFlight.remove(key, pending);
+					sink.tryEmitEmpty();
+				});
+	}
+
+	private Mono<Void> write(ServerWebExchange exchange, CachedResponse cached) {
+		ServerHttpResponse response = exchange.getResponse();
+		response.setRawStatusCode(cached.getStatus());
+		response.getHeaders().putAll(cached.getHeaders());
+		return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(cached.getBody())));
+	}
+
+	private static class CachingResponseDecorator extends ServerHttpResponseDecorator {
+
+		private volatile byte[] body;
+
+		private volatile boolean streaming;
+
+		CachingResponseDecorator(ServerHttpResponse delegate) {
+			super(delegate);
+		}
+
+		@Override
+		public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+			return DataBufferUtils.join(body)
+					.map(buffer -> {
+						byte[] bytes = new byte[buffer.readableByteCount()];
+						buffer.read(bytes);
+						DataBufferUtils.release(buffer);
+						return bytes;
+					})
+					.defaultIfEmpty(new byte[0])
+					.flatMap(bytes -> {
+						this.body = bytes;
+						return super.writeWith(Mono.fromSupplier(() -> bufferFactory().wrap(bytes)));
+					});
+		}
+
+		@Override
+		public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+			this.streaming = true;
+			return super.writeAndFlushWith(body);
+		}
+
+		CachedResponse toCachedResponse() {
+			Integer status = getRawStatusCode();
+			HttpHeaders headers = getHeaders();
+			if (this.body == null || this.streaming || (status != null && status != HttpStatus.OK.value()) ||
+					headers.containsKey(HttpHeaders.SET_COOKIE) || !isCacheable(headers.getCacheControl())) {
+				return null;
+			}
+			LinkedHashMap<String, ArrayList<String>> cachedHeaders = new LinkedHashMap<>();
+			for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+				if (!EXCLUDED_HEADERS.contains(header.getKey().toLowerCase())) {
+					cachedHeaders.put(header.getKey(), new ArrayList<>(header.getValue()));
+				}
+			}
+			return new CachedResponse(HttpStatus.OK.value(), cachedHeaders, this.body);
+		}
+
+		private static boolean isCacheable(String cacheControl) {
+			return cacheControl == null ||
+					!(cacheControl.contains("no-store") || cacheControl.contains("private"));
+		}
+	}
+
+	/**
+	 * Serializable snapshot of a response stored in Redis.
+	 */
+	static class CachedResponse implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int status;
+
+		private final LinkedHashMap<String, ArrayList<String>> headers;
+
+		private final byte[] body;
+
+		CachedResponse(int status, LinkedHashMap<String, ArrayList<String>> headers, byte[] body) {
+			this.status = status;
+			this.headers = headers;
+			this.body = body;
+		}
+
+		int getStatus() {
+			return this.status;
+		}
+
+		Map<String, ? extends List<String>> getHeaders() {
+			return this.headers;
+		}
+
+		byte[] getBody() {
+			return this.body;
+		}
+	}
+
+}
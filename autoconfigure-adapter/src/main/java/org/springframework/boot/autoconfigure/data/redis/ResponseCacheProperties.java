@@ -0,0 +1,73 @@
+package org.springframework.boot.autoconfigure.data.redis;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration of the Redis backed WebFlux response cache.
+ * @see RedisResponseCacheWebFilter
+ */
+public class ResponseCacheProperties {
+
+	/**
+	 * Path patterns of the cached GET endpoints, all GET endpoints are cached when empty.
+	 */
+	private List<String> pathPatterns = new ArrayList<>();
+
+	/**
+	 * Request headers taken into account in the cache key, in addition to the path and the query parameters.
+	 */
+	private List<String> varyHeaders = new ArrayList<>();
+
+	private Duration timeToLive = Duration.ofMinutes(1);
+
+	private String keyPrefix = "response-cache:";
+
+	/**
+	 * Maximum time a concurrent request for a key being computed waits for the shared response before invoking the
+	 * handler itself.
+	 */
+	private Duration lockTimeout = Duration.ofSeconds(5);
+
+	public List<String> getPathPatterns() {
+		return this.pathPatterns;
+	}
+
+	public void setPathPatterns(List<String> pathPatterns) {
+		this.pathPatterns = pathPatterns;
+	}
+
+	public List<String> getVaryHeaders() {
+		return this.varyHeaders;
+	}
+
+	public void setVaryHeaders(List<String> varyHeaders) {
+		this.varyHeaders = varyHeaders;
+	}
+
+	public Duration getTimeToLive() {
+		return this.timeToLive;
+	}
+
+	public void setTimeToLive(Duration timeToLive) {
+		this.timeToLive = timeToLive;
+	}
+
+	public String getKeyPrefix() {
+		return this.keyPrefix;
+	}
+
+	public void setKeyPrefix(String keyPrefix) {
+		this.keyPrefix = keyPrefix;
+	}
+
+	public Duration getLockTimeout() {
+		return this.lockTimeout;
+	}
+
+	public void setLockTimeout(Duration lockTimeout) {
+		this.lockTimeout = lockTimeout;
+	}
+
+}
@@ -22,25 +22,49 @@ import static org.springframework.boot.autoconfigure.jackson.JacksonAutoConfigur
 
 import java.util.ArrayList;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
 
 import org.springframework.context.ApplicationContextInitializer;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.ClassUtils;
 
 /**
  * {@link ApplicationContextInitializer} adapter for {@link JacksonAutoConfiguration}.
+ *
+ * <p>When accelerated, the Afterburner module, which replaces the reflective property access and instantiation by
+ * generated bytecode, and the parameter names module, which allows to deserialize immutable types via their
+ * constructor without {@code @JsonCreator} and {@code @JsonProperty} annotations when compiled with
+ * {@code -parameters}, are registered on the {@link ObjectMapper}.
  */
 public class JacksonInitializer implements ApplicationContextInitializer<GenericApplicationContext> {
 
+	private static final String PARAMETER_NAMES_MODULE_CLASS = "com.fasterxml.jackson.module.paramnames.ParameterNamesModule";
+
 	private final JacksonProperties properties;
 
+	private final boolean accelerated;
+
 	public JacksonInitializer(JacksonProperties properties) {
+		this(properties, false);
+	}
+
+	public JacksonInitializer(JacksonProperties properties, boolean accelerated) {
 		this.properties = properties;
+		this.accelerated = accelerated;
 	}
 
 	@Override
 	public void initialize(GenericApplicationContext context) {
+		if (this.accelerated) {
+			context.registerBean(AfterburnerModule.class, AfterburnerModule::new);
+			if (ClassUtils.isPresent(PARAMETER_NAMES_MODULE_CLASS, context.getClassLoader())) {
+				context.registerBean(ParameterNamesModule.class, () -> new ParameterNamesModule(JsonCreator.Mode.DEFAULT));
+			}
+		}
 		context.registerBean(Jackson2ObjectMapperBuilderCustomizer.class, () -> new Jackson2ObjectMapperBuilderCustomizerConfiguration().standardJacksonObjectMapperBuilderCustomizer(context, this.properties));
 		JacksonObjectMapperBuilderConfiguration configuration = new JacksonObjectMapperBuilderConfiguration();
 		context.registerBean(Jackson2ObjectMapperBuilder.class, () ->
@@ -0,0 +1,27 @@
+package org.springframework.boot.autoconfigure.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Build the {@link ObjectMapper} of the Jackson binary data formats, like Smile or CBOR, with the same
+ * configuration as the JSON one registered by {@link JacksonInitializer}.
+ */
+public abstract class JacksonObjectMappers {
+
+	/**
+	 * Build an {@link ObjectMapper} from the specified data format builder, customized by the
+	 * {@link Jackson2ObjectMapperBuilderCustomizer} beans of the context, if any.
+	 * @see Jackson2ObjectMapperBuilder#smile()
+	 * @see Jackson2ObjectMapperBuilder#cbor()
+	 */
+	public static ObjectMapper build(GenericApplicationContext context, Jackson2ObjectMapperBuilder builder) {
+		builder.applicationContext(context);
+		context.getBeanProvider(Jackson2ObjectMapperBuilderCustomizer.class).orderedStream()
+				.forEach(customizer -> customizer.customize(builder));
+		return builder.build();
+	}
+
+}
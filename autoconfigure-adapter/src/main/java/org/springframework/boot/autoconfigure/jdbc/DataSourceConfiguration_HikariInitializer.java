@@ -2,6 +2,8 @@ package org.springframework.boot.autoconfigure.jdbc;
 
 import com.zaxxer.hikari.HikariDataSource;
 import java.lang.Override;
+import java.util.function.Consumer;
+import org.springframework.boot.jdbc.DatabaseDriver;
 import org.springframework.context.ApplicationContextInitializer;
 import org.springframework.context.support.GenericApplicationContext;
 
@@ -9,15 +11,59 @@ public class DataSourceConfiguration_HikariInitializer implements ApplicationCon
 
   private final DataSourceProperties dataSourceProperties;
 
+  private final HikariProperties hikariProperties;
+
   public DataSourceConfiguration_HikariInitializer(DataSourceProperties dataSourceProperties) {
+    this(dataSourceProperties, new HikariProperties());
+  }
+
+  public DataSourceConfiguration_HikariInitializer(DataSourceProperties dataSourceProperties, HikariProperties hikariProperties) {
     this.dataSourceProperties = dataSourceProperties;
+    this.hikariProperties = hikariProperties;
   }
 
   @Override
   public void initialize(GenericApplicationContext context) {
     if (context.getBeanFactory().getBeanNamesForType(DataSourceConfiguration.Hikari.class).length==0) {
       context.registerBean(DataSourceConfiguration.Hikari.class, () -> new DataSourceConfiguration.Hikari());
-      context.registerBean("dataSource", HikariDataSource.class, () -> context.getBean(DataSourceConfiguration.Hikari.class).dataSource(this.dataSourceProperties), def -> { def.setFactoryMethodName("dataSource"); def.setFactoryBeanName(DataSourceConfiguration.Hikari.class.getName());});
+      context.registerBean("dataSource", HikariDataSource.class, () -> configure(context.getBean(DataSourceConfiguration.Hikari.class).dataSource(this.dataSourceProperties)), def -> { def.setFactoryMethodName("dataSource"); def.setFactoryBeanName(DataSourceConfiguration.Hikari.class.getName());});
+    }
+  }
+
+  private HikariDataSource configure(HikariDataSource dataSource) {
+    // The pool is only started on first connection request, so settings can still be changed at this point
+    set(this.hikariProperties.getMaximumPoolSize(), dataSource::setMaximumPoolSize);
+    set(this.hikariProperties.getMinimumIdle(), dataSource::setMinimumIdle);
+    set(this.hikariProperties.getConnectionTimeout(), timeout -> dataSource.setConnectionTimeout(timeout.toMillis()));
+    set(this.hikariProperties.getIdleTimeout(), timeout -> dataSource.setIdleTimeout(timeout.toMillis()));
+    set(this.hikariProperties.getMaxLifetime(), lifetime -> dataSource.setMaxLifetime(lifetime.toMillis()));
+    set(this.hikariProperties.getLeakDetectionThreshold(), threshold -> dataSource.setLeakDetectionThreshold(threshold.toMillis()));
+    configurePreparedStatementCache(dataSource);
+    this.hikariProperties.getDataSourceProperties().forEach((name, value) -> dataSource.addDataSourceProperty((String) name, value));
+    return dataSource;
+  }
+
+  private void configurePreparedStatementCache(HikariDataSource dataSource) {
+    Integer size = this.hikariProperties.getPreparedStatementCacheSize();
+    Integer sqlLimit = this.hikariProperties.getPreparedStatementCacheSqlLimit();
+    if (size == null && sqlLimit == null) {
+      return;
+    }
+    DatabaseDriver driver = DatabaseDriver.fromJdbcUrl(dataSource.getJdbcUrl());
+    if (driver == DatabaseDriver.MYSQL || driver == DatabaseDriver.MARIADB) {
+      dataSource.addDataSourceProperty("cachePrepStmts", "true");
+      dataSource.addDataSourceProperty("useServerPrepStmts", "true");
+      set(size, value -> dataSource.addDataSourceProperty("prepStmtCacheSize", String.valueOf(value)));
+      set(sqlLimit, value -> dataSource.addDataSourceProperty("prepStmtCacheSqlLimit", String.valueOf(value)));
+    }
+    else if (driver == DatabaseDriver.POSTGRESQL) {
+      set(size, value -> dataSource.addDataSourceProperty("preparedStatementCacheQueries", String.valueOf(value)));
+    }
+  }
+
+  private static <T> void set(T value, Consumer<T> setter) {
+    if (value != null) {
+      setter.accept(value);
     }
   }
 }
@@ -0,0 +1,109 @@
+package org.springframework.boot.autoconfigure.jdbc;
+
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * Hikari connection pool settings applied by {@link DataSourceConfiguration_HikariInitializer} to the
+ * {@code HikariDataSource} before its pool is started, unset values keep Hikari defaults.
+ */
+public class HikariProperties {
+
+	private Integer maximumPoolSize;
+
+	private Integer minimumIdle;
+
+	private Duration connectionTimeout;
+
+	private Duration idleTimeout;
+
+	private Duration maxLifetime;
+
+	private Duration leakDetectionThreshold;
+
+	private Integer preparedStatementCacheSize;
+
+	private Integer preparedStatementCacheSqlLimit;
+
+	private final Properties dataSourceProperties = new Properties();
+
+	public Integer getMaximumPoolSize() {
+		return this.maximumPoolSize;
+	}
+
+	public void setMaximumPoolSize(Integer maximumPoolSize) {
+		this.maximumPoolSize = maximumPoolSize;
+	}
+
+	public Integer getMinimumIdle() {
+		return this.minimumIdle;
+	}
+
+	public void setMinimumIdle(Integer minimumIdle) {
+		this.minimumIdle = minimumIdle;
+	}
+
+	public Duration getConnectionTimeout() {
+		return this.connectionTimeout;
+	}
+
+	public void setConnectionTimeout(Duration connectionTimeout) {
+		this.connectionTimeout = connectionTimeout;
+	}
+
+	public Duration getIdleTimeout() {
+		return this.idleTimeout;
+	}
+
+	public void setIdleTimeout(Duration idleTimeout) {
+		this.idleTimeout = idleTimeout;
+	}
+
+	public Duration getMaxLifetime() {
+		return this.maxLifetime;
+	}
+
+	public void setMaxLifetime(Duration maxLifetime) {
+		this.maxLifetime = maxLifetime;
+	}
+
+	public Duration getLeakDetectionThreshold() {
+		return this.leakDetectionThreshold;
+	}
+
+	public void setLeakDetectionThreshold(Duration leakDetectionThreshold) {
+		this.leakDetectionThreshold = leakDetectionThreshold;
+	}
+
+	/**
+	 * Number of prepared statements cached per connection, translated to the driver specific data source properties
+	 * for MySQL, MariaDB and PostgreSQL.
+	 */
+	public Integer getPreparedStatementCacheSize() {
+		return this.preparedStatementCacheSize;
+	}
+
+	public void setPreparedStatementCacheSize(Integer preparedStatementCacheSize) {
+		this.preparedStatementCacheSize = preparedStatementCacheSize;
+	}
+
+	/**
+	 * Maximum length of the SQL of a cached prepared statement, translated to the driver specific data source
+	 * properties for MySQL and MariaDB.
+	 */
+	public Integer getPreparedStatementCacheSqlLimit() {
+		return this.preparedStatementCacheSqlLimit;
+	}
+
+	public void setPreparedStatementCacheSqlLimit(Integer preparedStatementCacheSqlLimit) {
+		this.preparedStatementCacheSqlLimit = preparedStatementCacheSqlLimit;
+	}
+
+	/**
+	 * Properties passed to the underlying JDBC driver or {@code DataSource}.
+	 */
+	public Properties getDataSourceProperties() {
+		return this.dataSourceProperties;
+	}
+
+}
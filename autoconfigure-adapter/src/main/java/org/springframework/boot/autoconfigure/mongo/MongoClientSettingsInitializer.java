@@ -0,0 +1,67 @@
+package org.springframework.boot.autoconfigure.mongo;
+
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.connection.ConnectionPoolSettings;
+import org.bson.codecs.configuration.CodecRegistries;
+
+import org.springframework.beans.factory.support.BeanDefinitionReaderUtils;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.support.GenericApplicationContext;
+
+/**
+ * {@link ApplicationContextInitializer} registering a {@link MongoClientSettingsBuilderCustomizer} applying
+ * {@link MongoClientSettingsProperties}, used by both the blocking and the reactive MongoDB clients.
+ *
+ * <p>The customizer is not ordered, so it is applied after the one configuring the connection string and overrides
+ * the pool settings it defines.
+ */
+public class MongoClientSettingsInitializer implements ApplicationContextInitializer<GenericApplicationContext> {
+
+	private final MongoClientSettingsProperties properties;
+
+	public MongoClientSettingsInitializer(MongoClientSettingsProperties properties) {
+		this.properties = properties;
+	}
+
+	@Override
+	public void initialize(GenericApplicationContext context) {
+		context.registerBean(BeanDefinitionReaderUtils.uniqueBeanName(MongoClientSettingsBuilderCustomizer.class.getName(), context),
+				MongoClientSettingsBuilderCustomizer.class, () -> this::customize);
+	}
+
+	private void customize(MongoClientSettings.Builder builder) {
+		builder.applyToConnectionPoolSettings(this::customizePool);
+		if (this.properties.getCompressors() != null) {
+			builder.compressorList(this.properties.getCompressors());
+		}
+		if (this.properties.getReadPreference() != null) {
+			builder.readPreference(this.properties.getReadPreference());
+		}
+		if (this.properties.getCodecRegistry() != null) {
+			builder.codecRegistry(CodecRegistries.fromRegistries(this.properties.getCodecRegistry(),
+					MongoClientSettings.getDefaultCodecRegistry()));
+		}
+	}
+
+	private void customizePool(ConnectionPoolSettings.Builder builder) {
+		MongoClientSettingsProperties.Pool pool = this.properties.getPool();
+		if (pool.getMaxSize() != null) {
+			builder.maxSize(pool.getMaxSize());
+		}
+		if (pool.getMinSize() != null) {
+			builder.minSize(pool.getMinSize());
+		}
+		if (pool.getMaxWaitTime() != null) {
+			builder.maxWaitTime(pool.getMaxWaitTime().toMillis(), TimeUnit.MILLISECONDS);
+		}
+		if (pool.getMaxConnectionIdleTime() != null) {
+			builder.maxConnectionIdleTime(pool.getMaxConnectionIdleTime().toMillis(), TimeUnit.MILLISECONDS);
+		}
+		if (pool.getMaxConnectionLifeTime() != null) {
+			builder.maxConnectionLifeTime(pool.getMaxConnectionLifeTime().toMillis(), TimeUnit.MILLISECONDS);
+		}
+	}
+
+}
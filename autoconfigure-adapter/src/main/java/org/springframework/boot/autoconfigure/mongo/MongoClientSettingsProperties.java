@@ -0,0 +1,133 @@
+package org.springframework.boot.autoconfigure.mongo;
+
+import java.time.Duration;
+import java.util.List;
+
+import com.mongodb.MongoCompressor;
+import com.mongodb.ReadPreference;
+import org.bson.codecs.configuration.CodecRegistry;
+
+/**
+ * MongoDB client settings applied on top of the ones resolved from the connection string, unset values keep the
+ * driver defaults.
+ * @see MongoClientSettingsInitializer
+ */
+public class MongoClientSettingsProperties {
+
+	private final Pool pool = new Pool();
+
+	/**
+	 * Compressors offered to the server, in order of preference.
+	 */
+	private List<MongoCompressor> compressors;
+
+	/**
+	 * Read preference of the client.
+	 */
+	private ReadPreference readPreference;
+
+	/**
+	 * Codecs taking precedence over the default ones of the driver.
+	 */
+	private CodecRegistry codecRegistry;
+
+	public Pool getPool() {
+		return this.pool;
+	}
+
+	public List<MongoCompressor> getCompressors() {
+		return this.compressors;
+	}
+
+	public void setCompressors(List<MongoCompressor> compressors) {
+		this.compressors = compressors;
+	}
+
+	public ReadPreference getReadPreference() {
+		return this.readPreference;
+	}
+
+	public void setReadPreference(ReadPreference readPreference) {
+		this.readPreference = readPreference;
+	}
+
+	public CodecRegistry getCodecRegistry() {
+		return this.codecRegistry;
+	}
+
+	public void setCodecRegistry(CodecRegistry codecRegistry) {
+		this.codecRegistry = codecRegistry;
+	}
+
+	/**
+	 * Connection pool settings, per server.
+	 */
+	public static class Pool {
+
+		/**
+		 * Maximum number of connections.
+		 */
+		private Integer maxSize;
+
+		/**
+		 * Minimum number of connections kept open.
+		 */
+		private Integer minSize;
+
+		/**
+		 * Maximum time an operation waits for a connection.
+		 */
+		private Duration maxWaitTime;
+
+		/**
+		 * Time after which an idle connection is closed.
+		 */
+		private Duration maxConnectionIdleTime;
+
+		/**
+		 * Time after which a connection is closed, whether idle or not.
+		 */
+		private Duration maxConnectionLifeTime;
+
+		public Integer getMaxSize() {
+			return this.maxSize;
+		}
+
+		public void setMaxSize(Integer maxSize) {
+			this.maxSize = maxSize;
+		}
+
+		public Integer getMinSize() {
+			return this.minSize;
+		}
+
+		public void setMinSize(Integer minSize) {
+			this.minSize = minSize;
+		}
+
+		public Duration getMaxWaitTime() {
+			return this.maxWaitTime;
+		}
+
+		public void setMaxWaitTime(Duration maxWaitTime) {
+			this.maxWaitTime = maxWaitTime;
+		}
+
+		public Duration getMaxConnectionIdleTime() {
+			return this.maxConnectionIdleTime;
+		}
+
+		public void setMaxConnectionIdleTime(Duration maxConnectionIdleTime) {
+			this.maxConnectionIdleTime = maxConnectionIdleTime;
+		}
+
+		public Duration getMaxConnectionLifeTime() {
+			return this.maxConnectionLifeTime;
+		}
+
+		public void setMaxConnectionLifeTime(Duration maxConnectionLifeTime) {
+			this.maxConnectionLifeTime = maxConnectionLifeTime;
+		}
+	}
+
+}
@@ -2,6 +2,8 @@ package org.springframework.boot.autoconfigure.r2dbc;
 
 import java.util.List;
 
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
 import io.r2dbc.spi.ConnectionFactory;
 
 import org.springframework.context.ApplicationContextInitializer;
@@ -14,30 +16,67 @@ import org.springframework.transaction.reactive.TransactionalOperator;
 public class R2dbcInitializer  implements ApplicationContextInitializer<GenericApplicationContext> {
 	private final R2dbcProperties properties;
 	private final List<ConnectionFactoryOptionsBuilderCustomizer> optionsCustomizers;
+	private final R2dbcPoolProperties poolProperties;
 	private final boolean transactional;
 
 	public R2dbcInitializer(R2dbcProperties properties, List<ConnectionFactoryOptionsBuilderCustomizer> optionsCustomizers, boolean transactional) {
+		this(properties, optionsCustomizers, null, transactional);
+	}
+
+	/**
+	 * @param poolProperties the connection pool configuration, or {@code null} to use the connection factory without pooling
+	 */
+	public R2dbcInitializer(R2dbcProperties properties, List<ConnectionFactoryOptionsBuilderCustomizer> optionsCustomizers, R2dbcPoolProperties poolProperties, boolean transactional) {
 		this.properties = properties;
 		this.optionsCustomizers = optionsCustomizers;
+		this.poolProperties = poolProperties;
 		this.transactional = transactional;
 	}
 
 	@Override
 	public void initialize(GenericApplicationContext context) {
-		ConnectionFactory connectionFactory = ConnectionFactoryBuilder.of(properties, () -> EmbeddedDatabaseConnection.get(context.getClassLoader()))
+		if (poolProperties != null) {
+			context.registerBean(ConnectionFactory.class, () -> new ConnectionPool(connectionPoolConfiguration(connectionFactory(context))),
+					bd -> bd.setDestroyMethodName("dispose"));
+		}
+		else {
+			context.registerBean(ConnectionFactory.class, () -> connectionFactory(context));
+		}
+		context.registerBean(DatabaseClient.class, () -> DatabaseClient.builder().connectionFactory(context.getBean(ConnectionFactory.class)).build());
+
+		if (transactional) {
+			context.registerBean(TransactionalOperator.class, () -> {
+				ReactiveTransactionManager reactiveTransactionManager = new R2dbcTransactionManager(context.getBean(ConnectionFactory.class));
+				return TransactionalOperator.create(reactiveTransactionManager);
+			});
+		}
+	}
+
+	private ConnectionFactory connectionFactory(GenericApplicationContext context) {
+		return ConnectionFactoryBuilder.of(properties, () -> EmbeddedDatabaseConnection.get(context.getClassLoader()))
 				.configure((options) -> {
 					for (ConnectionFactoryOptionsBuilderCustomizer optionsCustomizer : optionsCustomizers) {
 						optionsCustomizer.customize(options);
 					}
 				})
 				.build();
+	}
 
-		context.registerBean(ConnectionFactory.class, () -> connectionFactory);
-		context.registerBean(DatabaseClient.class, () -> DatabaseClient.builder().connectionFactory(connectionFactory).build());
-
-		if (transactional) {
-			ReactiveTransactionManager reactiveTransactionManager = new R2dbcTransactionManager(connectionFactory);
-			context.registerBean(TransactionalOperator.class, () -> TransactionalOperator.create(reactiveTransactionManager));
+	private ConnectionPoolConfiguration connectionPoolConfiguration(ConnectionFactory connectionFactory) {
+		ConnectionPoolConfiguration.Builder builder = ConnectionPoolConfiguration.builder(connectionFactory)
+				.initialSize(poolProperties.getInitialSize())
+				.maxSize(poolProperties.getMaxSize())
+				.maxIdleTime(poolProperties.getMaxIdleTime())
+				.registerJmx(poolProperties.isRegisterJmx());
+		if (properties.getName() != null) {
+			builder.name(properties.getName());
+		}
+		if (poolProperties.getMaxAcquireTime() != null) {
+			builder.maxAcquireTime(poolProperties.getMaxAcquireTime());
+		}
+		if (poolProperties.getValidationQuery() != null) {
+			builder.validationQuery(poolProperties.getValidationQuery());
 		}
+		return builder.build();
 	}
 }
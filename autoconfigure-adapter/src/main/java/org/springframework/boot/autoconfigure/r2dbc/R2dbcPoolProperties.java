@@ -0,0 +1,89 @@
+package org.springframework.boot.autoconfigure.r2dbc;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the {@code io.r2dbc.pool.ConnectionPool} wrapping the {@code ConnectionFactory} created by
+ * {@link R2dbcInitializer}.
+ */
+public class R2dbcPoolProperties {
+
+	/**
+	 * Initial connection pool size.
+	 */
+	private int initialSize = 10;
+
+	/**
+	 * Maximal connection pool size.
+	 */
+	private int maxSize = 10;
+
+	/**
+	 * Maximum amount of time that a connection is allowed to sit idle in the pool.
+	 */
+	private Duration maxIdleTime = Duration.ofMinutes(30);
+
+	/**
+	 * Maximum time to acquire a connection from the pool, no limit if not set.
+	 */
+	private Duration maxAcquireTime;
+
+	/**
+	 * Validation query, connections are validated with {@code Connection#validate} if not set.
+	 */
+	private String validationQuery;
+
+	/**
+	 * Whether the pool metrics should be exposed as a JMX MBean.
+	 */
+	private boolean registerJmx = false;
+
+	public int getInitialSize() {
+		return this.initialSize;
+	}
+
+	public void setInitialSize(int initialSize) {
+		this.initialSize = initialSize;
+	}
+
+	public int getMaxSize() {
+		return this.maxSize;
+	}
+
+	public void setMaxSize(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	public Duration getMaxIdleTime() {
+		return this.maxIdleTime;
+	}
+
+	public void setMaxIdleTime(Duration maxIdleTime) {
+		this.maxIdleTime = maxIdleTime;
+	}
+
+	public Duration getMaxAcquireTime() {
+		return this.maxAcquireTime;
+	}
+
+	public void setMaxAcquireTime(Duration maxAcquireTime) {
+		this.maxAcquireTime = maxAcquireTime;
+	}
+
+	public String getValidationQuery() {
+		return this.validationQuery;
+	}
+
+	public void setValidationQuery(String validationQuery) {
+		this.validationQuery = validationQuery;
+	}
+
+	public boolean isRegisterJmx() {
+		return this.registerJmx;
+	}
+
+	public void setRegisterJmx(boolean registerJmx) {
+		this.registerJmx = registerJmx;
+	}
+
+}
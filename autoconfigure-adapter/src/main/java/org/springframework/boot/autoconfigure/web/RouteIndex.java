@@ -0,0 +1,314 @@
+package org.springframework.boot.autoconfigure.web;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.http.server.PathContainer;
+
+/**
+ * Index of router functions by HTTP method and literal leading path segments, shared by the WebFlux and WebMvc
+ * indexed router functions.
+ *
+ * <p>Each router function is summarized by its {@link Guard guards}, necessary conditions derived from the predicates
+ * of its routes: a request whose method and path satisfy none of the guards of a router function can't be routed by
+ * it. Predicates that can't be indexed (headers, content negotiation, negation, custom predicates) don't constrain
+ * the guards, and router functions that can't be introspected (resources, custom implementations) are always
+ * candidates. Path patterns are indexed case-sensitively, as matched by the default path pattern parser.
+ */
+public final class RouteIndex {
+
+	private final Node root = new Node();
+
+	private final int size;
+
+	private RouteIndex(List<List<Guard>> guards) {
+		this.size = guards.size();
+		for (int i = 0; i < guards.size(); i++) {
+			for (Guard guard : guards.get(i)) {
+				Node node = this.root;
+				if (guard.segments != null) {
+					for (String segment : guard.segments) {
+						node = node.children.computeIfAbsent(segment, key -> new Node());
+					}
+				}
+				node.entries.add(new Entry(i, guard.methods));
+			}
+		}
+	}
+
+	/**
+	 * Create an index from the guards of each router function, in routing order.
+	 */
+	public static RouteIndex of(List<List<Guard>> guards) {
+		return new RouteIndex(guards);
+	}
+
+	/**
+	 * Return the indexes, in routing order, of the router functions which may route a request with the specified
+	 * method (the requested one for CORS pre-flight requests) and path.
+	 */
+	public BitSet candidates(String method, PathContainer path) {
+		BitSet candidates = new BitSet(this.size);
+		Node node = this.root;
+		node.collect(method, candidates);
+		for (PathContainer.Element element : path.elements()) {
+			if (element instanceof PathContainer.PathSegment) {
+				node = node.children.get(((PathContainer.PathSegment) element).valueToMatch());
+				if (node == null) {
+					break;
+				}
+				node.collect(method, candidates);
+			}
+		}
+		return candidates;
+	}
+
+	private static class Node {
+
+		private final Map<String, Node> children = new HashMap<>();
+
+		private final List<Entry> entries = new ArrayList<>();
+
+		void collect(String method, BitSet candidates) {
+			for (Entry entry : this.entries) {
+				if (entry.methods == null || entry.methods.contains(method) ||
+						("HEAD".equals(method) && entry.methods.contains("GET"))) {
+					candidates.set(entry.router);
+				}
+			}
+		}
+	}
+
+	private static class Entry {
+
+		private final int router;
+
+		private final Set<String> methods;
+
+		Entry(int router, Set<String> methods) {
+			this.router = router;
+			this.methods = methods;
+		}
+	}
+
+	/**
+	 * Necessary condition for a route to match a request: one of the {@code methods} (any if {@code null}) and a
+	 * path starting with the literal {@code segments} (any if {@code null}).
+	 */
+	public static final class Guard {
+
+		static final Guard ANY = new Guard(null, null, false);
+
+		private final Set<String> methods;
+
+		private final List<String> segments;
+
+		/**
+		 * Whether the whole path pattern is literal, so that the pattern of nested routes can be appended to it.
+		 */
+		private final boolean literal;
+
+		private Guard(Set<String> methods, List<String> segments, boolean literal) {
+			this.methods = methods;
+			this.segments = segments;
+			this.literal = literal;
+		}
+
+		static Guard method(Collection<String> methods) {
+			return new Guard(Collections.unmodifiableSet(new HashSet<>(methods)), null, false);
+		}
+
+		static Guard path(String pattern) {
+			String path = (pattern.startsWith("/") ? pattern.substring(1) : pattern);
+			List<String> segments = new ArrayList<>();
+			boolean literal = true;
+			if (!path.isEmpty()) {
+				for (String segment : path.split("/", -1)) {
+					if (segment.isEmpty() || segment.indexOf('{') != -1 || segment.indexOf('*') != -1 || segment.indexOf('?') != -1) {
+						literal = false;
+						break;
+					}
+					segments.add(segment);
+				}
+			}
+			return new Guard(null, segments, literal);
+		}
+
+		/**
+		 * Both guards, or {@code null} if they can't be satisfied together.
+		 */
+		Guard and(Guard other) {
+			Set<String> methods = intersect(this.methods, other.methods);
+			if (methods != null && methods.isEmpty()) {
+				return null;
+			}
+			if (this.segments == null) {
+				return new Guard(methods, other.segments, other.literal);
+			}
+			if (other.segments == null) {
+				return new Guard(methods, this.segments, this.literal);
+			}
+			Guard longest = (this.segments.size() >= other.segments.size() ? this : other);
+			return new Guard(methods, longest.segments, false);
+		}
+
+		/**
+		 * This guard, of an enclosing nested predicate, followed by the {@code nested} one which applies to the rest
+		 * of the path, or {@code null} if they can't be satisfied together.
+		 */
+		Guard nest(Guard nested) {
+			Set<String> methods = intersect(this.methods, nested.methods);
+			if (methods != null && methods.isEmpty()) {
+				return null;
+			}
+			if (nested.segments == null) {
+				return new Guard(methods, this.segments, this.literal);
+			}
+			if (this.segments == null) {
+				return new Guard(methods, nested.segments, nested.literal);
+			}
+			if (!this.literal) {
+				return new Guard(methods, this.segments, false);
+			}
+			List<String> segments = new ArrayList<>(this.segments);
+			segments.addAll(nested.segments);
+			return new Guard(methods, segments, nested.literal);
+		}
+
+		private static Set<String> intersect(Set<String> methods, Set<String> otherMethods) {
+			if (methods == null) {
+				return otherMethods;
+			}
+			if (otherMethods == null) {
+				return methods;
+			}
+			Set<String> intersection = new HashSet<>(methods);
+			intersection.retainAll(otherMethods);
+			return intersection;
+		}
+	}
+
+	/**
+	 * Derive the {@link Guard guards} of a request predicate from the callbacks of a request predicate visitor.
+	 */
+	public static final class PredicateAnalyzer {
+
+		private final Deque<List<List<Guard>>> operands = new ArrayDeque<>();
+
+		private List<Guard> result = Collections.singletonList(Guard.ANY);
+
+		public void method(Collection<String> methods) {
+			operand(Collections.singletonList(Guard.method(methods)));
+		}
+
+		public void path(String pattern) {
+			operand(Collections.singletonList(Guard.path(pattern)));
+		}
+
+		public void unknown() {
+			operand(Collections.singletonList(Guard.ANY));
+		}
+
+		public void startComposite() {
+			this.operands.push(new ArrayList<>());
+		}
+
+		public void endAnd() {
+			List<Guard> result = Collections.singletonList(Guard.ANY);
+			for (List<Guard> operand : this.operands.pop()) {
+				List<Guard> guards = new ArrayList<>();
+				for (Guard left : result) {
+					for (Guard right : operand) {
+						Guard guard = left.and(right);
+						if (guard != null) {
+							guards.add(guard);
+						}
+					}
+				}
+				result = guards;
+			}
+			operand(result);
+		}
+
+		public void endOr() {
+			List<Guard> result = new ArrayList<>();
+			for (List<Guard> operand : this.operands.pop()) {
+				result.addAll(operand);
+			}
+			operand(result);
+		}
+
+		public void endNegate() {
+			this.operands.pop();
+			unknown();
+		}
+
+		public List<Guard> guards() {
+			return this.result;
+		}
+
+		private void operand(List<Guard> guards) {
+			if (this.operands.isEmpty()) {
+				this.result = guards;
+			}
+			else {
+				this.operands.peek().add(guards);
+			}
+		}
+	}
+
+	/**
+	 * Derive the {@link Guard guards} of a router function from the callbacks of a router function visitor.
+	 */
+	public static final class RouterAnalyzer {
+
+		private final Deque<List<Guard>> nested = new ArrayDeque<>(Collections.singletonList(Collections.singletonList(Guard.ANY)));
+
+		private final List<Guard> guards = new ArrayList<>();
+
+		private boolean unknown;
+
+		public void startNested(List<Guard> predicate) {
+			this.nested.push(nest(this.nested.peek(), predicate));
+		}
+
+		public void endNested() {
+			this.nested.pop();
+		}
+
+		public void route(List<Guard> predicate) {
+			this.guards.addAll(nest(this.nested.peek(), predicate));
+		}
+
+		public void unknown() {
+			this.unknown = true;
+		}
+
+		public List<Guard> guards() {
+			return (this.unknown ? Collections.singletonList(Guard.ANY) : this.guards);
+		}
+
+		private static List<Guard> nest(List<Guard> enclosing, List<Guard> predicate) {
+			List<Guard> guards = new ArrayList<>();
+			for (Guard outer : enclosing) {
+				for (Guard inner : predicate) {
+					Guard guard = outer.nest(inner);
+					if (guard != null) {
+						guards.add(guard);
+					}
+				}
+			}
+			return guards;
+		}
+	}
+
+}
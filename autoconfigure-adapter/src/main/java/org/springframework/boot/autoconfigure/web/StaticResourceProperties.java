@@ -0,0 +1,95 @@
+package org.springframework.boot.autoconfigure.web;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration of the static resources served by the WebFlux and WebMvc static resource router functions.
+ * @see StaticResourceResolver
+ */
+public class StaticResourceProperties {
+
+	/**
+	 * Locations of the static resources, searched in order.
+	 */
+	private List<String> locations = new ArrayList<>(Collections.singletonList("classpath:static/"));
+
+	/**
+	 * Maximum total size of the resource contents cached off-heap, caching is disabled when zero.
+	 */
+	private DataSize cacheMaxSize = DataSize.ofMegabytes(10);
+
+	/**
+	 * Maximum size of a cached resource, larger resources are streamed or transferred from the file system on
+	 * each request.
+	 */
+	private DataSize cacheMaxFileSize = DataSize.ofKilobytes(64);
+
+	/**
+	 * Maximum number of cached lookups of the resources not cached with their content, either missing or larger than
+	 * the maximum size of a cached resource, lookup caching is disabled when zero.
+	 */
+	private int lookupCacheSize = 1024;
+
+	/**
+	 * Whether to serve the {@code .gz} variant of a resource when it exists and the client accepts gzip.
+	 */
+	private boolean gzip = true;
+
+	/**
+	 * Whether to serve the {@code .br} variant of a resource when it exists and the client accepts Brotli.
+	 */
+	private boolean brotli = true;
+
+	public List<String> getLocations() {
+		return this.locations;
+	}
+
+	public void setLocations(List<String> locations) {
+		this.locations = locations;
+	}
+
+	public DataSize getCacheMaxSize() {
+		return this.cacheMaxSize;
+	}
+
+	public void setCacheMaxSize(DataSize cacheMaxSize) {
+		this.cacheMaxSize = cacheMaxSize;
+	}
+
+	public DataSize getCacheMaxFileSize() {
+		return this.cacheMaxFileSize;
+	}
+
+	public void setCacheMaxFileSize(DataSize cacheMaxFileSize) {
+		this.cacheMaxFileSize = cacheMaxFileSize;
+	}
+
+	public int getLookupCacheSize() {
+		return this.lookupCacheSize;
+	}
+
+	public void setLookupCacheSize(int lookupCacheSize) {
+		this.lookupCacheSize = lookupCacheSize;
+	}
+
+	public boolean isGzip() {
+		return this.gzip;
+	}
+
+	public void setGzip(boolean gzip) {
+		this.gzip = gzip;
+	}
+
+	public boolean isBrotli() {
+		return this.brotli;
+	}
+
+	public void setBrotli(boolean brotli) {
+		this.brotli = brotli;
+	}
+
+}
@@ -0,0 +1,305 @@
+package org.springframework.boot.autoconfigure.web;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Resolve the static resources served by the WebFlux and WebMvc static resource router functions.
+ *
+ * <p>Resources not larger than {@link StaticResourceProperties#getCacheMaxFileSize()} are cached in direct buffers
+ * with their ETag, computed from their content, and their last modification date, in an LRU cache bounded by
+ * {@link StaticResourceProperties#getCacheMaxSize()}. Larger resources are read on each request, so that the ones on
+ * the file system can be transferred without being copied in the Java heap, but their metadata is cached like the
+ * missing resources in an LRU cache bounded by {@link StaticResourceProperties#getLookupCacheSize()}, so that the
+ * requests for the same path don't search the locations again. The resources are thus expected not to change while
+ * the application is running. The {@code .br} and {@code .gz} variants of a resource are resolved instead of the
+ * resource itself when they exist and are accepted by the client.
+ *
+ * <p>Resolving a resource which is not cached performs blocking I/O, see {@link #isResolved(String, List)}.
+ */
+public class StaticResourceResolver {
+
+	private static final StaticResource MISSING = new StaticResource(null, null, null, -1, -1, null, null);
+
+	private final List<Resource> locations = new ArrayList<>();
+
+	private final StaticResourceProperties properties;
+
+	private final Map<String, StaticResource> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+	private final Map<String, StaticResource> lookups;
+
+	private long cacheSize;
+
+	public StaticResourceResolver(StaticResourceProperties properties, ResourceLoader resourceLoader) {
+		this.properties = properties;
+		for (String location : properties.getLocations()) {
+			this.locations.add(resourceLoader.getResource(location.endsWith("/") ? location : location + "/"));
+		}
+		this.lookups = new LinkedHashMap<String, StaticResource>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, StaticResource> eldest) {
+				return size() > properties.getLookupCacheSize();
+			}
+		};
+	}
+
+	/**
+	 * Resolve the resource of the specified request path, or its variant for one of the encodings of the specified
+	 * {@code Accept-Encoding} header values.
+	 * @return the resolved resource, or {@code null} if none
+	 */
+	public StaticResource resolve(String path, List<String> acceptEncoding) throws IOException {
+		String resourcePath = resourcePath(path);
+		if (resourcePath == null) {
+			return null;
+		}
+		StaticResource resource = null;
+		if (this.properties.isBrotli() && accepts(acceptEncoding, "br")) {
+			resource = resolve(resourcePath, "br", ".br");
+		}
+		if (resource == null && this.properties.isGzip() && accepts(acceptEncoding, "gzip")) {
+			resource = resolve(resourcePath, "gzip", ".gz");
+		}
+		return (resource != null ? resource : resolve(resourcePath, null, ""));
+	}
+
+	/**
+	 * Whether the resolution of the specified request path and {@code Accept-Encoding} header values is cached, so
+	 * that {@link #resolve(String, List)} returns without performing I/O unless the cache entries are evicted
+	 * meanwhile.
+	 */
+	public boolean isResolved(String path, List<String> acceptEncoding) {
+		String resourcePath = resourcePath(path);
+		if (resourcePath == null) {
+			return true;
+		}
+		if (this.properties.isBrotli() && accepts(acceptEncoding, "br")) {
+			StaticResource cached = cached(resourcePath + ".br");
+			if (cached == null) {
+				return false;
+			}
+			if (cached != MISSING) {
+				return true;
+			}
+		}
+		if (this.properties.isGzip() && accepts(acceptEncoding, "gzip")) {
+			StaticResource cached = cached(resourcePath + ".gz");
+			if (cached == null) {
+				return false;
+			}
+			if (cached != MISSING) {
+				return true;
+			}
+		}
+		return (cached(resourcePath) != null);
+	}
+
+	/**
+	 * Whether the response varies on the {@code Accept-Encoding} request header.
+	 */
+	public boolean isPrecompressed() {
+		return this.properties.isBrotli() || this.properties.isGzip();
+	}
+
+	private StaticResource resolve(String path, String encoding, String extension) throws IOException {
+		String key = path + extension;
+		StaticResource cached = cached(key);
+		if (cached != null) {
+			return (cached != MISSING ? cached : null);
+		}
+		for (Resource location : this.locations) {
+			Resource resource = location.createRelative(key);
+			if (resource.isReadable()) {
+				return load(key, resource, MediaTypeFactory.getMediaType(path).orElse(MediaType.APPLICATION_OCTET_STREAM), encoding);
+			}
+		}
+		lookup(key, MISSING);
+		return null;
+	}
+
+	/**
+	 * Return the cached resource of the specified key, {@link #MISSING} if known to be missing, or {@code null} if
+	 * not cached.
+	 */
+	private StaticResource cached(String key) {
+		synchronized (this.cache) {
+			StaticResource cached = this.cache.get(key);
+			if (cached != null) {
+				return cached;
+			}
+		}
+		synchronized (this.lookups) {
+			return this.lookups.get(key);
+		}
+	}
+
+	private void lookup(String key, StaticResource resource) {
+		synchronized (this.lookups) {
+			this.lookups.put(key, resource);
+		}
+	}
+
+	private StaticResource load(String key, Resource resource, MediaType mediaType, String encoding) throws IOException {
+		long contentLength = resource.contentLength();
+		long lastModified = lastModified(resource);
+		long cacheMaxSize = this.properties.getCacheMaxSize().toBytes();
+		if (cacheMaxSize > 0 && contentLength <= this.properties.getCacheMaxFileSize().toBytes() && contentLength <= cacheMaxSize) {
+			byte[] bytes;
+			try (InputStream inputStream = resource.getInputStream()) {
+				bytes = StreamUtils.copyToByteArray(inputStream);
+			}
+			ByteBuffer content = ByteBuffer.allocateDirect(bytes.length);
+			content.put(bytes).flip();
+			String eTag = "\"" + DigestUtils.md5DigestAsHex(bytes) + "\"";
+			StaticResource staticResource = new StaticResource(resource, mediaType, encoding, bytes.length, lastModified, eTag, content.asReadOnlyBuffer());
+			cache(key, staticResource, cacheMaxSize);
+			return staticResource;
+		}
+		String eTag = "W/\"" + Long.toHexString(contentLength) + "-" + Long.toHexString(lastModified) + "\"";
+		StaticResource staticResource = new StaticResource(resource, mediaType, encoding, contentLength, lastModified, eTag, null);
+		lookup(key, staticResource);
+		return staticResource;
+	}
+
+	private void cache(String key, StaticResource resource, long cacheMaxSize) {
+		synchronized (this.cache) {
+			StaticResource previous = this.cache.put(key, resource);
+			this.cacheSize += resource.getContentLength() - (previous != null ? previous.getContentLength() : 0);
+			Iterator<StaticResource> eldest = this.cache.values().iterator();
+			while (this.cacheSize > cacheMaxSize && eldest.hasNext()) {
+				this.cacheSize -= eldest.next().getContentLength();
+				eldest.remove();
+			}
+		}
+	}
+
+	private static long lastModified(Resource resource) {
+		try {
+			return resource.lastModified();
+		}
+		catch (IOException ex) {
+			return -1;
+		}
+	}
+
+	private static String resourcePath(String path) {
+		String decoded;
+		try {
+			decoded = StringUtils.uriDecode(path, StandardCharsets.UTF_8);
+		}
+		catch (IllegalArgumentException ex) {
+			return null;
+		}
+		String resourcePath = (decoded.startsWith("/") ? decoded.substring(1) : decoded);
+		if (resourcePath.isEmpty() || resourcePath.endsWith("/") || resourcePath.indexOf('\\') != -1 || resourcePath.indexOf(':') != -1) {
+			return null;
+		}
+		for (String segment : StringUtils.delimitedListToStringArray(resourcePath, "/")) {
+			if (segment.isEmpty() || segment.equals(".") || segment.equals("..") ||
+					segment.equalsIgnoreCase("WEB-INF") || segment.equalsIgnoreCase("META-INF")) {
+				return null;
+			}
+		}
+		return resourcePath;
+	}
+
+	private static boolean accepts(List<String> acceptEncoding, String encoding) {
+		for (String header : acceptEncoding) {
+			for (String value : StringUtils.commaDelimitedListToStringArray(header)) {
+				String[] parts = StringUtils.tokenizeToStringArray(value, ";");
+				if (parts.length > 0 && parts[0].equalsIgnoreCase(encoding)) {
+					return !(parts.length > 1 && parts[1].replace(" ", "").matches("q=0(\\.0*)?"));
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * A resolved static resource.
+	 */
+	public static final class StaticResource {
+
+		private final Resource resource;
+
+		private final MediaType mediaType;
+
+		private final String contentEncoding;
+
+		private final long contentLength;
+
+		private final long lastModified;
+
+		private final String eTag;
+
+		private final ByteBuffer content;
+
+		StaticResource(Resource resource, MediaType mediaType, String contentEncoding, long contentLength,
+				long lastModified, String eTag, ByteBuffer content) {
+			this.resource = resource;
+			this.mediaType = mediaType;
+			this.contentEncoding = contentEncoding;
+			this.contentLength = contentLength;
+			this.lastModified = lastModified;
+			this.eTag = eTag;
+			this.content = content;
+		}
+
+		public Resource getResource() {
+			return this.resource;
+		}
+
+		/**
+		 * The media type of the resource, the same for its encoded variants.
+		 */
+		public MediaType getMediaType() {
+			return this.mediaType;
+		}
+
+		/**
+		 * The encoding of a pre-compressed variant, or {@code null}.
+		 */
+		public String getContentEncoding() {
+			return this.contentEncoding;
+		}
+
+		public long getContentLength() {
+			return this.contentLength;
+		}
+
+		/**
+		 * The last modification date in milliseconds, or {@code -1} if unknown.
+		 */
+		public long getLastModified() {
+			return this.lastModified;
+		}
+
+		public String getETag() {
+			return this.eTag;
+		}
+
+		/**
+		 * A read-only view of the cached content, or {@code null} if the resource is not cached.
+		 */
+		public ByteBuffer getContent() {
+			return (this.content != null ? this.content.duplicate() : null);
+		}
+	}
+
+}
@@ -0,0 +1,62 @@
+package org.springframework.boot.autoconfigure.web.embedded;
+
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.HttpResources;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.support.GenericApplicationContext;
+
+/**
+ * {@link ApplicationContextInitializer} applying {@link NettyServerProperties} to a {@link NettyReactiveWebServerFactory}
+ * via a {@link org.springframework.boot.web.embedded.netty.NettyServerCustomizer}. When thread counts are specified,
+ * the server runs on dedicated {@link LoopResources} disposed with the application context.
+ */
+public class NettyServerInitializer implements ApplicationContextInitializer<GenericApplicationContext> {
+
+	public static final String LOOP_RESOURCES_BEAN_NAME = "nettyServerLoopResources";
+
+	private final NettyServerProperties properties;
+
+	private final NettyReactiveWebServerFactory serverFactory;
+
+	public NettyServerInitializer(NettyServerProperties properties, NettyReactiveWebServerFactory serverFactory) {
+		this.properties = properties;
+		this.serverFactory = serverFactory;
+	}
+
+	@Override
+	public void initialize(GenericApplicationContext context) {
+		boolean dedicatedLoops = this.properties.getWorkerThreads() != null || this.properties.getSelectorThreads() != null;
+		if (dedicatedLoops) {
+			context.registerBean(LOOP_RESOURCES_BEAN_NAME, LoopResources.class, () -> LoopResources.create("fu-http",
+					(this.properties.getSelectorThreads() != null ? this.properties.getSelectorThreads() : -1),
+					(this.properties.getWorkerThreads() != null ? this.properties.getWorkerThreads() : LoopResources.DEFAULT_IO_WORKER_COUNT),
+					true), (definition) -> definition.setDestroyMethodName("dispose"));
+		}
+		this.serverFactory.addServerCustomizers((httpServer) -> {
+			HttpServer server = httpServer;
+			boolean preferNative = (this.properties.getPreferNative() != null ? this.properties.getPreferNative() : LoopResources.DEFAULT_NATIVE);
+			if (dedicatedLoops) {
+				server = server.runOn(context.getBean(LOOP_RESOURCES_BEAN_NAME, LoopResources.class), preferNative);
+			}
+			else if (this.properties.getPreferNative() != null) {
+				server = server.runOn(HttpResources.get(), preferNative);
+			}
+			if (this.properties.getBacklog() != null) {
+				server = server.option(ChannelOption.SO_BACKLOG, this.properties.getBacklog());
+			}
+			if (this.properties.getIdleTimeout() != null) {
+				server = server.idleTimeout(this.properties.getIdleTimeout());
+			}
+			if (this.properties.getMaxHeaderSize() != null) {
+				int maxHeaderSize = (int) this.properties.getMaxHeaderSize().toBytes();
+				server = server.httpRequestDecoder((decoder) -> decoder.maxHeaderSize(maxHeaderSize));
+			}
+			return server;
+		});
+	}
+
+}
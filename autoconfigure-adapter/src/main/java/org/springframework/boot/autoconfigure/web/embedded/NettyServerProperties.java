@@ -0,0 +1,91 @@
+package org.springframework.boot.autoconfigure.web.embedded;
+
+import java.time.Duration;
+
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Reactor Netty server settings not covered by {@code ServerProperties}, unset values keep Reactor Netty defaults.
+ * @see NettyServerInitializer
+ */
+public class NettyServerProperties {
+
+	/**
+	 * Number of event loop threads handling the I/O of accepted connections.
+	 */
+	private Integer workerThreads;
+
+	/**
+	 * Number of event loop threads accepting connections, they are shared with the worker ones if not set.
+	 */
+	private Integer selectorThreads;
+
+	/**
+	 * Whether to use the native transport (epoll or kqueue) when available on the classpath.
+	 */
+	private Boolean preferNative;
+
+	/**
+	 * Maximum length of the queue of incoming connections ({@code SO_BACKLOG}).
+	 */
+	private Integer backlog;
+
+	/**
+	 * Time after which an idle connection is closed.
+	 */
+	private Duration idleTimeout;
+
+	/**
+	 * Maximum size of the HTTP request headers.
+	 */
+	private DataSize maxHeaderSize;
+
+	public Integer getWorkerThreads() {
+		return this.workerThreads;
+	}
+
+	public void setWorkerThreads(Integer workerThreads) {
+		this.workerThreads = workerThreads;
+	}
+
+	public Integer getSelectorThreads() {
+		return this.selectorThreads;
+	}
+
+	public void setSelectorThreads(Integer selectorThreads) {
+		this.selectorThreads = selectorThreads;
+	}
+
+	public Boolean getPreferNative() {
+		return this.preferNative;
+	}
+
+	public void setPreferNative(Boolean preferNative) {
+		this.preferNative = preferNative;
+	}
+
+	public Integer getBacklog() {
+		return this.backlog;
+	}
+
+	public void setBacklog(Integer backlog) {
+		this.backlog = backlog;
+	}
+
+	public Duration getIdleTimeout() {
+		return this.idleTimeout;
+	}
+
+	public void setIdleTimeout(Duration idleTimeout) {
+		this.idleTimeout = idleTimeout;
+	}
+
+	public DataSize getMaxHeaderSize() {
+		return this.maxHeaderSize;
+	}
+
+	public void setMaxHeaderSize(DataSize maxHeaderSize) {
+		this.maxHeaderSize = maxHeaderSize;
+	}
+
+}
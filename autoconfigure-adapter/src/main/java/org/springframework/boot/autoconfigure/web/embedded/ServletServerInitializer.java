@@ -0,0 +1,23 @@
+package org.springframework.boot.autoconfigure.web.embedded;
+
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.support.GenericApplicationContext;
+
+/**
+ * {@link ApplicationContextInitializer} registering a {@link ServletServerTuningCustomizer} applying
+ * {@link ServletServerProperties} to the Tomcat, Jetty or Undertow servlet web server.
+ */
+public class ServletServerInitializer implements ApplicationContextInitializer<GenericApplicationContext> {
+
+	private final ServletServerProperties properties;
+
+	public ServletServerInitializer(ServletServerProperties properties) {
+		this.properties = properties;
+	}
+
+	@Override
+	public void initialize(GenericApplicationContext context) {
+		context.registerBean(ServletServerTuningCustomizer.class, () -> new ServletServerTuningCustomizer(this.properties));
+	}
+
+}
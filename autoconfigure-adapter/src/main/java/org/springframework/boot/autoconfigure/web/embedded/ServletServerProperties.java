@@ -0,0 +1,131 @@
+package org.springframework.boot.autoconfigure.web.embedded;
+
+import java.time.Duration;
+
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Thread pool and connector settings applied the same way to Tomcat, Jetty and Undertow, unset values keep the engine
+ * defaults.
+ * @see ServletServerInitializer
+ */
+public class ServletServerProperties {
+
+	/**
+	 * Maximum number of worker threads.
+	 */
+	private Integer maxThreads;
+
+	/**
+	 * Minimum number of worker threads kept alive.
+	 */
+	private Integer minThreads;
+
+	/**
+	 * Maximum length of the queue of incoming connections when all the worker threads are busy.
+	 */
+	private Integer acceptCount;
+
+	/**
+	 * Number of I/O threads, selectors for Jetty (not configurable with Tomcat).
+	 */
+	private Integer ioThreads;
+
+	/**
+	 * Size of the buffers used to read requests and write responses.
+	 */
+	private DataSize bufferSize;
+
+	/**
+	 * Whether to allocate the buffers outside of the Java heap.
+	 */
+	private Boolean directBuffers;
+
+	/**
+	 * Time a connection is kept open waiting for the next request.
+	 */
+	private Duration keepAliveTimeout;
+
+	/**
+	 * Maximum number of requests served by a kept alive connection (not configurable with Jetty and Undertow).
+	 */
+	private Integer maxKeepAliveRequests;
+
+	/**
+	 * Maximum number of connections accepted at the same time.
+	 */
+	private Integer maxConnections;
+
+	public Integer getMaxThreads() {
+		return this.maxThreads;
+	}
+
+	public void setMaxThreads(Integer maxThreads) {
+		this.maxThreads = maxThreads;
+	}
+
+	public Integer getMinThreads() {
+		return this.minThreads;
+	}
+
+	public void setMinThreads(Integer minThreads) {
+		this.minThreads = minThreads;
+	}
+
+	public Integer getAcceptCount() {
+		return this.acceptCount;
+	}
+
+	public void setAcceptCount(Integer acceptCount) {
+		this.acceptCount = acceptCount;
+	}
+
+	public Integer getIoThreads() {
+		return this.ioThreads;
+	}
+
+	public void setIoThreads(Integer ioThreads) {
+		this.ioThreads = ioThreads;
+	}
+
+	public DataSize getBufferSize() {
+		return this.bufferSize;
+	}
+
+	public void setBufferSize(DataSize bufferSize) {
+		this.bufferSize = bufferSize;
+	}
+
+	public Boolean getDirectBuffers() {
+		return this.directBuffers;
+	}
+
+	public void setDirectBuffers(Boolean directBuffers) {
+		this.directBuffers = directBuffers;
+	}
+
+	public Duration getKeepAliveTimeout() {
+		return this.keepAliveTimeout;
+	}
+
+	public void setKeepAliveTimeout(Duration keepAliveTimeout) {
+		this.keepAliveTimeout = keepAliveTimeout;
+	}
+
+	public Integer getMaxKeepAliveRequests() {
+		return this.maxKeepAliveRequests;
+	}
+
+	public void setMaxKeepAliveRequests(Integer maxKeepAliveRequests) {
+		this.maxKeepAliveRequests = maxKeepAliveRequests;
+	}
+
+	public Integer getMaxConnections() {
+		return this.maxConnections;
+	}
+
+	public void setMaxConnections(Integer maxConnections) {
+		this.maxConnections = maxConnections;
+	}
+
+}
@@ -0,0 +1,137 @@
+package org.springframework.boot.autoconfigure.web.embedded;
+
+import java.time.Duration;
+
+import io.undertow.UndertowOptions;
+import org.apache.coyote.AbstractProtocol;
+import org.apache.coyote.ProtocolHandler;
+import org.apache.coyote.http11.AbstractHttp11Protocol;
+import org.eclipse.jetty.server.ConnectionLimit;
+import org.eclipse.jetty.server.Connector;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.xnio.Options;
+
+import org.springframework.boot.context.properties.PropertyMapper;
+import org.springframework.boot.web.embedded.jetty.JettyServletWebServerFactory;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.server.ConfigurableServletWebServerFactory;
+import org.springframework.core.Ordered;
+
+/**
+ * {@link WebServerFactoryCustomizer} applying {@link ServletServerProperties} to Tomcat, Jetty and Undertow servlet
+ * web servers. It runs after the {@code ServerProperties} based customizers, so its settings take precedence.
+ */
+public class ServletServerTuningCustomizer implements WebServerFactoryCustomizer<ConfigurableServletWebServerFactory>, Ordered {
+
+	private final ServletServerProperties properties;
+
+	public ServletServerTuningCustomizer(ServletServerProperties properties) {
+		this.properties = properties;
+	}
+
+	@Override
+	public int getOrder() {
+		return 1;
+	}
+
+	@Override
+	public void customize(ConfigurableServletWebServerFactory factory) {
+		if (factory instanceof TomcatServletWebServerFactory) {
+			TomcatDelegate.customize((TomcatServletWebServerFactory) factory, this.properties);
+		}
+		else if (factory instanceof JettyServletWebServerFactory) {
+			JettyDelegate.customize((JettyServletWebServerFactory) factory, this.properties);
+		}
+		else if (factory instanceof UndertowServletWebServerFactory) {
+			UndertowDelegate.customize((UndertowServletWebServerFactory) factory, this.properties);
+		}
+	}
+
+	private static class TomcatDelegate {
+
+		static void customize(TomcatServletWebServerFactory factory, ServletServerProperties properties) {
+			PropertyMapper map = PropertyMapper.get().alwaysApplyingWhenNonNull();
+			factory.addConnectorCustomizers((connector) -> {
+				ProtocolHandler handler = connector.getProtocolHandler();
+				if (handler instanceof AbstractProtocol) {
+					AbstractProtocol<?> protocol = (AbstractProtocol<?>) handler;
+					map.from(properties::getMaxThreads).to(protocol::setMaxThreads);
+					map.from(properties::getMinThreads).to(protocol::setMinSpareThreads);
+					map.from(properties::getAcceptCount).to(protocol::setAcceptCount);
+					map.from(properties::getMaxConnections).to(protocol::setMaxConnections);
+					map.from(properties::getKeepAliveTimeout).as((timeout) -> (int) timeout.toMillis()).to(protocol::setKeepAliveTimeout);
+				}
+				if (handler instanceof AbstractHttp11Protocol) {
+					map.from(properties::getMaxKeepAliveRequests).to(((AbstractHttp11Protocol<?>) handler)::setMaxKeepAliveRequests);
+				}
+				map.from(properties::getBufferSize).as((size) -> String.valueOf(size.toBytes())).to((size) -> {
+					connector.setProperty("socket.appReadBufSize", size);
+					connector.setProperty("socket.appWriteBufSize", size);
+				});
+				map.from(properties::getDirectBuffers).as(String::valueOf).to((direct) -> connector.setProperty("socket.directBuffer", direct));
+			});
+		}
+	}
+
+	private static class JettyDelegate {
+
+		static void customize(JettyServletWebServerFactory factory, ServletServerProperties properties) {
+			PropertyMapper map = PropertyMapper.get().alwaysApplyingWhenNonNull();
+			map.from(properties::getIoThreads).to(factory::setSelectors);
+			factory.addServerCustomizers((server) -> {
+				if (server.getThreadPool() instanceof QueuedThreadPool) {
+					QueuedThreadPool threadPool = (QueuedThreadPool) server.getThreadPool();
+					map.from(properties::getMaxThreads).to(threadPool::setMaxThreads);
+					map.from(properties::getMinThreads).to(threadPool::setMinThreads);
+				}
+				for (Connector connector : server.getConnectors()) {
+					if (connector instanceof ServerConnector) {
+						ServerConnector serverConnector = (ServerConnector) connector;
+						map.from(properties::getAcceptCount).to(serverConnector::setAcceptQueueSize);
+						map.from(properties::getKeepAliveTimeout).as(Duration::toMillis).to(serverConnector::setIdleTimeout);
+					}
+					HttpConnectionFactory connectionFactory = connector.getConnectionFactory(HttpConnectionFactory.class);
+					if (connectionFactory != null) {
+						HttpConfiguration configuration = connectionFactory.getHttpConfiguration();
+						map.from(properties::getBufferSize).as((size) -> (int) size.toBytes()).to((size) -> {
+							connectionFactory.setInputBufferSize(size);
+							configuration.setOutputBufferSize(size);
+						});
+						map.from(properties::getDirectBuffers).to((direct) -> {
+							configuration.setUseInputDirectByteBuffers(direct);
+							configuration.setUseOutputDirectByteBuffers(direct);
+						});
+					}
+				}
+				map.from(properties::getMaxConnections).to((maxConnections) -> server.addBean(new ConnectionLimit(maxConnections, server)));
+			});
+		}
+	}
+
+	private static class UndertowDelegate {
+
+		static void customize(UndertowServletWebServerFactory factory, ServletServerProperties properties) {
+			PropertyMapper map = PropertyMapper.get().alwaysApplyingWhenNonNull();
+			map.from(properties::getMaxThreads).to(factory::setWorkerThreads);
+			map.from(properties::getIoThreads).to(factory::setIoThreads);
+			map.from(properties::getBufferSize).as((size) -> (int) size.toBytes()).to(factory::setBufferSize);
+			map.from(properties::getDirectBuffers).to(factory::setUseDirectBuffers);
+			factory.addBuilderCustomizers((builder) -> {
+				map.from(properties::getMinThreads).to((minThreads) -> builder.setWorkerOption(Options.WORKER_TASK_CORE_THREADS, minThreads));
+				map.from(properties::getAcceptCount).to((acceptCount) -> builder.setSocketOption(Options.BACKLOG, acceptCount));
+				map.from(properties::getKeepAliveTimeout).as((timeout) -> (int) timeout.toMillis())
+						.to((timeout) -> builder.setServerOption(UndertowOptions.NO_REQUEST_TIMEOUT, timeout));
+				map.from(properties::getMaxConnections).to((maxConnections) -> {
+					builder.setSocketOption(Options.CONNECTION_HIGH_WATER, maxConnections);
+					builder.setSocketOption(Options.CONNECTION_LOW_WATER, maxConnections);
+				});
+			});
+		}
+	}
+
+}
@@ -0,0 +1,190 @@
+package org.springframework.boot.autoconfigure.web.embedded;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.coyote.AbstractProtocol;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.eclipse.jetty.util.thread.ThreadPool;
+
+import org.springframework.boot.web.embedded.jetty.JettyServletWebServerFactory;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.server.ConfigurableServletWebServerFactory;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * {@link ApplicationContextInitializer} running the request handling of a Tomcat, Jetty or Undertow servlet web server
+ * on a virtual-thread-per-task executor. The default thread pool of the engine is kept when the JDK does not support
+ * virtual threads.
+ */
+public class VirtualThreadsInitializer implements ApplicationContextInitializer<GenericApplicationContext> {
+
+	public static final String EXECUTOR_BEAN_NAME = "virtualThreadsWebServerExecutor";
+
+	private static final Log logger = LogFactory.getLog(VirtualThreadsInitializer.class);
+
+	private static final Method newVirtualThreadPerTaskExecutor =
+			ReflectionUtils.findMethod(Executors.class, "newVirtualThreadPerTaskExecutor");
+
+	private static final boolean supported = probe();
+
+	private final ConfigurableServletWebServerFactory serverFactory;
+
+	public VirtualThreadsInitializer(ConfigurableServletWebServerFactory serverFactory) {
+		this.serverFactory = serverFactory;
+	}
+
+	/**
+	 * Return whether the current JDK supports virtual threads.
+	 */
+	public static boolean isSupported() {
+		return supported;
+	}
+
+	/**
+	 * Virtual threads are a preview feature on Java 19 and 20, where the factory method exists but throws an
+	 * {@link UnsupportedOperationException} unless preview features are enabled.
+	 */
+	private static boolean probe() {
+		if (newVirtualThreadPerTaskExecutor == null) {
+			return false;
+		}
+		try {
+			((ExecutorService) ReflectionUtils.invokeMethod(newVirtualThreadPerTaskExecutor, null)).shutdown();
+			return true;
+		}
+		catch (RuntimeException ex) {
+			return false;
+		}
+	}
+
+	@Override
+	public void initialize(GenericApplicationContext context) {
+		if (!isSupported()) {
+			logger.info("Virtual threads are not supported on Java " + System.getProperty("java.version") +
+					", keeping the default thread pool of the web server");
+			return;
+		}
+		context.registerBean(EXECUTOR_BEAN_NAME, ExecutorService.class,
+				() -> (ExecutorService) ReflectionUtils.invokeMethod(newVirtualThreadPerTaskExecutor, null),
+				(definition) -> definition.setDestroyMethodName("shutdown"));
+		if (this.serverFactory instanceof TomcatServletWebServerFactory) {
+			TomcatDelegate.customize((TomcatServletWebServerFactory) this.serverFactory, context);
+		}
+		else if (this.serverFactory instanceof JettyServletWebServerFactory) {
+			JettyDelegate.customize((JettyServletWebServerFactory) this.serverFactory, context);
+		}
+		else if (this.serverFactory instanceof UndertowServletWebServerFactory) {
+			UndertowDelegate.customize((UndertowServletWebServerFactory) this.serverFactory, context);
+		}
+		else {
+			throw new IllegalStateException("Virtual threads are not supported with " + this.serverFactory.getClass().getSimpleName());
+		}
+	}
+
+	private static ExecutorService executor(GenericApplicationContext context) {
+		return context.getBean(EXECUTOR_BEAN_NAME, ExecutorService.class);
+	}
+
+	private static class TomcatDelegate {
+
+		static void customize(TomcatServletWebServerFactory factory, GenericApplicationContext context) {
+			factory.addProtocolHandlerCustomizers((protocolHandler) -> {
+				if (protocolHandler instanceof AbstractProtocol) {
+					((AbstractProtocol<?>) protocolHandler).setExecutor(executor(context));
+				}
+			});
+		}
+	}
+
+	private static class JettyDelegate {
+
+		static void customize(JettyServletWebServerFactory factory, GenericApplicationContext context) {
+			// JettyWebServerFactoryCustomizer sets its own thread pool, so the virtual threads one is set last
+			context.registerBean(JettyVirtualThreadsCustomizer.class, () -> new JettyVirtualThreadsCustomizer(context));
+		}
+	}
+
+	private static class JettyVirtualThreadsCustomizer implements WebServerFactoryCustomizer<JettyServletWebServerFactory>, Ordered {
+
+		private final GenericApplicationContext context;
+
+		JettyVirtualThreadsCustomizer(GenericApplicationContext context) {
+			this.context = context;
+		}
+
+		@Override
+		public int getOrder() {
+			return Ordered.LOWEST_PRECEDENCE;
+		}
+
+		@Override
+		public void customize(JettyServletWebServerFactory factory) {
+			factory.setThreadPool(new ExecutorServiceThreadPool(() -> executor(this.context)));
+		}
+	}
+
+	private static class UndertowDelegate {
+
+		static void customize(UndertowServletWebServerFactory factory, GenericApplicationContext context) {
+			factory.addDeploymentInfoCustomizers((deploymentInfo) -> deploymentInfo.setExecutor(executor(context)));
+		}
+	}
+
+	/**
+	 * Jetty {@link ThreadPool} dispatching to an {@link ExecutorService} owned by the application context, resolved
+	 * when the server starts.
+	 */
+	private static class ExecutorServiceThreadPool extends AbstractLifeCycle implements ThreadPool {
+
+		private final Supplier<ExecutorService> executorSupplier;
+
+		private volatile ExecutorService executor;
+
+		ExecutorServiceThreadPool(Supplier<ExecutorService> executorSupplier) {
+			this.executorSupplier = executorSupplier;
+		}
+
+		@Override
+		protected void doStart() throws Exception {
+			this.executor = this.executorSupplier.get();
+			super.doStart();
+		}
+
+		@Override
+		public void execute(Runnable task) {
+			this.executor.execute(task);
+		}
+
+		@Override
+		public void join() throws InterruptedException {
+			this.executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+		}
+
+		@Override
+		public int getThreads() {
+			return 0;
+		}
+
+		@Override
+		public int getIdleThreads() {
+			return 0;
+		}
+
+		@Override
+		public boolean isLowOnThreads() {
+			return false;
+		}
+	}
+
+}
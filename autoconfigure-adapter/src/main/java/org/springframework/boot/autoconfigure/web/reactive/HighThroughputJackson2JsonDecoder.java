@@ -0,0 +1,74 @@
+package org.springframework.boot.autoconfigure.web.reactive;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.CodecException;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.codec.Hints;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.log.LogFormatUtils;
+import org.springframework.http.codec.json.Jackson2CodecSupport;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+
+/**
+ * {@link Jackson2JsonDecoder} reusing its {@link ObjectReader} per target type, and parsing the aggregated input,
+ * bounded by {@link #getMaxInMemorySize()}, directly from the buffer of the request or response.
+ *
+ * <p>Target types with unresolvable generics and the decoding with a JSON view are handled by the default
+ * implementation.
+ */
+public class HighThroughputJackson2JsonDecoder extends Jackson2JsonDecoder {
+
+	private final ConcurrentMap<Type, ObjectReader> readers = new ConcurrentHashMap<>(64);
+
+	public HighThroughputJackson2JsonDecoder(ObjectMapper mapper) {
+		super(mapper);
+	}
+
+	@Override
+	public Object decode(DataBuffer dataBuffer, ResolvableType targetType, @Nullable MimeType mimeType,
+			@Nullable Map<String, Object> hints) throws DecodingException {
+
+		if (targetType.hasUnresolvableGenerics() || (hints != null && hints.containsKey(Jackson2CodecSupport.JSON_VIEW_HINT))) {
+			return super.decode(dataBuffer, targetType, mimeType, hints);
+		}
+		try {
+			ObjectReader reader = this.readers.computeIfAbsent(targetType.getType(),
+					type -> getObjectMapper().readerFor(getJavaType(type, null)));
+			Object value = reader.readValue(dataBuffer.asInputStream());
+			if (!Hints.isLoggingSuppressed(hints)) {
+				LogFormatUtils.traceDebug(logger, traceOn -> {
+					String formatted = LogFormatUtils.formatValue(value, !traceOn);
+					return Hints.getLogPrefix(hints) + "Decoded [" + formatted + "]";
+				});
+			}
+			return value;
+		}
+		catch (InvalidDefinitionException ex) {
+			throw new CodecException("Type definition error: " + ex.getType(), ex);
+		}
+		catch (JsonProcessingException ex) {
+			throw new DecodingException("JSON decoding error: " + ex.getOriginalMessage(), ex);
+		}
+		catch (IOException ex) {
+			throw new DecodingException("I/O error while parsing input stream", ex);
+		}
+		finally {
+			DataBufferUtils.release(dataBuffer);
+		}
+	}
+
+}
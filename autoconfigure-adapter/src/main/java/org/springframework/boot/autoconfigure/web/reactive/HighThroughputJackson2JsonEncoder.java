@@ -0,0 +1,200 @@
+package org.springframework.boot.autoconfigure.web.reactive;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.CodecException;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.codec.Hints;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.log.LogFormatUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2CodecSupport;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentLruCache;
+import org.springframework.util.MimeType;
+
+/**
+ * {@link Jackson2JsonEncoder} reusing its {@link ObjectWriter} per value type and media type without parameters, in a
+ * cache bounded to the most recently used ones, and serializing each value directly in a buffer allocated by the
+ * {@link DataBufferFactory} of the response or request, which is a pooled Netty buffer on Reactor Netty, instead of
+ * an intermediate byte array.
+ *
+ * <p>{@code Flux} streams with a streaming media type like {@code application/x-ndjson} are encoded as one buffer
+ * per element, the newline separator included. Values with a JSON view or filters are serialized with a dedicated
+ * writer which is not cached.
+ */
+public class HighThroughputJackson2JsonEncoder extends Jackson2JsonEncoder {
+
+	private static final byte[] NEWLINE_SEPARATOR = {'\n'};
+
+	private static final byte[] NO_SEPARATOR = new byte[0];
+
+	private static final int WRITER_CACHE_LIMIT = 256;
+
+	private final ConcurrentLruCache<WriterKey, ObjectWriter> writers = new ConcurrentLruCache<>(WRITER_CACHE_LIMIT,
+			key -> createWriter(getObjectMapper().writer(), key.valueType, key.mimeType(), null));
+
+	public HighThroughputJackson2JsonEncoder(ObjectMapper mapper) {
+		super(mapper);
+	}
+
+	@Override
+	public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory, ResolvableType elementType,
+			@Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+
+		if (inputStream instanceof Flux && isStreaming(mimeType)) {
+			return Flux.from(inputStream).map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints, NEWLINE_SEPARATOR));
+		}
+		return super.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+	}
+
+	@Override
+	public DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory, ResolvableType valueType,
+			@Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+
+		return encodeValue(value, bufferFactory, valueType, mimeType, hints, NO_SEPARATOR);
+	}
+
+	private DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory, ResolvableType valueType,
+			@Nullable MimeType mimeType, @Nullable Map<String, Object> hints, byte[] separator) {
+
+		Class<?> jsonView = (hints != null ? (Class<?>) hints.get(Jackson2CodecSupport.JSON_VIEW_HINT) : null);
+		FilterProvider filters = null;
+		if (value instanceof MappingJacksonValue) {
+			MappingJacksonValue container = (MappingJacksonValue) value;
+			value = container.getValue();
+			valueType = ResolvableType.forInstance(value);
+			jsonView = (container.getSerializationView() != null ? container.getSerializationView() : jsonView);
+			filters = container.getFilters();
+		}
+		ObjectWriter writer;
+		if (jsonView == null && filters == null) {
+			writer = this.writers.get(new WriterKey(valueType, mimeType));
+		}
+		else {
+			writer = createWriter(jsonView != null ? getObjectMapper().writerWithView(jsonView) : getObjectMapper().writer(),
+					valueType, mimeType, hints);
+			writer = (filters != null ? writer.with(filters) : writer);
+		}
+		logValue(value, hints);
+		JsonEncoding encoding = getJsonEncoding(mimeType);
+		DataBuffer buffer = bufferFactory.allocateBuffer();
+		try {
+			try (JsonGenerator generator = writer.getFactory().createGenerator(buffer.asOutputStream(), encoding)) {
+				writer.writeValue(generator, value);
+				generator.flush();
+			}
+			return buffer.write(separator);
+		}
+		catch (InvalidDefinitionException ex) {
+			DataBufferUtils.release(buffer);
+			throw new CodecException("Type definition error: " + ex.getType(), ex);
+		}
+		catch (JsonProcessingException ex) {
+			DataBufferUtils.release(buffer);
+			throw new EncodingException("JSON encoding error: " + ex.getOriginalMessage(), ex);
+		}
+		catch (IOException ex) {
+			DataBufferUtils.release(buffer);
+			throw new IllegalStateException("Unexpected I/O error while writing to data buffer", ex);
+		}
+		catch (RuntimeException ex) {
+			DataBufferUtils.release(buffer);
+			throw ex;
+		}
+	}
+
+	private boolean isStreaming(@Nullable MimeType mimeType) {
+		if (mimeType != null) {
+			for (MediaType streamingMediaType : getStreamingMediaTypes()) {
+				if (streamingMediaType.isCompatibleWith(mimeType)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private ObjectWriter createWriter(ObjectWriter writer, ResolvableType valueType, @Nullable MimeType mimeType,
+			@Nullable Map<String, Object> hints) {
+
+		JavaType javaType = getJavaType(valueType.getType(), null);
+		return customizeWriter(javaType.isContainerType() ? writer.forType(javaType) : writer, mimeType, valueType, hints);
+	}
+
+	private void logValue(Object value, @Nullable Map<String, Object> hints) {
+		if (!Hints.isLoggingSuppressed(hints)) {
+			LogFormatUtils.traceDebug(logger, traceOn -> {
+				String formatted = LogFormatUtils.formatValue(value, !traceOn);
+				return Hints.getLogPrefix(hints) + "Encoding [" + formatted + "]";
+			});
+		}
+	}
+
+
+	/**
+	 * Key ignoring the parameters of the MIME type, like the charset, which don't change the writer.
+	 */
+	private static final class WriterKey {
+
+		private final ResolvableType valueType;
+
+		private final Type type;
+
+		@Nullable
+		private final String mimeType;
+
+		@Nullable
+		private final String mimeSubtype;
+
+		WriterKey(ResolvableType valueType, @Nullable MimeType mimeType) {
+			this.valueType = valueType;
+			this.type = valueType.getType();
+			this.mimeType = (mimeType != null ? mimeType.getType() : null);
+			this.mimeSubtype = (mimeType != null ? mimeType.getSubtype() : null);
+		}
+
+		@Nullable
+		MimeType mimeType() {
+			return (this.mimeType != null ? new MimeType(this.mimeType, this.mimeSubtype) : null);
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof WriterKey)) {
+				return false;
+			}
+			WriterKey otherKey = (WriterKey) other;
+			return this.type.equals(otherKey.type) && Objects.equals(this.mimeType, otherKey.mimeType) &&
+					Objects.equals(this.mimeSubtype, otherKey.mimeSubtype);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * (31 * this.type.hashCode() + Objects.hashCode(this.mimeType)) + Objects.hashCode(this.mimeSubtype);
+		}
+	}
+
+}
@@ -0,0 +1,30 @@
+package org.springframework.boot.autoconfigure.web.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.boot.autoconfigure.jackson.JacksonObjectMappers;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.http.codec.CodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * {@link ApplicationContextInitializer} adapter for registering Jackson CBOR codecs, configured like the JSON ones.
+ * @see Jackson2CborEncoder
+ * @see Jackson2CborDecoder
+ */
+public class JacksonCborCodecInitializer extends AbstractCodecInitializer {
+
+	public JacksonCborCodecInitializer(boolean isClientCodec) {
+		super(isClientCodec);
+	}
+
+	@Override
+	protected void register(GenericApplicationContext context, CodecConfigurer configurer) {
+		ObjectMapper mapper = JacksonObjectMappers.build(context, Jackson2ObjectMapperBuilder.cbor());
+		configurer.customCodecs().encoder(new Jackson2CborEncoder(mapper));
+		configurer.customCodecs().decoder(new Jackson2CborDecoder(mapper));
+	}
+}
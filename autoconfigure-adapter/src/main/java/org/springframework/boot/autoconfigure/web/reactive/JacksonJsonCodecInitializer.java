@@ -31,15 +31,34 @@ import org.springframework.http.codec.json.Jackson2JsonEncoder;
  */
 public class JacksonJsonCodecInitializer extends AbstractCodecInitializer {
 
+	private final JacksonJsonCodecProperties properties;
+
 	public JacksonJsonCodecInitializer(boolean isClientCodec) {
+		this(isClientCodec, new JacksonJsonCodecProperties());
+	}
+
+	public JacksonJsonCodecInitializer(boolean isClientCodec, JacksonJsonCodecProperties properties) {
 		super(isClientCodec);
+		this.properties = properties;
 	}
 
 	@Override
 	protected void register(GenericApplicationContext context, CodecConfigurer configurer) {
 		ObjectMapper mapper = context.getBean(ObjectMapper.class);
-		Jackson2JsonEncoder encoder = new Jackson2JsonEncoder(mapper);
-		configurer.customCodecs().decoder(new Jackson2JsonDecoder(mapper));
+		Jackson2JsonEncoder encoder;
+		Jackson2JsonDecoder decoder;
+		if (this.properties.isHighThroughput()) {
+			encoder = new HighThroughputJackson2JsonEncoder(mapper);
+			decoder = new HighThroughputJackson2JsonDecoder(mapper);
+		}
+		else {
+			encoder = new Jackson2JsonEncoder(mapper);
+			decoder = new Jackson2JsonDecoder(mapper);
+		}
+		if (this.properties.getMaxInMemorySize() != null) {
+			decoder.setMaxInMemorySize(Math.toIntExact(this.properties.getMaxInMemorySize().toBytes()));
+		}
+		configurer.customCodecs().decoder(decoder);
 		configurer.customCodecs().encoder(encoder);
 		configurer.customCodecs().writer(new ServerSentEventHttpMessageWriter(encoder));
 	}
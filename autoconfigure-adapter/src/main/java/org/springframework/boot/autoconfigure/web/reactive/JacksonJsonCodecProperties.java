@@ -0,0 +1,40 @@
+package org.springframework.boot.autoconfigure.web.reactive;
+
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration of the Jackson JSON codecs registered by {@link JacksonJsonCodecInitializer}.
+ */
+public class JacksonJsonCodecProperties {
+
+	/**
+	 * Whether to register the high-throughput codecs, reusing the readers and writers per type and serializing
+	 * directly in the buffers of the server or client.
+	 * @see HighThroughputJackson2JsonEncoder
+	 * @see HighThroughputJackson2JsonDecoder
+	 */
+	private boolean highThroughput;
+
+	/**
+	 * Limit on the number of bytes that can be buffered when decoding a single JSON value, the Spring default
+	 * ({@code 256KB}) is used if not set.
+	 */
+	private DataSize maxInMemorySize;
+
+	public boolean isHighThroughput() {
+		return this.highThroughput;
+	}
+
+	public void setHighThroughput(boolean highThroughput) {
+		this.highThroughput = highThroughput;
+	}
+
+	public DataSize getMaxInMemorySize() {
+		return this.maxInMemorySize;
+	}
+
+	public void setMaxInMemorySize(DataSize maxInMemorySize) {
+		this.maxInMemorySize = maxInMemorySize;
+	}
+
+}
@@ -0,0 +1,30 @@
+package org.springframework.boot.autoconfigure.web.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.boot.autoconfigure.jackson.JacksonObjectMappers;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.http.codec.CodecConfigurer;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * {@link ApplicationContextInitializer} adapter for registering Jackson Smile codecs, configured like the JSON ones.
+ * @see Jackson2SmileEncoder
+ * @see Jackson2SmileDecoder
+ */
+public class JacksonSmileCodecInitializer extends AbstractCodecInitializer {
+
+	public JacksonSmileCodecInitializer(boolean isClientCodec) {
+		super(isClientCodec);
+	}
+
+	@Override
+	protected void register(GenericApplicationContext context, CodecConfigurer configurer) {
+		ObjectMapper mapper = JacksonObjectMappers.build(context, Jackson2ObjectMapperBuilder.smile());
+		configurer.customCodecs().encoder(new Jackson2SmileEncoder(mapper));
+		configurer.customCodecs().decoder(new Jackson2SmileDecoder(mapper));
+	}
+}
@@ -0,0 +1,90 @@
+package org.springframework.boot.autoconfigure.web.reactive.function.client;
+
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import org.springframework.beans.factory.support.BeanDefinitionReaderUtils;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link ApplicationContextInitializer} registering a dedicated Reactor Netty {@link ConnectionProvider} and
+ * {@link LoopResources}, disposed with the application context, and a {@link WebClientCustomizer} configuring the
+ * {@code WebClient} with an {@link HttpClient} using them and tuned with {@link ReactorNettyConnectorProperties}.
+ *
+ * <p>The metrics of the connection pool are published to Micrometer, tagged with the client name, when it is
+ * available on the classpath. Each connector of a given context must have a distinct name since it prefixes the names
+ * of its beans.
+ */
+public class ReactorNettyConnectorInitializer implements ApplicationContextInitializer<GenericApplicationContext> {
+
+	private static final boolean micrometerPresent = ClassUtils.isPresent("io.micrometer.core.instrument.Metrics", null);
+
+	private final ReactorNettyConnectorProperties properties;
+
+	public ReactorNettyConnectorInitializer(ReactorNettyConnectorProperties properties) {
+		this.properties = properties;
+	}
+
+	@Override
+	public void initialize(GenericApplicationContext context) {
+		String connectionProviderBeanName = this.properties.getName() + "ConnectionProvider";
+		String loopResourcesBeanName = this.properties.getName() + "LoopResources";
+		if (context.containsBeanDefinition(connectionProviderBeanName) || context.containsBeanDefinition(loopResourcesBeanName)) {
+			throw new IllegalStateException("A Reactor Netty connector named '" + this.properties.getName()
+					+ "' is already declared, use a distinct name for each connector");
+		}
+		context.registerBean(connectionProviderBeanName, ConnectionProvider.class, this::connectionProvider,
+				(definition) -> definition.setDestroyMethodName("dispose"));
+		context.registerBean(loopResourcesBeanName, LoopResources.class, () -> LoopResources.create(this.properties.getName()),
+				(definition) -> definition.setDestroyMethodName("dispose"));
+		context.registerBean(BeanDefinitionReaderUtils.uniqueBeanName(WebClientCustomizer.class.getName(), context), WebClientCustomizer.class, () -> {
+			HttpClient httpClient = httpClient(context.getBean(connectionProviderBeanName, ConnectionProvider.class),
+					context.getBean(loopResourcesBeanName, LoopResources.class));
+			return (builder) -> builder.clientConnector(new ReactorClientHttpConnector(httpClient));
+		});
+	}
+
+	private ConnectionProvider connectionProvider() {
+		ConnectionProvider.Builder builder = ConnectionProvider.builder(this.properties.getName()).metrics(micrometerPresent);
+		if (this.properties.getMaxConnections() != null) {
+			builder.maxConnections(this.properties.getMaxConnections());
+		}
+		if (this.properties.getPendingAcquireMaxCount() != null) {
+			builder.pendingAcquireMaxCount(this.properties.getPendingAcquireMaxCount());
+		}
+		if (this.properties.getPendingAcquireTimeout() != null) {
+			builder.pendingAcquireTimeout(this.properties.getPendingAcquireTimeout());
+		}
+		if (this.properties.getMaxIdleTime() != null) {
+			builder.maxIdleTime(this.properties.getMaxIdleTime());
+		}
+		if (this.properties.getMaxLifeTime() != null) {
+			builder.maxLifeTime(this.properties.getMaxLifeTime());
+		}
+		if (this.properties.getEvictInBackground() != null) {
+			builder.evictInBackground(this.properties.getEvictInBackground());
+		}
+		return builder.build();
+	}
+
+	private HttpClient httpClient(ConnectionProvider connectionProvider, LoopResources loopResources) {
+		HttpClient httpClient = HttpClient.create(connectionProvider).runOn(loopResources);
+		if (this.properties.isHttp2()) {
+			httpClient = httpClient.protocol(HttpProtocol.HTTP11, HttpProtocol.H2C);
+		}
+		if (this.properties.isCompression()) {
+			httpClient = httpClient.compress(true);
+		}
+		if (this.properties.getResponseTimeout() != null) {
+			httpClient = httpClient.responseTimeout(this.properties.getResponseTimeout());
+		}
+		return httpClient;
+	}
+
+}
@@ -0,0 +1,143 @@
+package org.springframework.boot.autoconfigure.web.reactive.function.client;
+
+import java.time.Duration;
+
+/**
+ * Reactor Netty client connector settings, unset values keep Reactor Netty defaults.
+ * @see ReactorNettyConnectorInitializer
+ */
+public class ReactorNettyConnectorProperties {
+
+	/**
+	 * Name of the client, used as the name of its connection pool and metrics, and as the prefix of its event loop
+	 * threads and beans.
+	 */
+	private String name = "webClient";
+
+	/**
+	 * Maximum number of connections per remote host.
+	 */
+	private Integer maxConnections;
+
+	/**
+	 * Maximum number of requests waiting for a connection, unbounded when negative.
+	 */
+	private Integer pendingAcquireMaxCount;
+
+	/**
+	 * Maximum time to wait for a connection.
+	 */
+	private Duration pendingAcquireTimeout;
+
+	/**
+	 * Time after which an idle connection is closed.
+	 */
+	private Duration maxIdleTime;
+
+	/**
+	 * Time after which a connection is closed, whether idle or not, once released to the pool.
+	 */
+	private Duration maxLifeTime;
+
+	/**
+	 * Interval of the background eviction of the idle and expired connections, connections are only evicted when
+	 * acquired if not set.
+	 */
+	private Duration evictInBackground;
+
+	/**
+	 * Whether to enable HTTP/2 over cleartext (h2c), via an upgrade of the HTTP/1.1 connections.
+	 */
+	private boolean http2;
+
+	/**
+	 * Whether to request compressed responses.
+	 */
+	private boolean compression;
+
+	/**
+	 * Maximum time to wait for the response of a request.
+	 */
+	private Duration responseTimeout;
+
+	public String getName() {
+		return this.name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public Integer getMaxConnections() {
+		return this.maxConnections;
+	}
+
+	public void setMaxConnections(Integer maxConnections) {
+		this.maxConnections = maxConnections;
+	}
+
+	public Integer getPendingAcquireMaxCount() {
+		return this.pendingAcquireMaxCount;
+	}
+
+	public void setPendingAcquireMaxCount(Integer pendingAcquireMaxCount) {
+		this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+	}
+
+	public Duration getPendingAcquireTimeout() {
+		return this.pendingAcquireTimeout;
+	}
+
+	public void setPendingAcquireTimeout(Duration pendingAcquireTimeout) {
+		this.pendingAcquireTimeout = pendingAcquireTimeout;
+	}
+
+	public Duration getMaxIdleTime() {
+		return this.maxIdleTime;
+	}
+
+	public void setMaxIdleTime(Duration maxIdleTime) {
+		this.maxIdleTime = maxIdleTime;
+	}
+
+	public Duration getMaxLifeTime() {
+		return this.maxLifeTime;
+	}
+
+	public void setMaxLifeTime(Duration maxLifeTime) {
+		this.maxLifeTime = maxLifeTime;
+	}
+
+	public Duration getEvictInBackground() {
+		return this.evictInBackground;
+	}
+
+	public void setEvictInBackground(Duration evictInBackground) {
+		this.evictInBackground = evictInBackground;
+	}
+
+	public boolean isHttp2() {
+		return this.http2;
+	}
+
+	public void setHttp2(boolean http2) {
+		this.http2 = http2;
+	}
+
+	public boolean isCompression() {
+		return this.compression;
+	}
+
+	public void setCompression(boolean compression) {
+		this.compression = compression;
+	}
+
+	public Duration getResponseTimeout() {
+		return this.responseTimeout;
+	}
+
+	public void setResponseTimeout(Duration responseTimeout) {
+		this.responseTimeout = responseTimeout;
+	}
+
+}
@@ -0,0 +1,95 @@
+package org.springframework.boot.autoconfigure.web.reactive.function.server;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.boot.autoconfigure.web.StaticResourceProperties;
+import org.springframework.boot.autoconfigure.web.StaticResourceResolver;
+import org.springframework.boot.autoconfigure.web.StaticResourceResolver.StaticResource;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * {@link RouterFunction} serving the GET and HEAD requests for the static resources resolved by a
+ * {@link StaticResourceResolver}, with {@code ETag} and {@code Last-Modified} headers validated by the
+ * {@link ServerResponse} for conditional requests.
+ *
+ * <p>Cached resources are written from their direct buffer, and the other ones via the {@code Resource} message
+ * writer, which transfers the files with zero-copy when supported by the server, for example with a Netty
+ * {@code DefaultFileRegion} on Reactor Netty. The {@code Range} requests are handled by the {@code Resource} message
+ * writer, with a copy of the content for the cached resources.
+ *
+ * <p>The resources whose resolution is not cached are resolved on the {@link Schedulers#boundedElastic()} scheduler,
+ * since searching the locations and reading the content are blocking operations.
+ */
+public class StaticResourceRouterFunction implements RouterFunction<ServerResponse> {
+
+	private final StaticResourceResolver resolver;
+
+	public StaticResourceRouterFunction(StaticResourceProperties properties, ResourceLoader resourceLoader) {
+		this.resolver = new StaticResourceResolver(properties, resourceLoader);
+	}
+
+	@Override
+	public Mono<HandlerFunction<ServerResponse>> route(ServerRequest request) {
+		HttpMethod method = request.method();
+		if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+			return Mono.empty();
+		}
+		String path = request.requestPath().pathWithinApplication().value();
+		List<String> acceptEncoding = request.headers().header(HttpHeaders.ACCEPT_ENCODING);
+		Mono<StaticResource> resource = Mono.fromCallable(() -> this.resolver.resolve(path, acceptEncoding));
+		if (!this.resolver.isResolved(path, acceptEncoding)) {
+			resource = resource.subscribeOn(Schedulers.boundedElastic());
+		}
+		return resource.map(this::handlerFunction);
+	}
+
+	private HandlerFunction<ServerResponse> handlerFunction(StaticResource resource) {
+		return request -> response(resource, !request.headers().header(HttpHeaders.RANGE).isEmpty());
+	}
+
+	private Mono<ServerResponse> response(StaticResource resource, boolean range) {
+		ServerResponse.BodyBuilder response = ServerResponse.ok()
+				.eTag(resource.getETag())
+				.contentType(resource.getMediaType())
+				.header(HttpHeaders.ACCEPT_RANGES, "bytes");
+		if (resource.getLastModified() >= 0) {
+			response.lastModified(Instant.ofEpochMilli(resource.getLastModified()));
+		}
+		if (resource.getContentEncoding() != null) {
+			response.header(HttpHeaders.CONTENT_ENCODING, resource.getContentEncoding());
+		}
+		if (this.resolver.isPrecompressed()) {
+			response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+		}
+		ByteBuffer content = resource.getContent();
+		if (content != null && range) {
+			byte[] bytes = new byte[content.remaining()];
+			content.get(bytes);
+			return response.body(BodyInserters.fromResource(new ByteArrayResource(bytes)));
+		}
+		if (content != null) {
+			return response.contentLength(content.remaining()).body(fromByteBuffer(content));
+		}
+		return response.body(BodyInserters.fromResource(resource.getResource()));
+	}
+
+	private static BodyInserter<ByteBuffer, ReactiveHttpOutputMessage> fromByteBuffer(ByteBuffer content) {
+		return (message, context) -> message.writeWith(Mono.fromSupplier(() -> message.bufferFactory().wrap(content.duplicate())));
+	}
+
+}
@@ -0,0 +1,16 @@
+package org.springframework.boot.autoconfigure.web.servlet;
+
+import org.springframework.boot.autoconfigure.jackson.JacksonObjectMappers;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+public class JacksonCborConverterInitializer implements ApplicationContextInitializer<GenericApplicationContext> {
+
+	@Override
+	public void initialize(GenericApplicationContext context) {
+		context.registerBean("mappingJackson2CborHttpMessageConverter", HttpMessageConverter.class, () -> new MappingJackson2CborHttpMessageConverter(JacksonObjectMappers.build(context, Jackson2ObjectMapperBuilder.cbor())));
+	}
+}
@@ -0,0 +1,16 @@
+package org.springframework.boot.autoconfigure.web.servlet;
+
+import org.springframework.boot.autoconfigure.jackson.JacksonObjectMappers;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+public class JacksonSmileConverterInitializer implements ApplicationContextInitializer<GenericApplicationContext> {
+
+	@Override
+	public void initialize(GenericApplicationContext context) {
+		context.registerBean("mappingJackson2SmileHttpMessageConverter", HttpMessageConverter.class, () -> new MappingJackson2SmileHttpMessageConverter(JacksonObjectMappers.build(context, Jackson2ObjectMapperBuilder.smile())));
+	}
+}
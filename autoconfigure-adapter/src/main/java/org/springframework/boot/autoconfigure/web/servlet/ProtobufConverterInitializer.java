@@ -0,0 +1,20 @@
+package org.springframework.boot.autoconfigure.web.servlet;
+
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.protobuf.ProtobufHttpMessageConverter;
+
+/**
+ * {@link ApplicationContextInitializer} adapter for registering Protobuf converters.
+ * @see ProtobufHttpMessageConverter
+ * @see ProtobufDelimitedHttpMessageConverter
+ */
+public class ProtobufConverterInitializer implements ApplicationContextInitializer<GenericApplicationContext> {
+
+	@Override
+	public void initialize(GenericApplicationContext context) {
+		context.registerBean("protobufHttpMessageConverter", HttpMessageConverter.class, ProtobufHttpMessageConverter::new);
+		context.registerBean("protobufDelimitedHttpMessageConverter", HttpMessageConverter.class, ProtobufDelimitedHttpMessageConverter::new);
+	}
+}
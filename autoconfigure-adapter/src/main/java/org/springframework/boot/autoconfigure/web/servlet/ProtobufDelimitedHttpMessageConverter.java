@@ -0,0 +1,103 @@
+package org.springframework.boot.autoconfigure.web.servlet;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import com.google.protobuf.Message;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.protobuf.ProtobufHttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+/**
+ * Write a {@link Stream}, an {@link Iterable} or an {@link Iterator} of Protobuf {@link Message messages} as a
+ * sequence of length-delimited messages, one at a time, so that large results are streamed to the response without
+ * being built in memory. This is the format read by the WebFlux {@code ProtobufDecoder} as a stream of messages, and
+ * written with the {@code application/x-protobuf;delimited=true} content type, like the WebFlux {@code ProtobufEncoder}
+ * does for streams.
+ *
+ * <p>Only the values whose declared type resolves the element type as a {@link Message} are written, for example with
+ * a {@code ParameterizedTypeReference} in functional endpoints, single messages being handled by the
+ * {@link ProtobufHttpMessageConverter}.
+ */
+public class ProtobufDelimitedHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+	/**
+	 * The media type of length-delimited Protobuf messages.
+	 */
+	public static final MediaType PROTOBUF_DELIMITED = new MediaType("application", "x-protobuf", Collections.singletonMap("delimited", "true"));
+
+	public ProtobufDelimitedHttpMessageConverter() {
+		super(PROTOBUF_DELIMITED);
+	}
+
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return Stream.class.isAssignableFrom(clazz) || Iterable.class.isAssignableFrom(clazz) || Iterator.class.isAssignableFrom(clazz);
+	}
+
+	@Override
+	public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+		return false;
+	}
+
+	@Override
+	public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+		return false;
+	}
+
+	@Override
+	public boolean canWrite(Class<?> clazz, @Nullable MediaType mediaType) {
+		return false;
+	}
+
+	@Override
+	public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+		ResolvableType valueType = (type != null ? ResolvableType.forType(type) : ResolvableType.forClass(clazz));
+		Class<?> containerClass = valueType.toClass();
+		Class<?> containerType = (Stream.class.isAssignableFrom(containerClass) ? Stream.class :
+				Iterable.class.isAssignableFrom(containerClass) ? Iterable.class :
+				Iterator.class.isAssignableFrom(containerClass) ? Iterator.class : null);
+		return containerType != null && Message.class.isAssignableFrom(valueType.as(containerType).getGeneric(0).toClass()) &&
+				canWrite(mediaType);
+	}
+
+	@Override
+	protected void writeInternal(Object value, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+		OutputStream body = outputMessage.getBody();
+		if (value instanceof Stream) {
+			try (Stream<?> stream = (Stream<?>) value) {
+				write(stream.iterator(), body);
+			}
+		}
+		else {
+			write(value instanceof Iterable ? ((Iterable<?>) value).iterator() : (Iterator<?>) value, body);
+		}
+	}
+
+	private static void write(Iterator<?> messages, OutputStream body) throws IOException {
+		while (messages.hasNext()) {
+			((Message) messages.next()).writeDelimitedTo(body);
+		}
+	}
+
+	@Override
+	protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+		throw new HttpMessageNotReadableException("Reading length-delimited Protobuf messages is not supported", inputMessage);
+	}
+
+	@Override
+	public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) {
+		throw new HttpMessageNotReadableException("Reading length-delimited Protobuf messages is not supported", inputMessage);
+	}
+
+}
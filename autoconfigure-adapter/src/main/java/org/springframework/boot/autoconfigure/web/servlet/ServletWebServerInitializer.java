@@ -11,7 +11,12 @@ import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
 import org.springframework.boot.autoconfigure.web.ResourceProperties;
 import org.springframework.boot.autoconfigure.web.ServerProperties;
 import org.springframework.boot.autoconfigure.web.WebProperties;
+import org.springframework.boot.autoconfigure.web.embedded.JettyWebServerFactoryCustomizer;
+import org.springframework.boot.autoconfigure.web.embedded.TomcatWebServerFactoryCustomizer;
+import org.springframework.boot.autoconfigure.web.embedded.UndertowWebServerFactoryCustomizer;
+import org.springframework.boot.web.embedded.jetty.JettyServletWebServerFactory;
 import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
 import org.springframework.boot.web.server.WebServerFactoryCustomizerBeanPostProcessor;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.boot.web.servlet.ServletRegistrationBean;
@@ -85,8 +90,16 @@ public class ServletWebServerInitializer implements ApplicationContextInitialize
 		ServletWebServerFactoryAutoConfiguration servletWebServerFactoryConfiguration = new ServletWebServerFactoryAutoConfiguration();
 		context.registerBean(ServletWebServerFactoryCustomizer.class, () -> servletWebServerFactoryConfiguration.servletWebServerFactoryCustomizer(serverProperties, context.getBeanProvider(WebListenerRegistrar.class)));
 		if (serverFactory instanceof TomcatServletWebServerFactory) {
+			context.registerBean(TomcatWebServerFactoryCustomizer.class, () -> new TomcatWebServerFactoryCustomizer(context.getEnvironment(), serverProperties));
 			context.registerBean(TomcatServletWebServerFactoryCustomizer.class, () -> servletWebServerFactoryConfiguration.tomcatServletWebServerFactoryCustomizer(serverProperties));
 		}
+		else if (serverFactory instanceof JettyServletWebServerFactory) {
+			context.registerBean(JettyWebServerFactoryCustomizer.class, () -> new JettyWebServerFactoryCustomizer(context.getEnvironment(), serverProperties));
+		}
+		else if (serverFactory instanceof UndertowServletWebServerFactory) {
+			context.registerBean(UndertowWebServerFactoryCustomizer.class, () -> new UndertowWebServerFactoryCustomizer(context.getEnvironment(), serverProperties));
+			context.registerBean(UndertowServletWebServerFactoryCustomizer.class, () -> new UndertowServletWebServerFactoryCustomizer(serverProperties));
+		}
 		context.registerBean(FilterRegistrationBean.class, servletWebServerFactoryConfiguration::forwardedHeaderFilter);
 
 		DispatcherServletAutoConfiguration.DispatcherServletConfiguration dispatcherServletConfiguration = new DispatcherServletAutoConfiguration.DispatcherServletConfiguration();
@@ -0,0 +1,189 @@
+package org.springframework.boot.autoconfigure.web.servlet.function;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.web.RouteIndex;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.servlet.function.HandlerFunction;
+import org.springframework.web.servlet.function.RequestPredicate;
+import org.springframework.web.servlet.function.RequestPredicates;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+/**
+ * {@link RouterFunction} dispatching to the first of the specified router functions routing a request, like
+ * {@link RouterFunction#andOther(RouterFunction)} would, but which only tries the router functions whose routes may
+ * match the method and the leading path segments of the request according to a {@link RouteIndex}.
+ */
+public class IndexedRouterFunction implements RouterFunction<ServerResponse> {
+
+	private final List<RouterFunction<?>> routerFunctions;
+
+	private final RouteIndex index;
+
+	public IndexedRouterFunction(List<? extends RouterFunction<?>> routerFunctions) {
+		this.routerFunctions = new ArrayList<>(routerFunctions);
+		List<List<RouteIndex.Guard>> guards = new ArrayList<>(routerFunctions.size());
+		for (RouterFunction<?> routerFunction : routerFunctions) {
+			RouterVisitor visitor = new RouterVisitor();
+			routerFunction.accept(visitor);
+			guards.add(visitor.analyzer.guards());
+		}
+		this.index = RouteIndex.of(guards);
+	}
+
+	@Override
+	public Optional<HandlerFunction<ServerResponse>> route(ServerRequest request) {
+		PathContainer path = request.requestPath().pathWithinApplication();
+		BitSet candidates = this.index.candidates(request.methodName(), path);
+		if (CorsUtils.isPreFlightRequest(request.servletRequest())) {
+			String requestedMethod = request.headers().firstHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD);
+			if (requestedMethod != null) {
+				candidates.or(this.index.candidates(requestedMethod, path));
+			}
+		}
+		for (int candidate = candidates.nextSetBit(0); candidate >= 0; candidate = candidates.nextSetBit(candidate + 1)) {
+			@SuppressWarnings("unchecked")
+			RouterFunction<ServerResponse> routerFunction = (RouterFunction<ServerResponse>) this.routerFunctions.get(candidate);
+			Optional<HandlerFunction<ServerResponse>> handlerFunction = routerFunction.route(request);
+			if (handlerFunction.isPresent()) {
+				return handlerFunction;
+			}
+		}
+		return Optional.empty();
+	}
+
+	@Override
+	public void accept(RouterFunctions.Visitor visitor) {
+		for (RouterFunction<?> routerFunction : this.routerFunctions) {
+			routerFunction.accept(visitor);
+		}
+	}
+
+	private static class RouterVisitor implements RouterFunctions.Visitor {
+
+		private final RouteIndex.RouterAnalyzer analyzer = new RouteIndex.RouterAnalyzer();
+
+		@Override
+		public void startNested(RequestPredicate predicate) {
+			this.analyzer.startNested(guards(predicate));
+		}
+
+		@Override
+		public void endNested(RequestPredicate predicate) {
+			this.analyzer.endNested();
+		}
+
+		@Override
+		public void route(RequestPredicate predicate, HandlerFunction<?> handlerFunction) {
+			this.analyzer.route(guards(predicate));
+		}
+
+		@Override
+		public void resources(Function<ServerRequest, Optional<Resource>> lookupFunction) {
+			this.analyzer.unknown();
+		}
+
+		@Override
+		public void attributes(Map<String, Object> attributes) {
+		}
+
+		@Override
+		public void unknown(RouterFunction<?> routerFunction) {
+			this.analyzer.unknown();
+		}
+
+		private static List<RouteIndex.Guard> guards(RequestPredicate predicate) {
+			PredicateVisitor visitor = new PredicateVisitor();
+			predicate.accept(visitor);
+			return visitor.analyzer.guards();
+		}
+	}
+
+	private static class PredicateVisitor implements RequestPredicates.Visitor {
+
+		private final RouteIndex.PredicateAnalyzer analyzer = new RouteIndex.PredicateAnalyzer();
+
+		@Override
+		public void method(Set<HttpMethod> methods) {
+			this.analyzer.method(methods.stream().map(HttpMethod::name).collect(Collectors.toList()));
+		}
+
+		@Override
+		public void path(String pattern) {
+			this.analyzer.path(pattern);
+		}
+
+		@Override
+		public void pathExtension(String extension) {
+			this.analyzer.unknown();
+		}
+
+		@Override
+		public void header(String name, String value) {
+			this.analyzer.unknown();
+		}
+
+		@Override
+		public void param(String name, String value) {
+			this.analyzer.unknown();
+		}
+
+		@Override
+		public void startAnd() {
+			this.analyzer.startComposite();
+		}
+
+		@Override
+		public void and() {
+		}
+
+		@Override
+		public void endAnd() {
+			this.analyzer.endAnd();
+		}
+
+		@Override
+		public void startOr() {
+			this.analyzer.startComposite();
+		}
+
+		@Override
+		public void or() {
+		}
+
+		@Override
+		public void endOr() {
+			this.analyzer.endOr();
+		}
+
+		@Override
+		public void startNegate() {
+			this.analyzer.startComposite();
+		}
+
+		@Override
+		public void endNegate() {
+			this.analyzer.endNegate();
+		}
+
+		@Override
+		public void unknown(RequestPredicate predicate) {
+			this.analyzer.unknown();
+		}
+	}
+
+}
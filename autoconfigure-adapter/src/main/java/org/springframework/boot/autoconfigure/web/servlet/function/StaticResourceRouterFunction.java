@@ -0,0 +1,150 @@
+package org.springframework.boot.autoconfigure.web.servlet.function;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Optional;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import io.undertow.servlet.spec.ServletOutputStreamImpl;
+
+import org.springframework.boot.autoconfigure.web.StaticResourceProperties;
+import org.springframework.boot.autoconfigure.web.StaticResourceResolver;
+import org.springframework.boot.autoconfigure.web.StaticResourceResolver.StaticResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.servlet.function.HandlerFunction;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+/**
+ * {@link RouterFunction} serving the GET and HEAD requests for the static resources resolved by a
+ * {@link StaticResourceResolver}, with {@code ETag} and {@code Last-Modified} headers validated by the
+ * {@link ServerResponse} for conditional requests.
+ *
+ * <p>Cached resources are written from their direct buffer. Files are handed over to the Tomcat sendfile support
+ * when available, transferred from their {@link FileChannel} by the Undertow output stream, and otherwise copied
+ * through the servlet output stream, for example with Jetty.
+ */
+public class StaticResourceRouterFunction implements RouterFunction<ServerResponse> {
+
+	private static final String SENDFILE_SUPPORTED_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+
+	private static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+
+	private static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+
+	private static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
+	private static final boolean undertowPresent = ClassUtils.isPresent("io.undertow.servlet.spec.ServletOutputStreamImpl",
+			StaticResourceRouterFunction.class.getClassLoader());
+
+	private final StaticResourceResolver resolver;
+
+	public StaticResourceRouterFunction(StaticResourceProperties properties, ResourceLoader resourceLoader) {
+		this.resolver = new StaticResourceResolver(properties, resourceLoader);
+	}
+
+	@Override
+	public Optional<HandlerFunction<ServerResponse>> route(ServerRequest request) {
+		HttpMethod method = request.method();
+		if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+			return Optional.empty();
+		}
+		try {
+			StaticResource resource = this.resolver.resolve(request.requestPath().pathWithinApplication().value(),
+					request.headers().header(HttpHeaders.ACCEPT_ENCODING));
+			return Optional.ofNullable(resource).map(this::handlerFunction);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private HandlerFunction<ServerResponse> handlerFunction(StaticResource resource) {
+		return request -> response(resource);
+	}
+
+	private ServerResponse response(StaticResource resource) {
+		ServerResponse.BodyBuilder response = ServerResponse.ok()
+				.eTag(resource.getETag())
+				.contentType(resource.getMediaType());
+		if (resource.getLastModified() >= 0) {
+			response.lastModified(Instant.ofEpochMilli(resource.getLastModified()));
+		}
+		if (resource.getContentEncoding() != null) {
+			response.header(HttpHeaders.CONTENT_ENCODING, resource.getContentEncoding());
+		}
+		if (this.resolver.isPrecompressed()) {
+			response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+		}
+		return response.build((servletRequest, servletResponse) -> {
+			servletResponse.setContentLengthLong(resource.getContentLength());
+			if (!HttpMethod.HEAD.matches(servletRequest.getMethod())) {
+				try {
+					write(resource, servletRequest, servletResponse);
+				}
+				catch (IOException ex) {
+					throw new UncheckedIOException(ex);
+				}
+			}
+			return null;
+		});
+	}
+
+	private static void write(StaticResource staticResource, HttpServletRequest request, HttpServletResponse response) throws IOException {
+		ByteBuffer content = staticResource.getContent();
+		if (content != null) {
+			Channels.newChannel(response.getOutputStream()).write(content);
+			return;
+		}
+		Resource resource = staticResource.getResource();
+		if (resource.isFile()) {
+			File file = resource.getFile();
+			if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTRIBUTE))) {
+				request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, file.getCanonicalPath());
+				request.setAttribute(SENDFILE_START_ATTRIBUTE, 0L);
+				request.setAttribute(SENDFILE_END_ATTRIBUTE, staticResource.getContentLength());
+				return;
+			}
+			ServletOutputStream outputStream = response.getOutputStream();
+			if (undertowPresent && UndertowDelegate.transferFrom(file, outputStream)) {
+				return;
+			}
+			Files.copy(file.toPath(), outputStream);
+			return;
+		}
+		try (InputStream inputStream = resource.getInputStream()) {
+			StreamUtils.copy(inputStream, response.getOutputStream());
+		}
+	}
+
+	private static class UndertowDelegate {
+
+		static boolean transferFrom(File file, ServletOutputStream outputStream) throws IOException {
+			if (!(outputStream instanceof ServletOutputStreamImpl)) {
+				return false;
+			}
+			try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+				((ServletOutputStreamImpl) outputStream).transferFrom(channel);
+			}
+			return true;
+		}
+	}
+
+}
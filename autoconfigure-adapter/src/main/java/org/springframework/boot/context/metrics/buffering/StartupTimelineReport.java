@@ -0,0 +1,130 @@
+package org.springframework.boot.context.metrics.buffering;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.core.metrics.StartupStep;
+
+/**
+ * Render a {@link StartupTimeline} recorded by a {@link BufferingApplicationStartup} as JSON or as an indented text
+ * tree where each step is displayed with its duration below its parent step.
+ */
+public final class StartupTimelineReport {
+
+	private final StartupTimeline timeline;
+
+	private final List<TimelineEvent> roots = new ArrayList<>();
+
+	private final Map<Long, List<TimelineEvent>> children = new LinkedHashMap<>();
+
+	public StartupTimelineReport(StartupTimeline timeline) {
+		this.timeline = timeline;
+		List<TimelineEvent> events = new ArrayList<>(timeline.getEvents());
+		events.sort(Comparator.comparing(TimelineEvent::getStartTime));
+		for (TimelineEvent event : events) {
+			Long parentId = event.getStartupStep().getParentId();
+			if (parentId == null) {
+				this.roots.add(event);
+			}
+			else {
+				this.children.computeIfAbsent(parentId, id -> new ArrayList<>()).add(event);
+			}
+		}
+	}
+
+	/**
+	 * Render the timeline as a JSON document with a {@code startTime} field and nested {@code steps}.
+	 */
+	public String toJson() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("{\"startTime\":\"").append(this.timeline.getStartTime()).append("\",\"steps\":");
+		appendJson(builder, this.roots);
+		return builder.append('}').toString();
+	}
+
+	/**
+	 * Render the timeline as a text tree, one step per line.
+	 */
+	public String toTree() {
+		StringBuilder builder = new StringBuilder();
+		appendTree(builder, this.roots, "");
+		return builder.toString();
+	}
+
+	@Override
+	public String toString() {
+		return toTree();
+	}
+
+	private void appendJson(StringBuilder builder, List<TimelineEvent> events) {
+		builder.append('[');
+		for (int i = 0; i < events.size(); i++) {
+			TimelineEvent event = events.get(i);
+			StartupStep step = event.getStartupStep();
+			if (i > 0) {
+				builder.append(',');
+			}
+			builder.append("{\"id\":").append(step.getId())
+					.append(",\"name\":\"").append(escape(step.getName()))
+					.append("\",\"startTime\":\"").append(event.getStartTime())
+					.append("\",\"duration\":").append(event.getDuration().toNanos() / 1_000_000.0)
+					.append(",\"tags\":{");
+			boolean first = true;
+			for (StartupStep.Tag tag : step.getTags()) {
+				if (!first) {
+					builder.append(',');
+				}
+				builder.append('"').append(escape(tag.getKey())).append("\":\"").append(escape(tag.getValue())).append('"');
+				first = false;
+			}
+			builder.append("},\"steps\":");
+			appendJson(builder, this.children.getOrDefault(step.getId(), new ArrayList<>()));
+			builder.append('}');
+		}
+		builder.append(']');
+	}
+
+	private void appendTree(StringBuilder builder, List<TimelineEvent> events, String indent) {
+		for (TimelineEvent event : events) {
+			StartupStep step = event.getStartupStep();
+			builder.append(indent).append(format(event.getDuration())).append(' ').append(step.getName());
+			for (StartupStep.Tag tag : step.getTags()) {
+				builder.append(' ').append(tag.getKey()).append('=').append(tag.getValue());
+			}
+			builder.append(System.lineSeparator());
+			appendTree(builder, this.children.getOrDefault(step.getId(), new ArrayList<>()), indent + "  ");
+		}
+	}
+
+	private static String format(Duration duration) {
+		return String.format("%8.2f ms", duration.toNanos() / 1_000_000.0);
+	}
+
+	private static String escape(String value) {
+		StringBuilder builder = new StringBuilder(value.length());
+		for (char c : value.toCharArray()) {
+			switch (c) {
+				case '"':
+					builder.append("\\\"");
+					break;
+				case '\\':
+					builder.append("\\\\");
+					break;
+				default:
+					if (c < 0x20) {
+						builder.append(String.format("\\u%04x", (int) c));
+					}
+					else {
+						builder.append(c);
+					}
+			}
+		}
+		return builder.toString();
+	}
+
+}
@@ -16,6 +16,11 @@
 
 package org.springframework.boot.context.properties;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.DefaultSingletonBeanRegistry;
 import org.springframework.boot.context.properties.bind.BindResult;
 import org.springframework.boot.context.properties.bind.Bindable;
 import org.springframework.boot.context.properties.bind.Binder;
@@ -25,32 +30,93 @@ import org.springframework.boot.context.properties.bind.handler.NoUnboundElement
 import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
 import org.springframework.boot.context.properties.source.UnboundElementsSourceFilter;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.PropertySource;
 import org.springframework.core.env.PropertySources;
 
 /**
  * Allow to access to package private Boot classes like {@code PropertySourcesDeducer}.
+ *
+ * Use {@link #get(ConfigurableApplicationContext)} to share a single binder between all the configuration properties
+ * bound in a given context instead of creating a new {@link Binder} for each of them.
  */
 public class FunctionalConfigurationPropertiesBinder {
 
+	/**
+	 * The bean name used to register the binder shared by a given context.
+	 */
+	public static final String BEAN_NAME = FunctionalConfigurationPropertiesBinder.class.getName();
+
 	private final ConfigurableApplicationContext context;
 
+	private final PropertySources propertySources;
+
+	private final List<PropertySource<?>> boundPropertySources;
+
 	private final Binder binder;
 
 
 	public FunctionalConfigurationPropertiesBinder(ConfigurableApplicationContext context) {
-		PropertySources propertySources = new FunctionalPropertySourcesDeducer(context).getPropertySources();
 		this.context = context;
-		this.binder = new Binder(ConfigurationPropertySources.from(propertySources),
-        				new PropertySourcesPlaceholdersResolver(propertySources),
+		this.propertySources = new FunctionalPropertySourcesDeducer(context).getPropertySources();
+		this.boundPropertySources = snapshot(this.propertySources);
+		this.binder = new Binder(ConfigurationPropertySources.from(this.propertySources),
+        				new PropertySourcesPlaceholdersResolver(this.propertySources),
         				null,
 				(registry) -> context.getBeanFactory().copyRegisteredEditorsTo(registry));
 	}
 
 
+	/**
+	 * Return the binder shared by the specified context, creating it on first use and recreating it if property sources
+	 * have been added, removed or replaced since.
+	 */
+	public static FunctionalConfigurationPropertiesBinder get(ConfigurableApplicationContext context) {
+		ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+		synchronized (beanFactory.getSingletonMutex()) {
+			FunctionalConfigurationPropertiesBinder binder = null;
+			if (beanFactory.containsSingleton(BEAN_NAME)) {
+				binder = (FunctionalConfigurationPropertiesBinder) beanFactory.getSingleton(BEAN_NAME);
+				if (binder.isStale()) {
+					((DefaultSingletonBeanRegistry) beanFactory).destroySingleton(BEAN_NAME);
+					binder = null;
+				}
+			}
+			if (binder == null) {
+				binder = new FunctionalConfigurationPropertiesBinder(context);
+				beanFactory.registerSingleton(BEAN_NAME, binder);
+			}
+			return binder;
+		}
+	}
+
+
 	public <T> BindResult<T> bind(String prefix, Bindable<T> target) {
 		UnboundElementsSourceFilter filter = new UnboundElementsSourceFilter();
 		NoUnboundElementsBindHandler handler = new NoUnboundElementsBindHandler(new IgnoreTopLevelConverterNotFoundBindHandler(), filter);
 		return binder.bind(prefix, target, handler);
 	}
 
+	private boolean isStale() {
+		PropertySources current = new FunctionalPropertySourcesDeducer(this.context).getPropertySources();
+		if (current != this.propertySources) {
+			return true;
+		}
+		List<PropertySource<?>> sources = snapshot(current);
+		if (sources.size() != this.boundPropertySources.size()) {
+			return true;
+		}
+		for (int i = 0; i < sources.size(); i++) {
+			if (sources.get(i) != this.boundPropertySources.get(i)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static List<PropertySource<?>> snapshot(PropertySources propertySources) {
+		List<PropertySource<?>> sources = new ArrayList<>();
+		propertySources.forEach(sources::add);
+		return sources;
+	}
+
 }
@@ -0,0 +1,30 @@
+plugins {
+	id("org.jetbrains.kotlin.jvm")
+	id("io.spring.dependency-management")
+	id("me.champeau.gradle.jmh") version "0.5.2"
+}
+
+dependencies {
+	jmh(project(":autoconfigure-adapter"))
+	jmh(project(":jafu"))
+	jmh(project(":kofu"))
+	jmh("org.springframework.boot:spring-boot-starter-webflux")
+	jmh("org.springframework.boot:spring-boot-starter-web")
+	jmh("org.springframework.boot:spring-boot-starter-json")
+	jmh("com.fasterxml.jackson.module:jackson-module-afterburner")
+	jmh("org.springframework.boot:spring-boot-starter-data-r2dbc")
+	jmh("org.springframework.boot:spring-boot-starter-data-mongodb-reactive")
+	jmh("io.r2dbc:r2dbc-h2")
+	jmh("org.springframework:spring-test")
+}
+
+jmh {
+	val jmhIncludes: String? by project
+	jmhVersion = "1.26"
+	resultFormat = "JSON"
+	resultsFile = project.file("$buildDir/reports/jmh/results.json")
+	profilers = listOf("org.springframework.fu.benchmarks.StartupProfiler")
+	if (jmhIncludes != null) {
+		include = listOf(jmhIncludes!!)
+	}
+}
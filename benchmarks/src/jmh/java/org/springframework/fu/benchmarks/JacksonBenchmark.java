@@ -0,0 +1,78 @@
+package org.springframework.fu.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.boot.autoconfigure.jackson.JacksonInitializer;
+import org.springframework.boot.autoconfigure.jackson.JacksonProperties;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.fu.benchmarks.sample.User;
+
+/**
+ * Time to serialize and deserialize {@code userCount} sample {@link User users} with the {@code ObjectMapper}
+ * registered by the Jackson DSL, with and without {@code accelerated()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JacksonBenchmark {
+
+	@Param({"1", "100"})
+	public int userCount;
+
+	@Param({"false", "true"})
+	public boolean accelerated;
+
+	private ObjectMapper mapper;
+
+	private JavaType usersType;
+
+	private List<User> users;
+
+	private byte[] json;
+
+	@Setup
+	public void setup() throws IOException {
+		GenericApplicationContext context = new GenericApplicationContext();
+		new JacksonInitializer(new JacksonProperties(), this.accelerated).initialize(context);
+		context.refresh();
+		this.mapper = context.getBean(ObjectMapper.class);
+		context.close();
+		this.usersType = this.mapper.getTypeFactory().constructCollectionType(List.class, User.class);
+		this.users = new ArrayList<>(this.userCount);
+		for (int i = 0; i < this.userCount; i++) {
+			this.users.add(new User("user" + i, "Firstname" + i, "Lastname" + i));
+		}
+		this.json = this.mapper.writeValueAsBytes(this.users);
+	}
+
+	@Benchmark
+	public byte[] serializeUsers() throws IOException {
+		return this.mapper.writerFor(this.usersType).writeValueAsBytes(this.users);
+	}
+
+	@Benchmark
+	public List<User> deserializeUsers() throws IOException {
+		return this.mapper.readValue(this.json, this.usersType);
+	}
+
+}
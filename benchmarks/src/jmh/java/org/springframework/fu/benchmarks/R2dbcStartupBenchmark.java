@@ -0,0 +1,44 @@
+package org.springframework.fu.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.fu.benchmarks.boot.BootApplications;
+import org.springframework.fu.benchmarks.boot.r2dbc.R2dbcBootApplication;
+import org.springframework.fu.benchmarks.jafu.JafuApplications;
+import org.springframework.fu.benchmarks.kofu.KofuApplications;
+
+/**
+ * Startup of a WebFlux application using R2DBC with an in-memory H2 database.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(3)
+public class R2dbcStartupBenchmark {
+
+	@Benchmark
+	public void jafu(StartupState state) {
+		state.started(JafuApplications.r2dbcApplication().run());
+	}
+
+	@Benchmark
+	public void kofu(StartupState state) {
+		state.started(KofuApplications.r2dbcApplication().run(new String[0], ""));
+	}
+
+	@Benchmark
+	public void boot(StartupState state) {
+		state.started(BootApplications.run(R2dbcBootApplication.class, WebApplicationType.REACTIVE, "spring.r2dbc.url=r2dbc:h2:mem:///benchmark"));
+	}
+
+}
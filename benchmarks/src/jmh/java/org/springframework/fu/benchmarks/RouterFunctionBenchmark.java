@@ -0,0 +1,84 @@
+package org.springframework.fu.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.boot.autoconfigure.web.reactive.function.server.IndexedRouterFunction;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * Time to route a request through {@code routeCount} WebFlux router blocks of a GET and a POST route each, when the
+ * blocks are walked in declaration order like the {@code RouterFunctionMapping} does with one bean per block, and when
+ * they are dispatched by the {@link IndexedRouterFunction} registered with {@code indexedRouting()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RouterFunctionBenchmark {
+
+	@Param({"10", "100", "1000"})
+	public int routeCount;
+
+	@Param({"false", "true"})
+	public boolean indexed;
+
+	private RouterFunction<ServerResponse> routerFunction;
+
+	private ServerRequest lastRouteRequest;
+
+	private ServerRequest missingRouteRequest;
+
+	@Setup
+	public void setup() {
+		HandlerFunction<ServerResponse> handler = request -> ServerResponse.ok().build();
+		List<RouterFunction<ServerResponse>> routers = new ArrayList<>(this.routeCount);
+		for (int i = 0; i < this.routeCount; i++) {
+			routers.add(RouterFunctions.route()
+					.GET("/resource" + i + "/{id}", handler)
+					.POST("/resource" + i, handler)
+					.build());
+		}
+		this.routerFunction = this.indexed ? new IndexedRouterFunction(routers) : routers.stream().reduce(RouterFunction::and).get();
+		this.lastRouteRequest = request("/resource" + (this.routeCount - 1) + "/42");
+		this.missingRouteRequest = request("/missing/42");
+	}
+
+	@Benchmark
+	public Object routeToLastRouter() {
+		return this.routerFunction.route(this.lastRouteRequest).block();
+	}
+
+	@Benchmark
+	public Object routeToMissingRouter() {
+		return this.routerFunction.route(this.missingRouteRequest).block();
+	}
+
+	private static ServerRequest request(String path) {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(path));
+		return ServerRequest.create(exchange, HandlerStrategies.withDefaults().messageReaders());
+	}
+
+}
@@ -0,0 +1,52 @@
+package org.springframework.fu.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Bean definition count and retained heap of the last application context started in the current benchmark JVM.
+ * @see StartupProfiler
+ */
+public abstract class StartupMetrics {
+
+	private static volatile Snapshot last;
+
+	static void record(ConfigurableApplicationContext context) {
+		MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		last = new Snapshot(context.getBeanDefinitionCount(), memory.getHeapMemoryUsage().getUsed());
+	}
+
+	static Snapshot last() {
+		return last;
+	}
+
+	static void reset() {
+		last = null;
+	}
+
+	static class Snapshot {
+
+		private final int beanDefinitionCount;
+
+		private final long retainedHeap;
+
+		Snapshot(int beanDefinitionCount, long retainedHeap) {
+			this.beanDefinitionCount = beanDefinitionCount;
+			this.retainedHeap = retainedHeap;
+		}
+
+		int getBeanDefinitionCount() {
+			return beanDefinitionCount;
+		}
+
+		long getRetainedHeap() {
+			return retainedHeap;
+		}
+	}
+
+}
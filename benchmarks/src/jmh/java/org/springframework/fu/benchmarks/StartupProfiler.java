@@ -0,0 +1,42 @@
+package org.springframework.fu.benchmarks;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+/**
+ * JMH profiler exposing {@link StartupMetrics} as secondary results ({@code ·beans} and {@code ·heap.retained}),
+ * so they end up in the machine-readable JMH results next to the startup time.
+ */
+public class StartupProfiler implements InternalProfiler {
+
+	@Override
+	public String getDescription() {
+		return "Bean definition count and retained heap of the started application context";
+	}
+
+	@Override
+	public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+		StartupMetrics.reset();
+	}
+
+	@Override
+	public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams, IterationResult result) {
+		StartupMetrics.Snapshot snapshot = StartupMetrics.last();
+		if (snapshot == null) {
+			return Collections.emptyList();
+		}
+		return Arrays.asList(
+				new ScalarResult("beans", snapshot.getBeanDefinitionCount(), "beans", AggregationPolicy.AVG),
+				new ScalarResult("heap.retained", snapshot.getRetainedHeap() / (1024.0 * 1024.0), "MB", AggregationPolicy.AVG));
+	}
+
+}
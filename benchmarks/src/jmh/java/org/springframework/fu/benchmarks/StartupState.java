@@ -0,0 +1,32 @@
+package org.springframework.fu.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Hold the application context started by a startup benchmark until the end of the iteration, so that
+ * {@link StartupMetrics} are recorded on a live context before it is closed.
+ */
+@State(Scope.Thread)
+public class StartupState {
+
+	private ConfigurableApplicationContext context;
+
+	public void started(ConfigurableApplicationContext context) {
+		this.context = context;
+	}
+
+	@TearDown(Level.Iteration)
+	public void close() {
+		if (this.context != null) {
+			StartupMetrics.record(this.context);
+			this.context.close();
+			this.context = null;
+		}
+	}
+
+}
@@ -0,0 +1,75 @@
+package org.springframework.fu.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.fu.benchmarks.jafu.JafuApplications;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Throughput of a WebMvc application on Tomcat whose handler blocks for a fixed latency, like the
+ * {@code jafu-servlet-cassandra} sample does on each query, with and without virtual threads. The number of benchmark
+ * threads exceeds the 200 worker threads of Tomcat, so that the platform thread pool is the bottleneck. On JDKs without
+ * virtual threads, both variants run on the platform thread pool.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Threads(400)
+@Fork(1)
+public class VirtualThreadsBenchmark {
+
+	@Benchmark
+	public void blockingRequest(ServerState state) throws IOException {
+		HttpURLConnection connection = (HttpURLConnection) state.url.openConnection();
+		try (InputStream body = connection.getInputStream()) {
+			StreamUtils.drain(body);
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class ServerState {
+
+		@Param({"false", "true"})
+		public boolean virtualThreads;
+
+		@Param("20")
+		public long latencyMillis;
+
+		private ConfigurableApplicationContext context;
+
+		private URL url;
+
+		@Setup(Level.Trial)
+		public void start() throws IOException {
+			this.context = JafuApplications.blockingWebMvcApplication(this.virtualThreads, this.latencyMillis).run();
+			this.url = new URL("http://127.0.0.1:" + this.context.getEnvironment().getProperty("local.server.port") + "/query");
+		}
+
+		@TearDown(Level.Trial)
+		public void stop() {
+			this.context.close();
+		}
+	}
+
+}
@@ -0,0 +1,44 @@
+package org.springframework.fu.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.fu.benchmarks.boot.BootApplications;
+import org.springframework.fu.benchmarks.boot.webflux.WebFluxBootApplication;
+import org.springframework.fu.benchmarks.jafu.JafuApplications;
+import org.springframework.fu.benchmarks.kofu.KofuApplications;
+
+/**
+ * Startup of a WebFlux application on Reactor Netty exposing a text and a JSON endpoint.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(3)
+public class WebFluxStartupBenchmark {
+
+	@Benchmark
+	public void jafu(StartupState state) {
+		state.started(JafuApplications.webFluxApplication().run());
+	}
+
+	@Benchmark
+	public void kofu(StartupState state) {
+		state.started(KofuApplications.webFluxApplication().run(new String[0], ""));
+	}
+
+	@Benchmark
+	public void boot(StartupState state) {
+		state.started(BootApplications.run(WebFluxBootApplication.class, WebApplicationType.REACTIVE));
+	}
+
+}
@@ -0,0 +1,23 @@
+package org.springframework.fu.benchmarks.boot;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Run the annotation-based {@code @SpringBootApplication} equivalents of the Jafu and Kofu benchmark applications.
+ *
+ * Since all the shapes share the same benchmark classpath, the web application type is set explicitly and each
+ * application excludes the auto-configurations of the data stores it does not use.
+ */
+public abstract class BootApplications {
+
+	public static ConfigurableApplicationContext run(Class<?> source, WebApplicationType webApplicationType, String... properties) {
+		return new SpringApplicationBuilder(source)
+				.web(webApplicationType)
+				.properties("server.port=0")
+				.properties(properties)
+				.run();
+	}
+
+}
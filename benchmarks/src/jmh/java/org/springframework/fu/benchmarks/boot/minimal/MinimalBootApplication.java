@@ -0,0 +1,26 @@
+package org.springframework.fu.benchmarks.boot.minimal;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.fu.benchmarks.sample.SampleService;
+
+@SpringBootApplication(excludeName = {
+		"org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration",
+		"org.springframework.boot.autoconfigure.mongo.MongoReactiveAutoConfiguration",
+		"org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration",
+		"org.springframework.boot.autoconfigure.data.mongo.MongoReactiveDataAutoConfiguration",
+		"org.springframework.boot.autoconfigure.data.mongo.MongoRepositoriesAutoConfiguration",
+		"org.springframework.boot.autoconfigure.data.mongo.MongoReactiveRepositoriesAutoConfiguration",
+		"org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration",
+		"org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration",
+		"org.springframework.boot.autoconfigure.data.r2dbc.R2dbcDataAutoConfiguration",
+		"org.springframework.boot.autoconfigure.data.r2dbc.R2dbcRepositoriesAutoConfiguration"
+})
+public class MinimalBootApplication {
+
+	@Bean
+	public SampleService sampleService() {
+		return new SampleService();
+	}
+
+}
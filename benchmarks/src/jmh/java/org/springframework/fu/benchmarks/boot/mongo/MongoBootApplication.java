@@ -0,0 +1,45 @@
+package org.springframework.fu.benchmarks.boot.mongo;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.fu.benchmarks.sample.MongoSampleRepository;
+import org.springframework.fu.benchmarks.sample.ReactiveSampleHandler;
+import org.springframework.fu.benchmarks.sample.SampleService;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+@SpringBootApplication(excludeName = {
+		"org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration",
+		"org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration",
+		"org.springframework.boot.autoconfigure.data.r2dbc.R2dbcDataAutoConfiguration",
+		"org.springframework.boot.autoconfigure.data.r2dbc.R2dbcRepositoriesAutoConfiguration"
+})
+public class MongoBootApplication {
+
+	@Bean
+	public MongoSampleRepository sampleRepository(ReactiveMongoOperations mongo) {
+		return new MongoSampleRepository(mongo);
+	}
+
+	@Bean
+	public SampleService sampleService() {
+		return new SampleService();
+	}
+
+	@Bean
+	public ReactiveSampleHandler sampleHandler(SampleService sampleService) {
+		return new ReactiveSampleHandler(sampleService);
+	}
+
+	@Bean
+	public RouterFunction<ServerResponse> routes(ReactiveSampleHandler handler) {
+		return route()
+				.GET("/", handler::hello)
+				.GET("/api", handler::json)
+				.build();
+	}
+
+}
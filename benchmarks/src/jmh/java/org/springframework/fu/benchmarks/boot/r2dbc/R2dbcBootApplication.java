@@ -0,0 +1,47 @@
+package org.springframework.fu.benchmarks.boot.r2dbc;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.fu.benchmarks.sample.R2dbcSampleRepository;
+import org.springframework.fu.benchmarks.sample.ReactiveSampleHandler;
+import org.springframework.fu.benchmarks.sample.SampleService;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+@SpringBootApplication(excludeName = {
+		"org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration",
+		"org.springframework.boot.autoconfigure.mongo.MongoReactiveAutoConfiguration",
+		"org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration",
+		"org.springframework.boot.autoconfigure.data.mongo.MongoReactiveDataAutoConfiguration",
+		"org.springframework.boot.autoconfigure.data.mongo.MongoRepositoriesAutoConfiguration",
+		"org.springframework.boot.autoconfigure.data.mongo.MongoReactiveRepositoriesAutoConfiguration"
+})
+public class R2dbcBootApplication {
+
+	@Bean
+	public R2dbcSampleRepository sampleRepository(DatabaseClient client) {
+		return new R2dbcSampleRepository(client);
+	}
+
+	@Bean
+	public SampleService sampleService() {
+		return new SampleService();
+	}
+
+	@Bean
+	public ReactiveSampleHandler sampleHandler(SampleService sampleService) {
+		return new ReactiveSampleHandler(sampleService);
+	}
+
+	@Bean
+	public RouterFunction<ServerResponse> routes(ReactiveSampleHandler handler) {
+		return route()
+				.GET("/", handler::hello)
+				.GET("/api", handler::json)
+				.build();
+	}
+
+}
@@ -0,0 +1,44 @@
+package org.springframework.fu.benchmarks.boot.webflux;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.fu.benchmarks.sample.ReactiveSampleHandler;
+import org.springframework.fu.benchmarks.sample.SampleService;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+@SpringBootApplication(excludeName = {
+		"org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration",
+		"org.springframework.boot.autoconfigure.mongo.MongoReactiveAutoConfiguration",
+		"org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration",
+		"org.springframework.boot.autoconfigure.data.mongo.MongoReactiveDataAutoConfiguration",
+		"org.springframework.boot.autoconfigure.data.mongo.MongoRepositoriesAutoConfiguration",
+		"org.springframework.boot.autoconfigure.data.mongo.MongoReactiveRepositoriesAutoConfiguration",
+		"org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration",
+		"org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration",
+		"org.springframework.boot.autoconfigure.data.r2dbc.R2dbcDataAutoConfiguration",
+		"org.springframework.boot.autoconfigure.data.r2dbc.R2dbcRepositoriesAutoConfiguration"
+})
+public class WebFluxBootApplication {
+
+	@Bean
+	public SampleService sampleService() {
+		return new SampleService();
+	}
+
+	@Bean
+	public ReactiveSampleHandler sampleHandler(SampleService sampleService) {
+		return new ReactiveSampleHandler(sampleService);
+	}
+
+	@Bean
+	public RouterFunction<ServerResponse> routes(ReactiveSampleHandler handler) {
+		return route()
+				.GET("/", handler::hello)
+				.GET("/api", handler::json)
+				.build();
+	}
+
+}
@@ -0,0 +1,97 @@
+package org.springframework.fu.benchmarks.jafu;
+
+import java.util.function.Consumer;
+
+import org.springframework.fu.benchmarks.sample.BlockingSampleHandler;
+import org.springframework.fu.benchmarks.sample.MongoSampleRepository;
+import org.springframework.fu.benchmarks.sample.R2dbcSampleRepository;
+import org.springframework.fu.benchmarks.sample.ReactiveSampleHandler;
+import org.springframework.fu.benchmarks.sample.SampleService;
+import org.springframework.fu.benchmarks.sample.ServletSampleHandler;
+import org.springframework.fu.jafu.ConfigurationDsl;
+import org.springframework.fu.jafu.JafuApplication;
+
+import static org.springframework.fu.jafu.Jafu.application;
+import static org.springframework.fu.jafu.Jafu.reactiveWebApplication;
+import static org.springframework.fu.jafu.Jafu.webApplication;
+import static org.springframework.fu.jafu.mongo.ReactiveMongoDsl.reactiveMongo;
+import static org.springframework.fu.jafu.r2dbc.R2dbcDsl.r2dbc;
+import static org.springframework.fu.jafu.webflux.WebFluxServerDsl.webFlux;
+import static org.springframework.fu.jafu.webmvc.WebMvcServerDsl.webMvc;
+
+/**
+ * Jafu applications mirroring the shapes of the {@code samples/jafu-*} projects.
+ */
+public abstract class JafuApplications {
+
+	public static JafuApplication minimalApplication() {
+		return application(a -> a.beans(b -> b.bean(SampleService.class)));
+	}
+
+	public static JafuApplication webFluxApplication() {
+		return reactiveWebApplication(a -> a.enable(webFluxConfig));
+	}
+
+	public static JafuApplication webMvcApplication() {
+		return webApplication(a -> a
+				.beans(b -> b
+						.bean(SampleService.class)
+						.bean(ServletSampleHandler.class))
+				.enable(webMvc(s -> s
+						.port(0)
+						.router(r -> {
+							ServletSampleHandler handler = s.ref(ServletSampleHandler.class);
+							r
+									.GET("/", handler::hello)
+									.GET("/api", handler::json);
+						}).converters(c -> c
+								.string()
+								.jackson()))));
+	}
+
+	public static JafuApplication blockingWebMvcApplication(boolean virtualThreads, long latencyMillis) {
+		return webApplication(a -> a
+				.beans(b -> b
+						.bean(SampleService.class)
+						.bean(BlockingSampleHandler.class, () -> new BlockingSampleHandler(b.ref(SampleService.class), latencyMillis)))
+				.enable(webMvc(s -> {
+					if (virtualThreads) {
+						s.virtualThreads();
+					}
+					s
+							.port(0)
+							.router(r -> r.GET("/query", s.ref(BlockingSampleHandler.class)::query))
+							.converters(c -> c.string());
+				})));
+	}
+
+	public static JafuApplication r2dbcApplication() {
+		return reactiveWebApplication(a -> a
+				.enable(r2dbc(r -> r.url("r2dbc:h2:mem:///benchmark")))
+				.beans(b -> b.bean(R2dbcSampleRepository.class))
+				.enable(webFluxConfig));
+	}
+
+	public static JafuApplication mongoApplication() {
+		return reactiveWebApplication(a -> a
+				.enable(reactiveMongo(m -> m.uri("mongodb://localhost:27017/benchmark")))
+				.beans(b -> b.bean(MongoSampleRepository.class))
+				.enable(webFluxConfig));
+	}
+
+	private static final Consumer<ConfigurationDsl> webFluxConfig = conf -> conf
+			.beans(b -> b
+					.bean(SampleService.class)
+					.bean(ReactiveSampleHandler.class))
+			.enable(webFlux(s -> s
+					.port(0)
+					.router(r -> {
+						ReactiveSampleHandler handler = s.ref(ReactiveSampleHandler.class);
+						r
+								.GET("/", handler::hello)
+								.GET("/api", handler::json);
+					}).codecs(c -> c
+							.string()
+							.jackson())));
+
+}
@@ -0,0 +1,26 @@
+package org.springframework.fu.benchmarks.sample;
+
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import static org.springframework.web.servlet.function.ServerResponse.ok;
+
+/**
+ * Servlet handler blocking its thread for a fixed latency, like a synchronous JDBC or Cassandra query would.
+ */
+public class BlockingSampleHandler {
+
+	private final SampleService sampleService;
+
+	private final long latencyMillis;
+
+	public BlockingSampleHandler(SampleService sampleService, long latencyMillis) {
+		this.sampleService = sampleService;
+		this.latencyMillis = latencyMillis;
+	}
+
+	public ServerResponse query(ServerRequest request) throws InterruptedException {
+		Thread.sleep(this.latencyMillis);
+		return ok().body(sampleService.generateMessage());
+	}
+}
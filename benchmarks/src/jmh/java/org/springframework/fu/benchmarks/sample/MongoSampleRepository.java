@@ -0,0 +1,19 @@
+package org.springframework.fu.benchmarks.sample;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+
+public class MongoSampleRepository {
+
+	private final ReactiveMongoOperations mongo;
+
+	public MongoSampleRepository(ReactiveMongoOperations mongo) {
+		this.mongo = mongo;
+	}
+
+	public Mono<Long> count() {
+		return mongo.count(new Query(), Sample.class);
+	}
+}
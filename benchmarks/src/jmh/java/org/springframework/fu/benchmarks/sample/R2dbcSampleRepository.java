@@ -0,0 +1,20 @@
+package org.springframework.fu.benchmarks.sample;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+
+public class R2dbcSampleRepository {
+
+	private final DatabaseClient client;
+
+	public R2dbcSampleRepository(DatabaseClient client) {
+		this.client = client;
+	}
+
+	public Mono<Long> count() {
+		return client.sql("SELECT count(message) from samples")
+				.map(row -> row.get(0, Long.class))
+				.first();
+	}
+}
@@ -0,0 +1,25 @@
+package org.springframework.fu.benchmarks.sample;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.ServerResponse.ok;
+
+public class ReactiveSampleHandler {
+
+	private final SampleService sampleService;
+
+	public ReactiveSampleHandler(SampleService sampleService) {
+		this.sampleService = sampleService;
+	}
+
+	public Mono<ServerResponse> hello(ServerRequest request) {
+		return ok().bodyValue(sampleService.generateMessage());
+	}
+
+	public Mono<ServerResponse> json(ServerRequest request) {
+		return ok().bodyValue(new Sample(sampleService.generateMessage()));
+	}
+}
@@ -0,0 +1,21 @@
+package org.springframework.fu.benchmarks.sample;
+
+public class Sample {
+
+	private String message;
+
+	public Sample() {
+	}
+
+	public Sample(String message) {
+		this.message = message;
+	}
+
+	public String getMessage() {
+		return message;
+	}
+
+	public void setMessage(String message) {
+		this.message = message;
+	}
+}
@@ -0,0 +1,8 @@
+package org.springframework.fu.benchmarks.sample;
+
+public class SampleService {
+
+	public String generateMessage() {
+		return "Hello world!";
+	}
+}
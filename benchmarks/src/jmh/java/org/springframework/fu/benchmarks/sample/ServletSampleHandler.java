@@ -0,0 +1,23 @@
+package org.springframework.fu.benchmarks.sample;
+
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import static org.springframework.web.servlet.function.ServerResponse.ok;
+
+public class ServletSampleHandler {
+
+	private final SampleService sampleService;
+
+	public ServletSampleHandler(SampleService sampleService) {
+		this.sampleService = sampleService;
+	}
+
+	public ServerResponse hello(ServerRequest request) {
+		return ok().body(sampleService.generateMessage());
+	}
+
+	public ServerResponse json(ServerRequest request) {
+		return ok().body(new Sample(sampleService.generateMessage()));
+	}
+}
@@ -0,0 +1,89 @@
+@file:JvmName("KofuApplications")
+
+package org.springframework.fu.benchmarks.kofu
+
+import org.springframework.fu.benchmarks.sample.MongoSampleRepository
+import org.springframework.fu.benchmarks.sample.R2dbcSampleRepository
+import org.springframework.fu.benchmarks.sample.ReactiveSampleHandler
+import org.springframework.fu.benchmarks.sample.SampleService
+import org.springframework.fu.benchmarks.sample.ServletSampleHandler
+import org.springframework.fu.kofu.application
+import org.springframework.fu.kofu.configuration
+import org.springframework.fu.kofu.mongo.reactiveMongodb
+import org.springframework.fu.kofu.r2dbc.r2dbc
+import org.springframework.fu.kofu.reactiveWebApplication
+import org.springframework.fu.kofu.webApplication
+import org.springframework.fu.kofu.webflux.webFlux
+import org.springframework.fu.kofu.webmvc.webMvc
+
+/*
+ * Kofu applications mirroring the shapes of the `samples/kofu-*` projects.
+ */
+
+fun minimalApplication() = application {
+	beans {
+		bean<SampleService>()
+	}
+}
+
+fun webFluxApplication() = reactiveWebApplication {
+	enable(webFluxConfig())
+}
+
+fun webMvcApplication() = webApplication {
+	beans {
+		bean<SampleService>()
+		bean<ServletSampleHandler>()
+	}
+	webMvc {
+		port = 0
+		router {
+			val handler = ref<ServletSampleHandler>()
+			GET("/", handler::hello)
+			GET("/api", handler::json)
+		}
+		converters {
+			string()
+			jackson()
+		}
+	}
+}
+
+fun r2dbcApplication() = reactiveWebApplication {
+	r2dbc {
+		url = "r2dbc:h2:mem:///benchmark"
+	}
+	beans {
+		bean<R2dbcSampleRepository>()
+	}
+	enable(webFluxConfig())
+}
+
+fun mongoApplication() = reactiveWebApplication {
+	reactiveMongodb {
+		uri = "mongodb://localhost:27017/benchmark"
+	}
+	beans {
+		bean<MongoSampleRepository>()
+	}
+	enable(webFluxConfig())
+}
+
+private fun webFluxConfig() = configuration {
+	beans {
+		bean<SampleService>()
+		bean<ReactiveSampleHandler>()
+	}
+	webFlux {
+		port = 0
+		router {
+			val handler = ref<ReactiveSampleHandler>()
+			GET("/", handler::hello)
+			GET("/api", handler::json)
+		}
+		codecs {
+			string()
+			jackson()
+		}
+	}
+}
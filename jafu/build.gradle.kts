@@ -22,11 +22,12 @@ tasks.withType<Javadoc> {
 
 dependencies {
 	api("org.springframework.boot:spring-boot")
-	implementation(project(":autoconfigure-adapter"))
+	api(project(":autoconfigure-adapter"))
 	compileOnly("org.springframework:spring-webflux")
 	compileOnly("org.springframework:spring-webmvc")
 	compileOnly("com.fasterxml.jackson.core:jackson-databind")
 	compileOnly("org.springframework.data:spring-data-mongodb")
+	compileOnly("org.mongodb:mongodb-driver-core")
 	compileOnly("org.springframework.data:spring-data-elasticsearch")
 	compileOnly("de.flapdoodle.embed:de.flapdoodle.embed.mongo")
 	compileOnly("org.springframework.data:spring-data-r2dbc")
@@ -36,6 +37,7 @@ dependencies {
 	testImplementation("org.junit.jupiter:junit-jupiter-params")
 	testImplementation("org.springframework:spring-test")
 	testImplementation("io.projectreactor:reactor-test")
+	testImplementation("org.mockito:mockito-core")
 	testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine")
 	testImplementation("org.springframework.boot:spring-boot-starter-webflux")
 	testImplementation("org.springframework.boot:spring-boot-starter-web")
@@ -49,9 +51,14 @@ dependencies {
 	testImplementation("org.springframework.boot:spring-boot-starter-jdbc")
 	testImplementation("org.springframework.boot:spring-boot-starter-data-redis-reactive")
 	testImplementation("org.springframework.data:spring-data-elasticsearch")
+	testImplementation("org.springframework.boot:spring-boot-starter-data-cassandra-reactive")
 	testImplementation("org.springframework.boot:spring-boot-starter-data-r2dbc")
 	testImplementation("org.springframework.boot:spring-boot-starter-jdbc")
 	testImplementation("com.fasterxml.jackson.module:jackson-module-kotlin")
+	testImplementation("com.fasterxml.jackson.module:jackson-module-afterburner")
+	testImplementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
+	testImplementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+	testImplementation("com.google.protobuf:protobuf-java:3.13.0")
 	testRuntimeOnly("de.flapdoodle.embed:de.flapdoodle.embed.mongo")
 	testRuntimeOnly("com.h2database:h2")
 	testRuntimeOnly("io.r2dbc:r2dbc-h2")
@@ -6,6 +6,7 @@ import java.util.List;
 import org.springframework.context.ApplicationContextInitializer;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.core.env.Environment;
+import org.springframework.core.metrics.StartupStep;
 
 /**
  * Base class for Jafu DSL.
@@ -17,6 +18,12 @@ import org.springframework.core.env.Environment;
  */
 public abstract class AbstractDsl implements ApplicationContextInitializer<GenericApplicationContext> {
 
+	/**
+	 * Name of the {@link StartupStep} recorded for each enabled configuration or DSL, see
+	 * {@link JafuApplication#applicationStartup(org.springframework.core.metrics.ApplicationStartup)}.
+	 */
+	public static final String INITIALIZE_STEP_NAME = "spring.fu.initialize";
+
 	protected GenericApplicationContext context;
 
 	/**
@@ -54,10 +61,24 @@ public abstract class AbstractDsl implements ApplicationContextInitializer<Gener
 	 * to make it available.
 	 */
 	protected AbstractDsl enable(ApplicationContextInitializer<GenericApplicationContext> dsl) {
-		dsl.initialize(context);
+		initialize(context, dsl);
 		return this;
 	}
 
+	/**
+	 * Initialize the context with the specified initializer, recording it as a {@link #INITIALIZE_STEP_NAME} startup
+	 * step tagged with the initializer class name.
+	 */
+	protected static void initialize(GenericApplicationContext context, ApplicationContextInitializer<GenericApplicationContext> initializer) {
+		StartupStep step = context.getApplicationStartup().start(INITIALIZE_STEP_NAME).tag("initializer", () -> initializer.getClass().getName());
+		try {
+			initializer.initialize(context);
+		}
+		finally {
+			step.end();
+		}
+	}
+
 	@Override
 	public void initialize(GenericApplicationContext context) {
 		this.context = context;
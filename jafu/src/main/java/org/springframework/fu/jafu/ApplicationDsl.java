@@ -2,7 +2,9 @@ package org.springframework.fu.jafu;
 
 import java.util.function.Consumer;
 
+import org.springframework.boot.autoconfigure.context.LazyInitializationInitializer;
 import org.springframework.boot.autoconfigure.context.MessageSourceInitializer;
+import org.springframework.boot.autoconfigure.context.ParallelInitializationInitializer;
 import org.springframework.context.support.GenericApplicationContext;
 
 /**
@@ -21,11 +23,41 @@ public class ApplicationDsl extends ConfigurationDsl {
 		this.dsl = dsl;
 	}
 
+	/**
+	 * Make all the beans of the application lazy, including the ones registered by Jafu DSLs, and instantiate them in
+	 * the background once the application is ready. Beans declared with {@code b -> b.setLazyInit(false)} remain
+	 * eagerly initialized.
+	 * @see #lazy(boolean)
+	 */
+	public ApplicationDsl lazy() {
+		return lazy(true);
+	}
+
+	/**
+	 * Make all the beans of the application lazy, including the ones registered by Jafu DSLs. Beans declared with
+	 * {@code b -> b.setLazyInit(false)} remain eagerly initialized.
+	 * @param warmUp whether the beans should be instantiated in the background once the application is ready
+	 * @see #lazy()
+	 */
+	public ApplicationDsl lazy(boolean warmUp) {
+		initialize(context, new LazyInitializationInitializer(warmUp));
+		return this;
+	}
+
+	/**
+	 * Create the supplier-based singletons of the specified types concurrently at the end of the context refresh,
+	 * typically clients performing blocking I/O on creation.
+	 */
+	public ApplicationDsl parallel(Class<?>... beanTypes) {
+		initialize(context, new ParallelInitializationInitializer(beanTypes));
+		return this;
+	}
+
 	@Override
 	public void initialize(GenericApplicationContext context) {
 		super.initialize(context);
 		this.dsl.accept(this);
-		new MessageSourceInitializer().initialize(context);
+		initialize(context, new MessageSourceInitializer());
 	}
 
 }
@@ -35,7 +35,7 @@ public class BeanDefinitionDsl extends AbstractDsl {
 	 * Declare a bean definition from the given bean name and class.
 	 */
 	public <T> BeanDefinitionDsl bean(String beanName, Class<T> beanClass, BeanDefinitionCustomizer... customizers) {
-		this.context.registerBean(beanName, beanClass);
+		this.context.registerBean(beanName, beanClass, customizers);
 		return this;
 	}
 
@@ -1,5 +1,6 @@
 package org.springframework.fu.jafu;
 
+import java.util.Map;
 import java.util.function.Consumer;
 
 import org.springframework.boot.context.event.ApplicationReadyEvent;
@@ -56,7 +57,17 @@ public class ConfigurationDsl extends AbstractDsl {
 	 * @see <a href="https://docs.spring.io/spring-boot/docs/current/reference/html/boot-features-external-config.html#boot-features-external-config-typesafe-configuration-properties">Type-safe Configuration Properties</a>
 	 */
 	public <T> ConfigurationDsl configurationProperties(Class<T> clazz, String prefix) {
-		context.registerBean(clazz.getSimpleName() + "ConfigurationProperties", clazz, () -> new FunctionalConfigurationPropertiesBinder(context).bind(prefix, Bindable.of(clazz)).get());
+		context.registerBean(clazz.getSimpleName() + "ConfigurationProperties", clazz, () -> FunctionalConfigurationPropertiesBinder.get(context).bind(prefix, Bindable.of(clazz)).get());
+		return this;
+	}
+
+	/**
+	 * Specify several configuration properties classes at once, indexed by their prefix, all bound with the same
+	 * binder shared by the application context.
+	 * @see #configurationProperties(Class, String)
+	 */
+	public ConfigurationDsl configurationProperties(Map<String, Class<?>> classesByPrefix) {
+		classesByPrefix.forEach((prefix, clazz) -> configurationProperties(clazz, prefix));
 		return this;
 	}
 
@@ -64,8 +75,7 @@ public class ConfigurationDsl extends AbstractDsl {
 	 * Configure beans via a {@link BeanDefinitionDsl dedicated DSL}.
 	 */
 	public ConfigurationDsl beans(Consumer<BeanDefinitionDsl> dsl) {
-		new BeanDefinitionDsl(dsl).initialize(context);
-		return this;
+		return enable(new BeanDefinitionDsl(dsl));
 	}
 
 	/**
@@ -82,8 +92,7 @@ public class ConfigurationDsl extends AbstractDsl {
 	 * @see #enable(ApplicationContextInitializer)
 	 */
 	public ConfigurationDsl enable(Consumer<ConfigurationDsl> configuration) {
-		new ConfigurationDsl(configuration).initialize(context);
-		return this;
+		return enable(new ConfigurationDsl(configuration));
 	}
 
 	/**
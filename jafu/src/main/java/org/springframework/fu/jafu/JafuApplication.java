@@ -9,6 +9,7 @@ import org.springframework.context.ApplicationContextInitializer;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.core.SpringProperties;
+import org.springframework.core.metrics.ApplicationStartup;
 
 
 /**
@@ -24,6 +25,8 @@ public abstract class JafuApplication {
 
 	private ApplicationContextInitializer<GenericApplicationContext> customizer;
 
+	private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+
 	protected JafuApplication(ApplicationContextInitializer<GenericApplicationContext> initializer) {
 		this.initializer = initializer;
 		SpringProperties.setFlag("spring.xml.ignore");
@@ -92,8 +95,9 @@ public abstract class JafuApplication {
 		if (!profiles.isEmpty()) {
 			app.setAdditionalProfiles(Arrays.stream(profiles.split(",")).map(it -> it.trim()).toArray(String[]::new));
 		}
-		app.addInitializers(this.initializer);
-		if (this.customizer != null) app.addInitializers(this.customizer);
+		app.setApplicationStartup(this.applicationStartup);
+		app.addInitializers(recorded(this.initializer));
+		if (this.customizer != null) app.addInitializers(recorded(this.customizer));
 		System.setProperty("spring.backgroundpreinitializer.ignore", "true");
 		return app.run(args);
 	}
@@ -106,6 +110,28 @@ public abstract class JafuApplication {
 		return this;
 	}
 
+	/**
+	 * Record the startup steps of the application with the specified {@link ApplicationStartup}, including the
+	 * initialization of each enabled configuration, DSL or auto-configuration initializer and the instantiation of
+	 * each bean. With a
+	 * {@link org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup}, the recorded timeline
+	 * can be rendered with {@link org.springframework.boot.context.metrics.buffering.StartupTimelineReport}.
+	 */
+	public JafuApplication applicationStartup(ApplicationStartup applicationStartup) {
+		this.applicationStartup = applicationStartup;
+		return this;
+	}
+
 	protected abstract ConfigurableApplicationContext createContext();
 
+	private static ApplicationContextInitializer<GenericApplicationContext> recorded(ApplicationContextInitializer<GenericApplicationContext> initializer) {
+		// Not a lambda since SpringApplication resolves the generic type of its initializers
+		return new ApplicationContextInitializer<GenericApplicationContext>() {
+			@Override
+			public void initialize(GenericApplicationContext context) {
+				AbstractDsl.initialize(context, initializer);
+			}
+		};
+	}
+
 }
@@ -18,6 +18,8 @@ package org.springframework.fu.jafu.cassandra;
 import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
 import org.springframework.boot.autoconfigure.cassandra.CassandraInitializer;
 import org.springframework.boot.autoconfigure.cassandra.CassandraProperties;
+import org.springframework.boot.autoconfigure.cassandra.CassandraStatementExecutorInitializer;
+import org.springframework.boot.autoconfigure.cassandra.CassandraStatementProperties;
 import org.springframework.boot.autoconfigure.data.cassandra.CassandraDataInitializer;
 import org.springframework.context.ApplicationContextInitializer;
 import org.springframework.context.support.GenericApplicationContext;
@@ -40,6 +42,8 @@ public class CassandraDsl extends AbstractDsl {
 
     private final CassandraProperties properties = new CassandraProperties();
 
+    private CassandraStatementProperties statementProperties;
+
     public CassandraDsl(Consumer<CassandraDsl> dsl) {
         this.dsl = dsl;
     }
@@ -48,8 +52,11 @@ public class CassandraDsl extends AbstractDsl {
     public void initialize(GenericApplicationContext context) {
         super.initialize(context);
         this.dsl.accept(this);
-        new CassandraInitializer(this.properties).initialize(context);
-        new CassandraDataInitializer(this.properties).initialize(context);
+        initialize(context, new CassandraInitializer(this.properties));
+        initialize(context, new CassandraDataInitializer(this.properties));
+        if (this.statementProperties != null) {
+            initialize(context, new CassandraStatementExecutorInitializer(this.statementProperties));
+        }
     }
 
     public static ApplicationContextInitializer<GenericApplicationContext> cassandra() {
@@ -127,6 +134,27 @@ public class CassandraDsl extends AbstractDsl {
         return this;
     }
 
+    /**
+     * Register a {@link org.springframework.boot.autoconfigure.cassandra.CassandraStatementExecutor} bean caching the
+     * prepared statements and batching the writes by partition, with default properties.
+     */
+    public CassandraDsl statements() {
+        return statements(statements -> {
+        });
+    }
+
+    /**
+     * Register a {@link org.springframework.boot.autoconfigure.cassandra.CassandraStatementExecutor} bean caching the
+     * prepared statements and batching the writes by partition, with customized properties.
+     */
+    public CassandraDsl statements(Consumer<StatementsDsl> statements) {
+        if (this.statementProperties == null) {
+            this.statementProperties = new CassandraStatementProperties();
+        }
+        statements.accept(new StatementsDsl(this.statementProperties));
+        return this;
+    }
+
     public static class ConnectionDsl {
 
         private final CassandraProperties.Connection connection;
@@ -233,4 +261,38 @@ public class CassandraDsl extends AbstractDsl {
         }
 
     }
+
+    public static class StatementsDsl {
+
+        private final CassandraStatementProperties statements;
+
+        public StatementsDsl(CassandraStatementProperties statements) {
+            this.statements = statements;
+        }
+
+        /**
+         * Maximum number of prepared statements cached by CQL query ({@code 1000} by default).
+         */
+        public StatementsDsl cacheSize(int cacheSize) {
+            this.statements.setCacheSize(cacheSize);
+            return this;
+        }
+
+        /**
+         * Maximum number of statements and batches executed asynchronously at the same time ({@code 256} by default),
+         * the other ones being queued.
+         */
+        public StatementsDsl maxInFlight(int maxInFlight) {
+            this.statements.setMaxInFlight(maxInFlight);
+            return this;
+        }
+
+        /**
+         * Maximum number of statements per unlogged batch ({@code 50} by default).
+         */
+        public StatementsDsl maxBatchSize(int maxBatchSize) {
+            this.statements.setMaxBatchSize(maxBatchSize);
+            return this;
+        }
+    }
 }
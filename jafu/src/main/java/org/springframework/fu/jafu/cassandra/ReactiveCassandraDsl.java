@@ -0,0 +1,39 @@
+package org.springframework.fu.jafu.cassandra;
+
+import org.springframework.boot.autoconfigure.data.cassandra.CassandraReactiveDataInitializer;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.util.function.Consumer;
+
+/**
+ * Jafu DSL for Reactive Cassandra configuration.
+ *
+ * Enable and configure Reactive Cassandra support by registering a
+ * {@link org.springframework.data.cassandra.core.ReactiveCassandraTemplate} bean, and a
+ * {@link org.springframework.boot.autoconfigure.data.cassandra.ReactiveCassandraPageStreamer} bean streaming the
+ * results page by page, with the page size configured by {@link CassandraDsl.RequestDsl#pageSize(int)}.
+ *
+ * Required dependencies can be retrieved using {@code org.springframework.boot:spring-boot-starter-data-cassandra-reactive}.
+ */
+public class ReactiveCassandraDsl extends CassandraDsl {
+
+    public ReactiveCassandraDsl(Consumer<CassandraDsl> dsl) {
+        super(dsl);
+    }
+
+    @Override
+    public void initialize(GenericApplicationContext context) {
+        super.initialize(context);
+        initialize(context, new CassandraReactiveDataInitializer());
+    }
+
+    public static ApplicationContextInitializer<GenericApplicationContext> reactiveCassandra() {
+        return new ReactiveCassandraDsl(cassandraDsl -> {
+        });
+    }
+
+    public static ApplicationContextInitializer<GenericApplicationContext> reactiveCassandra(Consumer<CassandraDsl> dsl) {
+        return new ReactiveCassandraDsl(dsl);
+    }
+}
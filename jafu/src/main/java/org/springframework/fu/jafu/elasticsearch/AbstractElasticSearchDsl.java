@@ -1,9 +1,11 @@
 package org.springframework.fu.jafu.elasticsearch;
 
+import org.springframework.boot.autoconfigure.data.elasticsearch.ElasticsearchClientProperties;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.data.elasticsearch.client.ClientConfiguration;
 import org.springframework.fu.jafu.AbstractDsl;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.function.Consumer;
 
@@ -13,6 +15,7 @@ public abstract class AbstractElasticSearchDsl<SELF extends AbstractElasticSearc
     private final Consumer<SELF> dsl;
     private Optional<String> hostAndPort = Optional.empty();
     private Boolean useSsl = false;
+    protected final ElasticsearchClientProperties clientProperties = new ElasticsearchClientProperties();
 
     protected abstract SELF getSelf();
 
@@ -31,7 +34,39 @@ public abstract class AbstractElasticSearchDsl<SELF extends AbstractElasticSearc
         return self;
     }
 
+    /**
+     * Configure the connection timeout, 10 seconds by default.
+     */
+    public SELF connectTimeout(Duration connectTimeout) {
+        this.clientProperties.setConnectTimeout(connectTimeout);
+        return self;
+    }
+
+    /**
+     * Configure the read and write timeout of the sockets, 5 seconds by default.
+     */
+    public SELF socketTimeout(Duration socketTimeout) {
+        this.clientProperties.setSocketTimeout(socketTimeout);
+        return self;
+    }
+
+    /**
+     * Configure the maximum number of connections per node.
+     */
+    public SELF maxConnections(int maxConnections) {
+        this.clientProperties.setMaxConnections(maxConnections);
+        return self;
+    }
+
+    protected Boolean getUseSsl() {
+        return useSsl;
+    }
+
     protected ClientConfiguration createClientConfiguration() {
+        return createClientConfiguration(builder -> {});
+    }
+
+    protected ClientConfiguration createClientConfiguration(Consumer<ClientConfiguration.TerminalClientConfigurationBuilder> customizer) {
         ClientConfiguration.ClientConfigurationBuilderWithRequiredEndpoint baseBuilder = ClientConfiguration.builder();
         ClientConfiguration.MaybeSecureClientConfigurationBuilder maybeSecureBuilder =
                 hostAndPort.map(baseBuilder::connectedTo).orElseGet(baseBuilder::connectedToLocalhost);
@@ -39,6 +74,10 @@ public abstract class AbstractElasticSearchDsl<SELF extends AbstractElasticSearc
         if (useSsl) {
             terminalBuilder = maybeSecureBuilder.usingSsl();
         }
+        terminalBuilder = terminalBuilder
+                .withConnectTimeout(clientProperties.getConnectTimeout())
+                .withSocketTimeout(clientProperties.getSocketTimeout());
+        customizer.accept(terminalBuilder);
         return terminalBuilder.build();
     }
 
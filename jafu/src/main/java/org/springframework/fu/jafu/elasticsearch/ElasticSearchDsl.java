@@ -1,6 +1,8 @@
 package org.springframework.fu.jafu.elasticsearch;
 
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
 import org.springframework.boot.autoconfigure.data.elasticsearch.ElasticSearchDataInitializer;
+import org.springframework.boot.autoconfigure.data.elasticsearch.HttpAsyncElasticsearchClientConfigurer;
 import org.springframework.context.ApplicationContextInitializer;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.data.elasticsearch.client.ClientConfiguration;
@@ -8,9 +10,12 @@ import org.springframework.fu.jafu.AbstractDsl;
 
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 public class ElasticSearchDsl extends AbstractElasticSearchDsl<ElasticSearchDsl> {
 
+    private Function<HttpAsyncClientBuilder, HttpAsyncClientBuilder> httpClientConfigurer = Function.identity();
+
     public ElasticSearchDsl(Consumer<ElasticSearchDsl> dsl) {
         super(dsl);
     }
@@ -33,6 +38,14 @@ public class ElasticSearchDsl extends AbstractElasticSearchDsl<ElasticSearchDsl>
         return new ElasticSearchDsl(dsl);
     }
 
+    /**
+     * Configure the underlying Apache HTTP client, for example to customize its default headers or interceptors.
+     */
+    public ElasticSearchDsl httpClientConfigurer(Function<HttpAsyncClientBuilder, HttpAsyncClientBuilder> httpClientConfigurer) {
+        this.httpClientConfigurer = httpClientConfigurer;
+        return this;
+    }
+
     @Override
     protected ElasticSearchDsl getSelf() {
         return this;
@@ -41,6 +54,8 @@ public class ElasticSearchDsl extends AbstractElasticSearchDsl<ElasticSearchDsl>
     @Override
     public void initialize(GenericApplicationContext context) {
         super.initialize(context);
-        new ElasticSearchDataInitializer(createClientConfiguration()).initialize(context);
+        int nodes = createClientConfiguration().getEndpoints().size();
+        HttpAsyncElasticsearchClientConfigurer configurer = new HttpAsyncElasticsearchClientConfigurer(clientProperties, nodes, httpClientConfigurer);
+        initialize(context, new ElasticSearchDataInitializer(createClientConfiguration(builder -> builder.withHttpClientConfigurer(configurer))));
     }
 }
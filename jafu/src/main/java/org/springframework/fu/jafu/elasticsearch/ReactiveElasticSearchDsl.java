@@ -1,13 +1,24 @@
 package org.springframework.fu.jafu.elasticsearch;
 
 import org.springframework.boot.autoconfigure.data.elasticsearch.ReactiveElasticSearchDataInitializer;
+import org.springframework.boot.autoconfigure.data.elasticsearch.ReactiveElasticsearchBulkIndexerInitializer;
+import org.springframework.boot.autoconfigure.data.elasticsearch.ReactiveElasticsearchBulkProperties;
+import org.springframework.boot.autoconfigure.data.elasticsearch.ReactorNettyElasticsearchClientConfigurer;
 import org.springframework.context.ApplicationContextInitializer;
 import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
 
+import java.time.Duration;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 public class ReactiveElasticSearchDsl extends AbstractElasticSearchDsl<ReactiveElasticSearchDsl> {
 
+    private Function<WebClient, WebClient> webClientConfigurer = Function.identity();
+
+    private ReactiveElasticsearchBulkProperties bulkProperties;
+
     public ReactiveElasticSearchDsl(Consumer<ReactiveElasticSearchDsl> dsl) {
         super(dsl);
     }
@@ -30,6 +41,45 @@ public class ReactiveElasticSearchDsl extends AbstractElasticSearchDsl<ReactiveE
         return new ReactiveElasticSearchDsl(dsl);
     }
 
+    /**
+     * Request compressed responses.
+     */
+    public ReactiveElasticSearchDsl compression() {
+        this.clientProperties.setCompression(true);
+        return this;
+    }
+
+    /**
+     * Configure the underlying {@link WebClient}, for example to customize its default headers or filters.
+     */
+    public ReactiveElasticSearchDsl webClientConfigurer(Function<WebClient, WebClient> webClientConfigurer) {
+        this.webClientConfigurer = webClientConfigurer;
+        return this;
+    }
+
+    /**
+     * Register a {@link org.springframework.boot.autoconfigure.data.elasticsearch.ReactiveElasticsearchBulkIndexer}
+     * bean with default properties, executing bulk requests of at most 1000 requests and 5MB one at a time.
+     */
+    public ReactiveElasticSearchDsl bulkIndexer() {
+        return bulkIndexer(dsl -> {});
+    }
+
+    /**
+     * Register a {@link org.springframework.boot.autoconfigure.data.elasticsearch.ReactiveElasticsearchBulkIndexer}
+     * bean with customized properties.
+     * <p>The indexer can be injected in the application beans, for example
+     * {@code beans.bean(LogIndexer.class)} with a {@code LogIndexer(ReactiveElasticsearchBulkIndexer indexer)}
+     * constructor streaming its index requests with {@code indexer.index(requests)}.
+     */
+    public ReactiveElasticSearchDsl bulkIndexer(Consumer<BulkIndexerDsl> dsl) {
+        if (bulkProperties == null) {
+            bulkProperties = new ReactiveElasticsearchBulkProperties();
+        }
+        dsl.accept(new BulkIndexerDsl(bulkProperties));
+        return this;
+    }
+
     @Override
     protected ReactiveElasticSearchDsl getSelf() {
         return this;
@@ -38,6 +88,55 @@ public class ReactiveElasticSearchDsl extends AbstractElasticSearchDsl<ReactiveE
     @Override
     public void initialize(GenericApplicationContext context) {
         super.initialize(context);
-        new ReactiveElasticSearchDataInitializer(createClientConfiguration()).initialize(context);
+        ReactorNettyElasticsearchClientConfigurer configurer = new ReactorNettyElasticsearchClientConfigurer(clientProperties, getUseSsl(), webClientConfigurer);
+        initialize(context, new ReactiveElasticSearchDataInitializer(createClientConfiguration(builder -> builder.withWebClientConfigurer(configurer)), configurer));
+        if (bulkProperties != null) {
+            initialize(context, new ReactiveElasticsearchBulkIndexerInitializer(bulkProperties));
+        }
+    }
+
+    /**
+     * Jafu DSL for Elasticsearch bulk indexing configuration.
+     */
+    public static class BulkIndexerDsl {
+
+        private final ReactiveElasticsearchBulkProperties properties;
+
+        BulkIndexerDsl(ReactiveElasticsearchBulkProperties properties) {
+            this.properties = properties;
+        }
+
+        /**
+         * Maximum number of requests per bulk request ({@code 1000} by default).
+         */
+        public BulkIndexerDsl maxActions(int maxActions) {
+            properties.setMaxActions(maxActions);
+            return this;
+        }
+
+        /**
+         * Maximum estimated size of a bulk request ({@code 5MB} by default).
+         */
+        public BulkIndexerDsl maxSize(DataSize maxSize) {
+            properties.setMaxSize(maxSize);
+            return this;
+        }
+
+        /**
+         * Maximum time to wait for a bulk request to be full before executing it, bulk requests are only executed
+         * when full or when the indexed requests complete by default.
+         */
+        public BulkIndexerDsl maxWaitTime(Duration maxWaitTime) {
+            properties.setMaxWaitTime(maxWaitTime);
+            return this;
+        }
+
+        /**
+         * Maximum number of bulk requests executed concurrently ({@code 1} by default).
+         */
+        public BulkIndexerDsl concurrency(int concurrency) {
+            properties.setConcurrency(concurrency);
+            return this;
+        }
     }
 }
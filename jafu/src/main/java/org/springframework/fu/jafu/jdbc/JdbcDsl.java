@@ -1,13 +1,17 @@
 package org.springframework.fu.jafu.jdbc;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
+import org.springframework.boot.autoconfigure.jdbc.DataSourceConfiguration_HikariInitializer;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceInitializerInvokerInitializer;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfigurationInitializer;
 import org.springframework.boot.autoconfigure.jdbc.EmbeddedDataSourceConfigurationInitializer;
+import org.springframework.boot.autoconfigure.jdbc.HikariProperties;
 import org.springframework.boot.autoconfigure.jdbc.JdbcProperties;
 import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateConfigurationInitializer;
 import org.springframework.boot.jdbc.DataSourceInitializationMode;
@@ -26,6 +30,8 @@ public class JdbcDsl extends AbstractDsl {
 
     private final DataSourceProperties dataSourceProperties = new DataSourceProperties();
 
+    private HikariProperties hikariProperties;
+
     JdbcDsl(Consumer<JdbcDsl> dsl) {
         this.dsl = dsl;
     }
@@ -97,13 +103,104 @@ public class JdbcDsl extends AbstractDsl {
         return this;
     }
 
+    /**
+     * Use a Hikari connection pool instead of an embedded database, configured via a {@link HikariDsl dedicated DSL}.
+     */
+    public JdbcDsl hikari(Consumer<HikariDsl> dsl) {
+        if (hikariProperties == null) {
+            hikariProperties = new HikariProperties();
+        }
+        dsl.accept(new HikariDsl(hikariProperties));
+        return this;
+    }
+
     @Override
     public void initialize(GenericApplicationContext context) {
         super.initialize(context);
         this.dsl.accept(this);
-        new EmbeddedDataSourceConfigurationInitializer(dataSourceProperties).initialize(context);
-        new JdbcTemplateConfigurationInitializer(jdbcProperties).initialize(context);
-        new DataSourceTransactionManagerAutoConfigurationInitializer().initialize(context);
-        new DataSourceInitializerInvokerInitializer(dataSourceProperties).initialize(context);
+        if (hikariProperties != null) {
+            initialize(context, new DataSourceConfiguration_HikariInitializer(dataSourceProperties, hikariProperties));
+        }
+        else {
+            initialize(context, new EmbeddedDataSourceConfigurationInitializer(dataSourceProperties));
+        }
+        initialize(context, new JdbcTemplateConfigurationInitializer(jdbcProperties));
+        initialize(context, new DataSourceTransactionManagerAutoConfigurationInitializer());
+        initialize(context, new DataSourceInitializerInvokerInitializer(dataSourceProperties));
+    }
+
+    public static class HikariDsl {
+
+        private final HikariProperties hikari;
+
+        public HikariDsl(HikariProperties hikari) {
+            this.hikari = hikari;
+        }
+
+        public HikariDsl maximumPoolSize(int maximumPoolSize) {
+            hikari.setMaximumPoolSize(maximumPoolSize);
+            return this;
+        }
+
+        public HikariDsl minimumIdle(int minimumIdle) {
+            hikari.setMinimumIdle(minimumIdle);
+            return this;
+        }
+
+        public HikariDsl connectionTimeout(Duration connectionTimeout) {
+            hikari.setConnectionTimeout(connectionTimeout);
+            return this;
+        }
+
+        public HikariDsl idleTimeout(Duration idleTimeout) {
+            hikari.setIdleTimeout(idleTimeout);
+            return this;
+        }
+
+        public HikariDsl maxLifetime(Duration maxLifetime) {
+            hikari.setMaxLifetime(maxLifetime);
+            return this;
+        }
+
+        public HikariDsl leakDetectionThreshold(Duration leakDetectionThreshold) {
+            hikari.setLeakDetectionThreshold(leakDetectionThreshold);
+            return this;
+        }
+
+        /**
+         * Add a property passed to the underlying JDBC driver or {@code DataSource}.
+         */
+        public HikariDsl dataSourceProperty(String name, String value) {
+            hikari.getDataSourceProperties().setProperty(name, value);
+            return this;
+        }
+
+        /**
+         * Add properties passed to the underlying JDBC driver or {@code DataSource}.
+         */
+        public HikariDsl dataSourceProperties(Map<String, String> properties) {
+            hikari.getDataSourceProperties().putAll(properties);
+            return this;
+        }
+
+        /**
+         * Enable the prepared statement cache of MySQL, MariaDB and PostgreSQL drivers, with 250 statements cached per
+         * connection and SQL of at most 2048 characters.
+         * @see #preparedStatementCache(int, int)
+         */
+        public HikariDsl preparedStatementCache() {
+            return preparedStatementCache(250, 2048);
+        }
+
+        /**
+         * Enable the prepared statement cache of MySQL, MariaDB and PostgreSQL drivers.
+         * @param size the number of prepared statements cached per connection
+         * @param sqlLimit the maximum length of the SQL of a cached statement (MySQL and MariaDB only)
+         */
+        public HikariDsl preparedStatementCache(int size, int sqlLimit) {
+            hikari.setPreparedStatementCacheSize(size);
+            hikari.setPreparedStatementCacheSqlLimit(sqlLimit);
+            return this;
+        }
     }
 }
@@ -1,10 +1,19 @@
 package org.springframework.fu.jafu.mongo;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.function.Consumer;
 
+import com.mongodb.MongoCompressor;
+import com.mongodb.ReadPreference;
 import de.flapdoodle.embed.mongo.distribution.IFeatureAwareVersion;
+import org.bson.codecs.configuration.CodecRegistry;
 
 import org.springframework.boot.autoconfigure.data.mongo.MongoReactiveDataInitializer;
+import org.springframework.boot.autoconfigure.data.mongo.ReactiveMongoBatchProperties;
+import org.springframework.boot.autoconfigure.data.mongo.ReactiveMongoBatchWriterInitializer;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsInitializer;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsProperties;
 import org.springframework.boot.autoconfigure.mongo.MongoProperties;
 import org.springframework.boot.autoconfigure.mongo.MongoReactiveInitializer;
 import org.springframework.boot.autoconfigure.mongo.embedded.EmbeddedMongoInitializer;
@@ -28,6 +37,10 @@ public class ReactiveMongoDsl extends AbstractDsl {
 
 	private final MongoProperties properties = new MongoProperties();
 
+	private MongoClientSettingsProperties settingsProperties;
+
+	private ReactiveMongoBatchProperties batchProperties;
+
 	private boolean embedded = false;
 
 	ReactiveMongoDsl(Consumer<ReactiveMongoDsl> dsl) {
@@ -82,6 +95,37 @@ public class ReactiveMongoDsl extends AbstractDsl {
 		return this;
 	}
 
+	/**
+	 * Configure the MongoDB client settings, like its connection pool, compressors, read preference or codecs.
+	 */
+	public ReactiveMongoDsl settings(Consumer<MongoClientSettingsDsl> dsl) {
+		if (settingsProperties == null) {
+			settingsProperties = new MongoClientSettingsProperties();
+		}
+		dsl.accept(new MongoClientSettingsDsl(settingsProperties));
+		return this;
+	}
+
+	/**
+	 * Register a {@link org.springframework.boot.autoconfigure.data.mongo.ReactiveMongoBatchWriter} bean with
+	 * default properties, writing in unordered batches of 1000 documents with a concurrency of 4.
+	 */
+	public ReactiveMongoDsl batchWriter() {
+		return batchWriter(dsl -> {});
+	}
+
+	/**
+	 * Register a {@link org.springframework.boot.autoconfigure.data.mongo.ReactiveMongoBatchWriter} bean with
+	 * customized properties.
+	 */
+	public ReactiveMongoDsl batchWriter(Consumer<BatchWriterDsl> dsl) {
+		if (batchProperties == null) {
+			batchProperties = new ReactiveMongoBatchProperties();
+		}
+		dsl.accept(new BatchWriterDsl(batchProperties));
+		return this;
+	}
+
 	@Override
 	public void initialize(GenericApplicationContext context) {
 		super.initialize(context);
@@ -89,8 +133,14 @@ public class ReactiveMongoDsl extends AbstractDsl {
 		if (properties.getUri() == null) {
 			properties.setUri(MongoProperties.DEFAULT_URI);
 		}
-		new MongoReactiveDataInitializer(properties).initialize(context);
-		new MongoReactiveInitializer(properties, embedded).initialize(context);
+		initialize(context, new MongoReactiveDataInitializer(properties));
+		initialize(context, new MongoReactiveInitializer(properties, embedded));
+		if (settingsProperties != null) {
+			initialize(context, new MongoClientSettingsInitializer(settingsProperties));
+		}
+		if (batchProperties != null) {
+			initialize(context, new ReactiveMongoBatchWriterInitializer(batchProperties));
+		}
 	}
 
 	/**
@@ -120,8 +170,151 @@ public class ReactiveMongoDsl extends AbstractDsl {
 		public void initialize(GenericApplicationContext context) {
 			super.initialize(context);
 			this.dsl.accept(this);
-			new EmbeddedMongoInitializer(mongoProperties, embeddedMongoProperties).initialize(context);
+			initialize(context, new EmbeddedMongoInitializer(mongoProperties, embeddedMongoProperties));
+		}
+
+	}
+
+	/**
+	 * Jafu DSL for MongoDB client settings, applied on top of the ones defined by the connection string.
+	 */
+	public static class MongoClientSettingsDsl {
+
+		private final MongoClientSettingsProperties properties;
+
+		MongoClientSettingsDsl(MongoClientSettingsProperties properties) {
+			this.properties = properties;
+		}
+
+		/**
+		 * Configure the connection pool of the client.
+		 */
+		public MongoClientSettingsDsl pool(Consumer<PoolDsl> dsl) {
+			dsl.accept(new PoolDsl(properties.getPool()));
+			return this;
+		}
+
+		/**
+		 * Compressors offered to the server, in order of preference, for example
+		 * {@link MongoCompressor#createZstdCompressor()} which requires {@code com.github.luben:zstd-jni} or
+		 * {@link MongoCompressor#createSnappyCompressor()} which requires {@code org.xerial.snappy:snappy-java}.
+		 */
+		public MongoClientSettingsDsl compressors(MongoCompressor... compressors) {
+			properties.setCompressors(Arrays.asList(compressors));
+			return this;
+		}
+
+		/**
+		 * Read preference of the client ({@link ReadPreference#primary()} by default).
+		 */
+		public MongoClientSettingsDsl readPreference(ReadPreference readPreference) {
+			properties.setReadPreference(readPreference);
+			return this;
+		}
+
+		/**
+		 * Codecs taking precedence over the default ones of the driver.
+		 */
+		public MongoClientSettingsDsl codecs(CodecRegistry codecRegistry) {
+			properties.setCodecRegistry(codecRegistry);
+			return this;
+		}
+	}
+
+	/**
+	 * Jafu DSL for MongoDB connection pool configuration, per server.
+	 */
+	public static class PoolDsl {
+
+		private final MongoClientSettingsProperties.Pool properties;
+
+		PoolDsl(MongoClientSettingsProperties.Pool properties) {
+			this.properties = properties;
+		}
+
+		/**
+		 * Maximum number of connections ({@code 100} by default).
+		 */
+		public PoolDsl maxSize(int maxSize) {
+			properties.setMaxSize(maxSize);
+			return this;
 		}
 
+		/**
+		 * Minimum number of connections kept open ({@code 0} by default).
+		 */
+		public PoolDsl minSize(int minSize) {
+			properties.setMinSize(minSize);
+			return this;
+		}
+
+		/**
+		 * Maximum time an operation waits for a connection (2 minutes by default).
+		 */
+		public PoolDsl maxWaitTime(Duration maxWaitTime) {
+			properties.setMaxWaitTime(maxWaitTime);
+			return this;
+		}
+
+		/**
+		 * Time after which an idle connection is closed (unlimited by default).
+		 */
+		public PoolDsl maxConnectionIdleTime(Duration maxConnectionIdleTime) {
+			properties.setMaxConnectionIdleTime(maxConnectionIdleTime);
+			return this;
+		}
+
+		/**
+		 * Time after which a connection is closed, whether idle or not (unlimited by default).
+		 */
+		public PoolDsl maxConnectionLifeTime(Duration maxConnectionLifeTime) {
+			properties.setMaxConnectionLifeTime(maxConnectionLifeTime);
+			return this;
+		}
+	}
+
+	/**
+	 * Jafu DSL for MongoDB batch writes configuration.
+	 */
+	public static class BatchWriterDsl {
+
+		private final ReactiveMongoBatchProperties properties;
+
+		BatchWriterDsl(ReactiveMongoBatchProperties properties) {
+			this.properties = properties;
+		}
+
+		/**
+		 * Maximum number of documents or write requests per batch ({@code 1000} by default).
+		 */
+		public BatchWriterDsl batchSize(int batchSize) {
+			properties.setBatchSize(batchSize);
+			return this;
+		}
+
+		/**
+		 * Maximum time to wait for a batch to be full before writing it, batches are only written when full or
+		 * when the written elements complete by default.
+		 */
+		public BatchWriterDsl maxWaitTime(Duration maxWaitTime) {
+			properties.setMaxWaitTime(maxWaitTime);
+			return this;
+		}
+
+		/**
+		 * Maximum number of batches written concurrently ({@code 4} by default).
+		 */
+		public BatchWriterDsl concurrency(int concurrency) {
+			properties.setConcurrency(concurrency);
+			return this;
+		}
+
+		/**
+		 * Write the documents of a batch in order, stopping at the first error, instead of unordered.
+		 */
+		public BatchWriterDsl ordered() {
+			properties.setOrdered(true);
+			return this;
+		}
 	}
 }
@@ -28,6 +28,6 @@ public class DataR2dbcDsl extends AbstractDsl {
     public void initialize(GenericApplicationContext context) {
         super.initialize(context);
         dsl.accept(this);
-        new R2dbcDataInitializer().initialize(context);
+        initialize(context, new R2dbcDataInitializer());
     }
 }
@@ -2,11 +2,13 @@ package org.springframework.fu.jafu.r2dbc;
 
 import org.springframework.boot.autoconfigure.r2dbc.ConnectionFactoryOptionsBuilderCustomizer;
 import org.springframework.boot.autoconfigure.r2dbc.R2dbcInitializer;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcPoolProperties;
 import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
 import org.springframework.context.ApplicationContextInitializer;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.fu.jafu.AbstractDsl;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
@@ -24,6 +26,8 @@ public class R2dbcDsl extends AbstractDsl {
 
     private final List<ConnectionFactoryOptionsBuilderCustomizer> optionsCustomizers = new ArrayList<>();
 
+    private R2dbcPoolProperties poolProperties;
+
     private boolean transactional = false;
 
     R2dbcDsl(Consumer<R2dbcDsl> dsl) {
@@ -69,10 +73,71 @@ public class R2dbcDsl extends AbstractDsl {
         return this;
     }
 
+    /**
+     * Enable connection pooling with default settings.
+     */
+    public R2dbcDsl pool() {
+        return pool(p -> {});
+    }
+
+    /**
+     * Enable and configure connection pooling, the {@code ConnectionPool} is registered as the
+     * {@code ConnectionFactory} bean and disposed when the application context is closed.
+     */
+    public R2dbcDsl pool(Consumer<PoolDsl> dsl) {
+        if (poolProperties == null) {
+            poolProperties = new R2dbcPoolProperties();
+        }
+        dsl.accept(new PoolDsl(poolProperties));
+        return this;
+    }
+
     @Override
     public void initialize(GenericApplicationContext context) {
         super.initialize(context);
         this.dsl.accept(this);
-        new R2dbcInitializer(properties, optionsCustomizers, transactional).initialize(context);
+        initialize(context, new R2dbcInitializer(properties, optionsCustomizers, poolProperties, transactional));
+    }
+
+    public static class PoolDsl {
+
+        private final R2dbcPoolProperties pool;
+
+        public PoolDsl(R2dbcPoolProperties pool) {
+            this.pool = pool;
+        }
+
+        public PoolDsl initialSize(int initialSize) {
+            pool.setInitialSize(initialSize);
+            return this;
+        }
+
+        public PoolDsl maxSize(int maxSize) {
+            pool.setMaxSize(maxSize);
+            return this;
+        }
+
+        public PoolDsl maxIdleTime(Duration maxIdleTime) {
+            pool.setMaxIdleTime(maxIdleTime);
+            return this;
+        }
+
+        public PoolDsl maxAcquireTime(Duration maxAcquireTime) {
+            pool.setMaxAcquireTime(maxAcquireTime);
+            return this;
+        }
+
+        public PoolDsl validationQuery(String validationQuery) {
+            pool.setValidationQuery(validationQuery);
+            return this;
+        }
+
+        /**
+         * Expose the pool metrics as a JMX MBean, they are also available via {@code ConnectionPool#getMetrics()}.
+         */
+        public PoolDsl registerJmx(boolean registerJmx) {
+            pool.setRegisterJmx(registerJmx);
+            return this;
+        }
     }
 }
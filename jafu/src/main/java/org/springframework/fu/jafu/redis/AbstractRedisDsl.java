@@ -1,6 +1,7 @@
 package org.springframework.fu.jafu.redis;
 
 import org.springframework.boot.autoconfigure.data.redis.ClusterInitializer;
+import org.springframework.boot.autoconfigure.data.redis.ClientResourcesProperties;
 import org.springframework.boot.autoconfigure.data.redis.LettuceRedisInitializer;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.boot.autoconfigure.data.redis.SentinelInitializer;
@@ -29,6 +30,8 @@ public abstract class AbstractRedisDsl<SELF extends AbstractRedisDsl<SELF>> exte
 
     protected RedisProperties properties = new RedisProperties();
 
+    protected ClientResourcesProperties clientResourcesProperties = new ClientResourcesProperties();
+
     protected abstract SELF getSelf();
 
     public void setRedisClientInitializer(ApplicationContextInitializer<GenericApplicationContext> redisClientInitializer) {
@@ -41,7 +44,7 @@ public abstract class AbstractRedisDsl<SELF extends AbstractRedisDsl<SELF>> exte
 
     public AbstractRedisDsl(final Consumer<SELF> dsl) {
         this.self = getSelf();
-        this.redisClientInitializer = new LettuceRedisInitializer(properties);
+        this.redisClientInitializer = new LettuceRedisInitializer(properties, clientResourcesProperties);
         this.dsl = dsl;
     }
 
@@ -103,8 +106,8 @@ public abstract class AbstractRedisDsl<SELF extends AbstractRedisDsl<SELF>> exte
     }
 
     public SELF lettuce(final Consumer<LettuceDsl> lettuce) {
-        setRedisClientInitializer(new LettuceRedisInitializer(properties));
-        lettuce.accept(new LettuceDsl(this.properties.getLettuce()));
+        setRedisClientInitializer(new LettuceRedisInitializer(properties, clientResourcesProperties));
+        lettuce.accept(new LettuceDsl(this.properties.getLettuce(), this.clientResourcesProperties));
         return self;
     }
 
@@ -202,8 +205,11 @@ public abstract class AbstractRedisDsl<SELF extends AbstractRedisDsl<SELF>> exte
 
         private final RedisProperties.Lettuce lettuce;
 
-        LettuceDsl(final RedisProperties.Lettuce lettuce) {
+        private final ClientResourcesProperties clientResources;
+
+        LettuceDsl(final RedisProperties.Lettuce lettuce, final ClientResourcesProperties clientResources) {
             this.lettuce = lettuce;
+            this.clientResources = clientResources;
         }
 
         public LettuceDsl shutdownTimeout(final Duration shutdownTimeout) {
@@ -222,6 +228,34 @@ public abstract class AbstractRedisDsl<SELF extends AbstractRedisDsl<SELF>> exte
             return this;
         }
 
+        /**
+         * Configure the {@code ClientResources} shared by all the Lettuce connection factories of the application
+         * context and shut down when it is closed.
+         */
+        public LettuceDsl clientResources(final Consumer<ClientResourcesDsl> clientResources) {
+            clientResources.accept(new ClientResourcesDsl(this.clientResources));
+            return this;
+        }
+
+        public static class ClientResourcesDsl {
+
+            private final ClientResourcesProperties clientResources;
+
+            public ClientResourcesDsl(final ClientResourcesProperties clientResources) {
+                this.clientResources = clientResources;
+            }
+
+            public ClientResourcesDsl ioThreadPoolSize(final int ioThreadPoolSize) {
+                this.clientResources.setIoThreadPoolSize(ioThreadPoolSize);
+                return this;
+            }
+
+            public ClientResourcesDsl computationThreadPoolSize(final int computationThreadPoolSize) {
+                this.clientResources.setComputationThreadPoolSize(computationThreadPoolSize);
+                return this;
+            }
+        }
+
         public static class ClusterDsl {
 
             private final RedisProperties.Lettuce.Cluster cluster;
@@ -264,9 +298,9 @@ public abstract class AbstractRedisDsl<SELF extends AbstractRedisDsl<SELF>> exte
 
         dsl.accept(self);
 
-        getRedisClientInitializier().initialize(context);
-        new ClusterInitializer(properties.getCluster()).initialize(context);
-        new SentinelInitializer(properties.getSentinel()).initialize(context);
+        initialize(context, getRedisClientInitializier());
+        initialize(context, new ClusterInitializer(properties.getCluster()));
+        initialize(context, new SentinelInitializer(properties.getSentinel()));
     }
 
 }
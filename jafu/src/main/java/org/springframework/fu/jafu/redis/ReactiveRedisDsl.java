@@ -34,7 +34,7 @@ public class ReactiveRedisDsl extends AbstractRedisDsl<ReactiveRedisDsl> {
     @Override
     public void initialize(GenericApplicationContext context) {
         super.initialize(context);
-        new RedisReactiveInitializer().initialize(context);
+        initialize(context, new RedisReactiveInitializer());
     }
 
 }
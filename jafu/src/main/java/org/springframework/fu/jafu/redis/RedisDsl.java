@@ -63,7 +63,7 @@ public class RedisDsl extends AbstractRedisDsl<RedisDsl> {
     @Override
     public void initialize(GenericApplicationContext context) {
         super.initialize(context);
-        new RedisInitializer().initialize(context);
+        initialize(context, new RedisInitializer());
     }
 
 }
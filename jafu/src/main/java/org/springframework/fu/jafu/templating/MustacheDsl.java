@@ -46,18 +46,18 @@ public class MustacheDsl extends AbstractDsl {
 
 	public void initializeServlet(GenericApplicationContext context) {
 		this.initialize(context);
-		new MustacheServletWebInitializer(properties).initialize(context);
+		initialize(context, new MustacheServletWebInitializer(properties));
 	}
 
 	public void initializeReactive(GenericApplicationContext context) {
 		this.initialize(context);
-		new MustacheReactiveWebInitializer(properties).initialize(context);
+		initialize(context, new MustacheReactiveWebInitializer(properties));
 	}
 
 	@Override
 	public void initialize(GenericApplicationContext context) {
 		super.initialize(context);
 		this.dsl.accept(this);
-		new MustacheInitializer(properties).initialize(context);
+		initialize(context, new MustacheInitializer(properties));
 	}
 }
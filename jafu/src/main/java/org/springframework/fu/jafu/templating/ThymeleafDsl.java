@@ -46,19 +46,19 @@ public class ThymeleafDsl extends AbstractDsl {
 
 	public void initializeServlet(GenericApplicationContext context) {
 		this.initialize(context);
-		new ThymeleafServletWebInitializer(properties).initialize(context);
+		initialize(context, new ThymeleafServletWebInitializer(properties));
 	}
 
 	public void initializeReactive(GenericApplicationContext context) {
 		this.initialize(context);
-		new ThymeleafReactiveWebInitializer(properties).initialize(context);
+		initialize(context, new ThymeleafReactiveWebInitializer(properties));
 	}
 
 	@Override
 	public void initialize(GenericApplicationContext context) {
 		super.initialize(context);
 		this.dsl.accept(this);
-		new ThymeleafInitializer(properties).initialize(context);
+		initialize(context, new ThymeleafInitializer(properties));
 	}
 
 }
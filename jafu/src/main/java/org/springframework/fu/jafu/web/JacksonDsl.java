@@ -15,9 +15,11 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 
 import org.springframework.boot.autoconfigure.jackson.JacksonInitializer;
 import org.springframework.boot.autoconfigure.jackson.JacksonProperties;
+import org.springframework.boot.autoconfigure.web.reactive.JacksonJsonCodecProperties;
 import org.springframework.context.ApplicationContextInitializer;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.fu.jafu.AbstractDsl;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Jafu DSL for <a href="https://github.com/FasterXML/jackson">Jackson</a> serialization library.
@@ -35,9 +37,18 @@ public class JacksonDsl extends AbstractDsl {
 
 	private final JacksonProperties properties = new JacksonProperties();
 
+	private final JacksonJsonCodecProperties codecProperties;
+
+	private boolean accelerated;
+
 
 	public JacksonDsl(boolean isClientCodec, Consumer<JacksonDsl> dsl) {
+		this(isClientCodec, new JacksonJsonCodecProperties(), dsl);
+	}
+
+	public JacksonDsl(boolean isClientCodec, JacksonJsonCodecProperties codecProperties, Consumer<JacksonDsl> dsl) {
 		this.isClientCodec = isClientCodec;
+		this.codecProperties = codecProperties;
 		this.dsl = dsl;
 	}
 
@@ -50,7 +61,40 @@ public class JacksonDsl extends AbstractDsl {
 	public void initialize(GenericApplicationContext context) {
 		super.initialize(context);
 		this.dsl.accept(this);
-		new JacksonInitializer(properties).initialize(context);
+		initialize(context, new JacksonInitializer(properties, accelerated));
+	}
+
+	/**
+	 * Register the Jackson Afterburner module, which replaces reflection by generated bytecode for the property
+	 * access and instantiation, and the parameter names module, which allows to deserialize immutable types via their
+	 * constructor when compiled with {@code -parameters}.
+	 *
+	 * Requires {@code com.fasterxml.jackson.module:jackson-module-afterburner} dependency.
+	 */
+	public JacksonDsl accelerated() {
+		this.accelerated = true;
+		return this;
+	}
+
+	/**
+	 * Register high-throughput WebFlux codecs, which reuse their {@code ObjectReader} and {@code ObjectWriter} per
+	 * type, serialize directly in the pooled buffers of the server or client, and encode {@code Flux} streams as
+	 * NDJSON element by element.
+	 * @see org.springframework.boot.autoconfigure.web.reactive.HighThroughputJackson2JsonEncoder
+	 * @see org.springframework.boot.autoconfigure.web.reactive.HighThroughputJackson2JsonDecoder
+	 */
+	public JacksonDsl highThroughput() {
+		this.codecProperties.setHighThroughput(true);
+		return this;
+	}
+
+	/**
+	 * Limit on the number of bytes that can be buffered by the WebFlux codec when decoding a single JSON value
+	 * ({@code 256KB} by default).
+	 */
+	public JacksonDsl maxInMemorySize(DataSize maxInMemorySize) {
+		this.codecProperties.setMaxInMemorySize(maxInMemorySize);
+		return this;
 	}
 
 	/**
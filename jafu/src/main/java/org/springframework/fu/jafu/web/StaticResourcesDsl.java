@@ -0,0 +1,69 @@
+package org.springframework.fu.jafu.web;
+
+import java.util.Arrays;
+
+import org.springframework.boot.autoconfigure.web.StaticResourceProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Jafu DSL for the static resources served by WebFlux and WebMvc servers.
+ */
+public class StaticResourcesDsl {
+
+	private final StaticResourceProperties properties;
+
+	public StaticResourcesDsl(StaticResourceProperties properties) {
+		this.properties = properties;
+	}
+
+	/**
+	 * Locations of the static resources, searched in order ({@code classpath:static/} by default).
+	 */
+	public StaticResourcesDsl locations(String... locations) {
+		this.properties.setLocations(Arrays.asList(locations));
+		return this;
+	}
+
+	/**
+	 * Maximum total size of the resource contents cached off-heap ({@code 10MB} by default), caching is disabled when zero.
+	 */
+	public StaticResourcesDsl cacheMaxSize(DataSize cacheMaxSize) {
+		this.properties.setCacheMaxSize(cacheMaxSize);
+		return this;
+	}
+
+	/**
+	 * Maximum size of a cached resource ({@code 64KB} by default), larger resources are streamed or transferred from
+	 * the file system on each request.
+	 */
+	public StaticResourcesDsl cacheMaxFileSize(DataSize cacheMaxFileSize) {
+		this.properties.setCacheMaxFileSize(cacheMaxFileSize);
+		return this;
+	}
+
+	/**
+	 * Maximum number of cached lookups of the missing resources and of the resources larger than
+	 * {@link #cacheMaxFileSize(DataSize)} ({@code 1024} by default), lookup caching is disabled when zero.
+	 */
+	public StaticResourcesDsl lookupCacheSize(int lookupCacheSize) {
+		this.properties.setLookupCacheSize(lookupCacheSize);
+		return this;
+	}
+
+	/**
+	 * Whether to serve the {@code .gz} variant of a resource when it exists and the client accepts gzip ({@code true} by default).
+	 */
+	public StaticResourcesDsl gzip(boolean gzip) {
+		this.properties.setGzip(gzip);
+		return this;
+	}
+
+	/**
+	 * Whether to serve the {@code .br} variant of a resource when it exists and the client accepts Brotli ({@code true} by default).
+	 */
+	public StaticResourcesDsl brotli(boolean brotli) {
+		this.properties.setBrotli(brotli);
+		return this;
+	}
+
+}
@@ -1,14 +1,20 @@
 package org.springframework.fu.jafu.webflux;
 
+import java.time.Duration;
 import java.util.function.Consumer;
 
 import org.springframework.boot.autoconfigure.web.reactive.FormCodecInitializer;
+import org.springframework.boot.autoconfigure.web.reactive.JacksonCborCodecInitializer;
 import org.springframework.boot.autoconfigure.web.reactive.JacksonJsonCodecInitializer;
+import org.springframework.boot.autoconfigure.web.reactive.JacksonJsonCodecProperties;
+import org.springframework.boot.autoconfigure.web.reactive.JacksonSmileCodecInitializer;
 import org.springframework.boot.autoconfigure.web.reactive.MultipartCodecInitializer;
 import org.springframework.boot.autoconfigure.web.reactive.ProtobufCodecInitializer;
 import org.springframework.boot.autoconfigure.web.reactive.ResourceCodecInitializer;
 import org.springframework.boot.autoconfigure.web.reactive.StringCodecInitializer;
 import org.springframework.boot.autoconfigure.web.reactive.function.client.ReactiveWebClientBuilderInitializer;
+import org.springframework.boot.autoconfigure.web.reactive.function.client.ReactorNettyConnectorInitializer;
+import org.springframework.boot.autoconfigure.web.reactive.function.client.ReactorNettyConnectorProperties;
 import org.springframework.context.ApplicationContextInitializer;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.fu.jafu.AbstractDsl;
@@ -34,6 +40,8 @@ public class WebFluxClientDsl extends AbstractDsl {
 
 	private String baseUrl = null;
 
+	private ReactorNettyConnectorProperties connectorProperties = null;
+
 	private WebFluxClientDsl(Consumer<WebFluxClientDsl> dsl) {
 		this.dsl = dsl;
 	}
@@ -59,6 +67,18 @@ public class WebFluxClientDsl extends AbstractDsl {
 		return this;
 	}
 
+	/**
+	 * Use a Reactor Netty connector with a dedicated connection pool and event loop, tuned via a
+	 * {@link ConnectorDsl dedicated DSL}.
+	 */
+	public WebFluxClientDsl connector(Consumer<ConnectorDsl> dsl) {
+		if (this.connectorProperties == null) {
+			this.connectorProperties = new ReactorNettyConnectorProperties();
+		}
+		dsl.accept(new ConnectorDsl(this.connectorProperties));
+		return this;
+	}
+
 	/**
 	 * Configure codecs via a {@link WebFluxClientCodecDsl dedicated DSL}.
 	 */
@@ -81,10 +101,108 @@ public class WebFluxClientDsl extends AbstractDsl {
 		super.initialize(context);
 		this.dsl.accept(this);
 		if (!this.codecsConfigured) {
-			new StringCodecInitializer(true, false).initialize(context);
-			new ResourceCodecInitializer(true).initialize(context);
+			initialize(context, new StringCodecInitializer(true, false));
+			initialize(context, new ResourceCodecInitializer(true));
+		}
+		if (this.connectorProperties != null) {
+			initialize(context, new ReactorNettyConnectorInitializer(this.connectorProperties));
+		}
+		initialize(context, new ReactiveWebClientBuilderInitializer(baseUrl));
+	}
+
+	/**
+	 * Jafu DSL for the Reactor Netty connector of the webClient.
+	 */
+	public static class ConnectorDsl {
+
+		private final ReactorNettyConnectorProperties properties;
+
+		ConnectorDsl(ReactorNettyConnectorProperties properties) {
+			this.properties = properties;
+		}
+
+		/**
+		 * Name of the client, used as the name of its connection pool and metrics, and as the prefix of its event loop
+		 * threads and beans, {@code webClient} by default. Each connector of an application must have a distinct name.
+		 */
+		public ConnectorDsl name(String name) {
+			this.properties.setName(name);
+			return this;
+		}
+
+		/**
+		 * Maximum number of connections per remote host, twice the number of available processors (with a minimum
+		 * of 16) by default.
+		 */
+		public ConnectorDsl maxConnections(int maxConnections) {
+			this.properties.setMaxConnections(maxConnections);
+			return this;
+		}
+
+		/**
+		 * Maximum number of requests waiting for a connection, twice the maximum number of connections by default.
+		 */
+		public ConnectorDsl pendingAcquireMaxCount(int pendingAcquireMaxCount) {
+			this.properties.setPendingAcquireMaxCount(pendingAcquireMaxCount);
+			return this;
+		}
+
+		/**
+		 * Maximum time to wait for a connection, 45 seconds by default.
+		 */
+		public ConnectorDsl pendingAcquireTimeout(Duration pendingAcquireTimeout) {
+			this.properties.setPendingAcquireTimeout(pendingAcquireTimeout);
+			return this;
+		}
+
+		/**
+		 * Time after which an idle connection is closed, no timeout by default.
+		 */
+		public ConnectorDsl maxIdleTime(Duration maxIdleTime) {
+			this.properties.setMaxIdleTime(maxIdleTime);
+			return this;
+		}
+
+		/**
+		 * Time after which a connection is closed once released to the pool, no timeout by default.
+		 */
+		public ConnectorDsl maxLifeTime(Duration maxLifeTime) {
+			this.properties.setMaxLifeTime(maxLifeTime);
+			return this;
+		}
+
+		/**
+		 * Interval of the background eviction of the idle and expired connections, which are otherwise only evicted
+		 * when acquired.
+		 */
+		public ConnectorDsl evictInBackground(Duration evictInBackground) {
+			this.properties.setEvictInBackground(evictInBackground);
+			return this;
+		}
+
+		/**
+		 * Enable HTTP/2 over cleartext (h2c), via an upgrade of the HTTP/1.1 connections.
+		 */
+		public ConnectorDsl http2() {
+			this.properties.setHttp2(true);
+			return this;
+		}
+
+		/**
+		 * Request compressed responses.
+		 */
+		public ConnectorDsl compression() {
+			this.properties.setCompression(true);
+			return this;
+		}
+
+		/**
+		 * Maximum time to wait for the response of a request, no timeout by default.
+		 */
+		public ConnectorDsl responseTimeout(Duration responseTimeout) {
+			this.properties.setResponseTimeout(responseTimeout);
+			return this;
 		}
-		new ReactiveWebClientBuilderInitializer(baseUrl).initialize(context);
 	}
 
 	/**
@@ -114,7 +232,7 @@ public class WebFluxClientDsl extends AbstractDsl {
 		 * @see #string(boolean)
 		 */
 		public WebFluxClientCodecDsl string() {
-			new StringCodecInitializer(true, false).initialize(context);
+			initialize(context, new StringCodecInitializer(true, false));
 			return this;
 		}
 
@@ -122,7 +240,7 @@ public class WebFluxClientDsl extends AbstractDsl {
 		 * Enable {@link org.springframework.core.codec.CharSequenceEncoder} and {@link org.springframework.core.codec.StringDecoder}
 		 */
 		public WebFluxClientCodecDsl string(boolean textPlainOnly) {
-			new StringCodecInitializer(true, textPlainOnly).initialize(context);
+			initialize(context, new StringCodecInitializer(true, textPlainOnly));
 			return this;
 		}
 
@@ -130,7 +248,7 @@ public class WebFluxClientDsl extends AbstractDsl {
 		 * Enable {@link org.springframework.http.codec.ResourceHttpMessageWriter} and {@link org.springframework.core.codec.ResourceDecoder}
 		 */
 		public WebFluxClientCodecDsl resource() {
-			new ResourceCodecInitializer(true).initialize(context);
+			initialize(context, new ResourceCodecInitializer(true));
 			return this;
 		}
 
@@ -141,7 +259,7 @@ public class WebFluxClientDsl extends AbstractDsl {
 		 * supports `application/x-protobuf` and `application/octet-stream`.
 		 */
 		public WebFluxClientCodecDsl protobuf() {
-			new ProtobufCodecInitializer(true).initialize(context);
+			initialize(context, new ProtobufCodecInitializer(true));
 			return this;
 		}
 
@@ -149,7 +267,7 @@ public class WebFluxClientDsl extends AbstractDsl {
 		 * Enable {@link org.springframework.http.codec.FormHttpMessageWriter} and {@link org.springframework.http.codec.FormHttpMessageReader}
 		 */
 		public WebFluxClientCodecDsl form() {
-			new FormCodecInitializer(true).initialize(context);
+			initialize(context, new FormCodecInitializer(true));
 			return this;
 		}
 
@@ -158,7 +276,7 @@ public class WebFluxClientDsl extends AbstractDsl {
 		 * {@link org.springframework.http.codec.multipart.MultipartHttpMessageReader}
 		 */
 		public WebFluxClientCodecDsl multipart() {
-			new MultipartCodecInitializer(true).initialize(context);
+			initialize(context, new MultipartCodecInitializer(true));
 			return this;
 		}
 
@@ -177,8 +295,33 @@ public class WebFluxClientDsl extends AbstractDsl {
 		 * (included by default in `spring-boot-starter-webflux`).
 		 */
 		public WebFluxClientCodecDsl jackson(Consumer<JacksonDsl> dsl) {
-			new JacksonJsonCodecInitializer(true).initialize(context);
-			new JacksonDsl(true, dsl).initialize(context);
+			JacksonJsonCodecProperties codecProperties = new JacksonJsonCodecProperties();
+			initialize(context, new JacksonJsonCodecInitializer(true, codecProperties));
+			new JacksonDsl(true, codecProperties, dsl).initialize(context);
+			return this;
+		}
+
+		/**
+		 * Enable {@link org.springframework.http.codec.json.Jackson2SmileEncoder} and
+		 * {@link org.springframework.http.codec.json.Jackson2SmileDecoder} for the {@code application/x-jackson-smile}
+		 * binary format, configured like the JSON codec when a {@code jackson} block is declared.
+		 *
+		 * Requires {@code com.fasterxml.jackson.dataformat:jackson-dataformat-smile} dependency.
+		 */
+		public WebFluxClientCodecDsl smile() {
+			initialize(context, new JacksonSmileCodecInitializer(true));
+			return this;
+		}
+
+		/**
+		 * Enable {@link org.springframework.http.codec.cbor.Jackson2CborEncoder} and
+		 * {@link org.springframework.http.codec.cbor.Jackson2CborDecoder} for the {@code application/cbor} binary
+		 * format, configured like the JSON codec when a {@code jackson} block is declared.
+		 *
+		 * Requires {@code com.fasterxml.jackson.dataformat:jackson-dataformat-cbor} dependency.
+		 */
+		public WebFluxClientCodecDsl cbor() {
+			initialize(context, new JacksonCborCodecInitializer(true));
 			return this;
 		}
 	}
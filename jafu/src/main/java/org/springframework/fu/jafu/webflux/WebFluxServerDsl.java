@@ -2,33 +2,52 @@ package org.springframework.fu.jafu.webflux;
 
 import static org.springframework.beans.factory.support.BeanDefinitionReaderUtils.uniqueBeanName;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.config.BeanDefinitionCustomizer;
 import org.springframework.beans.factory.support.BeanDefinitionReaderUtils;
 import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.data.redis.RedisResponseCacheInitializer;
+import org.springframework.boot.autoconfigure.data.redis.ResponseCacheProperties;
 import org.springframework.boot.autoconfigure.web.ResourceProperties;
 import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.autoconfigure.web.StaticResourceProperties;
 import org.springframework.boot.autoconfigure.web.WebProperties;
+import org.springframework.boot.autoconfigure.web.embedded.NettyServerInitializer;
+import org.springframework.boot.autoconfigure.web.embedded.NettyServerProperties;
 import org.springframework.boot.autoconfigure.web.reactive.FormCodecInitializer;
+import org.springframework.boot.autoconfigure.web.reactive.JacksonCborCodecInitializer;
 import org.springframework.boot.autoconfigure.web.reactive.JacksonJsonCodecInitializer;
+import org.springframework.boot.autoconfigure.web.reactive.JacksonJsonCodecProperties;
+import org.springframework.boot.autoconfigure.web.reactive.JacksonSmileCodecInitializer;
 import org.springframework.boot.autoconfigure.web.reactive.MultipartCodecInitializer;
 import org.springframework.boot.autoconfigure.web.reactive.ProtobufCodecInitializer;
 import org.springframework.boot.autoconfigure.web.reactive.ReactiveWebServerInitializer;
 import org.springframework.boot.autoconfigure.web.reactive.ResourceCodecInitializer;
 import org.springframework.boot.autoconfigure.web.reactive.StringCodecInitializer;
 import org.springframework.boot.autoconfigure.web.reactive.WebFluxProperties;
+import org.springframework.boot.autoconfigure.web.reactive.function.server.IndexedRouterFunction;
+import org.springframework.boot.autoconfigure.web.reactive.function.server.StaticResourceRouterFunction;
 import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
 import org.springframework.boot.web.reactive.server.ConfigurableReactiveWebServerFactory;
+import org.springframework.boot.web.server.Compression;
 import org.springframework.context.ApplicationContextInitializer;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.fu.jafu.AbstractDsl;
 import org.springframework.fu.jafu.templating.MustacheDsl;
 import org.springframework.fu.jafu.templating.ThymeleafDsl;
 import org.springframework.fu.jafu.web.JacksonDsl;
+import org.springframework.fu.jafu.web.StaticResourcesDsl;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
 import org.springframework.web.server.WebFilter;
 
 /**
@@ -66,8 +85,16 @@ public class WebFluxServerDsl extends AbstractDsl {
 
 	private int port = 8080;
 
+	private boolean indexedRouting = false;
+
+	private StaticResourceProperties staticResourceProperties = null;
+
+	private final List<Supplier<RouterFunction<ServerResponse>>> routers = new ArrayList<>();
+
 	private ConfigurableReactiveWebServerFactory engine = null;
 
+	private NettyServerProperties nettyProperties = null;
+
 	WebFluxServerDsl(Consumer<WebFluxServerDsl> dsl) {
 		super();
 		this.dsl = dsl;
@@ -97,19 +124,61 @@ public class WebFluxServerDsl extends AbstractDsl {
 		return this;
 	}
 
+	/**
+	 * Use the Netty engine tuned via a {@link NettyDsl dedicated DSL}.
+	 */
+	public WebFluxServerDsl netty(Consumer<NettyDsl> dsl) {
+		if (this.nettyProperties == null) {
+			this.nettyProperties = new NettyServerProperties();
+		}
+		dsl.accept(new NettyDsl(this.nettyProperties, this.serverProperties));
+		return this;
+	}
+
 	/**
 	 * Configure routes via {@link RouterFunctions.Builder}.
 	 * @see org.springframework.fu.jafu.BeanDefinitionDsl#bean(Class, BeanDefinitionCustomizer...)
 	 */
 	public WebFluxServerDsl router(Consumer<RouterFunctions.Builder> routerDsl) {
 		RouterFunctions.Builder builder = RouterFunctions.route();
-		context.registerBean(BeanDefinitionReaderUtils.uniqueBeanName(RouterFunction.class.getName(), context), RouterFunction.class, () -> {
+		this.routers.add(() -> {
 			routerDsl.accept(builder);
 			return builder.build();
 		});
 		return this;
 	}
 
+	/**
+	 * Dispatch requests via a single {@link IndexedRouterFunction} which indexes the {@link #router(Consumer) router}
+	 * blocks by HTTP method and literal leading path segments, so that only the blocks which may match a request are
+	 * tried instead of walking all of them in declaration order. Useful with a large number of router blocks.
+	 */
+	public WebFluxServerDsl indexedRouting() {
+		this.indexedRouting = true;
+		return this;
+	}
+
+	/**
+	 * @see #staticResources(Consumer)
+	 */
+	public WebFluxServerDsl staticResources() {
+		return staticResources(dsl -> {});
+	}
+
+	/**
+	 * Serve the static resources of the {@code classpath:static/} directory, or of the locations configured via a
+	 * {@link StaticResourcesDsl dedicated DSL}, with a {@link StaticResourceRouterFunction} which caches small resources
+	 * off-heap, transfers files with zero-copy and serves their pre-compressed {@code .br} and {@code .gz} variants.
+	 * Uncached resources are resolved on the bounded elastic scheduler, and {@code Range} requests are supported.
+	 */
+	public WebFluxServerDsl staticResources(Consumer<StaticResourcesDsl> dsl) {
+		if (this.staticResourceProperties == null) {
+			this.staticResourceProperties = new StaticResourceProperties();
+		}
+		dsl.accept(new StaticResourcesDsl(this.staticResourceProperties));
+		return this;
+	}
+
 	/**
 	 * Configure codecs via a [dedicated DSL][WebFluxServerCodecDsl].
 	 * @see WebFluxServerCodecDsl#jackson
@@ -128,6 +197,19 @@ public class WebFluxServerDsl extends AbstractDsl {
 		return this;
 	}
 
+	/**
+	 * Cache successful GET responses in Redis via a {@link org.springframework.boot.autoconfigure.data.redis.RedisResponseCacheWebFilter}
+	 * configured with a {@link ResponseCacheDsl dedicated DSL}, so that hot endpoints are served without invoking their handler.
+	 *
+	 * Requires the {@code reactiveRedisTemplate} bean registered by {@link org.springframework.fu.jafu.redis.ReactiveRedisDsl}.
+	 */
+	public WebFluxServerDsl responseCache(Consumer<ResponseCacheDsl> dsl) {
+		ResponseCacheDsl responseCacheDsl = new ResponseCacheDsl();
+		dsl.accept(responseCacheDsl);
+		initialize(context, new RedisResponseCacheInitializer(responseCacheDsl.properties));
+		return this;
+	}
+
 	/**
 	 * @see #thymeleaf(Consumer)
 	 */
@@ -174,19 +256,40 @@ public class WebFluxServerDsl extends AbstractDsl {
 	public void initialize(GenericApplicationContext context) {
 		super.initialize(context);
 		this.dsl.accept(this);
+		if (indexedRouting) {
+			context.registerBean(BeanDefinitionReaderUtils.uniqueBeanName(IndexedRouterFunction.class.getName(), context), RouterFunction.class, () ->
+				new IndexedRouterFunction(routers.stream().map(Supplier::get).collect(Collectors.toList()))
+			);
+		}
+		else {
+			for (Supplier<RouterFunction<ServerResponse>> router : routers) {
+				context.registerBean(BeanDefinitionReaderUtils.uniqueBeanName(RouterFunction.class.getName(), context), RouterFunction.class, router::get);
+			}
+		}
+		if (staticResourceProperties != null) {
+			context.registerBean(BeanDefinitionReaderUtils.uniqueBeanName(RouterFunction.class.getName(), context), RouterFunction.class, () ->
+				new StaticResourceRouterFunction(staticResourceProperties, context)
+			);
+		}
 		if (engine == null) {
 			engine = new NettyDelegate().get();
 		}
 		engine.setPort(port);
+		if (nettyProperties != null) {
+			if (!(engine instanceof NettyReactiveWebServerFactory)) {
+				throw new IllegalStateException("Netty tuning can't be used with " + engine.getClass().getSimpleName());
+			}
+			initialize(context, new NettyServerInitializer(nettyProperties, (NettyReactiveWebServerFactory) engine));
+		}
 
 		if (!codecsConfigured) {
-			new StringCodecInitializer(false, false).initialize(context);
-			new ResourceCodecInitializer(false).initialize(context);
+			initialize(context, new StringCodecInitializer(false, false));
+			initialize(context, new ResourceCodecInitializer(false));
 		}
 		if (context.containsBeanDefinition("webHandler")) {
 			throw new IllegalStateException("Only one webFlux per application is supported");
 		}
-		new ReactiveWebServerInitializer(serverProperties, resourceProperties, webProperties, webFluxProperties, engine).initialize(context);
+		initialize(context, new ReactiveWebServerInitializer(serverProperties, resourceProperties, webProperties, webFluxProperties, engine));
 
 	}
 
@@ -216,7 +319,7 @@ public class WebFluxServerDsl extends AbstractDsl {
 		 * Enable {@link org.springframework.core.codec.CharSequenceEncoder} and {@link org.springframework.core.codec.StringDecoder} for all media types
 		 */
 		public WebFluxServerCodecDsl string() {
-			new StringCodecInitializer(false, false).initialize(context);
+			initialize(context, new StringCodecInitializer(false, false));
 			return this;
 		}
 
@@ -224,7 +327,7 @@ public class WebFluxServerDsl extends AbstractDsl {
 		 * Enable {@link org.springframework.core.codec.CharSequenceEncoder} and {@link org.springframework.core.codec.StringDecoder}
 		 */
 		public WebFluxServerCodecDsl string(boolean textPlainOnly) {
-			new StringCodecInitializer(false, textPlainOnly).initialize(context);
+			initialize(context, new StringCodecInitializer(false, textPlainOnly));
 			return this;
 		}
 
@@ -232,7 +335,7 @@ public class WebFluxServerDsl extends AbstractDsl {
 		 * Enable {@link org.springframework.http.codec.ResourceHttpMessageWriter} and {@link org.springframework.core.codec.ResourceDecoder}
 		 */
 		public WebFluxServerCodecDsl resource() {
-			new ResourceCodecInitializer(false).initialize(context);
+			initialize(context, new ResourceCodecInitializer(false));
 			return this;
 		}
 
@@ -243,7 +346,7 @@ public class WebFluxServerDsl extends AbstractDsl {
 		 * supports `application/x-protobuf` and `application/octet-stream`.
 		 */
 		public WebFluxServerCodecDsl protobuf() {
-			new ProtobufCodecInitializer(false).initialize(context);
+			initialize(context, new ProtobufCodecInitializer(false));
 			return this;
 		}
 
@@ -251,7 +354,7 @@ public class WebFluxServerDsl extends AbstractDsl {
 		 * Enable {@link org.springframework.http.codec.FormHttpMessageWriter} and {@link org.springframework.http.codec.FormHttpMessageReader}
 		 */
 		public WebFluxServerCodecDsl form() {
-			new FormCodecInitializer(false).initialize(context);
+			initialize(context, new FormCodecInitializer(false));
 			return this;
 		}
 
@@ -260,7 +363,7 @@ public class WebFluxServerDsl extends AbstractDsl {
 		 * {@link org.springframework.http.codec.multipart.MultipartHttpMessageReader}
 		 */
 		public WebFluxServerCodecDsl multipart() {
-			new MultipartCodecInitializer(false).initialize(context);
+			initialize(context, new MultipartCodecInitializer(false));
 			return this;
 		}
 
@@ -279,8 +382,171 @@ public class WebFluxServerDsl extends AbstractDsl {
 		 * (included by default in `spring-boot-starter-webflux`).
 		 */
 		public WebFluxServerCodecDsl jackson(Consumer<JacksonDsl> dsl) {
-			new JacksonDsl(false, dsl).initialize(context);
-			new JacksonJsonCodecInitializer(false).initialize(context);
+			JacksonJsonCodecProperties codecProperties = new JacksonJsonCodecProperties();
+			new JacksonDsl(false, codecProperties, dsl).initialize(context);
+			initialize(context, new JacksonJsonCodecInitializer(false, codecProperties));
+			return this;
+		}
+
+		/**
+		 * Enable {@link org.springframework.http.codec.json.Jackson2SmileEncoder} and
+		 * {@link org.springframework.http.codec.json.Jackson2SmileDecoder} for the {@code application/x-jackson-smile}
+		 * binary format, configured like the JSON codec when a {@code jackson} block is declared.
+		 *
+		 * Requires {@code com.fasterxml.jackson.dataformat:jackson-dataformat-smile} dependency.
+		 */
+		public WebFluxServerCodecDsl smile() {
+			initialize(context, new JacksonSmileCodecInitializer(false));
+			return this;
+		}
+
+		/**
+		 * Enable {@link org.springframework.http.codec.cbor.Jackson2CborEncoder} and
+		 * {@link org.springframework.http.codec.cbor.Jackson2CborDecoder} for the {@code application/cbor} binary
+		 * format, configured like the JSON codec when a {@code jackson} block is declared.
+		 *
+		 * Requires {@code com.fasterxml.jackson.dataformat:jackson-dataformat-cbor} dependency.
+		 */
+		public WebFluxServerCodecDsl cbor() {
+			initialize(context, new JacksonCborCodecInitializer(false));
+			return this;
+		}
+	}
+
+	/**
+	 * Jafu DSL for Netty engine tuning.
+	 */
+	public static class NettyDsl {
+
+		private final NettyServerProperties properties;
+
+		private final ServerProperties serverProperties;
+
+		NettyDsl(NettyServerProperties properties, ServerProperties serverProperties) {
+			this.properties = properties;
+			this.serverProperties = serverProperties;
+		}
+
+		/**
+		 * Number of event loop threads handling the I/O of accepted connections, the number of available processors
+		 * (with a minimum of 4) by default.
+		 */
+		public NettyDsl workerThreads(int workerThreads) {
+			this.properties.setWorkerThreads(workerThreads);
+			return this;
+		}
+
+		/**
+		 * Number of event loop threads accepting connections, shared with the worker ones by default.
+		 */
+		public NettyDsl selectorThreads(int selectorThreads) {
+			this.properties.setSelectorThreads(selectorThreads);
+			return this;
+		}
+
+		/**
+		 * Whether to use the native transport (epoll or kqueue) when available on the classpath, {@code true} by default.
+		 */
+		public NettyDsl preferNative(boolean preferNative) {
+			this.properties.setPreferNative(preferNative);
+			return this;
+		}
+
+		/**
+		 * Maximum length of the queue of incoming connections ({@code SO_BACKLOG}).
+		 */
+		public NettyDsl backlog(int backlog) {
+			this.properties.setBacklog(backlog);
+			return this;
+		}
+
+		/**
+		 * Time after which an idle connection is closed, no timeout by default.
+		 */
+		public NettyDsl idleTimeout(Duration idleTimeout) {
+			this.properties.setIdleTimeout(idleTimeout);
+			return this;
+		}
+
+		/**
+		 * Maximum size of the HTTP request headers, 8KB by default.
+		 */
+		public NettyDsl maxHeaderSize(DataSize maxHeaderSize) {
+			this.properties.setMaxHeaderSize(maxHeaderSize);
+			return this;
+		}
+
+		/**
+		 * Enable HTTP/2, over cleartext (h2c) unless SSL is configured.
+		 */
+		public NettyDsl http2() {
+			this.serverProperties.getHttp2().setEnabled(true);
+			return this;
+		}
+
+		/**
+		 * Enable the compression of the responses larger than {@code minResponseSize} with one of the
+		 * {@code mimeTypes}, or one of the default textual ones if none are specified.
+		 */
+		public NettyDsl compression(DataSize minResponseSize, String... mimeTypes) {
+			Compression compression = this.serverProperties.getCompression();
+			compression.setEnabled(true);
+			compression.setMinResponseSize(minResponseSize);
+			if (mimeTypes.length > 0) {
+				compression.setMimeTypes(mimeTypes);
+			}
+			return this;
+		}
+	}
+
+	/**
+	 * Jafu DSL for the Redis response cache.
+	 */
+	public static class ResponseCacheDsl {
+
+		private final ResponseCacheProperties properties = new ResponseCacheProperties();
+
+		ResponseCacheDsl() {
+		}
+
+		/**
+		 * Path patterns of the cached GET endpoints, all GET endpoints are cached if not specified.
+		 */
+		public ResponseCacheDsl paths(String... pathPatterns) {
+			this.properties.getPathPatterns().addAll(Arrays.asList(pathPatterns));
+			return this;
+		}
+
+		/**
+		 * Request headers taken into account in the cache key, in addition to the path and the query parameters.
+		 */
+		public ResponseCacheDsl varyOn(String... headers) {
+			this.properties.getVaryHeaders().addAll(Arrays.asList(headers));
+			return this;
+		}
+
+		/**
+		 * Time to live of the cached responses, 1 minute by default.
+		 */
+		public ResponseCacheDsl ttl(Duration timeToLive) {
+			this.properties.setTimeToLive(timeToLive);
+			return this;
+		}
+
+		/**
+		 * Prefix of the Redis keys, {@code response-cache:} by default.
+		 */
+		public ResponseCacheDsl keyPrefix(String keyPrefix) {
+			this.properties.setKeyPrefix(keyPrefix);
+			return this;
+		}
+
+		/**
+		 * Maximum time concurrent requests wait for the response of the request computing the same entry, 5 seconds
+		 * by default.
+		 */
+		public ResponseCacheDsl lockTimeout(Duration lockTimeout) {
+			this.properties.setLockTimeout(lockTimeout);
 			return this;
 		}
 	}
@@ -1,21 +1,34 @@
 package org.springframework.fu.jafu.webmvc;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.config.BeanDefinitionCustomizer;
 import org.springframework.beans.factory.support.BeanDefinitionReaderUtils;
 import org.springframework.boot.autoconfigure.web.ResourceProperties;
 import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.autoconfigure.web.StaticResourceProperties;
 import org.springframework.boot.autoconfigure.web.WebProperties;
+import org.springframework.boot.autoconfigure.web.embedded.ServletServerInitializer;
+import org.springframework.boot.autoconfigure.web.embedded.ServletServerProperties;
+import org.springframework.boot.autoconfigure.web.embedded.VirtualThreadsInitializer;
 import org.springframework.boot.autoconfigure.web.servlet.AtomConverterInitializer;
 import org.springframework.boot.autoconfigure.web.servlet.FormConverterInitializer;
+import org.springframework.boot.autoconfigure.web.servlet.JacksonCborConverterInitializer;
 import org.springframework.boot.autoconfigure.web.servlet.JacksonJsonConverterInitializer;
+import org.springframework.boot.autoconfigure.web.servlet.JacksonSmileConverterInitializer;
+import org.springframework.boot.autoconfigure.web.servlet.ProtobufConverterInitializer;
 import org.springframework.boot.autoconfigure.web.servlet.ResourceConverterInitializer;
 import org.springframework.boot.autoconfigure.web.servlet.RssConverterInitializer;
 import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerInitializer;
 import org.springframework.boot.autoconfigure.web.servlet.StringConverterInitializer;
 import org.springframework.boot.autoconfigure.web.servlet.WebMvcProperties;
+import org.springframework.boot.autoconfigure.web.servlet.function.IndexedRouterFunction;
+import org.springframework.boot.autoconfigure.web.servlet.function.StaticResourceRouterFunction;
 import org.springframework.boot.web.embedded.jetty.JettyServletWebServerFactory;
 import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
 import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
@@ -27,8 +40,11 @@ import org.springframework.fu.jafu.AbstractDsl;
 import org.springframework.fu.jafu.templating.MustacheDsl;
 import org.springframework.fu.jafu.templating.ThymeleafDsl;
 import org.springframework.fu.jafu.web.JacksonDsl;
+import org.springframework.fu.jafu.web.StaticResourcesDsl;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.servlet.function.RouterFunction;
 import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
 
 /**
  * Jafu DSL for WebMvc server.
@@ -61,8 +77,18 @@ public class WebMvcServerDsl extends AbstractDsl {
 
 	private boolean convertersConfigured = false;
 
+	private boolean virtualThreads = false;
+
+	private ServletServerProperties tuningProperties = null;
+
 	private int port = 8080;
 
+	private boolean indexedRouting = false;
+
+	private StaticResourceProperties staticResourceProperties = null;
+
+	private final List<Supplier<RouterFunction<ServerResponse>>> routers = new ArrayList<>();
+
 	WebMvcServerDsl(Consumer<WebMvcServerDsl> dsl) {
 		super();
 		this.dsl = dsl;
@@ -108,19 +134,73 @@ public class WebMvcServerDsl extends AbstractDsl {
 		return this;
 	}
 
+	/**
+	 * Handle each request on a new virtual thread instead of a thread of the engine pool, so that blocking calls
+	 * in handlers do not exhaust the worker threads. Supported with Tomcat, Jetty and Undertow engines, the default
+	 * thread pool of the engine is kept when the JDK does not support virtual threads.
+	 */
+	public WebMvcServerDsl virtualThreads() {
+		this.virtualThreads = true;
+		return this;
+	}
+
+	/**
+	 * Tune the thread pool and the connector of the engine via a {@link TuningDsl dedicated DSL}, the same settings
+	 * apply to Tomcat, Jetty and Undertow.
+	 */
+	public WebMvcServerDsl tuning(Consumer<TuningDsl> dsl) {
+		if (this.tuningProperties == null) {
+			this.tuningProperties = new ServletServerProperties();
+		}
+		dsl.accept(new TuningDsl(this.tuningProperties));
+		return this;
+	}
+
 	/**
 	 * Configure routes via {@link RouterFunctions.Builder}.
 	 * @see org.springframework.fu.jafu.BeanDefinitionDsl#bean(Class, BeanDefinitionCustomizer...)
 	 */
 	public WebMvcServerDsl router(Consumer<RouterFunctions.Builder> routerDsl) {
 		RouterFunctions.Builder builder = RouterFunctions.route();
-		context.registerBean(BeanDefinitionReaderUtils.uniqueBeanName(RouterFunction.class.getName(), context), RouterFunction.class, () -> {
+		this.routers.add(() -> {
 			routerDsl.accept(builder);
 			return builder.build();
 		});
 		return this;
 	}
 
+	/**
+	 * Dispatch requests via a single {@link IndexedRouterFunction} which indexes the {@link #router(Consumer) router}
+	 * blocks by HTTP method and literal leading path segments, so that only the blocks which may match a request are
+	 * tried instead of walking all of them in declaration order. Useful with a large number of router blocks.
+	 */
+	public WebMvcServerDsl indexedRouting() {
+		this.indexedRouting = true;
+		return this;
+	}
+
+	/**
+	 * @see #staticResources(Consumer)
+	 */
+	public WebMvcServerDsl staticResources() {
+		return staticResources(dsl -> {});
+	}
+
+	/**
+	 * Serve the static resources with a {@link StaticResourceRouterFunction}, configured via a
+	 * {@link StaticResourcesDsl dedicated DSL}, which caches small resources off-heap, transfers files with sendfile
+	 * on Tomcat and Undertow and serves their pre-compressed {@code .br} and {@code .gz} variants, instead of the default resource
+	 * handling of the {@code classpath:static/} directory. Unlike the default resource handling, {@code Range} requests
+	 * are not supported and are answered with the full content.
+	 */
+	public WebMvcServerDsl staticResources(Consumer<StaticResourcesDsl> dsl) {
+		if (this.staticResourceProperties == null) {
+			this.staticResourceProperties = new StaticResourceProperties();
+		}
+		dsl.accept(new StaticResourcesDsl(this.staticResourceProperties));
+		return this;
+	}
+
 	/**
 	 * Configure converters via a dedicated DSL.
 	 * @see WebMvcServerConverterDsl#jackson
@@ -143,23 +223,130 @@ public class WebMvcServerDsl extends AbstractDsl {
 	public void initialize(GenericApplicationContext context) {
 		super.initialize(context);
 		this.dsl.accept(this);
-		context.registerBean(BeanDefinitionReaderUtils.uniqueBeanName(RouterFunction.class.getName(), context), RouterFunction.class, () ->
-			RouterFunctions.route().resources("/**", new ClassPathResource("static/")).build()
-		);
+		if (indexedRouting) {
+			context.registerBean(BeanDefinitionReaderUtils.uniqueBeanName(IndexedRouterFunction.class.getName(), context), RouterFunction.class, () ->
+				new IndexedRouterFunction(routers.stream().map(Supplier::get).collect(Collectors.toList()))
+			);
+		}
+		else {
+			for (Supplier<RouterFunction<ServerResponse>> router : routers) {
+				context.registerBean(BeanDefinitionReaderUtils.uniqueBeanName(RouterFunction.class.getName(), context), RouterFunction.class, router::get);
+			}
+		}
+		if (staticResourceProperties != null) {
+			context.registerBean(BeanDefinitionReaderUtils.uniqueBeanName(RouterFunction.class.getName(), context), RouterFunction.class, () ->
+				new StaticResourceRouterFunction(staticResourceProperties, context)
+			);
+		}
+		else {
+			context.registerBean(BeanDefinitionReaderUtils.uniqueBeanName(RouterFunction.class.getName(), context), RouterFunction.class, () ->
+				RouterFunctions.route().resources("/**", new ClassPathResource("static/")).build()
+			);
+		}
 		serverProperties.setPort(port);
 		if (engine == null) {
 			engine = new TomcatDelegate().get();
 		}
 		engine.setPort(port);
+		if (tuningProperties != null) {
+			initialize(context, new ServletServerInitializer(tuningProperties));
+		}
+		if (virtualThreads) {
+			initialize(context, new VirtualThreadsInitializer(engine));
+		}
 		serverProperties.getServlet().setRegisterDefaultServlet(false);
 		if (!convertersConfigured) {
-			new StringConverterInitializer().initialize(context);
-			new ResourceConverterInitializer().initialize(context);
+			initialize(context, new StringConverterInitializer());
+			initialize(context, new ResourceConverterInitializer());
 		}
 		if (context.containsBeanDefinition("webHandler")) {
 			throw new IllegalStateException("Only one webFlux per application is supported");
 		}
-		new ServletWebServerInitializer(serverProperties, webMvcProperties, resourceProperties, webProperties, engine).initialize(context);
+		initialize(context, new ServletWebServerInitializer(serverProperties, webMvcProperties, resourceProperties, webProperties, engine));
+	}
+
+	/**
+	 * Jafu DSL for servlet engine tuning.
+	 */
+	public static class TuningDsl {
+
+		private final ServletServerProperties properties;
+
+		TuningDsl(ServletServerProperties properties) {
+			this.properties = properties;
+		}
+
+		/**
+		 * Maximum number of worker threads.
+		 */
+		public TuningDsl maxThreads(int maxThreads) {
+			this.properties.setMaxThreads(maxThreads);
+			return this;
+		}
+
+		/**
+		 * Minimum number of worker threads kept alive.
+		 */
+		public TuningDsl minThreads(int minThreads) {
+			this.properties.setMinThreads(minThreads);
+			return this;
+		}
+
+		/**
+		 * Maximum length of the queue of incoming connections when all the worker threads are busy.
+		 */
+		public TuningDsl acceptCount(int acceptCount) {
+			this.properties.setAcceptCount(acceptCount);
+			return this;
+		}
+
+		/**
+		 * Number of I/O threads, selectors for Jetty (ignored with Tomcat).
+		 */
+		public TuningDsl ioThreads(int ioThreads) {
+			this.properties.setIoThreads(ioThreads);
+			return this;
+		}
+
+		/**
+		 * Size of the buffers used to read requests and write responses.
+		 */
+		public TuningDsl bufferSize(DataSize bufferSize) {
+			this.properties.setBufferSize(bufferSize);
+			return this;
+		}
+
+		/**
+		 * Whether to allocate the buffers outside of the Java heap.
+		 */
+		public TuningDsl directBuffers(boolean directBuffers) {
+			this.properties.setDirectBuffers(directBuffers);
+			return this;
+		}
+
+		/**
+		 * Time a connection is kept open waiting for the next request.
+		 */
+		public TuningDsl keepAliveTimeout(Duration keepAliveTimeout) {
+			this.properties.setKeepAliveTimeout(keepAliveTimeout);
+			return this;
+		}
+
+		/**
+		 * Maximum number of requests served by a kept alive connection (ignored with Jetty and Undertow).
+		 */
+		public TuningDsl maxKeepAliveRequests(int maxKeepAliveRequests) {
+			this.properties.setMaxKeepAliveRequests(maxKeepAliveRequests);
+			return this;
+		}
+
+		/**
+		 * Maximum number of connections accepted at the same time.
+		 */
+		public TuningDsl maxConnections(int maxConnections) {
+			this.properties.setMaxConnections(maxConnections);
+			return this;
+		}
 	}
 
 	private class TomcatDelegate implements Supplier<ConfigurableServletWebServerFactory> {
@@ -244,7 +431,7 @@ public class WebMvcServerDsl extends AbstractDsl {
 		 * Enable {@link org.springframework.http.converter.StringHttpMessageConverter} for all media types
 		 */
 		public WebMvcServerConverterDsl string() {
-			new StringConverterInitializer().initialize(context);
+			initialize(context, new StringConverterInitializer());
 			return this;
 		}
 
@@ -252,7 +439,7 @@ public class WebMvcServerDsl extends AbstractDsl {
 		 * Enable {@link org.springframework.http.converter.ResourceHttpMessageConverter} and {@link org.springframework.http.converter.ResourceRegionHttpMessageConverter}
 		 */
 		public WebMvcServerConverterDsl resource() {
-			new ResourceConverterInitializer().initialize(context);
+			initialize(context, new ResourceConverterInitializer());
 			return this;
 		}
 
@@ -260,7 +447,7 @@ public class WebMvcServerDsl extends AbstractDsl {
 		 * Enable {@link org.springframework.http.converter.support.AllEncompassingFormHttpMessageConverter}
 		 */
 		public WebMvcServerConverterDsl form() {
-			new FormConverterInitializer().initialize(context);
+			initialize(context, new FormConverterInitializer());
 			return this;
 		}
 
@@ -280,7 +467,45 @@ public class WebMvcServerDsl extends AbstractDsl {
 		 */
 		public WebMvcServerConverterDsl jackson(Consumer<JacksonDsl> dsl) {
 			new JacksonDsl(false, dsl).initialize(context);
-			new JacksonJsonConverterInitializer().initialize(context);
+			initialize(context, new JacksonJsonConverterInitializer());
+			return this;
+		}
+
+		/**
+		 * Enable {@link org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter} for the
+		 * {@code application/x-jackson-smile} binary format, configured like the JSON converter when a {@code jackson}
+		 * block is declared.
+		 *
+		 * Requires {@code com.fasterxml.jackson.dataformat:jackson-dataformat-smile} dependency.
+		 */
+		public WebMvcServerConverterDsl smile() {
+			initialize(context, new JacksonSmileConverterInitializer());
+			return this;
+		}
+
+		/**
+		 * Enable {@link org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter} for the
+		 * {@code application/cbor} binary format, configured like the JSON converter when a {@code jackson} block is
+		 * declared.
+		 *
+		 * Requires {@code com.fasterxml.jackson.dataformat:jackson-dataformat-cbor} dependency.
+		 */
+		public WebMvcServerConverterDsl cbor() {
+			initialize(context, new JacksonCborConverterInitializer());
+			return this;
+		}
+
+		/**
+		 * Enable {@link org.springframework.http.converter.protobuf.ProtobufHttpMessageConverter} and
+		 * {@link org.springframework.boot.autoconfigure.web.servlet.ProtobufDelimitedHttpMessageConverter}, which writes
+		 * a {@code Stream}, {@code Iterable} or {@code Iterator} of messages as length-delimited messages with the
+		 * {@code application/x-protobuf;delimited=true} content type.
+		 *
+		 * This converter requires Protobuf 3 or higher with the official `com.google.protobuf:protobuf-java` dependency, and
+		 * supports `application/x-protobuf` and `application/octet-stream`.
+		 */
+		public WebMvcServerConverterDsl protobuf() {
+			initialize(context, new ProtobufConverterInitializer());
 			return this;
 		}
 
@@ -288,7 +513,7 @@ public class WebMvcServerDsl extends AbstractDsl {
 		 * Enable {@link org.springframework.http.converter.feed.AtomFeedHttpMessageConverter}
 		 */
 		public WebMvcServerConverterDsl  atom() {
-			new AtomConverterInitializer().initialize(context);
+			initialize(context, new AtomConverterInitializer());
 			return this;
 		}
 
@@ -296,7 +521,7 @@ public class WebMvcServerDsl extends AbstractDsl {
 		 * Enable {@link org.springframework.http.converter.feed.RssChannelHttpMessageConverter}
 		 */
 		public WebMvcServerConverterDsl  rss() {
-			new RssConverterInitializer().initialize(context);
+			initialize(context, new RssConverterInitializer());
 			return this;
 		}
 	}
@@ -1,15 +1,22 @@
 package org.springframework.fu.jafu;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.fu.jafu.Jafu.application;
 
 import java.util.Locale;
+import java.util.Map;
 import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Test;
 
 import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.context.MessageSourceInitializer;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimelineReport;
 import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
 import org.springframework.context.MessageSource;
 
@@ -52,6 +59,15 @@ class ApplicationDslTests {
 		context.close();
 	}
 
+	@Test
+	void batchedApplicationProperties() {
+		var app = application(a -> a.configurationProperties(Map.of("city", City.class)));
+		var context = app.run();
+		assertEquals(context.getBean(City.class).name, "San Francisco");
+		assertEquals(context.getBean(City.class).country, "USA");
+		context.close();
+	}
+
 	@Test
 	void replaceBeanOfExistingApplication() {
 		var app = application(a -> a.beans(b -> b.bean(Bar.class, () -> new Bar("original"))));
@@ -60,6 +76,76 @@ class ApplicationDslTests {
 		context.close();
 	}
 
+	@Test
+	void createALazyApplicationWithAnEagerBean() {
+		var app = application(a -> a
+				.lazy(false)
+				.beans(b -> b
+						.bean("foo", Foo.class)
+						.bean("bar", Bar.class, () -> new Bar("eager"), bd -> bd.setLazyInit(false))));
+		var context = app.run();
+		assertTrue(context.getBeanFactory().getBeanDefinition("foo").isLazyInit());
+		assertFalse(context.getBeanFactory().containsSingleton("foo"));
+		assertTrue(context.getBeanFactory().containsSingleton("bar"));
+		context.close();
+	}
+
+	@Test
+	void createAnApplicationWithParallelInitialization() {
+		var app = application(a -> a
+				.parallel(Bar.class)
+				.beans(b -> b
+						.bean("bar1", Bar.class, () -> new Bar(Thread.currentThread().getName()))
+						.bean("bar2", Bar.class, () -> new Bar(Thread.currentThread().getName()))));
+		var context = app.run();
+		assertNotEquals(Thread.currentThread().getName(), context.getBean("bar1", Bar.class).value);
+		assertNotEquals(Thread.currentThread().getName(), context.getBean("bar2", Bar.class).value);
+		context.close();
+	}
+
+	@Test
+	void createAnApplicationWithParallelInitializationOfDependentBeans() {
+		var app = application(a -> a
+				.parallel(Bar.class)
+				.beans(b -> b
+						.bean("bar1", Bar.class, () -> new Bar(b.ref(Bar.class, "bar2").value))
+						.bean("bar2", Bar.class, () -> new Bar(Thread.currentThread().getName()))));
+		var context = app.run();
+		assertNotEquals(Thread.currentThread().getName(), context.getBean("bar2", Bar.class).value);
+		assertEquals(context.getBean("bar2", Bar.class).value, context.getBean("bar1", Bar.class).value);
+		assertArrayEquals(new String[] { "bar1" }, context.getBeanFactory().getDependentBeans("bar2"));
+		context.close();
+	}
+
+	@Test
+	void createALazyApplicationWithParallelInitialization() {
+		var app = application(a -> a
+				.lazy(false)
+				.parallel(Bar.class)
+				.beans(b -> b
+						.bean("foo", Foo.class)
+						.bean("bar1", Bar.class, () -> new Bar(Thread.currentThread().getName()))
+						.bean("bar2", Bar.class, () -> new Bar(Thread.currentThread().getName()))));
+		var context = app.run();
+		assertFalse(context.getBeanFactory().containsSingleton("foo"));
+		assertTrue(context.getBeanFactory().containsSingleton("bar1"));
+		assertTrue(context.getBeanFactory().containsSingleton("bar2"));
+		assertNotEquals(Thread.currentThread().getName(), context.getBean("bar1", Bar.class).value);
+		context.close();
+	}
+
+	@Test
+	void recordApplicationStartup() {
+		var startup = new BufferingApplicationStartup(1000);
+		var app = application(a -> a.beans(b -> b.bean(Foo.class)));
+		var context = app.applicationStartup(startup).run();
+		var report = new StartupTimelineReport(startup.getBufferedTimeline());
+		assertTrue(report.toTree().contains(AbstractDsl.INITIALIZE_STEP_NAME + " initializer=" + BeanDefinitionDsl.class.getName()));
+		assertTrue(report.toTree().contains(AbstractDsl.INITIALIZE_STEP_NAME + " initializer=" + MessageSourceInitializer.class.getName()));
+		assertTrue(report.toJson().contains("\"name\":\"spring.beans.instantiate\""));
+		context.close();
+	}
+
 
 	static class Foo {}
 
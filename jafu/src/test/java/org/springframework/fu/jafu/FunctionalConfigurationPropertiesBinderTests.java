@@ -0,0 +1,54 @@
+package org.springframework.fu.jafu;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.context.properties.FunctionalConfigurationPropertiesBinder;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+
+class FunctionalConfigurationPropertiesBinderTests {
+
+	private final GenericApplicationContext context = new GenericApplicationContext();
+
+	private final MutablePropertySources propertySources = this.context.getEnvironment().getPropertySources();
+
+	@Test
+	void shareTheBinderBetweenBindings() {
+		var binder = FunctionalConfigurationPropertiesBinder.get(this.context);
+		assertFalse(binder.bind("test.value", Bindable.of(String.class)).isBound());
+		assertSame(binder, FunctionalConfigurationPropertiesBinder.get(this.context));
+		assertSame(binder, this.context.getBeanFactory().getSingleton(FunctionalConfigurationPropertiesBinder.BEAN_NAME));
+	}
+
+	@Test
+	void recreateTheBinderWhenAPropertySourceIsAdded() {
+		var binder = FunctionalConfigurationPropertiesBinder.get(this.context);
+		assertFalse(binder.bind("test.value", Bindable.of(String.class)).isBound());
+		this.propertySources.addFirst(new MapPropertySource("test", Map.of("test.value", "added")));
+		var recreated = FunctionalConfigurationPropertiesBinder.get(this.context);
+		assertNotSame(binder, recreated);
+		assertEquals("added", recreated.bind("test.value", Bindable.of(String.class)).get());
+		assertSame(recreated, FunctionalConfigurationPropertiesBinder.get(this.context));
+	}
+
+	@Test
+	void recreateTheBinderWhenAPropertySourceIsReplaced() {
+		this.propertySources.addFirst(new MapPropertySource("test", Map.of("test.value", "initial")));
+		var binder = FunctionalConfigurationPropertiesBinder.get(this.context);
+		assertEquals("initial", binder.bind("test.value", Bindable.of(String.class)).get());
+		this.propertySources.replace("test", new MapPropertySource("test", Map.of("test.value", "replaced")));
+		var recreated = FunctionalConfigurationPropertiesBinder.get(this.context);
+		assertNotSame(binder, recreated);
+		assertEquals("replaced", recreated.bind("test.value", Bindable.of(String.class)).get());
+	}
+
+}
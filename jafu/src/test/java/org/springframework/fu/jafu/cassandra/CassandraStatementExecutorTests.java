@@ -0,0 +1,179 @@
+package org.springframework.fu.jafu.cassandra;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.boot.autoconfigure.cassandra.CassandraStatementExecutor;
+import org.springframework.boot.autoconfigure.cassandra.CassandraStatementProperties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CassandraStatementExecutorTests {
+
+    private final CqlSession session = mock(CqlSession.class);
+
+    private final CassandraStatementProperties properties = new CassandraStatementProperties();
+
+    @Test
+    void prepareQueriesOnceAsynchronously() {
+        var preparation = new CompletableFuture<PreparedStatement>();
+        when(this.session.prepareAsync(anyString())).thenReturn(preparation);
+        var executor = new CassandraStatementExecutor(this.session, this.properties);
+        var first = executor.prepareAsync("SELECT * FROM users").toCompletableFuture();
+        var second = executor.prepareAsync("SELECT * FROM users").toCompletableFuture();
+        assertFalse(first.isDone());
+        var prepared = mock(PreparedStatement.class);
+        preparation.complete(prepared);
+        assertSame(prepared, first.join());
+        assertSame(prepared, second.join());
+        assertSame(prepared, executor.prepare("SELECT * FROM users"));
+        verify(this.session, times(1)).prepareAsync("SELECT * FROM users");
+        verify(this.session, never()).prepare(anyString());
+    }
+
+    @Test
+    void doNotCacheFailedPreparations() {
+        var prepared = mock(PreparedStatement.class);
+        when(this.session.prepareAsync(anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("boom")))
+                .thenReturn(CompletableFuture.completedFuture(prepared));
+        var executor = new CassandraStatementExecutor(this.session, this.properties);
+        assertTrue(executor.prepareAsync("SELECT * FROM users").toCompletableFuture().isCompletedExceptionally());
+        assertSame(prepared, executor.prepareAsync("SELECT * FROM users").toCompletableFuture().join());
+    }
+
+    @Test
+    void executeQueriesFromDriverCallbacksWithoutBlocking() {
+        var preparation = new CompletableFuture<PreparedStatement>();
+        var prepared = mock(PreparedStatement.class);
+        var bound = mock(BoundStatement.class);
+        when(prepared.bind(any())).thenReturn(bound);
+        when(this.session.prepareAsync(anyString())).thenReturn(preparation);
+        when(this.session.executeAsync(any(Statement.class))).thenReturn(CompletableFuture.completedFuture(mock(AsyncResultSet.class)));
+        var executor = new CassandraStatementExecutor(this.session, this.properties);
+        var result = executor.executeAsync("SELECT * FROM users WHERE id = ?", 1).toCompletableFuture();
+        assertFalse(result.isDone());
+        preparation.complete(prepared);
+        result.join();
+        verify(this.session).executeAsync(bound);
+        verify(this.session, never()).prepare(anyString());
+    }
+
+    @Test
+    void limitTheNumberOfInFlightExecutions() {
+        this.properties.setMaxInFlight(2);
+        var executions = new ArrayList<CompletableFuture<AsyncResultSet>>();
+        when(this.session.executeAsync(any(Statement.class))).thenAnswer(invocation -> {
+            var execution = new CompletableFuture<AsyncResultSet>();
+            executions.add(execution);
+            return execution;
+        });
+        var executor = new CassandraStatementExecutor(this.session, this.properties);
+        var results = new ArrayList<CompletableFuture<AsyncResultSet>>();
+        for (int i = 0; i < 5; i++) {
+            results.add(executor.executeAsync(SimpleStatement.newInstance("INSERT " + i)).toCompletableFuture());
+        }
+        assertEquals(2, executions.size());
+        executions.get(0).complete(mock(AsyncResultSet.class));
+        assertEquals(3, executions.size());
+        assertTrue(results.get(0).isDone());
+        executions.get(1).completeExceptionally(new IllegalStateException("boom"));
+        executions.get(2).complete(mock(AsyncResultSet.class));
+        assertEquals(5, executions.size());
+        assertTrue(results.get(1).isCompletedExceptionally());
+    }
+
+    @Test
+    void drainSynchronousCompletionsWithoutRecursion() {
+        this.properties.setMaxInFlight(1);
+        var first = new CompletableFuture<AsyncResultSet>();
+        when(this.session.executeAsync(any(Statement.class))).thenReturn(first, CompletableFuture.completedFuture(mock(AsyncResultSet.class)));
+        var executor = new CassandraStatementExecutor(this.session, this.properties);
+        var statements = new ArrayList<SimpleStatement>();
+        for (int i = 0; i < 50_000; i++) {
+            statements.add(SimpleStatement.newInstance("INSERT " + i));
+        }
+        var result = executor.executeBatched(statements).toCompletableFuture();
+        verify(this.session, times(1)).executeAsync(any(Statement.class));
+        first.complete(mock(AsyncResultSet.class));
+        result.join();
+        verify(this.session, times(50_000)).executeAsync(any(Statement.class));
+    }
+
+    @Test
+    void batchStatementsByKeyspaceTableAndRoutingKey() {
+        this.properties.setMaxBatchSize(2);
+        when(this.session.executeAsync(any(Statement.class))).thenReturn(CompletableFuture.completedFuture(mock(AsyncResultSet.class)));
+        var executor = new CassandraStatementExecutor(this.session, this.properties);
+        var users1 = bound("ks", "users", "1");
+        var users2 = bound("ks", "users", "1");
+        var users3 = bound("ks", "users", "1");
+        var events = bound("ks", "events", "1");
+        var otherKeyspace = bound("other", "users", "1");
+        var otherKey = bound("ks", "users", "2");
+        var simple = SimpleStatement.newInstance("INSERT").setRoutingKey(routingKey("1"));
+        executor.executeBatched(List.<BatchableStatement<?>>of(users1, events, users2, otherKeyspace, users3, otherKey, simple)).toCompletableFuture().join();
+        ArgumentCaptor<Statement> captor = ArgumentCaptor.forClass(Statement.class);
+        verify(this.session, times(6)).executeAsync(captor.capture());
+        var executed = captor.getAllValues();
+        assertEquals(List.of(users1, users2), statementsOf(executed.get(0)));
+        assertSame(simple, executed.get(1));
+        assertSame(events, executed.get(2));
+        assertSame(otherKeyspace, executed.get(3));
+        assertSame(users3, executed.get(4));
+        assertSame(otherKey, executed.get(5));
+    }
+
+    private static List<BatchableStatement<?>> statementsOf(Statement<?> statement) {
+        var statements = new ArrayList<BatchableStatement<?>>();
+        ((BatchStatement) statement).forEach(statements::add);
+        return statements;
+    }
+
+    private static BoundStatement bound(String keyspace, String table, String key) {
+        var variable = mock(ColumnDefinition.class);
+        when(variable.getKeyspace()).thenReturn(CqlIdentifier.fromInternal(keyspace));
+        when(variable.getTable()).thenReturn(CqlIdentifier.fromInternal(table));
+        var variables = mock(ColumnDefinitions.class);
+        when(variables.size()).thenReturn(1);
+        when(variables.get(0)).thenReturn(variable);
+        var prepared = mock(PreparedStatement.class);
+        when(prepared.getVariableDefinitions()).thenReturn(variables);
+        var statement = mock(BoundStatement.class);
+        when(statement.getRoutingKey()).thenReturn(routingKey(key));
+        when(statement.getPreparedStatement()).thenReturn(prepared);
+        return statement;
+    }
+
+    private static ByteBuffer routingKey(String key) {
+        return ByteBuffer.wrap(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,107 @@
+package org.springframework.fu.jafu.cassandra;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.boot.autoconfigure.data.cassandra.ReactiveCassandraPageStreamer;
+import org.springframework.data.cassandra.core.ReactiveCassandraTemplate;
+import org.springframework.data.cassandra.core.query.CassandraPageRequest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReactiveCassandraPageStreamerTests {
+
+    private final ReactiveCassandraTemplate template = mock(ReactiveCassandraTemplate.class);
+
+    private final ReactiveCassandraPageStreamer streamer = new ReactiveCassandraPageStreamer(this.template);
+
+    private final Slice<String> first = slice(List.of("a", "b"), "first");
+
+    private final Slice<String> second = slice(List.of("c", "d"), "second");
+
+    private final Slice<String> last = slice(List.of("e"), null);
+
+    @Test
+    void fetchEachPageWithThePagingStateOfThePreviousOne() {
+        when(this.template.slice(any(Statement.class), eq(String.class)))
+                .thenReturn(Mono.just(this.first), Mono.just(this.second), Mono.just(this.last));
+        StepVerifier.create(this.streamer.pages("SELECT * FROM users", String.class))
+                .expectNext(this.first, this.second, this.last)
+                .verifyComplete();
+        ArgumentCaptor<Statement> captor = ArgumentCaptor.forClass(Statement.class);
+        verify(this.template, times(3)).slice(captor.capture(), eq(String.class));
+        var statements = captor.getAllValues();
+        assertNull(statements.get(0).getPagingState());
+        assertEquals(pagingState("first"), statements.get(1).getPagingState());
+        assertEquals(pagingState("second"), statements.get(2).getPagingState());
+    }
+
+    @Test
+    void stopStreamingAfterTheLastPage() {
+        when(this.template.slice(any(Statement.class), eq(String.class))).thenReturn(Mono.just(this.last));
+        StepVerifier.create(this.streamer.pages("SELECT * FROM users", String.class))
+                .expectNext(this.last)
+                .verifyComplete();
+        verify(this.template, times(1)).slice(any(Statement.class), eq(String.class));
+    }
+
+    @Test
+    void fetchTheNextPageOnlyWhenRequested() {
+        when(this.template.slice(any(Statement.class), eq(String.class)))
+                .thenReturn(Mono.just(this.first), Mono.just(this.second), Mono.just(this.last));
+        StepVerifier.create(this.streamer.pages(SimpleStatement.newInstance("SELECT * FROM users"), String.class), 0)
+                .expectSubscription()
+                .then(() -> verify(this.template, never()).slice(any(Statement.class), eq(String.class)))
+                .thenRequest(1)
+                .expectNext(this.first)
+                .then(() -> verify(this.template, times(1)).slice(any(Statement.class), eq(String.class)))
+                .thenRequest(1)
+                .expectNext(this.second)
+                .then(() -> verify(this.template, times(2)).slice(any(Statement.class), eq(String.class)))
+                .thenRequest(1)
+                .expectNext(this.last)
+                .verifyComplete();
+    }
+
+    @Test
+    void streamRowsPageByPage() {
+        when(this.template.slice(any(Statement.class), eq(String.class)))
+                .thenReturn(Mono.just(this.first), Mono.just(this.second), Mono.just(this.last));
+        StepVerifier.create(this.streamer.rows(SimpleStatement.newInstance("SELECT * FROM users"), String.class), 0)
+                .thenRequest(2)
+                .expectNext("a", "b")
+                .thenRequest(3)
+                .expectNext("c", "d", "e")
+                .verifyComplete();
+        verify(this.template, times(3)).slice(any(Statement.class), eq(String.class));
+    }
+
+    private static Slice<String> slice(List<String> content, String pagingState) {
+        var pageable = CassandraPageRequest.of(PageRequest.of(0, 2), pagingState != null ? pagingState(pagingState) : null);
+        return new SliceImpl<>(content, pageable, pagingState != null);
+    }
+
+    private static ByteBuffer pagingState(String pagingState) {
+        return ByteBuffer.wrap(pagingState.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -1,14 +1,18 @@
 package org.springframework.fu.jafu.elasticsearch;
 
+import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.action.index.IndexRequest;
 import org.elasticsearch.rest.RestStatus;
 import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.data.elasticsearch.ReactiveElasticsearchBulkIndexer;
 import org.springframework.data.elasticsearch.client.reactive.ReactiveElasticsearchClient;
 import org.springframework.fu.jafu.Jafu;
 import org.testcontainers.containers.GenericContainer;
+import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Collections;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -41,4 +45,32 @@ class ReactiveElasticSearchDslTest {
         es.stop();
     }
 
-}
\ No newline at end of file
+    @Test
+    public void enableReactiveElasticSearchWithTunedClientAndBulkIndexer() {
+        var es = new GenericContainer("elasticsearch:7.9.3")
+                .withExposedPorts(9200)
+                .withEnv("discovery.type", "single-node");
+
+        es.start();
+        var app = Jafu.application(a ->
+                a.enable(reactiveElasticSearch(esDsl -> esDsl
+                        .hostAndPort("localhost:" + es.getFirstMappedPort())
+                        .connectTimeout(Duration.ofSeconds(5))
+                        .socketTimeout(Duration.ofSeconds(30))
+                        .maxConnections(4)
+                        .compression()
+                        .bulkIndexer(b -> b.maxActions(100).concurrency(2)))));
+
+        var context = app.run();
+        var indexer = context.getBean(ReactiveElasticsearchBulkIndexer.class);
+        var requests = Flux.range(0, 1000).map(i -> new IndexRequest("logs")
+                .source(Collections.singletonMap("message", "log " + i)));
+        StepVerifier
+                .create(indexer.index(requests).map(BulkResponse::getItems).map(items -> items.length).reduce(0, Integer::sum))
+                .expectNext(1000)
+                .verifyComplete();
+        context.close();
+        es.stop();
+    }
+
+}
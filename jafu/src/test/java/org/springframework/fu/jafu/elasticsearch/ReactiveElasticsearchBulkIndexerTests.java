@@ -0,0 +1,94 @@
+package org.springframework.fu.jafu.elasticsearch;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.index.IndexRequest;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.boot.autoconfigure.data.elasticsearch.ElasticsearchClientProperties;
+import org.springframework.boot.autoconfigure.data.elasticsearch.HttpAsyncElasticsearchClientConfigurer;
+import org.springframework.boot.autoconfigure.data.elasticsearch.ReactiveElasticsearchBulkIndexer;
+import org.springframework.boot.autoconfigure.data.elasticsearch.ReactiveElasticsearchBulkProperties;
+import org.springframework.data.elasticsearch.client.reactive.ReactiveElasticsearchClient;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReactiveElasticsearchBulkIndexerTests {
+
+    private final List<BulkRequest> bulkRequests = new CopyOnWriteArrayList<>();
+
+    @Test
+    void indexWithASlowProducerAndSaturatedBulkRequests() {
+        var properties = new ReactiveElasticsearchBulkProperties();
+        properties.setMaxActions(10);
+        properties.setMaxWaitTime(Duration.ofMillis(2));
+        properties.setConcurrency(1);
+        var indexer = new ReactiveElasticsearchBulkIndexer(client(Duration.ofMillis(20)), properties);
+        var requests = Flux.range(0, 100).delayElements(Duration.ofMillis(1)).map(this::indexRequest);
+        var responses = indexer.index(requests).collectList().block(Duration.ofSeconds(30));
+        assertEquals(this.bulkRequests.size(), responses.size());
+        assertEquals(100, this.bulkRequests.stream().mapToInt(BulkRequest::numberOfActions).sum());
+        assertTrue(this.bulkRequests.stream().allMatch(bulkRequest -> bulkRequest.numberOfActions() <= 10));
+    }
+
+    @Test
+    void splitBulkRequestsBeforeExceedingTheMaximumSize() {
+        long size = new BulkRequest().add(indexRequest(0)).estimatedSizeInBytes();
+        var properties = new ReactiveElasticsearchBulkProperties();
+        properties.setMaxActions(10);
+        properties.setMaxSize(DataSize.ofBytes(size * 3 + size / 2));
+        var indexer = new ReactiveElasticsearchBulkIndexer(client(Duration.ZERO), properties);
+        indexer.index(Flux.range(0, 10).map(this::indexRequest)).blockLast(Duration.ofSeconds(10));
+        assertEquals(List.of(3, 3, 3, 1), this.bulkRequests.stream().map(BulkRequest::numberOfActions).collect(Collectors.toList()));
+        assertTrue(this.bulkRequests.stream().allMatch(bulkRequest -> bulkRequest.estimatedSizeInBytes() <= properties.getMaxSize().toBytes()));
+    }
+
+    @Test
+    void executeARequestLargerThanTheMaximumSizeAlone() {
+        var properties = new ReactiveElasticsearchBulkProperties();
+        properties.setMaxSize(DataSize.ofBytes(1));
+        var indexer = new ReactiveElasticsearchBulkIndexer(client(Duration.ZERO), properties);
+        indexer.index(Flux.range(0, 3).map(this::indexRequest)).blockLast(Duration.ofSeconds(10));
+        assertEquals(List.of(1, 1, 1), this.bulkRequests.stream().map(BulkRequest::numberOfActions).collect(Collectors.toList()));
+    }
+
+    @Test
+    void applyTheMaximumNumberOfConnectionsPerNode() {
+        var properties = new ElasticsearchClientProperties();
+        properties.setMaxConnections(4);
+        var builder = new HttpAsyncElasticsearchClientConfigurer(properties, 3, b -> b).apply(HttpAsyncClientBuilder.create());
+        assertEquals(4, ReflectionTestUtils.getField(builder, "maxConnPerRoute"));
+        assertEquals(12, ReflectionTestUtils.getField(builder, "maxConnTotal"));
+    }
+
+    private IndexRequest indexRequest(int i) {
+        return new IndexRequest("test").id(String.valueOf(i)).source(Map.of("name", "user" + i));
+    }
+
+    private ReactiveElasticsearchClient client(Duration latency) {
+        return (ReactiveElasticsearchClient) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { ReactiveElasticsearchClient.class },
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("bulk")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    var bulkRequest = (BulkRequest) args[args.length - 1];
+                    this.bulkRequests.add(bulkRequest);
+                    return Mono.delay(latency).thenReturn(new BulkResponse(new BulkItemResponse[0], latency.toMillis()));
+                });
+    }
+
+}
@@ -1,10 +1,15 @@
 package org.springframework.fu.jafu.jdbc;
 
+import java.time.Duration;
+
+import com.zaxxer.hikari.HikariDataSource;
 import org.junit.jupiter.api.Test;
 import org.wildfly.common.Assert;
 
+import org.springframework.boot.autoconfigure.jdbc.HikariProperties;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.fu.jafu.Jafu.application;
 import static org.springframework.fu.jafu.jdbc.JdbcDsl.*;
 
@@ -17,4 +22,33 @@ public class JdbcDslTests {
 		Assert.assertNotNull(context.getBean(JdbcTemplate.class));
 		context.close();
 	}
+
+	@Test
+	public void enableJdbcWithHikari() {
+		var app = application(a -> a.enable(jdbc(j -> j
+				.url("jdbc:h2:mem:hikari")
+				.hikari(h -> h
+						.maximumPoolSize(4)
+						.minimumIdle(1)
+						.connectionTimeout(Duration.ofSeconds(5))
+						.leakDetectionThreshold(Duration.ofSeconds(10))
+						.dataSourceProperty("foo", "bar")))));
+		var context = app.run();
+		var dataSource = context.getBean(HikariDataSource.class);
+		assertEquals(4, dataSource.getMaximumPoolSize());
+		assertEquals(1, dataSource.getMinimumIdle());
+		assertEquals(5000, dataSource.getConnectionTimeout());
+		assertEquals(10000, dataSource.getLeakDetectionThreshold());
+		assertEquals("bar", dataSource.getDataSourceProperties().getProperty("foo"));
+		Assert.assertNotNull(context.getBean(JdbcTemplate.class).queryForObject("SELECT 1", Integer.class));
+		context.close();
+	}
+
+	@Test
+	public void enableThePreparedStatementCacheWithDefaults() {
+		var properties = new HikariProperties();
+		new HikariDsl(properties).preparedStatementCache();
+		assertEquals(250, properties.getPreparedStatementCacheSize());
+		assertEquals(2048, properties.getPreparedStatementCacheSqlLimit());
+	}
 }
@@ -0,0 +1,80 @@
+package org.springframework.fu.jafu.mongo;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.publisher.TestPublisher;
+
+import org.springframework.boot.autoconfigure.data.BufferTimeoutOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BufferTimeoutOperatorTests {
+
+	@Test
+	void bufferWithASlowConsumer() {
+		var elements = Flux.interval(Duration.ofMillis(1)).take(100);
+		var batches = new BufferTimeoutOperator<>(elements, 10, Duration.ofMillis(5))
+				.flatMap(batch -> Mono.delay(Duration.ofMillis(20)).thenReturn(batch), 1)
+				.collectList()
+				.block(Duration.ofSeconds(10));
+		assertTrue(batches.stream().allMatch(batch -> !batch.isEmpty() && batch.size() <= 10));
+		var expected = LongStream.range(0, 100).boxed().collect(Collectors.toList());
+		assertEquals(expected, batches.stream().flatMap(List::stream).collect(Collectors.toList()));
+	}
+
+	@Test
+	void bufferWithoutDemand() {
+		StepVerifier.create(new BufferTimeoutOperator<>(Flux.range(0, 25), 10, Duration.ofMillis(5)), 0)
+				.expectSubscription()
+				.thenAwait(Duration.ofMillis(50))
+				.thenRequest(1)
+				.expectNext(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9))
+				.thenRequest(2)
+				.expectNextCount(2)
+				.verifyComplete();
+	}
+
+	@Test
+	void retainAtMostMaxSizeElementsWithoutDemand() {
+		var publisher = TestPublisher.<Integer>create();
+		var requests = new CopyOnWriteArrayList<Long>();
+		var source = publisher.flux().doOnRequest(requests::add);
+		StepVerifier.create(new BufferTimeoutOperator<>(source, 3, Duration.ofMillis(5)), 0)
+				.then(() -> publisher.next(1))
+				.thenAwait(Duration.ofMillis(50))
+				.then(() -> publisher.next(2))
+				.thenAwait(Duration.ofMillis(50))
+				.then(() -> publisher.next(3))
+				.thenAwait(Duration.ofMillis(50))
+				.then(() -> assertEquals(List.of(3L), requests))
+				.thenRequest(3)
+				.expectNext(List.of(1), List.of(2), List.of(3))
+				.thenCancel()
+				.verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void bufferByTime() {
+		StepVerifier.create(new BufferTimeoutOperator<>(Flux.just(1, 2).concatWith(Flux.never()), 10, Duration.ofMillis(10)))
+				.expectNext(List.of(1, 2))
+				.thenCancel()
+				.verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void propagateErrors() {
+		var elements = Flux.range(0, 5).concatWith(Mono.error(new IllegalStateException("boom")));
+		StepVerifier.create(new BufferTimeoutOperator<>(elements, 10, Duration.ofSeconds(1)))
+				.verifyErrorMessage("boom");
+	}
+
+}
@@ -0,0 +1,86 @@
+package org.springframework.fu.jafu.mongo;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoCompressor;
+import com.mongodb.ReadPreference;
+import com.mongodb.client.model.InsertOneModel;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.boot.autoconfigure.data.mongo.ReactiveMongoBatchWriter;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.util.SocketUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.fu.jafu.Jafu.application;
+import static org.springframework.fu.jafu.mongo.ReactiveMongoDsl.reactiveMongo;
+
+class ReactiveMongoDslTests {
+
+	@Test
+	void enableReactiveMongoWithTunedClientSettings() {
+		var port = SocketUtils.findAvailableTcpPort();
+		var app = application(a -> a.enable(reactiveMongo(m -> m
+				.uri("mongodb://localhost:" + port + "/test")
+				.embedded()
+				.settings(s -> s
+						.pool(p -> p.maxSize(20).minSize(2).maxWaitTime(Duration.ofSeconds(5)).maxConnectionIdleTime(Duration.ofMinutes(1)))
+						.compressors(MongoCompressor.createZlibCompressor())
+						.readPreference(ReadPreference.primaryPreferred())))));
+		var context = app.run();
+		var builder = MongoClientSettings.builder();
+		context.getBeanProvider(MongoClientSettingsBuilderCustomizer.class).orderedStream().forEach(customizer -> customizer.customize(builder));
+		var settings = builder.build();
+		assertEquals(20, settings.getConnectionPoolSettings().getMaxSize());
+		assertEquals(2, settings.getConnectionPoolSettings().getMinSize());
+		assertEquals(5000, settings.getConnectionPoolSettings().getMaxWaitTime(TimeUnit.MILLISECONDS));
+		assertEquals("zlib", settings.getCompressorList().get(0).getName());
+		assertEquals(ReadPreference.primaryPreferred(), settings.getReadPreference());
+		var template = context.getBean(ReactiveMongoTemplate.class);
+		template.save(new Document("_id", "1").append("name", "foo"), "users").block(Duration.ofSeconds(3));
+		assertEquals("foo", template.findById("1", Document.class, "users").block(Duration.ofSeconds(3)).getString("name"));
+		context.close();
+	}
+
+	@Test
+	void enableReactiveMongoWithABatchWriter() {
+		var port = SocketUtils.findAvailableTcpPort();
+		var app = application(a -> a.enable(reactiveMongo(m -> m
+				.uri("mongodb://localhost:" + port + "/test")
+				.embedded()
+				.batchWriter(b -> b.batchSize(100).concurrency(2)))));
+		var context = app.run();
+		var writer = context.getBean(ReactiveMongoBatchWriter.class);
+		var documents = Flux.range(0, 1000).map(i -> new Document("_id", i).append("name", "user" + i));
+		var results = writer.insert(documents, "users").collectList().block(Duration.ofSeconds(10));
+		assertEquals(10, results.size());
+		assertEquals(1000, results.stream().mapToInt(result -> result.getInsertedIds().size()).sum());
+		var requests = Flux.range(1000, 250).map(i -> new InsertOneModel<>(new Document("_id", i)));
+		assertEquals(250, writer.bulkWrite(requests, "users").map(result -> result.getInsertedCount()).reduce(0, Integer::sum).block(Duration.ofSeconds(10)));
+		var template = context.getBean(ReactiveMongoTemplate.class);
+		assertEquals(1250, template.getCollection("users").flatMap(collection -> Mono.from(collection.countDocuments())).block(Duration.ofSeconds(3)));
+		context.close();
+	}
+
+	@Test
+	void enableReactiveMongoWithABatchWriterAndAMaximumWaitTime() {
+		var port = SocketUtils.findAvailableTcpPort();
+		var app = application(a -> a.enable(reactiveMongo(m -> m
+				.uri("mongodb://localhost:" + port + "/test")
+				.embedded()
+				.batchWriter(b -> b.batchSize(10).maxWaitTime(Duration.ofMillis(1)).concurrency(1)))));
+		var context = app.run();
+		var writer = context.getBean(ReactiveMongoBatchWriter.class);
+		var documents = Flux.range(0, 200).delayElements(Duration.ofMillis(1)).map(i -> new Document("_id", i));
+		var results = writer.insert(documents, "events").collectList().block(Duration.ofSeconds(30));
+		assertEquals(200, results.stream().mapToInt(result -> result.getInsertedIds().size()).sum());
+		context.close();
+	}
+
+}
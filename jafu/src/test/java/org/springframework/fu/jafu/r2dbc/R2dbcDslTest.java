@@ -1,5 +1,7 @@
 package org.springframework.fu.jafu.r2dbc;
 
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ConnectionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -16,6 +18,7 @@ import reactor.test.StepVerifier;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -46,6 +49,54 @@ class R2dbcDslTest {
         context.close();
     }
 
+    @Test
+    public void enableR2dbcWithH2EmbeddedWithPool(@TempDir Path tempDir) throws IOException {
+        var dbPath = tempDir.resolve("test.db");
+        Files.createFile(dbPath);
+
+        var app = application(a -> {
+            a.enable(r2dbc(r2dbcDsl -> r2dbcDsl
+                    .url("r2dbc:h2:file:///" + dbPath.toAbsolutePath())
+                    .pool(pool -> pool
+                            .initialSize(2)
+                            .maxSize(5)
+                            .maxAcquireTime(Duration.ofSeconds(5))
+                            .validationQuery("SELECT 1"))));
+            a.beans(beans -> beans.bean(R2dbcTestDataRepository.class));
+        });
+
+        var context = app.run();
+        var repository = context.getBean(R2dbcTestDataRepository.class);
+        var connectionPool = (ConnectionPool) context.getBean(ConnectionFactory.class);
+
+        StepVerifier.create(
+                repository.getClient().sql("CREATE TABLE users (id UUID PRIMARY KEY, name VARCHAR(255));").then()
+                        .then(repository.save(dataUser))
+                        .then(repository.findOne(dataUser.id)))
+                .expectNext(dataUser)
+                .verifyComplete();
+        Assertions.assertEquals(5, connectionPool.getMetrics().get().getMaxAllocatedSize());
+        context.close();
+        Assertions.assertTrue(connectionPool.isDisposed());
+    }
+
+    @Test
+    public void createTheConnectionPoolLazily(@TempDir Path tempDir) throws IOException {
+        var dbPath = tempDir.resolve("test.db");
+        Files.createFile(dbPath);
+
+        var app = application(a -> a.lazy(false).enable(r2dbc(r2dbcDsl -> r2dbcDsl
+                .url("r2dbc:h2:file:///" + dbPath.toAbsolutePath())
+                .pool())));
+
+        var context = app.run();
+        Assertions.assertFalse(context.getBeanFactory().containsSingleton(ConnectionFactory.class.getName()));
+        var connectionPool = (ConnectionPool) context.getBean(DatabaseClient.class).getConnectionFactory();
+        Assertions.assertTrue(context.getBeanFactory().containsSingleton(ConnectionFactory.class.getName()));
+        context.close();
+        Assertions.assertTrue(connectionPool.isDisposed());
+    }
+
     @Test
     public void enableR2dbcWithH2EmbeddedWithTransaction(@TempDir Path tempDir) throws IOException {
         var dbPath = tempDir.resolve("test.db");
@@ -5,6 +5,8 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.reactive.server.WebTestClient;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
@@ -12,13 +14,17 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.fu.jafu.Jafu.application;
+import static org.springframework.fu.jafu.Jafu.reactiveWebApplication;
 import static org.springframework.fu.jafu.redis.ReactiveRedisDsl.reactiveRedis;
+import static org.springframework.fu.jafu.webflux.WebFluxServerDsl.webFlux;
+import static org.springframework.web.reactive.function.server.ServerResponse.ok;
 
 /**
  * JaFu DSL Tests for reactive Redis configuration.
@@ -66,6 +72,47 @@ public class ReactiveRedisDslTests {
 
     }
 
+    @Test
+    public void shouldServeCachedResponsesWithoutInvokingTheHandler() {
+
+        final var invocations = new AtomicInteger();
+        final var application = reactiveWebApplication(a ->
+                a
+                        .enable(reactiveRedis(r -> r
+                                        .host(REDIS.getHost())
+                                        .port(REDIS.getFirstMappedPort())
+                                )
+                        )
+                        .enable(webFlux(s -> s
+                                .port(0)
+                                .router(r -> r
+                                        .GET("/cached", request -> ok().bodyValue("cached-" + invocations.incrementAndGet()))
+                                        .GET("/uncached", request -> ok().bodyValue("uncached-" + invocations.incrementAndGet())))
+                                .responseCache(c -> c.paths("/cached").ttl(Duration.ofMinutes(1)))
+                        ))
+        );
+
+        try (var context = application.run()) {
+
+            var port = context.getEnvironment().getProperty("local.server.port");
+            var client = WebTestClient.bindToServer().baseUrl("http://127.0.0.1:" + port).build();
+
+            client.get().uri("/cached?id=1").exchange().expectStatus().isOk().expectBody(String.class).isEqualTo("cached-1");
+            client.get().uri("/cached?id=1").exchange().expectStatus().isOk().expectBody(String.class).isEqualTo("cached-1");
+            client.get().uri("/cached?id=2").exchange().expectStatus().isOk().expectBody(String.class).isEqualTo("cached-2");
+            client.get().uri("/uncached").exchange().expectStatus().isOk().expectBody(String.class).isEqualTo("uncached-3");
+            client.get().uri("/uncached").exchange().expectStatus().isOk().expectBody(String.class).isEqualTo("uncached-4");
+            client.get().uri("/cached?a=1&b=2").exchange().expectStatus().isOk().expectBody(String.class).isEqualTo("cached-5");
+            client.get().uri(b -> b.path("/cached").queryParam("a", "{a}").build("1&b=2"))
+                    .exchange().expectStatus().isOk().expectBody(String.class).isEqualTo("cached-6");
+            client.get().uri("/cached?id=1").header(HttpHeaders.AUTHORIZATION, "Bearer token")
+                    .exchange().expectStatus().isOk().expectBody(String.class).isEqualTo("cached-7");
+            assertEquals(7, invocations.get());
+
+        }
+
+    }
+
     public static <T> void assertThatBeanIsAvailable(final ConfigurableApplicationContext context, Class<T> requiredType) {
         assertNotNull(context.getBeanProvider(requiredType).getIfAvailable(() -> null), "Bean not available");
     }
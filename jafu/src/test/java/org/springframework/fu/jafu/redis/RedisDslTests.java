@@ -1,5 +1,6 @@
 package org.springframework.fu.jafu.redis;
 
+import io.lettuce.core.resource.ClientResources;
 import org.junit.jupiter.api.Test;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
@@ -14,6 +15,8 @@ import java.time.Duration;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.fu.jafu.Jafu.application;
 import static org.springframework.fu.jafu.redis.RedisDsl.redis;
 
@@ -85,6 +88,41 @@ public class RedisDslTests {
 
     }
 
+    @Test
+    public void shouldShareLettuceClientResources() {
+
+        final var application = application(a ->
+                a
+                        .beans(b -> b.bean(TestRepository.class))
+                        .enable(
+                                redis(r -> r
+                                        .host(REDIS.getHost())
+                                        .port(REDIS.getFirstMappedPort())
+                                        .lettuce(l -> l.clientResources(c -> c
+                                                .ioThreadPoolSize(2)
+                                                .computationThreadPoolSize(2)))
+                                )
+                        )
+        );
+
+        ClientResources clientResources;
+        try (var context = application.run()) {
+
+            clientResources = context.getBean(ClientResources.class);
+            assertEquals(2, clientResources.ioThreadPoolSize());
+            assertEquals(2, clientResources.computationThreadPoolSize());
+            assertSame(clientResources, context.getBean(LettuceConnectionFactory.class).getClientResources());
+
+            var repository = context.getBean(TestRepository.class);
+
+            repository.save(new TestUser("1", "foo"));
+            assertEquals("foo", repository.findById("1").getName());
+
+        }
+        assertTrue(clientResources.eventExecutorGroup().isShuttingDown());
+
+    }
+
     @Test
     public void shouldEnableRedisWithJedisClient() {
 
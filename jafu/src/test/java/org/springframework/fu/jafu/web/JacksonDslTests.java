@@ -1,23 +1,32 @@
 package org.springframework.fu.jafu.web;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.fu.jafu.Jafu.reactiveWebApplication;
 import static org.springframework.fu.jafu.webflux.WebFluxClientDsl.webClient;
 import static org.springframework.fu.jafu.webflux.WebFluxServerDsl.webFlux;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
 import static org.springframework.web.reactive.function.server.ServerResponse.ok;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.WebClient;
 
 public class JacksonDslTests {
@@ -58,6 +67,67 @@ public class JacksonDslTests {
 		context.close();
 	}
 
+	@Test
+	void enableAcceleratedJacksonModuleOnServerCreateAndRequestAJSONEndpoint() {
+		var app = reactiveWebApplication(a -> a.enable(webFlux(s -> s.port(0).codecs(c -> c.jackson(JacksonDsl::accelerated)).router(r -> r.GET("/user", request -> ok().header(CONTENT_TYPE, APPLICATION_JSON_VALUE).bodyValue(new User("Brian")))))));
+		var context = app.run();
+		var moduleIds = context.getBean(ObjectMapper.class).getRegisteredModuleIds();
+		assertTrue(moduleIds.contains(AfterburnerModule.class.getName()));
+		assertTrue(moduleIds.contains(ParameterNamesModule.class.getName()));
+		var port = context.getEnvironment().getProperty("local.server.port");
+		var client = WebTestClient.bindToServer().baseUrl("http://127.0.0.1:" + port).build();
+		client.get().uri("/user").exchange()
+				.expectStatus().is2xxSuccessful()
+				.expectBody(User.class)
+				.isEqualTo(new User("Brian"));
+		context.close();
+	}
+
+	@Test
+	void enableHighThroughputJacksonCodecsOnClientAndServerRequestJSONAndNDJSONEndpoints() {
+		var app = reactiveWebApplication(a ->
+				a.enable(webFlux(s -> s.port(0)
+						.codecs(c -> c.jackson(j -> j.highThroughput().maxInMemorySize(DataSize.ofKilobytes(16))))
+						.router(r -> r
+								.POST("/user", request -> request.bodyToMono(User.class).flatMap(user -> ok().bodyValue(user)))
+								.GET("/users", request -> ok().contentType(APPLICATION_NDJSON).body(Flux.just(new User("Brian"), new User("Stephane")), User.class)))))
+				.enable(webClient(c -> c.codecs(codecs -> codecs.jackson(JacksonDsl::highThroughput)))));
+		var context = app.run();
+		var port = context.getEnvironment().getProperty("local.server.port");
+		var client = context.getBean(WebClient.Builder.class).baseUrl("http://127.0.0.1:" + port).build();
+		StepVerifier.create(client.post().uri("/user").bodyValue(new User("Brian")).retrieve().bodyToMono(User.class))
+				.expectNext(new User("Brian"))
+				.verifyComplete();
+		StepVerifier.create(client.get().uri("/users").accept(APPLICATION_NDJSON).retrieve().bodyToFlux(User.class))
+				.expectNext(new User("Brian"), new User("Stephane"))
+				.verifyComplete();
+		StepVerifier.create(client.post().uri("/user").bodyValue(new User("B".repeat(20_000))).exchangeToMono(response -> Mono.just(response.statusCode())))
+				.expectNextMatches(HttpStatus::isError)
+				.verifyComplete();
+		context.close();
+	}
+
+	@Test
+	void enableSmileAndCborCodecsOnClientAndServerExchangeBinaryPayloads() {
+		var app = reactiveWebApplication(a ->
+				a.enable(webFlux(s -> s.port(0)
+						.codecs(c -> c.jackson().smile().cbor())
+						.router(r -> r.POST("/user", request -> request.bodyToMono(User.class).flatMap(user -> ok().bodyValue(user))))))
+				.enable(webClient(c -> c.codecs(codecs -> codecs.jackson().smile().cbor()))));
+		var context = app.run();
+		var port = context.getEnvironment().getProperty("local.server.port");
+		var client = context.getBean(WebClient.Builder.class).baseUrl("http://127.0.0.1:" + port).build();
+		for (var mediaType : List.of(new MediaType("application", "x-jackson-smile"), MediaType.APPLICATION_CBOR)) {
+			StepVerifier.create(client.post().uri("/user").contentType(mediaType).accept(mediaType).bodyValue(new User("Brian")).retrieve().toEntity(User.class))
+					.consumeNextWith(it -> {
+						assertEquals(mediaType, it.getHeaders().getContentType());
+						assertEquals(new User("Brian"), it.getBody());
+					})
+					.verifyComplete();
+		}
+		context.close();
+	}
+
 	@Test
 	void noJacksonCodecOnServerWhenNotDeclared() {
 		var app = reactiveWebApplication(a -> a.enable(webFlux(s -> s.port(0).router(r -> r.GET("/user", request -> ok().header(CONTENT_TYPE, APPLICATION_JSON_VALUE).bodyValue(new User("Brian")))))));
@@ -0,0 +1,76 @@
+package org.springframework.fu.jafu.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.autoconfigure.web.StaticResourceProperties;
+import org.springframework.boot.autoconfigure.web.StaticResourceResolver;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.util.unit.DataSize;
+
+class StaticResourceResolverTests {
+
+	private final AtomicInteger lookups = new AtomicInteger();
+
+	private final StaticResourceProperties properties = new StaticResourceProperties();
+
+	@Test
+	void cacheMissingResources() throws Exception {
+		var resolver = new StaticResourceResolver(this.properties, new CountingResourceLoader());
+		var acceptEncoding = List.of("gzip, br");
+		assertFalse(resolver.isResolved("/missing.txt", acceptEncoding));
+		assertNull(resolver.resolve("/missing.txt", acceptEncoding));
+		assertEquals(3, this.lookups.get());
+		assertTrue(resolver.isResolved("/missing.txt", acceptEncoding));
+		assertNull(resolver.resolve("/missing.txt", acceptEncoding));
+		assertEquals(3, this.lookups.get());
+	}
+
+	@Test
+	void cacheTheMetadataOfLargeResources() throws Exception {
+		this.properties.setCacheMaxFileSize(DataSize.ofBytes(1));
+		var resolver = new StaticResourceResolver(this.properties, new CountingResourceLoader());
+		assertFalse(resolver.isResolved("/test.txt", List.of()));
+		var resource = resolver.resolve("/test.txt", List.of());
+		assertNull(resource.getContent());
+		assertEquals(4, resource.getContentLength());
+		assertTrue(resolver.isResolved("/test.txt", List.of()));
+		assertSame(resource, resolver.resolve("/test.txt", List.of()));
+		assertEquals(1, this.lookups.get());
+	}
+
+	@Test
+	void disableTheLookupCache() throws Exception {
+		this.properties.setLookupCacheSize(0);
+		var resolver = new StaticResourceResolver(this.properties, new CountingResourceLoader());
+		assertNull(resolver.resolve("/missing.txt", List.of()));
+		assertNull(resolver.resolve("/missing.txt", List.of()));
+		assertFalse(resolver.isResolved("/missing.txt", List.of()));
+		assertEquals(2, this.lookups.get());
+	}
+
+	private class CountingResourceLoader extends DefaultResourceLoader {
+
+		@Override
+		public Resource getResource(String location) {
+			return new ClassPathResource("static/") {
+				@Override
+				public Resource createRelative(String relativePath) {
+					lookups.incrementAndGet();
+					return super.createRelative(relativePath);
+				}
+			};
+		}
+	}
+
+}
@@ -0,0 +1,132 @@
+package org.springframework.fu.jafu.webflux;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.autoconfigure.web.reactive.function.server.IndexedRouterFunction;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RequestPredicates.accept;
+import static org.springframework.web.reactive.function.server.RequestPredicates.method;
+import static org.springframework.web.reactive.function.server.RequestPredicates.path;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+class IndexedRouterFunctionTests {
+
+	private final HandlerFunction<ServerResponse> first = request -> ServerResponse.ok().build();
+
+	private final HandlerFunction<ServerResponse> second = request -> ServerResponse.ok().build();
+
+	private final HandlerFunction<ServerResponse> third = request -> ServerResponse.ok().build();
+
+	private final HandlerFunction<ServerResponse> fourth = request -> ServerResponse.ok().build();
+
+	@Test
+	void routeNestedLiteralAndNonLiteralPaths() {
+		var routers = List.of(
+				route().path("/api", api -> api.GET("/users/{id}", this.first)).build(),
+				route().path("/api/{version}", api -> api.GET("/items", this.second)).build(),
+				route().path("/{area}", area -> area.path("/static", s -> s.GET("/{file}", this.third))).build(),
+				route().GET("/{name}", this.fourth).build());
+		assertSame(this.first, handlerFor(routers, MockServerHttpRequest.get("/api/users/1")));
+		assertSame(this.second, handlerFor(routers, MockServerHttpRequest.get("/api/v2/items")));
+		assertSame(this.third, handlerFor(routers, MockServerHttpRequest.get("/docs/static/index.html")));
+		assertSame(this.fourth, handlerFor(routers, MockServerHttpRequest.get("/foo")));
+		assertNull(handlerFor(routers, MockServerHttpRequest.delete("/api/users/1")));
+		assertNull(handlerFor(routers, MockServerHttpRequest.get("/api/v2/other")));
+		assertSameRouting(routers, MockServerHttpRequest.get("/api"), MockServerHttpRequest.get("/api/"),
+				MockServerHttpRequest.get("/api/users/1/"), MockServerHttpRequest.get("/API/users/1"));
+	}
+
+	@Test
+	void routeOrAndNegatePredicates() {
+		var routers = List.of(
+				route(GET("/a").or(GET("/b")), this.first),
+				route(path("/c").and(method(HttpMethod.POST).negate()), this.second),
+				route(GET("/d").negate(), this.third));
+		assertSame(this.first, handlerFor(routers, MockServerHttpRequest.get("/a")));
+		assertSame(this.first, handlerFor(routers, MockServerHttpRequest.get("/b")));
+		assertSame(this.second, handlerFor(routers, MockServerHttpRequest.get("/c")));
+		assertSame(this.third, handlerFor(routers, MockServerHttpRequest.post("/c")));
+		assertSame(this.third, handlerFor(routers, MockServerHttpRequest.put("/a")));
+		assertNull(handlerFor(routers, MockServerHttpRequest.get("/d")));
+	}
+
+	@Test
+	void routeHeadRequests() {
+		var routers = List.of(
+				route().GET("/foo", this.first).build(),
+				route().HEAD("/foo", this.second).build(),
+				route().GET("/bar", this.third).build());
+		assertSame(this.first, handlerFor(routers, MockServerHttpRequest.get("/foo")));
+		assertNotNull(handlerFor(routers, MockServerHttpRequest.head("/foo")));
+		assertSameRouting(routers, MockServerHttpRequest.head("/foo"), MockServerHttpRequest.head("/bar"));
+	}
+
+	@Test
+	void routeCorsPreFlightRequests() {
+		var routers = List.of(
+				route().GET("/foo", this.first).build(),
+				route().PUT("/bar", this.second).build(),
+				route().OPTIONS("/baz", this.third).build());
+		assertSameRouting(routers,
+				preFlight("/foo", "GET"), preFlight("/foo", "POST"), preFlight("/bar", "PUT"),
+				preFlight("/baz", "DELETE"), MockServerHttpRequest.options("/foo"));
+	}
+
+	@Test
+	void routeAndAndNestSubtleties() {
+		var routers = List.of(
+				route().nest(path("/api").and(accept(MediaType.APPLICATION_JSON)), api -> api.GET("/x", this.first)).build(),
+				route().nest(accept(MediaType.TEXT_PLAIN), text -> text.GET("/api/x", this.second)).build(),
+				route(path("/a/**").and(path("/a/b")), this.third),
+				route().path("/n", n -> n.nest(path("/m"), m -> m.GET("", this.fourth))).build());
+		assertSame(this.first, handlerFor(routers, MockServerHttpRequest.get("/api/x").accept(MediaType.APPLICATION_JSON)));
+		assertSame(this.second, handlerFor(routers, MockServerHttpRequest.get("/api/x").accept(MediaType.TEXT_PLAIN)));
+		assertSame(this.third, handlerFor(routers, MockServerHttpRequest.get("/a/b")));
+		assertNull(handlerFor(routers, MockServerHttpRequest.get("/a/c")));
+		assertSameRouting(routers, MockServerHttpRequest.get("/n/m"), MockServerHttpRequest.get("/n/m/"),
+				MockServerHttpRequest.get("/api/x"));
+	}
+
+	private static MockServerHttpRequest.BaseBuilder<?> preFlight(String path, String method) {
+		return MockServerHttpRequest.options(path)
+				.header(HttpHeaders.ORIGIN, "https://example.com")
+				.header(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, method);
+	}
+
+	private static HandlerFunction<?> handlerFor(List<RouterFunction<ServerResponse>> routers, MockServerHttpRequest.BaseBuilder<?> request) {
+		HandlerFunction<?> indexed = new IndexedRouterFunction(routers).route(serverRequest(request)).block();
+		assertSame(linearRoute(routers, request), indexed);
+		return indexed;
+	}
+
+	private static void assertSameRouting(List<RouterFunction<ServerResponse>> routers, MockServerHttpRequest.BaseBuilder<?>... requests) {
+		for (var request : requests) {
+			handlerFor(routers, request);
+		}
+	}
+
+	private static HandlerFunction<?> linearRoute(List<RouterFunction<ServerResponse>> routers, MockServerHttpRequest.BaseBuilder<?> request) {
+		return routers.stream().reduce(RouterFunction::and).get().route(serverRequest(request)).block();
+	}
+
+	private static ServerRequest serverRequest(MockServerHttpRequest.BaseBuilder<?> request) {
+		return ServerRequest.create(MockServerWebExchange.from(request), HandlerStrategies.withDefaults().messageReaders());
+	}
+
+}
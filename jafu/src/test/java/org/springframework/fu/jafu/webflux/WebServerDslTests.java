@@ -16,22 +16,29 @@
 
 package org.springframework.fu.jafu.webflux;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import org.springframework.boot.autoconfigure.web.embedded.NettyServerInitializer;
 import org.springframework.boot.logging.LogLevel;
 import org.springframework.boot.web.embedded.tomcat.TomcatReactiveWebServerFactory;
 import org.springframework.fu.jafu.mongo.ReactiveMongoDsl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.fu.jafu.Jafu.reactiveWebApplication;
 import static org.springframework.fu.jafu.webflux.WebFluxServerDsl.webFlux;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
@@ -84,6 +91,23 @@ class WebServerDslTests {
 		context.close();
 	}
 
+	@Test
+	void createAndRequestAnEndpointWithATunedNettyEngine() {
+		var app = reactiveWebApplication(a -> a.enable(webFlux(s -> s.port(0)
+				.netty(n -> n.workerThreads(2).backlog(1024).idleTimeout(Duration.ofSeconds(30)).maxHeaderSize(DataSize.ofKilobytes(16))
+						.http2().compression(DataSize.ofBytes(16)))
+				.router(r -> r.GET("/foo", request -> ok().bodyValue("foo".repeat(100)))))));
+
+		var context = app.run();
+		assertTrue(context.containsBean(NettyServerInitializer.LOOP_RESOURCES_BEAN_NAME));
+		var port = context.getEnvironment().getProperty("local.server.port");
+		var client = WebTestClient.bindToServer().baseUrl("http://127.0.0.1:" + port).build();
+		client.get().uri("/foo").header(HttpHeaders.ACCEPT_ENCODING, "gzip").exchange()
+				.expectStatus().is2xxSuccessful()
+				.expectHeader().valueEquals(HttpHeaders.CONTENT_ENCODING, "gzip");
+		context.close();
+	}
+
 	@Test
 	void createAWebClientAndRequestAnEndpoint() {
 		var app = reactiveWebApplication(a ->
@@ -99,6 +123,46 @@ class WebServerDslTests {
 		context.close();
 	}
 
+	@Test
+	void createAWebClientWithATunedConnectorAndRequestAnEndpoint() {
+		var app = reactiveWebApplication(a ->
+				a.enable(webFlux(s -> s.port(0).router(r -> r.GET("/", request -> ok().bodyValue("foo")))))
+				.enable(WebFluxClientDsl.webClient(c -> c.connector(connector -> connector
+						.name("api")
+						.maxConnections(4)
+						.pendingAcquireMaxCount(8)
+						.pendingAcquireTimeout(Duration.ofSeconds(5))
+						.maxIdleTime(Duration.ofSeconds(30))
+						.maxLifeTime(Duration.ofMinutes(5))
+						.evictInBackground(Duration.ofSeconds(10))
+						.responseTimeout(Duration.ofSeconds(5))
+						.compression()))));
+
+		var context = app.run();
+		assertTrue(context.containsBean("apiConnectionProvider"));
+		assertTrue(context.containsBean("apiLoopResources"));
+		var port = context.getEnvironment().getProperty("local.server.port");
+		var client = context.getBean(WebClient.Builder.class).build();
+		StepVerifier.create(client.get().uri("http://127.0.0.1:" + port).exchangeToMono(response -> {
+					assertTrue(Thread.currentThread().getName().startsWith("api-"));
+					return response.bodyToMono(String.class);
+				}))
+				.expectNext("foo")
+				.verifyComplete();
+		context.close();
+	}
+
+	@Test
+	void failToDeclare2ConnectorsWithTheSameName() {
+		var app = reactiveWebApplication(a -> a
+				.enable(webFlux(s -> s.port(0)))
+				.enable(WebFluxClientDsl.webClient(c -> c.connector(connector -> connector.maxConnections(4))))
+				.enable(WebFluxClientDsl.webClient(c -> c.connector(connector -> connector.maxConnections(8)))));
+		var exception = Assertions.assertThrows(IllegalStateException.class, app::run);
+		assertEquals("A Reactor Netty connector named 'webClient' is already declared, use a distinct name for each connector",
+				exception.getMessage());
+	}
+
 	@Test
 	void declare2RouterBlocks() {
 		var app = reactiveWebApplication(a -> a.enable(webFlux(s -> s.port(0)
@@ -112,6 +176,23 @@ class WebServerDslTests {
 		context.close();
 	}
 
+	@Test
+	void declareIndexedRouterBlocks() {
+		var app = reactiveWebApplication(a -> a.enable(webFlux(s -> s.port(0).indexedRouting()
+				.router(r -> r.path("/api", api -> api.GET("/users/{id}", request -> ok().bodyValue("user"))))
+				.router(r -> r.POST("/api/users", request -> noContent().build()))
+				.router(r -> r.GET("/{name}", request -> ok().bodyValue(request.pathVariable("name"))))
+				.router(r -> r.GET("/foo", request -> noContent().build())))));
+		var context = app.run();
+		var port = context.getEnvironment().getProperty("local.server.port");
+		var client = WebTestClient.bindToServer().baseUrl("http://127.0.0.1:" + port).build();
+		client.get().uri("/api/users/1").exchange().expectBody(String.class).isEqualTo("user");
+		client.post().uri("/api/users").exchange().expectStatus().isNoContent();
+		client.get().uri("/foo").exchange().expectBody(String.class).isEqualTo("foo");
+		client.delete().uri("/api/users").exchange().expectStatus().isNotFound();
+		context.close();
+	}
+
 	@Test
 	void declare2ServerBlocks() {
 		var app = reactiveWebApplication(a -> a
@@ -144,6 +225,54 @@ class WebServerDslTests {
 		context.close();
 	}
 
+	@Test
+	void requestStaticFiles() {
+		var app = reactiveWebApplication(a -> a.enable(webFlux(s -> s.port(0).staticResources())));
+		var context = app.run();
+		var port = context.getEnvironment().getProperty("local.server.port");
+		var client = WebTestClient.bindToServer().baseUrl("http://127.0.0.1:" + port).build();
+		var eTag = client.get().uri("/test.txt").exchange()
+				.expectHeader().contentType(MediaType.TEXT_PLAIN)
+				.expectBody(String.class).isEqualTo("Test")
+				.returnResult().getResponseHeaders().getETag();
+		client.get().uri("/test.txt").ifNoneMatch(eTag).exchange().expectStatus().isNotModified();
+		client.get().uri("/test.txt").header(HttpHeaders.ACCEPT_ENCODING, "gzip").exchange()
+				.expectHeader().valueEquals(HttpHeaders.CONTENT_ENCODING, "gzip")
+				.expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+		client.get().uri("/../build.gradle.kts").exchange().expectStatus().isNotFound();
+		context.close();
+	}
+
+	@Test
+	void requestRangesOfStaticFiles() {
+		var app = reactiveWebApplication(a -> a.enable(webFlux(s -> s.port(0).staticResources(r -> r.gzip(false)))));
+		var context = app.run();
+		var port = context.getEnvironment().getProperty("local.server.port");
+		var client = WebTestClient.bindToServer().baseUrl("http://127.0.0.1:" + port).build();
+		client.get().uri("/test.txt").exchange()
+				.expectHeader().valueEquals(HttpHeaders.ACCEPT_RANGES, "bytes");
+		client.get().uri("/test.txt").header(HttpHeaders.RANGE, "bytes=1-2").exchange()
+				.expectStatus().isEqualTo(HttpStatus.PARTIAL_CONTENT)
+				.expectHeader().valueEquals(HttpHeaders.CONTENT_RANGE, "bytes 1-2/4")
+				.expectBody(String.class).isEqualTo("es");
+		context.close();
+	}
+
+	@Test
+	void requestRangesOfStaticFilesLargerThanTheCachedOnes() {
+		var app = reactiveWebApplication(a -> a.enable(webFlux(s -> s.port(0).staticResources(r -> r.gzip(false).cacheMaxFileSize(DataSize.ofBytes(1))))));
+		var context = app.run();
+		var port = context.getEnvironment().getProperty("local.server.port");
+		var client = WebTestClient.bindToServer().baseUrl("http://127.0.0.1:" + port).build();
+		for (int i = 0; i < 2; i++) {
+			client.get().uri("/test.txt").header(HttpHeaders.RANGE, "bytes=2-").exchange()
+					.expectStatus().isEqualTo(HttpStatus.PARTIAL_CONTENT)
+					.expectBody(String.class).isEqualTo("st");
+			client.get().uri("/missing.txt").exchange().expectStatus().isNotFound();
+		}
+		context.close();
+	}
+
 	static class MyFilter implements WebFilter {
 
 		@Override
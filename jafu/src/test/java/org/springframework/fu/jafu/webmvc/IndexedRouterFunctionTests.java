@@ -0,0 +1,88 @@
+package org.springframework.fu.jafu.webmvc;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.autoconfigure.web.servlet.function.IndexedRouterFunction;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.function.HandlerFunction;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.springframework.web.servlet.function.RequestPredicates.GET;
+import static org.springframework.web.servlet.function.RequestPredicates.method;
+import static org.springframework.web.servlet.function.RequestPredicates.path;
+import static org.springframework.web.servlet.function.RouterFunctions.route;
+
+class IndexedRouterFunctionTests {
+
+	private final HandlerFunction<ServerResponse> first = request -> ServerResponse.ok().build();
+
+	private final HandlerFunction<ServerResponse> second = request -> ServerResponse.ok().build();
+
+	private final HandlerFunction<ServerResponse> third = request -> ServerResponse.ok().build();
+
+	@Test
+	void routeNestedLiteralAndNonLiteralPaths() {
+		var routers = List.of(
+				route().path("/api", api -> api.GET("/users/{id}", this.first)).build(),
+				route().path("/api/{version}", api -> api.GET("/items", this.second)).build(),
+				route().GET("/{name}", this.third).build());
+		assertSame(this.first, handlerFor(routers, new MockHttpServletRequest("GET", "/api/users/1")));
+		assertSame(this.second, handlerFor(routers, new MockHttpServletRequest("GET", "/api/v2/items")));
+		assertSame(this.third, handlerFor(routers, new MockHttpServletRequest("GET", "/foo")));
+		assertNull(handlerFor(routers, new MockHttpServletRequest("DELETE", "/api/users/1")));
+	}
+
+	@Test
+	void routeOrAndNegatePredicates() {
+		var routers = List.of(
+				route(GET("/a").or(GET("/b")), this.first),
+				route(path("/c").and(method(HttpMethod.POST).negate()), this.second),
+				route(GET("/d").negate(), this.third));
+		assertSame(this.first, handlerFor(routers, new MockHttpServletRequest("GET", "/b")));
+		assertSame(this.second, handlerFor(routers, new MockHttpServletRequest("GET", "/c")));
+		assertSame(this.third, handlerFor(routers, new MockHttpServletRequest("POST", "/c")));
+		assertNull(handlerFor(routers, new MockHttpServletRequest("GET", "/d")));
+	}
+
+	@Test
+	void routeHeadAndCorsPreFlightRequests() {
+		var routers = List.of(
+				route().GET("/foo", this.first).build(),
+				route().HEAD("/foo", this.second).build(),
+				route().PUT("/bar", this.third).build());
+		assertNotNull(handlerFor(routers, new MockHttpServletRequest("HEAD", "/foo")));
+		handlerFor(routers, new MockHttpServletRequest("HEAD", "/bar"));
+		handlerFor(routers, preFlight("/foo", "GET"));
+		handlerFor(routers, preFlight("/bar", "PUT"));
+		handlerFor(routers, preFlight("/bar", "DELETE"));
+	}
+
+	private static MockHttpServletRequest preFlight(String path, String method) {
+		MockHttpServletRequest request = new MockHttpServletRequest("OPTIONS", path);
+		request.addHeader(HttpHeaders.ORIGIN, "https://example.com");
+		request.addHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, method);
+		return request;
+	}
+
+	private static HandlerFunction<?> handlerFor(List<RouterFunction<ServerResponse>> routers, MockHttpServletRequest request) {
+		HandlerFunction<?> indexed = new IndexedRouterFunction(routers).route(serverRequest(request)).orElse(null);
+		HandlerFunction<?> linear = routers.stream().reduce(RouterFunction::and).get().route(serverRequest(request)).orElse(null);
+		assertSame(linear, indexed);
+		return indexed;
+	}
+
+	private static ServerRequest serverRequest(MockHttpServletRequest request) {
+		return ServerRequest.create(request, Collections.emptyList());
+	}
+
+}
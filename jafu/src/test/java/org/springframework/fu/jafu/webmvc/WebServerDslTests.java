@@ -1,13 +1,33 @@
 package org.springframework.fu.jafu.webmvc;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import com.google.protobuf.StringValue;
+import org.apache.coyote.AbstractProtocol;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.boot.autoconfigure.web.embedded.VirtualThreadsInitializer;
+import org.springframework.boot.autoconfigure.web.servlet.ProtobufDelimitedHttpMessageConverter;
+import org.springframework.boot.web.embedded.jetty.JettyWebServer;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.protobuf.ProtobufHttpMessageConverter;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.unit.DataSize;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.fu.jafu.Jafu.webApplication;
 import static org.springframework.fu.jafu.webmvc.WebMvcServerDsl.webMvc;
 import static org.springframework.web.servlet.function.ServerResponse.noContent;
+import static org.springframework.web.servlet.function.ServerResponse.ok;
 
 public class WebServerDslTests {
 
@@ -44,6 +64,89 @@ public class WebServerDslTests {
 		context.close();
 	}
 
+	@Test
+	void requestEndpointsOfIndexedRouterBlocks() {
+		var app = webApplication(a -> a.enable(webMvc(s -> s.port(0).indexedRouting()
+				.router(r -> r.path("/api", api -> api.GET("/users/{id}", request -> ok().body("user"))))
+				.router(r -> r.POST("/api/users", request -> noContent().build()))
+				.router(r -> r.GET("/{name}", request -> ok().body(request.pathVariable("name"))))
+				.router(r -> r.GET("/foo", request -> noContent().build())))));
+
+		var context = app.run();
+		var port = context.getEnvironment().getProperty("local.server.port");
+		var client = WebTestClient.bindToServer().baseUrl("http://127.0.0.1:" + port).build();
+		client.get().uri("/api/users/1").exchange().expectBody(String.class).isEqualTo("user");
+		client.post().uri("/api/users").exchange().expectStatus().isNoContent();
+		client.get().uri("/foo").exchange().expectBody(String.class).isEqualTo("foo");
+		client.delete().uri("/api/users").exchange().expectStatus().isNotFound();
+		context.close();
+	}
+
+	@Test
+	void requestAnEndpointOnTunedServers() {
+		List<Consumer<WebMvcServerDsl>> engines = List.of(WebMvcServerDsl::tomcat, WebMvcServerDsl::jetty, WebMvcServerDsl::undertow);
+		for (var engine : engines) {
+			var app = webApplication(a -> a.enable(webMvc(s -> {
+				engine.accept(s);
+				s.port(0)
+						.tuning(t -> t.maxThreads(50).minThreads(10).acceptCount(200).ioThreads(2).bufferSize(DataSize.ofKilobytes(16))
+								.directBuffers(true).keepAliveTimeout(Duration.ofSeconds(30)).maxKeepAliveRequests(1000).maxConnections(1000))
+						.router(r -> r.GET("/foo", request -> noContent().build()));
+			})));
+
+			var context = app.run();
+			var port = context.getEnvironment().getProperty("local.server.port");
+			var client = WebTestClient.bindToServer().baseUrl("http://127.0.0.1:" + port).build();
+			client.get().uri("/foo").exchange().expectStatus().isNoContent();
+			var webServer = ((ServletWebServerApplicationContext) context).getWebServer();
+			if (webServer instanceof TomcatWebServer) {
+				var protocol = (AbstractProtocol<?>) ((TomcatWebServer) webServer).getTomcat().getConnector().getProtocolHandler();
+				assertEquals(50, protocol.getMaxThreads());
+				assertEquals(200, protocol.getAcceptCount());
+			}
+			context.close();
+		}
+	}
+
+	@Test
+	void requestAnEndpointOnVirtualThreads() {
+		var isVirtual = ReflectionUtils.findMethod(Thread.class, "isVirtual");
+		List<Consumer<WebMvcServerDsl>> engines = List.of(WebMvcServerDsl::tomcat, WebMvcServerDsl::jetty, WebMvcServerDsl::undertow);
+		for (var engine : engines) {
+			var app = webApplication(a -> a.enable(webMvc(s -> {
+				engine.accept(s);
+				s.port(0).virtualThreads().router(r -> r.GET("/foo", request ->
+						ok().body(String.valueOf(isVirtual != null && (boolean) ReflectionUtils.invokeMethod(isVirtual, Thread.currentThread())))));
+			})));
+
+			var context = app.run();
+			var port = context.getEnvironment().getProperty("local.server.port");
+			var client = WebTestClient.bindToServer().baseUrl("http://127.0.0.1:" + port).build();
+			client.get().uri("/foo").exchange().expectBody(String.class).isEqualTo(String.valueOf(VirtualThreadsInitializer.isSupported()));
+			context.close();
+		}
+	}
+
+	@Test
+	void requestAnEndpointOnJettyVirtualThreadsWithTuning() {
+		var isVirtual = ReflectionUtils.findMethod(Thread.class, "isVirtual");
+		var app = webApplication(a -> a.enable(webMvc(s -> s
+				.jetty()
+				.port(0)
+				.tuning(t -> t.maxThreads(50).minThreads(10))
+				.virtualThreads()
+				.router(r -> r.GET("/foo", request ->
+						ok().body(String.valueOf(isVirtual != null && (boolean) ReflectionUtils.invokeMethod(isVirtual, Thread.currentThread()))))))));
+
+		var context = app.run();
+		var port = context.getEnvironment().getProperty("local.server.port");
+		var client = WebTestClient.bindToServer().baseUrl("http://127.0.0.1:" + port).build();
+		client.get().uri("/foo").exchange().expectBody(String.class).isEqualTo(String.valueOf(VirtualThreadsInitializer.isSupported()));
+		var threadPool = ((JettyWebServer) ((ServletWebServerApplicationContext) context).getWebServer()).getServer().getThreadPool();
+		assertEquals(!VirtualThreadsInitializer.isSupported(), threadPool instanceof QueuedThreadPool);
+		context.close();
+	}
+
 	@Test
 	void requestStaticFile() {
 		var app = webApplication(a -> a.enable(
@@ -55,4 +158,42 @@ public class WebServerDslTests {
 		client.get().uri("/test.txt").exchange().expectBody(String.class).isEqualTo("Test");
 		context.close();
 	}
+
+	@Test
+	void requestStaticFilesOfTheStaticResourceRouter() {
+		var app = webApplication(a -> a.enable(webMvc(s -> s.port(0).staticResources(r -> r.cacheMaxSize(DataSize.ofBytes(0))))));
+
+		var context = app.run();
+		var port = context.getEnvironment().getProperty("local.server.port");
+		var client = WebTestClient.bindToServer().baseUrl("http://127.0.0.1:" + port).build();
+		var eTag = client.get().uri("/test.txt").exchange()
+				.expectHeader().contentType(MediaType.TEXT_PLAIN)
+				.expectBody(String.class).isEqualTo("Test")
+				.returnResult().getResponseHeaders().getETag();
+		client.get().uri("/test.txt").ifNoneMatch(eTag).exchange().expectStatus().isNotModified();
+		client.get().uri("/test.txt").header(HttpHeaders.ACCEPT_ENCODING, "gzip").exchange()
+				.expectHeader().valueEquals(HttpHeaders.CONTENT_ENCODING, "gzip");
+		context.close();
+	}
+
+	@Test
+	void requestProtobufMessageAndLengthDelimitedMessagesEndpoints() {
+		var foo = StringValue.newBuilder().setValue("foo").build();
+		var bar = StringValue.newBuilder().setValue("bar").build();
+		var app = webApplication(a -> a.enable(webMvc(s -> s.port(0)
+				.converters(c -> c.protobuf())
+				.router(r -> r
+						.GET("/message", request -> ok().body(foo))
+						.GET("/messages", request -> ok().body(Stream.of(foo, bar), new ParameterizedTypeReference<Stream<StringValue>>() {}))))));
+
+		var context = app.run();
+		var port = context.getEnvironment().getProperty("local.server.port");
+		var client = WebTestClient.bindToServer().baseUrl("http://127.0.0.1:" + port).build();
+		client.get().uri("/message").accept(ProtobufHttpMessageConverter.PROTOBUF).exchange()
+				.expectBody(StringValue.class).isEqualTo(foo);
+		client.get().uri("/messages").accept(ProtobufHttpMessageConverter.PROTOBUF).exchange()
+				.expectHeader().contentType(ProtobufDelimitedHttpMessageConverter.PROTOBUF_DELIMITED)
+				.expectBodyList(StringValue.class).isEqualTo(List.of(foo, bar));
+		context.close();
+	}
 }
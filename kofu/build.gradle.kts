@@ -11,8 +11,8 @@ plugins {
 dependencies {
 	api("org.springframework.boot:spring-boot")
 	api("org.jetbrains.kotlin:kotlin-stdlib-jdk8")
+	api(project(":autoconfigure-adapter"))
 
-	implementation(project(":autoconfigure-adapter"))
 	implementation("org.jetbrains.kotlin:kotlin-reflect")
 
 	compileOnly("org.springframework:spring-webmvc")
@@ -53,6 +53,10 @@ dependencies {
 	testImplementation("org.springframework.boot:spring-boot-starter-security")
 	testImplementation("org.springframework.security:spring-security-test")
 	testImplementation("com.fasterxml.jackson.module:jackson-module-kotlin")
+	testImplementation("com.fasterxml.jackson.module:jackson-module-afterburner")
+	testImplementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
+	testImplementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+	testImplementation("com.google.protobuf:protobuf-java:3.13.0")
 	testRuntimeOnly("de.flapdoodle.embed:de.flapdoodle.embed.mongo")
 	testImplementation("io.mockk:mockk:1.9")
 	testImplementation("io.projectreactor.kotlin:reactor-kotlin-extensions")
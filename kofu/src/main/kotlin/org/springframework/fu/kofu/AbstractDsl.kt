@@ -23,6 +23,28 @@ import org.springframework.core.env.Environment
 @DslMarker
 internal annotation class KofuMarker
 
+/**
+ * Name of the startup step recorded for each enabled configuration or DSL.
+ * @see KofuApplication.applicationStartup
+ */
+const val INITIALIZE_STEP_NAME = "spring.fu.initialize"
+
+internal fun GenericApplicationContext.recordInitialization(initializer: Any, initialize: () -> Unit) {
+	val step = applicationStartup.start(INITIALIZE_STEP_NAME).tag("initializer") { initializer.javaClass.name }
+	try {
+		initialize()
+	}
+	finally {
+		step.end()
+	}
+}
+
+internal fun GenericApplicationContext.recordInitialization(dsl: AbstractDsl) =
+		recordInitialization(dsl) { dsl.initialize(this) }
+
+internal fun GenericApplicationContext.recordInitialization(initializer: ApplicationContextInitializer<GenericApplicationContext>) =
+		recordInitialization(initializer) { initializer.initialize(this) }
+
 /**
  * Kofu DSL base class.
  *
@@ -62,5 +84,7 @@ abstract class AbstractDsl {
 		this.context = context
 	}
 
-	internal fun toInitializer() = ApplicationContextInitializer<GenericApplicationContext> { initialize(it) }
+	internal fun toInitializer() = ApplicationContextInitializer<GenericApplicationContext> { context ->
+		context.recordInitialization(this) { initialize(context) }
+	}
 }
\ No newline at end of file
@@ -17,9 +17,12 @@
 package org.springframework.fu.kofu
 
 import org.springframework.beans.factory.getBeanNamesForType
+import org.springframework.boot.autoconfigure.context.LazyInitializationInitializer
 import org.springframework.boot.autoconfigure.context.MessageSourceInitializer
+import org.springframework.boot.autoconfigure.context.ParallelInitializationInitializer
 import org.springframework.context.MessageSource
 import org.springframework.context.support.GenericApplicationContext
+import kotlin.reflect.KClass
 
 
 /**
@@ -33,11 +36,28 @@ import org.springframework.context.support.GenericApplicationContext
  */
 open class ApplicationDsl internal constructor(private val dsl: ApplicationDsl.() -> Unit) : ConfigurationDsl({}) {
 
+	/**
+	 * Make all the beans of the application lazy, including the ones registered by Kofu DSLs.
+	 * Beans declared with `isLazyInit = false` remain eagerly initialized.
+	 * @param warmUp whether the beans should be instantiated in the background once the application is ready
+	 */
+	fun lazy(warmUp: Boolean = true) {
+		context.recordInitialization(LazyInitializationInitializer(warmUp))
+	}
+
+	/**
+	 * Create the supplier-based singletons of the specified types concurrently at the end of the context refresh,
+	 * typically clients performing blocking I/O on creation.
+	 */
+	fun parallel(vararg beanTypes: KClass<*>) {
+		context.recordInitialization(ParallelInitializationInitializer(*beanTypes.map { it.java }.toTypedArray()))
+	}
+
 	override fun initialize(context: GenericApplicationContext) {
 		super.initialize(context)
 		dsl()
 		if (context.beanFactory.getBeanNamesForType<MessageSource>().isEmpty()) {
-			MessageSourceInitializer().initialize(context)
+			context.recordInitialization(MessageSourceInitializer())
 		}
 	}
 
@@ -29,7 +29,8 @@ open class ConfigurationDsl(private val dsl: ConfigurationDsl.() -> Unit): Abstr
 	 * @sample org.springframework.fu.kofu.samples.beansDsl
 	 */
 	fun beans(dsl: BeanDefinitionDsl.() -> Unit) {
-		org.springframework.context.support.beans(dsl).initialize(context)
+		val beans = org.springframework.context.support.beans(dsl)
+		context.recordInitialization(beans) { beans.initialize(context) }
 	}
 
 	/**
@@ -38,7 +39,7 @@ open class ConfigurationDsl(private val dsl: ConfigurationDsl.() -> Unit): Abstr
 	 * @sample org.springframework.fu.kofu.samples.applicationDslWithConfiguration
 	 */
 	fun enable(configuration: AbstractDsl) {
-		configuration.initialize(context)
+		context.recordInitialization(configuration) { configuration.initialize(context) }
 	}
 
 	/**
@@ -47,7 +48,7 @@ open class ConfigurationDsl(private val dsl: ConfigurationDsl.() -> Unit): Abstr
 	 * @sample org.springframework.context.ApplicationContextInitializer
 	 */
 	fun enable(configuration: ApplicationContextInitializer<GenericApplicationContext>) {
-		configuration.initialize(context)
+		context.recordInitialization(configuration) { configuration.initialize(context) }
 	}
 
 	/**
@@ -57,7 +58,7 @@ open class ConfigurationDsl(private val dsl: ConfigurationDsl.() -> Unit): Abstr
 	 * @sample org.springframework.fu.kofu.samples.configurationProperties
 	 */
 	inline fun <reified T : Any> configurationProperties(properties: T? = null, prefix: String = ""): T {
-		val bindedProperties = properties ?: FunctionalConfigurationPropertiesBinder(context).bind(prefix, Bindable.of(T::class.java)).orElseGet { BeanUtils.instantiateClass(T::class.java) }
+		val bindedProperties = properties ?: FunctionalConfigurationPropertiesBinder.get(context).bind(prefix, Bindable.of(T::class.java)).orElseGet { BeanUtils.instantiateClass(T::class.java) }
 		context.registerBean<T>("${T::class.java.simpleName.toLowerCase()}ConfigurationProperties") {
 			bindedProperties
 		}
@@ -69,7 +70,7 @@ open class ConfigurationDsl(private val dsl: ConfigurationDsl.() -> Unit): Abstr
 	 * @sample org.springframework.fu.kofu.samples.loggingDsl
 	 */
 	fun logging(dsl: LoggingDsl.() -> Unit) {
-		LoggingDsl(dsl).initialize(context)
+		enable(LoggingDsl(dsl))
 	}
 
 	/**
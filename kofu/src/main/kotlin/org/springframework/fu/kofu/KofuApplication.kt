@@ -4,6 +4,7 @@ import org.springframework.boot.SpringApplication
 import org.springframework.context.ApplicationContext
 import org.springframework.context.ConfigurableApplicationContext
 import org.springframework.core.SpringProperties
+import org.springframework.core.metrics.ApplicationStartup
 
 /**
  * Kofu application that can be run parameterized with Spring profiles and/or command line arguments.
@@ -25,6 +26,8 @@ abstract class KofuApplication(private val initializer: AbstractDsl) {
 
 	private var customizer: (ApplicationDsl.() -> Unit)? = null
 
+	private var applicationStartup = ApplicationStartup.DEFAULT
+
 	/**
 	 * Run the current application
 	 * @param profiles [ApplicationContext] profiles separated by commas.
@@ -44,6 +47,7 @@ abstract class KofuApplication(private val initializer: AbstractDsl) {
 		if (profiles.isNotEmpty()) {
 			app.setAdditionalProfiles(*profiles.split(",").map { it.trim() }.toTypedArray())
 		}
+		app.setApplicationStartup(applicationStartup)
 		app.addInitializers(initializer.toInitializer())
 		if (customizer != null) app.addInitializers(ApplicationDsl(customizer!!).toInitializer())
 		System.setProperty("spring.backgroundpreinitializer.ignore", "true")
@@ -58,6 +62,16 @@ abstract class KofuApplication(private val initializer: AbstractDsl) {
 		this.customizer = customizer
 	}
 
+	/**
+	 * Record the startup steps of the application with the specified [ApplicationStartup], including the
+	 * initialization of each enabled configuration, DSL or auto-configuration initializer and the instantiation of
+	 * each bean. With a [org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup], the
+	 * recorded timeline can be rendered with [org.springframework.boot.context.metrics.buffering.StartupTimelineReport].
+	 */
+	fun applicationStartup(applicationStartup: ApplicationStartup) {
+		this.applicationStartup = applicationStartup
+	}
+
 	protected abstract fun createContext(): ConfigurableApplicationContext
 
 }
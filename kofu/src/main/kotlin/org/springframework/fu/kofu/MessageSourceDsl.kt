@@ -15,7 +15,7 @@ class MessageSourceDsl(private val init: MessageSourceDsl.() -> Unit) : Abstract
         val messageSourceProperties = MessageSourceProperties().apply {
             basename = this@MessageSourceDsl.basename
         }
-        MessageSourceInitializer(messageSourceProperties).initialize(context)
+        context.recordInitialization(MessageSourceInitializer(messageSourceProperties))
     }
 }
 
@@ -24,5 +24,5 @@ class MessageSourceDsl(private val init: MessageSourceDsl.() -> Unit) : Abstract
  * @see MessageSourceDsl
  */
 fun ConfigurationDsl.messageSource(dsl: MessageSourceDsl.() -> Unit = {}) {
-    MessageSourceDsl(dsl).initialize(context)
+    enable(MessageSourceDsl(dsl))
 }
\ No newline at end of file
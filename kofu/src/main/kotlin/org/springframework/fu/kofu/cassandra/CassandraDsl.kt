@@ -2,10 +2,13 @@ package org.springframework.fu.kofu.cassandra
 
 import org.springframework.boot.autoconfigure.cassandra.CassandraInitializer
 import org.springframework.boot.autoconfigure.cassandra.CassandraProperties
+import org.springframework.boot.autoconfigure.cassandra.CassandraStatementExecutorInitializer
+import org.springframework.boot.autoconfigure.cassandra.CassandraStatementProperties
 import org.springframework.boot.autoconfigure.data.cassandra.CassandraDataInitializer
 import org.springframework.context.support.GenericApplicationContext
 import org.springframework.fu.kofu.AbstractDsl
 import org.springframework.fu.kofu.ConfigurationDsl
+import org.springframework.fu.kofu.recordInitialization
 import org.springframework.fu.kofu.webmvc.WebMvcServerDsl
 
 /**
@@ -18,6 +21,8 @@ import org.springframework.fu.kofu.webmvc.WebMvcServerDsl
 open class CassandraDsl(private val init: CassandraDsl.() -> Unit) : AbstractDsl() {
 	protected val properties = CassandraProperties()
 
+	protected var statementProperties: CassandraStatementProperties? = null
+
 	/**
 	 * Configure the local datacenter to use.
 	 */
@@ -113,11 +118,55 @@ open class CassandraDsl(private val init: CassandraDsl.() -> Unit) : AbstractDsl
 		properties.pool.dsl()
 	}
 
+	/**
+	 * Register a [org.springframework.boot.autoconfigure.cassandra.CassandraStatementExecutor] caching the prepared
+	 * statements and batching the writes by partition.
+	 */
+	fun statements(dsl: StatementsDsl.() -> Unit = {}) {
+		val statements = statementProperties ?: CassandraStatementProperties().also { statementProperties = it }
+		StatementsDsl(statements).dsl()
+	}
+
 	override fun initialize(context: GenericApplicationContext) {
 		super.initialize(context)
 		init()
-		CassandraInitializer(properties).initialize(context)
-		CassandraDataInitializer(properties).initialize(context)
+		context.recordInitialization(CassandraInitializer(properties))
+		context.recordInitialization(CassandraDataInitializer(properties))
+		statementProperties?.let { context.recordInitialization(CassandraStatementExecutorInitializer(it)) }
+	}
+
+	/**
+	 * Kofu DSL for Cassandra statements execution configuration.
+	 */
+	class StatementsDsl(private val properties: CassandraStatementProperties) {
+
+		/**
+		 * Maximum number of prepared statements cached by CQL query (`1000` by default).
+		 */
+		var cacheSize: Int
+			get() = properties.cacheSize
+			set(value) {
+				properties.cacheSize = value
+			}
+
+		/**
+		 * Maximum number of statements and batches executed asynchronously at the same time (`256` by default), the
+		 * other ones being queued.
+		 */
+		var maxInFlight: Int
+			get() = properties.maxInFlight
+			set(value) {
+				properties.maxInFlight = value
+			}
+
+		/**
+		 * Maximum number of statements per unlogged batch (`50` by default).
+		 */
+		var maxBatchSize: Int
+			get() = properties.maxBatchSize
+			set(value) {
+				properties.maxBatchSize = value
+			}
 	}
 }
 
@@ -126,5 +175,5 @@ open class CassandraDsl(private val init: CassandraDsl.() -> Unit) : AbstractDsl
  * @see CassandraDsl
  */
 fun ConfigurationDsl.cassandra(dsl: CassandraDsl.() -> Unit = {}) {
-	CassandraDsl(dsl).initialize(context)
+	enable(CassandraDsl(dsl))
 }
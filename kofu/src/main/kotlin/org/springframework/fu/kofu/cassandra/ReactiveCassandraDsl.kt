@@ -1,15 +1,19 @@
 package org.springframework.fu.kofu.cassandra
 
 import org.springframework.boot.autoconfigure.cassandra.CassandraInitializer
+import org.springframework.boot.autoconfigure.cassandra.CassandraStatementExecutorInitializer
 import org.springframework.boot.autoconfigure.data.cassandra.CassandraDataInitializer
 import org.springframework.boot.autoconfigure.data.cassandra.CassandraReactiveDataInitializer
 import org.springframework.context.support.GenericApplicationContext
 import org.springframework.fu.kofu.ConfigurationDsl
+import org.springframework.fu.kofu.recordInitialization
 
 /**
  * Kofu DSL for Reactive Cassandra configuration.
  *
  * Enable and configure Reactive Cassandra support by registering [org.springframework.data.cassandra.core.ReactiveCassandraTemplate]
+ * and [org.springframework.boot.autoconfigure.data.cassandra.ReactiveCassandraPageStreamer], streaming the results page
+ * by page with the configured `request.pageSize`.
  *
  * Required dependencies can be retrieved using `org.springframework.boot:spring-boot-starter-data-cassandra-reactive`.
  *
@@ -19,9 +23,10 @@ open class ReactiveCassandraDsl(private val initBlock: ReactiveCassandraDsl.() -
 	override fun initialize(context: GenericApplicationContext){
 		super.initialize(context)
 		initBlock()
-		CassandraInitializer(properties).initialize(context)
-		CassandraDataInitializer(properties).initialize(context)
-		CassandraReactiveDataInitializer().initialize(context)
+		context.recordInitialization(CassandraInitializer(properties))
+		context.recordInitialization(CassandraDataInitializer(properties))
+		context.recordInitialization(CassandraReactiveDataInitializer())
+		statementProperties?.let { context.recordInitialization(CassandraStatementExecutorInitializer(it)) }
 	}
 }
 
@@ -30,5 +35,5 @@ open class ReactiveCassandraDsl(private val initBlock: ReactiveCassandraDsl.() -
  * @see ReactiveCassandraDsl
  */
 fun ConfigurationDsl.reactiveCassandra(dsl: ReactiveCassandraDsl.() -> Unit = {}) {
-	ReactiveCassandraDsl(dsl).initialize(context)
+	enable(ReactiveCassandraDsl(dsl))
 }
@@ -1,14 +1,45 @@
 package org.springframework.fu.kofu.elasticsearch
 
+import org.springframework.boot.autoconfigure.data.elasticsearch.ElasticsearchClientProperties
 import org.springframework.data.elasticsearch.client.ClientConfiguration
 import org.springframework.fu.kofu.AbstractDsl
+import java.time.Duration
 
 abstract class AbstractElasticSearchDsl: AbstractDsl() {
 
     var hostAndPort: String? = null
     var usingSsl: Boolean = false
 
-    protected fun createClientConfiguration() =
+    protected val clientProperties = ElasticsearchClientProperties()
+
+    /**
+     * Configure the connection timeout, 10 seconds by default.
+     */
+    var connectTimeout: Duration
+        get() = clientProperties.connectTimeout
+        set(value) {
+            clientProperties.connectTimeout = value
+        }
+
+    /**
+     * Configure the read and write timeout of the sockets, 5 seconds by default.
+     */
+    var socketTimeout: Duration
+        get() = clientProperties.socketTimeout
+        set(value) {
+            clientProperties.socketTimeout = value
+        }
+
+    /**
+     * Configure the maximum number of connections per node.
+     */
+    var maxConnections: Int?
+        get() = clientProperties.maxConnections
+        set(value) {
+            clientProperties.maxConnections = value
+        }
+
+    protected fun createClientConfiguration(customizer: (ClientConfiguration.TerminalClientConfigurationBuilder) -> Unit = {}) =
         ClientConfiguration.builder()
             .let {
                 if (hostAndPort != null) it.connectedTo(hostAndPort)
@@ -17,5 +48,9 @@ abstract class AbstractElasticSearchDsl: AbstractDsl() {
             .let {
                 if (usingSsl) it.usingSsl()
                 else it
-            }.build()
+            }
+            .withConnectTimeout(connectTimeout)
+            .withSocketTimeout(socketTimeout)
+            .also(customizer)
+            .build()
 }
\ No newline at end of file
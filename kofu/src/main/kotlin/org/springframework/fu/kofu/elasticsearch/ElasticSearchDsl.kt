@@ -1,20 +1,35 @@
 package org.springframework.fu.kofu.elasticsearch
 
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder
 import org.springframework.boot.autoconfigure.data.elasticsearch.ElasticSearchDataInitializer
+import org.springframework.boot.autoconfigure.data.elasticsearch.HttpAsyncElasticsearchClientConfigurer
 import org.springframework.context.support.GenericApplicationContext
 import org.springframework.data.elasticsearch.client.ClientConfiguration
 import org.springframework.fu.kofu.AbstractDsl
 import org.springframework.fu.kofu.ConfigurationDsl
+import org.springframework.fu.kofu.recordInitialization
+import java.util.function.Function
 
 class ElasticSearchDsl(private val dsl: ElasticSearchDsl.() -> Unit): AbstractElasticSearchDsl() {
 
+    private var httpClientConfigurer: (HttpAsyncClientBuilder) -> HttpAsyncClientBuilder = { it }
+
+    /**
+     * Configure the underlying Apache HTTP client, for example to customize its default headers or interceptors.
+     */
+    fun httpClientConfigurer(configurer: (HttpAsyncClientBuilder) -> HttpAsyncClientBuilder) {
+        httpClientConfigurer = configurer
+    }
+
     override fun initialize(context: GenericApplicationContext) {
         super.initialize(context)
         apply(dsl)
-        ElasticSearchDataInitializer(createClientConfiguration()).initialize(context)
+        val nodes = createClientConfiguration().endpoints.size
+        val configurer = HttpAsyncElasticsearchClientConfigurer(clientProperties, nodes, Function { httpClientConfigurer(it) })
+        context.recordInitialization(ElasticSearchDataInitializer(createClientConfiguration { it.withHttpClientConfigurer(configurer) }))
     }
 }
 
 fun ConfigurationDsl.elasticSearch(dsl: ElasticSearchDsl.() -> Unit) {
-    ElasticSearchDsl(dsl).initialize(context)
+    enable(ElasticSearchDsl(dsl))
 }
\ No newline at end of file
@@ -1,17 +1,102 @@
 package org.springframework.fu.kofu.elasticsearch
 
 import org.springframework.boot.autoconfigure.data.elasticsearch.ReactiveElasticSearchDataInitializer
+import org.springframework.boot.autoconfigure.data.elasticsearch.ReactiveElasticsearchBulkIndexerInitializer
+import org.springframework.boot.autoconfigure.data.elasticsearch.ReactiveElasticsearchBulkProperties
+import org.springframework.boot.autoconfigure.data.elasticsearch.ReactorNettyElasticsearchClientConfigurer
 import org.springframework.context.support.GenericApplicationContext
 import org.springframework.fu.kofu.ConfigurationDsl
+import org.springframework.fu.kofu.recordInitialization
+import org.springframework.util.unit.DataSize
+import org.springframework.web.reactive.function.client.WebClient
+import java.time.Duration
+import java.util.function.Function
 
 class ReactiveElasticSearchDsl(private val dsl: ReactiveElasticSearchDsl.() -> Unit): AbstractElasticSearchDsl() {
+
+    private var webClientConfigurer: (WebClient) -> WebClient = { it }
+
+    private var bulkProperties: ReactiveElasticsearchBulkProperties? = null
+
+    /**
+     * Request compressed responses.
+     */
+    fun compression() {
+        clientProperties.isCompression = true
+    }
+
+    /**
+     * Configure the underlying [WebClient], for example to customize its default headers or filters.
+     */
+    fun webClientConfigurer(configurer: (WebClient) -> WebClient) {
+        webClientConfigurer = configurer
+    }
+
+    /**
+     * Register a [org.springframework.boot.autoconfigure.data.elasticsearch.ReactiveElasticsearchBulkIndexer] bean,
+     * executing bulk requests of at most 1000 requests and 5MB one at a time by default.
+     *
+     * The indexer can be injected in the application beans, for example `bean<LogIndexer>()` with a
+     * `LogIndexer(private val indexer: ReactiveElasticsearchBulkIndexer)` class streaming its index requests with
+     * `indexer.index(requests)`.
+     */
+    fun bulkIndexer(dsl: BulkIndexerDsl.() -> Unit = {}) {
+        val properties = bulkProperties ?: ReactiveElasticsearchBulkProperties().also { bulkProperties = it }
+        BulkIndexerDsl(properties).dsl()
+    }
+
     override fun initialize(context: GenericApplicationContext) {
         super.initialize(context)
         apply(dsl)
-        ReactiveElasticSearchDataInitializer(createClientConfiguration()).initialize(context)
+        val configurer = ReactorNettyElasticsearchClientConfigurer(clientProperties, usingSsl, Function { webClientConfigurer(it) })
+        context.recordInitialization(ReactiveElasticSearchDataInitializer(createClientConfiguration { it.withWebClientConfigurer(configurer) }, configurer))
+        bulkProperties?.let { context.recordInitialization(ReactiveElasticsearchBulkIndexerInitializer(it)) }
+    }
+
+    /**
+     * Kofu DSL for Elasticsearch bulk indexing configuration.
+     */
+    class BulkIndexerDsl(private val properties: ReactiveElasticsearchBulkProperties) {
+
+        /**
+         * Maximum number of requests per bulk request (`1000` by default).
+         */
+        var maxActions: Int
+            get() = properties.maxActions
+            set(value) {
+                properties.maxActions = value
+            }
+
+        /**
+         * Maximum estimated size of a bulk request (`5MB` by default).
+         */
+        var maxSize: DataSize
+            get() = properties.maxSize
+            set(value) {
+                properties.maxSize = value
+            }
+
+        /**
+         * Maximum time to wait for a bulk request to be full before executing it, bulk requests are only executed
+         * when full or when the indexed requests complete by default.
+         */
+        var maxWaitTime: Duration?
+            get() = properties.maxWaitTime
+            set(value) {
+                properties.maxWaitTime = value
+            }
+
+        /**
+         * Maximum number of bulk requests executed concurrently (`1` by default).
+         */
+        var concurrency: Int
+            get() = properties.concurrency
+            set(value) {
+                properties.concurrency = value
+            }
     }
 }
 
 fun ConfigurationDsl.reactiveElasticSearch(dsl: ReactiveElasticSearchDsl.() -> Unit) {
-    ReactiveElasticSearchDsl(dsl).initialize(context)
+    enable(ReactiveElasticSearchDsl(dsl))
 }
\ No newline at end of file
@@ -5,6 +5,8 @@ import org.springframework.boot.jdbc.DataSourceInitializationMode
 import org.springframework.context.support.GenericApplicationContext
 import org.springframework.fu.kofu.AbstractDsl
 import org.springframework.fu.kofu.ConfigurationDsl
+import org.springframework.fu.kofu.recordInitialization
+import java.time.Duration
 
 class JdbcDsl(private val datasourceType: DataSourceType, private val init: JdbcDsl.() -> Unit) : AbstractDsl() {
 
@@ -26,6 +28,18 @@ class JdbcDsl(private val datasourceType: DataSourceType, private val init: Jdbc
 
     var driverClassName: String? = null
 
+    private val hikariProperties = HikariProperties()
+
+    /**
+     * Configure the Hikari connection pool via a [dedicated DSL][HikariDsl], which requires [DataSourceType.Hikari].
+     */
+    fun hikari(dsl: HikariDsl.() -> Unit) {
+        if (datasourceType != DataSourceType.Hikari) {
+            throw IllegalStateException("Hikari can only be configured with DataSourceType.Hikari, not DataSourceType.$datasourceType")
+        }
+        HikariDsl(hikariProperties, dsl).initialize(context)
+    }
+
     override fun initialize(context: GenericApplicationContext) {
         super.initialize(context)
         init()
@@ -44,13 +58,77 @@ class JdbcDsl(private val datasourceType: DataSourceType, private val init: Jdbc
         }
 
         when(datasourceType) {
-            DataSourceType.Hikari -> DataSourceConfiguration_HikariInitializer(dataSourceProperties).initialize(context)
-            DataSourceType.Embedded -> EmbeddedDataSourceConfigurationInitializer(dataSourceProperties).initialize(context)
-            DataSourceType.Generic -> DataSourceConfiguration_GenericInitializer(dataSourceProperties).initialize(context)
+            DataSourceType.Hikari -> context.recordInitialization(DataSourceConfiguration_HikariInitializer(dataSourceProperties, hikariProperties))
+            DataSourceType.Embedded -> context.recordInitialization(EmbeddedDataSourceConfigurationInitializer(dataSourceProperties))
+            DataSourceType.Generic -> context.recordInitialization(DataSourceConfiguration_GenericInitializer(dataSourceProperties))
+        }
+        context.recordInitialization(JdbcTemplateConfigurationInitializer(jdbcProperties))
+        context.recordInitialization(DataSourceTransactionManagerAutoConfigurationInitializer())
+        context.recordInitialization(DataSourceInitializerInvokerInitializer(dataSourceProperties))
+    }
+}
+
+/**
+ * Kofu DSL for Hikari connection pool configuration, applied before the pool is started.
+ */
+class HikariDsl(private val hikari: HikariProperties, private val init: HikariDsl.() -> Unit) : AbstractDsl() {
+
+    var maximumPoolSize: Int?
+        get() = hikari.maximumPoolSize
+        set(value) {
+            hikari.maximumPoolSize = value
+        }
+
+    var minimumIdle: Int?
+        get() = hikari.minimumIdle
+        set(value) {
+            hikari.minimumIdle = value
+        }
+
+    var connectionTimeout: Duration?
+        get() = hikari.connectionTimeout
+        set(value) {
+            hikari.connectionTimeout = value
         }
-        JdbcTemplateConfigurationInitializer(jdbcProperties).initialize(context)
-        DataSourceTransactionManagerAutoConfigurationInitializer().initialize(context)
-        DataSourceInitializerInvokerInitializer(dataSourceProperties).initialize(context)
+
+    var idleTimeout: Duration?
+        get() = hikari.idleTimeout
+        set(value) {
+            hikari.idleTimeout = value
+        }
+
+    var maxLifetime: Duration?
+        get() = hikari.maxLifetime
+        set(value) {
+            hikari.maxLifetime = value
+        }
+
+    var leakDetectionThreshold: Duration?
+        get() = hikari.leakDetectionThreshold
+        set(value) {
+            hikari.leakDetectionThreshold = value
+        }
+
+    /**
+     * Add properties passed to the underlying JDBC driver or `DataSource`.
+     */
+    fun dataSourceProperties(vararg properties: Pair<String, String>) {
+        properties.forEach { (name, value) -> hikari.dataSourceProperties.setProperty(name, value) }
+    }
+
+    /**
+     * Enable the prepared statement cache of MySQL, MariaDB and PostgreSQL drivers, like the Jafu `preparedStatementCache()`.
+     * @param size the number of prepared statements cached per connection (`250` by default)
+     * @param sqlLimit the maximum length of the SQL of a cached statement, MySQL and MariaDB only (`2048` by default)
+     */
+    fun preparedStatementCache(size: Int = 250, sqlLimit: Int = 2048) {
+        hikari.preparedStatementCacheSize = size
+        hikari.preparedStatementCacheSqlLimit = sqlLimit
+    }
+
+    override fun initialize(context: GenericApplicationContext) {
+        super.initialize(context)
+        init()
     }
 }
 
@@ -59,5 +137,5 @@ class JdbcDsl(private val datasourceType: DataSourceType, private val init: Jdbc
  * @see JdbcDsl
  */
 fun ConfigurationDsl.jdbc(datasourceType: DataSourceType, dsl: JdbcDsl.() -> Unit = {}) {
-    JdbcDsl(datasourceType, dsl).initialize(context)
+    enable(JdbcDsl(datasourceType, dsl))
 }
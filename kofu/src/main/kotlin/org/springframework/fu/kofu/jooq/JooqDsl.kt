@@ -9,6 +9,7 @@ import org.springframework.context.support.GenericApplicationContext
 import org.springframework.fu.kofu.AbstractDsl
 import org.springframework.fu.kofu.ConfigurationDsl
 import org.springframework.fu.kofu.jdbc.DataSourceType
+import org.springframework.fu.kofu.recordInitialization
 
 /**
  * @author Kevin Davin
@@ -53,14 +54,14 @@ class JooqDsl(private val datasourceType: DataSourceType, private val init: Jooq
         }
 
         when(datasourceType) {
-            DataSourceType.Hikari -> DataSourceConfiguration_HikariInitializer(dataSourceProperties).initialize(context)
-            DataSourceType.Embedded -> EmbeddedDataSourceConfigurationInitializer(dataSourceProperties).initialize(context)
-            DataSourceType.Generic -> DataSourceConfiguration_GenericInitializer(dataSourceProperties).initialize(context)
+            DataSourceType.Hikari -> context.recordInitialization(DataSourceConfiguration_HikariInitializer(dataSourceProperties))
+            DataSourceType.Embedded -> context.recordInitialization(EmbeddedDataSourceConfigurationInitializer(dataSourceProperties))
+            DataSourceType.Generic -> context.recordInitialization(DataSourceConfiguration_GenericInitializer(dataSourceProperties))
         }
-        JdbcTemplateConfigurationInitializer(jdbcProperties).initialize(context)
-        JooqConfigurationInitializer(jooqProperties).initialize(context)
-        DataSourceTransactionManagerAutoConfigurationInitializer().initialize(context)
-        DataSourceInitializerInvokerInitializer(dataSourceProperties).initialize(context)
+        context.recordInitialization(JdbcTemplateConfigurationInitializer(jdbcProperties))
+        context.recordInitialization(JooqConfigurationInitializer(jooqProperties))
+        context.recordInitialization(DataSourceTransactionManagerAutoConfigurationInitializer())
+        context.recordInitialization(DataSourceInitializerInvokerInitializer(dataSourceProperties))
     }
 }
 
@@ -69,5 +70,5 @@ class JooqDsl(private val datasourceType: DataSourceType, private val init: Jooq
  * @see JooqDsl
  */
 fun ConfigurationDsl.jooq(datasourceType: DataSourceType, dsl: JooqDsl.() -> Unit = {}) {
-    JooqDsl(datasourceType, dsl).initialize(context)
+    enable(JooqDsl(datasourceType, dsl))
 }
@@ -16,9 +16,13 @@
 
 package org.springframework.fu.kofu.mongo
 
+import com.mongodb.MongoCompressor
+import com.mongodb.ReadPreference
 import de.flapdoodle.embed.mongo.distribution.IFeatureAwareVersion
 import de.flapdoodle.embed.mongo.distribution.Version
 import org.springframework.boot.autoconfigure.data.mongo.MongoDataInitializer
+import org.bson.codecs.configuration.CodecRegistry
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsProperties
 import org.springframework.boot.autoconfigure.mongo.MongoInitializer
 import org.springframework.boot.autoconfigure.mongo.MongoProperties
 import org.springframework.boot.autoconfigure.mongo.embedded.EmbeddedMongoInitializer
@@ -26,6 +30,8 @@ import org.springframework.boot.autoconfigure.mongo.embedded.EmbeddedMongoProper
 import org.springframework.context.support.GenericApplicationContext
 import org.springframework.fu.kofu.AbstractDsl
 import org.springframework.fu.kofu.ConfigurationDsl
+import org.springframework.fu.kofu.recordInitialization
+import java.time.Duration
 
 /**
  * Kofu DSL base MongoDB DSL
@@ -38,6 +44,8 @@ abstract class AbstractMongoDsl(private val init: MongoDsl.() -> Unit) : Abstrac
 
     internal var embedded = false
 
+    protected var settingsProperties: MongoClientSettingsProperties? = null
+
     /**
      * Configure the database uri. By default set to `mongodb://localhost/test`.
      */
@@ -59,6 +67,14 @@ abstract class AbstractMongoDsl(private val init: MongoDsl.() -> Unit) : Abstrac
         EmbeddedMongoDsl(properties, dsl).initialize(context)
     }
 
+    /**
+     * Configure the MongoDB client settings, like its connection pool, compressors, read preference or codecs.
+     */
+    fun settings(dsl: MongoClientSettingsDsl.() -> Unit) {
+        val properties = settingsProperties ?: MongoClientSettingsProperties().also { settingsProperties = it }
+        MongoClientSettingsDsl(properties).dsl()
+    }
+
     /**
      * Kofu DSL for embedded MongoDB configuration.
      */
@@ -69,7 +85,7 @@ abstract class AbstractMongoDsl(private val init: MongoDsl.() -> Unit) : Abstrac
         override fun initialize(context: GenericApplicationContext) {
             super.initialize(context)
             init()
-            EmbeddedMongoInitializer(mongoProperties, embeddedMongoProperties).initialize(context)
+            context.recordInitialization(EmbeddedMongoInitializer(mongoProperties, embeddedMongoProperties))
         }
 
         /**
@@ -80,4 +96,97 @@ abstract class AbstractMongoDsl(private val init: MongoDsl.() -> Unit) : Abstrac
                 embeddedMongoProperties.version = value.asInDownloadPath()
             }
     }
+
+    /**
+     * Kofu DSL for MongoDB client settings, applied on top of the ones defined by the connection string.
+     */
+    class MongoClientSettingsDsl(private val properties: MongoClientSettingsProperties) {
+
+        /**
+         * Configure the connection pool of the client.
+         */
+        fun pool(dsl: PoolDsl.() -> Unit) {
+            PoolDsl(properties.pool).dsl()
+        }
+
+        /**
+         * Compressors offered to the server, in order of preference, for example
+         * [MongoCompressor.createZstdCompressor] which requires `com.github.luben:zstd-jni` or
+         * [MongoCompressor.createSnappyCompressor] which requires `org.xerial.snappy:snappy-java`.
+         */
+        var compressors: List<MongoCompressor>?
+            get() = properties.compressors
+            set(value) {
+                properties.compressors = value
+            }
+
+        /**
+         * Read preference of the client (`ReadPreference.primary()` by default).
+         */
+        var readPreference: ReadPreference?
+            get() = properties.readPreference
+            set(value) {
+                properties.readPreference = value
+            }
+
+        /**
+         * Codecs taking precedence over the default ones of the driver.
+         */
+        var codecs: CodecRegistry?
+            get() = properties.codecRegistry
+            set(value) {
+                properties.codecRegistry = value
+            }
+    }
+
+    /**
+     * Kofu DSL for MongoDB connection pool configuration, per server.
+     */
+    class PoolDsl(private val properties: MongoClientSettingsProperties.Pool) {
+
+        /**
+         * Maximum number of connections (`100` by default).
+         */
+        var maxSize: Int?
+            get() = properties.maxSize
+            set(value) {
+                properties.maxSize = value
+            }
+
+        /**
+         * Minimum number of connections kept open (`0` by default).
+         */
+        var minSize: Int?
+            get() = properties.minSize
+            set(value) {
+                properties.minSize = value
+            }
+
+        /**
+         * Maximum time an operation waits for a connection (2 minutes by default).
+         */
+        var maxWaitTime: Duration?
+            get() = properties.maxWaitTime
+            set(value) {
+                properties.maxWaitTime = value
+            }
+
+        /**
+         * Time after which an idle connection is closed (unlimited by default).
+         */
+        var maxConnectionIdleTime: Duration?
+            get() = properties.maxConnectionIdleTime
+            set(value) {
+                properties.maxConnectionIdleTime = value
+            }
+
+        /**
+         * Time after which a connection is closed, whether idle or not (unlimited by default).
+         */
+        var maxConnectionLifeTime: Duration?
+            get() = properties.maxConnectionLifeTime
+            set(value) {
+                properties.maxConnectionLifeTime = value
+            }
+    }
 }
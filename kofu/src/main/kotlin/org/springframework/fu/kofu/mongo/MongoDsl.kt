@@ -17,9 +17,11 @@
 package org.springframework.fu.kofu.mongo
 
 import org.springframework.boot.autoconfigure.data.mongo.MongoDataInitializer
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsInitializer
 import org.springframework.boot.autoconfigure.mongo.MongoInitializer
 import org.springframework.context.support.GenericApplicationContext
 import org.springframework.fu.kofu.ConfigurationDsl
+import org.springframework.fu.kofu.recordInitialization
 
 /**
  * Kofu DSL for MongoDB configuration.
@@ -33,8 +35,9 @@ open class MongoDsl(private val init: MongoDsl.() -> Unit) : AbstractMongoDsl({}
     override fun initialize(context: GenericApplicationContext) {
         super.initialize(context)
         init()
-        MongoInitializer(properties, embedded).initialize(context)
-        MongoDataInitializer(properties).initialize(context)
+        context.recordInitialization(MongoInitializer(properties, embedded))
+        context.recordInitialization(MongoDataInitializer(properties))
+        settingsProperties?.let { context.recordInitialization(MongoClientSettingsInitializer(it)) }
     }
 
 }
@@ -44,5 +47,5 @@ open class MongoDsl(private val init: MongoDsl.() -> Unit) : AbstractMongoDsl({}
  * @see MongoDsl
  */
 fun ConfigurationDsl.mongodb(dsl: MongoDsl.() -> Unit = {}) {
-    MongoDsl(dsl).initialize(context)
+    enable(MongoDsl(dsl))
 }
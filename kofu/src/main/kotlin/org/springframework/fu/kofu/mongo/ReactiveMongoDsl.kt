@@ -17,9 +17,14 @@
 package org.springframework.fu.kofu.mongo
 
 import org.springframework.boot.autoconfigure.data.mongo.MongoReactiveDataInitializer
+import org.springframework.boot.autoconfigure.data.mongo.ReactiveMongoBatchProperties
+import org.springframework.boot.autoconfigure.data.mongo.ReactiveMongoBatchWriterInitializer
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsInitializer
 import org.springframework.boot.autoconfigure.mongo.MongoReactiveInitializer
 import org.springframework.context.support.GenericApplicationContext
 import org.springframework.fu.kofu.ConfigurationDsl
+import org.springframework.fu.kofu.recordInitialization
+import java.time.Duration
 
 /**
  * Kofu DSL for MongoDB configuration.
@@ -36,11 +41,65 @@ open class ReactiveMongoDsl(
 	private val init: ReactiveMongoDsl.() -> Unit
 ) : AbstractMongoDsl({}) {
 
+	private var batchProperties: ReactiveMongoBatchProperties? = null
+
+	/**
+	 * Register a [org.springframework.boot.autoconfigure.data.mongo.ReactiveMongoBatchWriter] bean, writing in
+	 * unordered batches of 1000 documents with a concurrency of 4 by default.
+	 */
+	fun batchWriter(dsl: BatchWriterDsl.() -> Unit = {}) {
+		val properties = batchProperties ?: ReactiveMongoBatchProperties().also { batchProperties = it }
+		BatchWriterDsl(properties).dsl()
+	}
+
 	override fun initialize(context: GenericApplicationContext) {
 		super.initialize(context)
 		init()
-		MongoReactiveDataInitializer(properties).initialize(context)
-		MongoReactiveInitializer(properties, embedded).initialize(context)
+		context.recordInitialization(MongoReactiveDataInitializer(properties))
+		context.recordInitialization(MongoReactiveInitializer(properties, embedded))
+		settingsProperties?.let { context.recordInitialization(MongoClientSettingsInitializer(it)) }
+		batchProperties?.let { context.recordInitialization(ReactiveMongoBatchWriterInitializer(it)) }
+	}
+
+	/**
+	 * Kofu DSL for MongoDB batch writes configuration.
+	 */
+	class BatchWriterDsl(private val properties: ReactiveMongoBatchProperties) {
+
+		/**
+		 * Maximum number of documents or write requests per batch (`1000` by default).
+		 */
+		var batchSize: Int
+			get() = properties.batchSize
+			set(value) {
+				properties.batchSize = value
+			}
+
+		/**
+		 * Maximum time to wait for a batch to be full before writing it, batches are only written when full or when
+		 * the written elements complete by default.
+		 */
+		var maxWaitTime: Duration?
+			get() = properties.maxWaitTime
+			set(value) {
+				properties.maxWaitTime = value
+			}
+
+		/**
+		 * Maximum number of batches written concurrently (`4` by default).
+		 */
+		var concurrency: Int
+			get() = properties.concurrency
+			set(value) {
+				properties.concurrency = value
+			}
+
+		/**
+		 * Write the documents of a batch in order, stopping at the first error, instead of unordered.
+		 */
+		fun ordered() {
+			properties.isOrdered = true
+		}
 	}
 
 }
@@ -50,5 +109,5 @@ open class ReactiveMongoDsl(
  * @see ReactiveMongoDsl
  */
 fun ConfigurationDsl.reactiveMongodb(dsl: ReactiveMongoDsl.() -> Unit = {}) {
-	ReactiveMongoDsl(dsl).initialize(context)
+	enable(ReactiveMongoDsl(dsl))
 }
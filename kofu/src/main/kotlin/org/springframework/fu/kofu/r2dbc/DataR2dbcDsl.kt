@@ -4,13 +4,14 @@ import org.springframework.boot.autoconfigure.data.r2dbc.R2dbcDataInitializer
 import org.springframework.context.support.GenericApplicationContext
 import org.springframework.fu.kofu.AbstractDsl
 import org.springframework.fu.kofu.ConfigurationDsl
+import org.springframework.fu.kofu.recordInitialization
 
 class DataR2dbcDsl(private val init: DataR2dbcDsl.() -> Unit) : AbstractDsl() {
 
     override fun initialize(context: GenericApplicationContext) {
         super.initialize(context)
         init()
-        R2dbcDataInitializer().initialize(context)
+        context.recordInitialization(R2dbcDataInitializer())
     }
 }
 
@@ -19,5 +20,5 @@ class DataR2dbcDsl(private val init: DataR2dbcDsl.() -> Unit) : AbstractDsl() {
  * @see R2dbcDsl
  */
 fun ConfigurationDsl.dataR2dbc(r2dbcDsl: DataR2dbcDsl.() -> Unit = {}) {
-    DataR2dbcDsl(r2dbcDsl).initialize(context)
+    enable(DataR2dbcDsl(r2dbcDsl))
 }
\ No newline at end of file
@@ -2,10 +2,13 @@ package org.springframework.fu.kofu.r2dbc
 
 import org.springframework.boot.autoconfigure.r2dbc.ConnectionFactoryOptionsBuilderCustomizer
 import org.springframework.boot.autoconfigure.r2dbc.R2dbcInitializer
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcPoolProperties
 import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties
 import org.springframework.context.support.GenericApplicationContext
 import org.springframework.fu.kofu.AbstractDsl
 import org.springframework.fu.kofu.ConfigurationDsl
+import org.springframework.fu.kofu.recordInitialization
+import java.time.Duration
 import java.util.*
 
 class R2dbcDsl(private val init: R2dbcDsl.() -> Unit) : AbstractDsl() {
@@ -26,13 +29,24 @@ class R2dbcDsl(private val init: R2dbcDsl.() -> Unit) : AbstractDsl() {
 
     var transactional: Boolean = false
 
+    private var poolProperties: R2dbcPoolProperties? = null
+
     override fun initialize(context: GenericApplicationContext) {
         super.initialize(context)
         init()
 
         val properties = r2dbcProperties()
 
-        R2dbcInitializer(properties, optionsCustomizers, transactional).initialize(context)
+        context.recordInitialization(R2dbcInitializer(properties, optionsCustomizers, poolProperties, transactional))
+    }
+
+    /**
+     * Enable and configure connection pooling via a [dedicated DSL][PoolDsl]. The `ConnectionPool` is registered
+     * as the `ConnectionFactory` bean and disposed when the application context is closed.
+     */
+    fun pool(dsl: PoolDsl.() -> Unit = {}) {
+        val pool = poolProperties ?: R2dbcPoolProperties().also { poolProperties = it }
+        PoolDsl(pool, dsl).initialize(context)
     }
 
     fun r2dbcProperties() : R2dbcProperties =
@@ -51,14 +65,79 @@ class R2dbcDsl(private val init: R2dbcDsl.() -> Unit) : AbstractDsl() {
     }
 }
 
+/**
+ * Kofu DSL for R2DBC connection pool configuration.
+ */
+class PoolDsl(private val pool: R2dbcPoolProperties, private val init: PoolDsl.() -> Unit) : AbstractDsl() {
+
+    /**
+     * Initial connection pool size.
+     */
+    var initialSize: Int
+        get() = pool.initialSize
+        set(value) {
+            pool.initialSize = value
+        }
+
+    /**
+     * Maximal connection pool size.
+     */
+    var maxSize: Int
+        get() = pool.maxSize
+        set(value) {
+            pool.maxSize = value
+        }
+
+    /**
+     * Maximum amount of time that a connection is allowed to sit idle in the pool.
+     */
+    var maxIdleTime: Duration
+        get() = pool.maxIdleTime
+        set(value) {
+            pool.maxIdleTime = value
+        }
+
+    /**
+     * Maximum time to acquire a connection from the pool, no limit if not set.
+     */
+    var maxAcquireTime: Duration?
+        get() = pool.maxAcquireTime
+        set(value) {
+            pool.maxAcquireTime = value
+        }
+
+    /**
+     * Validation query, connections are validated with `Connection#validate` if not set.
+     */
+    var validationQuery: String?
+        get() = pool.validationQuery
+        set(value) {
+            pool.validationQuery = value
+        }
+
+    /**
+     * Expose the pool metrics as a JMX MBean, they are also available via `ConnectionPool#getMetrics()`.
+     */
+    var registerJmx: Boolean
+        get() = pool.isRegisterJmx
+        set(value) {
+            pool.isRegisterJmx = value
+        }
+
+    override fun initialize(context: GenericApplicationContext) {
+        super.initialize(context)
+        init()
+    }
+}
+
 /**
  * Configure R2DBC support.
  * @see R2dbcDsl
  */
 fun ConfigurationDsl.r2dbc(dsl: R2dbcDsl.() -> Unit = {}) {
-    R2dbcDsl(dsl).initialize(context)
+    enable(R2dbcDsl(dsl))
 }
 
 fun DataR2dbcDsl.r2dbc(dsl: R2dbcDsl.() -> Unit = {}) {
-    R2dbcDsl(dsl).initialize(context)
+    context.recordInitialization(R2dbcDsl(dsl))
 }
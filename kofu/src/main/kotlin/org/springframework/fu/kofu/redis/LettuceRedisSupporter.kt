@@ -1,5 +1,6 @@
 package org.springframework.fu.kofu.redis
 
+import org.springframework.boot.autoconfigure.data.redis.ClientResourcesProperties
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties
 import org.springframework.context.support.GenericApplicationContext
 import org.springframework.fu.kofu.AbstractDsl
@@ -20,6 +21,8 @@ interface LettuceRedisSupporter {
  */
 class LettuceDsl(private val redisProperties: RedisProperties, private val init: LettuceDsl.() -> Unit) : AbstractDsl() {
 
+	internal val clientResourcesProperties = ClientResourcesProperties()
+
 	/**
 	 * Configure the shutdown timeout.
 	 */
@@ -36,6 +39,43 @@ class LettuceDsl(private val redisProperties: RedisProperties, private val init:
 		PoolDsl(redisProperties.lettuce.pool, dsl).initialize(context)
 	}
 
+	/**
+	 * Configure the `ClientResources` shared by all the Lettuce connection factories of the application context
+	 * and shut down when it is closed, via a [dedicated DSL][ClientResourcesDsl].
+	 */
+	fun clientResources(dsl: ClientResourcesDsl.() -> Unit) {
+		ClientResourcesDsl(clientResourcesProperties, dsl).initialize(context)
+	}
+
+	override fun initialize(context: GenericApplicationContext) {
+		super.initialize(context)
+		init()
+	}
+}
+
+/**
+ * Configure the Lettuce client resources thread pools, Lettuce defaults to the number of available processors.
+ */
+class ClientResourcesDsl(private val clientResources: ClientResourcesProperties, private val init: ClientResourcesDsl.() -> Unit) : AbstractDsl() {
+
+	/**
+	 * Configure the number of I/O threads.
+	 */
+	var ioThreadPoolSize: Int?
+		get() = clientResources.ioThreadPoolSize
+		set(value) {
+			clientResources.ioThreadPoolSize = value
+		}
+
+	/**
+	 * Configure the number of computation threads.
+	 */
+	var computationThreadPoolSize: Int?
+		get() = clientResources.computationThreadPoolSize
+		set(value) {
+			clientResources.computationThreadPoolSize = value
+		}
+
 	override fun initialize(context: GenericApplicationContext) {
 		super.initialize(context)
 		init()
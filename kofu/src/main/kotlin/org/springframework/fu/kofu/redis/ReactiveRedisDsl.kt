@@ -7,6 +7,7 @@ import org.springframework.boot.autoconfigure.data.redis.SentinelInitializer
 import org.springframework.context.ApplicationContextInitializer
 import org.springframework.context.support.GenericApplicationContext
 import org.springframework.fu.kofu.ConfigurationDsl
+import org.springframework.fu.kofu.recordInitialization
 
 /**
  * Kofu DSL for Reactive Redis configuration
@@ -21,8 +22,9 @@ class ReactiveRedisDsl(private val init: ReactiveRedisDsl.() -> Unit) : Abstract
 
 	override fun lettuce(dsl: LettuceDsl.() -> Unit) {
 		lettuceInitializer = ApplicationContextInitializer {
-			LettuceDsl(properties, dsl).initialize(it)
-			LettuceRedisInitializer(properties).initialize(it)
+			val lettuceDsl = LettuceDsl(properties, dsl)
+			lettuceDsl.initialize(it)
+			LettuceRedisInitializer(properties, lettuceDsl.clientResourcesProperties).initialize(it)
 		}
 	}
 
@@ -30,10 +32,10 @@ class ReactiveRedisDsl(private val init: ReactiveRedisDsl.() -> Unit) : Abstract
 		super.initialize(context)
 		init()
 		if (lettuceInitializer == null) lettuce()
-		lettuceInitializer!!.initialize(context)
-		RedisReactiveInitializer().initialize(context)
-		ClusterInitializer(properties.cluster).initialize(context)
-		SentinelInitializer(properties.sentinel).initialize(context)
+		context.recordInitialization(lettuceInitializer!!)
+		context.recordInitialization(RedisReactiveInitializer())
+		context.recordInitialization(ClusterInitializer(properties.cluster))
+		context.recordInitialization(SentinelInitializer(properties.sentinel))
 	}
 }
 
@@ -45,5 +47,5 @@ class ReactiveRedisDsl(private val init: ReactiveRedisDsl.() -> Unit) : Abstract
  * @see ReactiveRedisDsl
  */
 fun ConfigurationDsl.reactiveRedis(dsl: ReactiveRedisDsl.() -> Unit = {}) {
-	ReactiveRedisDsl(dsl).initialize(context)
+	enable(ReactiveRedisDsl(dsl))
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import org.springframework.boot.autoconfigure.data.redis.SentinelInitializer
 import org.springframework.context.ApplicationContextInitializer
 import org.springframework.context.support.GenericApplicationContext
 import org.springframework.fu.kofu.ConfigurationDsl
+import org.springframework.fu.kofu.recordInitialization
 
 /**
  * Kofu DSL for Redis configuration
@@ -34,8 +35,9 @@ class RedisDsl(private val init: RedisDsl.() -> Unit) : AbstractRedisDsl(), Jedi
 
 	override fun lettuce(dsl: LettuceDsl.() -> Unit) {
 		lettuceInitializer = ApplicationContextInitializer {
-			LettuceDsl(properties, dsl).initialize(context)
-			LettuceRedisInitializer(properties).initialize(context)
+			val lettuceDsl = LettuceDsl(properties, dsl)
+			lettuceDsl.initialize(it)
+			LettuceRedisInitializer(properties, lettuceDsl.clientResourcesProperties).initialize(it)
 		}
 	}
 
@@ -43,15 +45,15 @@ class RedisDsl(private val init: RedisDsl.() -> Unit) : AbstractRedisDsl(), Jedi
 		super.initialize(context)
 		init()
 		if (jedisInitializer != null) {
-			jedisInitializer!!.initialize(context)
+			context.recordInitialization(jedisInitializer!!)
 		}
 		else {
 			if (lettuceInitializer == null) lettuce()
-			lettuceInitializer!!.initialize(context)
+			context.recordInitialization(lettuceInitializer!!)
 		}
-		RedisInitializer().initialize(context)
-		ClusterInitializer(properties.cluster).initialize(context)
-		SentinelInitializer(properties.sentinel).initialize(context)
+		context.recordInitialization(RedisInitializer())
+		context.recordInitialization(ClusterInitializer(properties.cluster))
+		context.recordInitialization(SentinelInitializer(properties.sentinel))
 	}
 }
 
@@ -63,5 +65,5 @@ class RedisDsl(private val init: RedisDsl.() -> Unit) : AbstractRedisDsl(), Jedi
  * @see RedisDsl
  */
 fun ConfigurationDsl.redis(dsl: RedisDsl.() -> Unit = {}) {
-	RedisDsl(dsl).initialize(context)
+	enable(RedisDsl(dsl))
 }
\ No newline at end of file
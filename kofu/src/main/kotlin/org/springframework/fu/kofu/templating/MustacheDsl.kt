@@ -22,6 +22,7 @@ import org.springframework.boot.autoconfigure.mustache.MustacheReactiveWebInitia
 import org.springframework.boot.autoconfigure.mustache.MustacheServletWebInitializer
 import org.springframework.context.support.GenericApplicationContext
 import org.springframework.fu.kofu.AbstractDsl
+import org.springframework.fu.kofu.recordInitialization
 import org.springframework.fu.kofu.webflux.WebFluxServerDsl
 import org.springframework.fu.kofu.webmvc.WebMvcServerDsl
 
@@ -55,18 +56,18 @@ class MustacheDsl(private val init: MustacheDsl.() -> Unit): AbstractDsl() {
 
 	fun initializeReactive(context: GenericApplicationContext) {
 		this.initialize(context)
-		MustacheReactiveWebInitializer(properties).initialize(context)
+		context.recordInitialization(MustacheReactiveWebInitializer(properties))
 	}
 
 	fun initializeServlet(context: GenericApplicationContext) {
 		this.initialize(context)
-		MustacheServletWebInitializer(properties).initialize(context)
+		context.recordInitialization(MustacheServletWebInitializer(properties))
 	}
 
 	override fun initialize(context: GenericApplicationContext) {
 		super.initialize(context)
 		init()
-		MustacheInitializer(properties).initialize(context)
+		context.recordInitialization(MustacheInitializer(properties))
 	}
 }
 
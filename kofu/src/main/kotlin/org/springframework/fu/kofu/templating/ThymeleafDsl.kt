@@ -22,6 +22,7 @@ import org.springframework.boot.autoconfigure.thymeleaf.ThymeleafReactiveWebInit
 import org.springframework.boot.autoconfigure.thymeleaf.ThymeleafServletWebInitializer
 import org.springframework.context.support.GenericApplicationContext
 import org.springframework.fu.kofu.AbstractDsl
+import org.springframework.fu.kofu.recordInitialization
 import org.springframework.fu.kofu.webflux.WebFluxServerDsl
 import org.springframework.fu.kofu.webmvc.WebMvcServerDsl
 
@@ -48,18 +49,18 @@ class ThymeleafDsl(private val init: ThymeleafDsl.() -> Unit) : AbstractDsl() {
 
     fun initializeServlet(context: GenericApplicationContext) {
         this.initialize(context)
-        ThymeleafServletWebInitializer(properties).initialize(context)
+        context.recordInitialization(ThymeleafServletWebInitializer(properties))
     }
 
     fun initializeReactive(context: GenericApplicationContext) {
         this.initialize(context)
-        ThymeleafReactiveWebInitializer(properties).initialize(context)
+        context.recordInitialization(ThymeleafReactiveWebInitializer(properties))
     }
 
     override fun initialize(context: GenericApplicationContext) {
         super.initialize(context)
         init()
-        ThymeleafInitializer(properties).initialize(context)
+        context.recordInitialization(ThymeleafInitializer(properties))
     }
 }
 
@@ -26,8 +26,11 @@ import com.fasterxml.jackson.databind.PropertyNamingStrategy
 import com.fasterxml.jackson.databind.SerializationFeature
 import org.springframework.boot.autoconfigure.jackson.JacksonInitializer
 import org.springframework.boot.autoconfigure.jackson.JacksonProperties
+import org.springframework.boot.autoconfigure.web.reactive.JacksonJsonCodecProperties
 import org.springframework.context.support.GenericApplicationContext
 import org.springframework.fu.kofu.AbstractDsl
+import org.springframework.fu.kofu.recordInitialization
+import org.springframework.util.unit.DataSize
 import java.util.*
 import kotlin.reflect.KClass
 
@@ -39,7 +42,7 @@ import kotlin.reflect.KClass
  *
  * @author Sebastien Deleuze
  */
-class JacksonDsl(private val init: JacksonDsl.() -> Unit): AbstractDsl() {
+class JacksonDsl(private val init: JacksonDsl.() -> Unit, private val codecProperties: JacksonJsonCodecProperties = JacksonJsonCodecProperties()): AbstractDsl() {
 
 	private val properties = JacksonProperties()
 
@@ -64,9 +67,40 @@ class JacksonDsl(private val init: JacksonDsl.() -> Unit): AbstractDsl() {
 		if (indentOutput != null) {
 			properties.serialization[SerializationFeature.INDENT_OUTPUT] = indentOutput
 		}
-		JacksonInitializer(properties).initialize(context)
+		context.recordInitialization(JacksonInitializer(properties, accelerated))
 	}
 
+	/**
+	 * Register the Jackson Afterburner module, which replaces reflection by generated bytecode for the property access
+	 * and instantiation, and the parameter names module, which allows to deserialize immutable types via their
+	 * constructor when compiled with `-parameters`.
+	 *
+	 * Requires `com.fasterxml.jackson.module:jackson-module-afterburner` dependency.
+	 */
+	var accelerated: Boolean = false
+
+	/**
+	 * Register high-throughput WebFlux codecs, which reuse their `ObjectReader` and `ObjectWriter` per type, serialize
+	 * directly in the pooled buffers of the server or client, and encode `Flux` streams as NDJSON element by element.
+	 * @see org.springframework.boot.autoconfigure.web.reactive.HighThroughputJackson2JsonEncoder
+	 * @see org.springframework.boot.autoconfigure.web.reactive.HighThroughputJackson2JsonDecoder
+	 */
+	var highThroughput: Boolean
+		get() = codecProperties.isHighThroughput
+		set(value) {
+			codecProperties.isHighThroughput = value
+		}
+
+	/**
+	 * Limit on the number of bytes that can be buffered by the WebFlux codec when decoding a single JSON value
+	 * (`256KB` by default).
+	 */
+	var maxInMemorySize: DataSize?
+		get() = codecProperties.maxInMemorySize
+		set(value) {
+			codecProperties.maxInMemorySize = value
+		}
+
 	/**
 	 * Date format string or a fully-qualified date format class name. For instance, `yyyy-MM-dd HH:mm:ss`
 	 */
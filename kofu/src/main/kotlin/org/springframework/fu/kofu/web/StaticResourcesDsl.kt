@@ -0,0 +1,66 @@
+package org.springframework.fu.kofu.web
+
+import org.springframework.boot.autoconfigure.web.StaticResourceProperties
+import org.springframework.util.unit.DataSize
+
+/**
+ * Kofu DSL for the static resources served by WebFlux and WebMvc servers.
+ */
+class StaticResourcesDsl(private val properties: StaticResourceProperties) {
+
+	/**
+	 * Locations of the static resources, searched in order (`classpath:static/` by default).
+	 */
+	var locations: List<String>
+		get() = properties.locations
+		set(value) {
+			properties.locations = value
+		}
+
+	/**
+	 * Maximum total size of the resource contents cached off-heap (`10MB` by default), caching is disabled when zero.
+	 */
+	var cacheMaxSize: DataSize
+		get() = properties.cacheMaxSize
+		set(value) {
+			properties.cacheMaxSize = value
+		}
+
+	/**
+	 * Maximum size of a cached resource (`64KB` by default), larger resources are streamed or transferred from the
+	 * file system on each request.
+	 */
+	var cacheMaxFileSize: DataSize
+		get() = properties.cacheMaxFileSize
+		set(value) {
+			properties.cacheMaxFileSize = value
+		}
+
+	/**
+	 * Maximum number of cached lookups of the missing resources and of the resources larger than [cacheMaxFileSize]
+	 * (`1024` by default), lookup caching is disabled when zero.
+	 */
+	var lookupCacheSize: Int
+		get() = properties.lookupCacheSize
+		set(value) {
+			properties.lookupCacheSize = value
+		}
+
+	/**
+	 * Whether to serve the `.gz` variant of a resource when it exists and the client accepts gzip (`true` by default).
+	 */
+	var gzip: Boolean
+		get() = properties.isGzip
+		set(value) {
+			properties.isGzip = value
+		}
+
+	/**
+	 * Whether to serve the `.br` variant of a resource when it exists and the client accepts Brotli (`true` by default).
+	 */
+	var brotli: Boolean
+		get() = properties.isBrotli
+		set(value) {
+			properties.isBrotli = value
+		}
+}
@@ -2,11 +2,15 @@ package org.springframework.fu.kofu.webflux
 
 import org.springframework.boot.autoconfigure.web.reactive.*
 import org.springframework.boot.autoconfigure.web.reactive.function.client.ReactiveWebClientBuilderInitializer
+import org.springframework.boot.autoconfigure.web.reactive.function.client.ReactorNettyConnectorInitializer
+import org.springframework.boot.autoconfigure.web.reactive.function.client.ReactorNettyConnectorProperties
 import org.springframework.context.support.GenericApplicationContext
 import org.springframework.fu.kofu.AbstractDsl
 import org.springframework.fu.kofu.ConfigurationDsl
+import org.springframework.fu.kofu.recordInitialization
 import org.springframework.fu.kofu.web.JacksonDsl
 import org.springframework.web.reactive.function.client.WebClient
+import java.time.Duration
 
 /**
  * Kofu DSL for WebFlux webClient.
@@ -26,6 +30,8 @@ class WebFluxClientDsl(private val init: WebFluxClientDsl.() -> Unit) : Abstract
 
 	private var codecsConfigured: Boolean = false
 
+	private var connectorProperties: ReactorNettyConnectorProperties? = null
+
 	/**
 	 * Configure a base URL for requests performed through the webClient.
 	 */
@@ -36,10 +42,22 @@ class WebFluxClientDsl(private val init: WebFluxClientDsl.() -> Unit) : Abstract
 		super.initialize(context)
 		init()
 		if (!codecsConfigured) {
-			StringCodecInitializer(true, false).initialize(context)
-			ResourceCodecInitializer(true).initialize(context)
+			context.recordInitialization(StringCodecInitializer(true, false))
+			context.recordInitialization(ResourceCodecInitializer(true))
+		}
+		connectorProperties?.let {
+			context.recordInitialization(ReactorNettyConnectorInitializer(it))
 		}
-		ReactiveWebClientBuilderInitializer(baseUrl).initialize(context)
+		context.recordInitialization(ReactiveWebClientBuilderInitializer(baseUrl))
+	}
+
+	/**
+	 * Use a Reactor Netty connector with a dedicated connection pool and event loop, tuned via a
+	 * [dedicated DSL][ConnectorDsl].
+	 */
+	fun connector(dsl: ConnectorDsl.() -> Unit) {
+		val properties = connectorProperties ?: ReactorNettyConnectorProperties().also { connectorProperties = it }
+		ConnectorDsl(properties).dsl()
 	}
 
 	/**
@@ -50,6 +68,101 @@ class WebFluxClientDsl(private val init: WebFluxClientDsl.() -> Unit) : Abstract
 		codecsConfigured = true
 	}
 
+	/**
+	 * Kofu DSL for the Reactor Netty connector of the webClient.
+	 */
+	class ConnectorDsl(private val properties: ReactorNettyConnectorProperties) {
+
+		/**
+		 * Name of the client, used as the name of its connection pool and metrics, and as the prefix of its event
+		 * loop threads and beans, `webClient` by default. Each connector of an application must have a distinct name.
+		 */
+		var name: String
+			get() = properties.name
+			set(value) {
+				properties.name = value
+			}
+
+		/**
+		 * Maximum number of connections per remote host, twice the number of available processors (with a minimum
+		 * of 16) by default.
+		 */
+		var maxConnections: Int?
+			get() = properties.maxConnections
+			set(value) {
+				properties.maxConnections = value
+			}
+
+		/**
+		 * Maximum number of requests waiting for a connection, twice the maximum number of connections by default.
+		 */
+		var pendingAcquireMaxCount: Int?
+			get() = properties.pendingAcquireMaxCount
+			set(value) {
+				properties.pendingAcquireMaxCount = value
+			}
+
+		/**
+		 * Maximum time to wait for a connection, 45 seconds by default.
+		 */
+		var pendingAcquireTimeout: Duration?
+			get() = properties.pendingAcquireTimeout
+			set(value) {
+				properties.pendingAcquireTimeout = value
+			}
+
+		/**
+		 * Time after which an idle connection is closed, no timeout by default.
+		 */
+		var maxIdleTime: Duration?
+			get() = properties.maxIdleTime
+			set(value) {
+				properties.maxIdleTime = value
+			}
+
+		/**
+		 * Time after which a connection is closed once released to the pool, no timeout by default.
+		 */
+		var maxLifeTime: Duration?
+			get() = properties.maxLifeTime
+			set(value) {
+				properties.maxLifeTime = value
+			}
+
+		/**
+		 * Interval of the background eviction of the idle and expired connections, which are otherwise only evicted
+		 * when acquired.
+		 */
+		var evictInBackground: Duration?
+			get() = properties.evictInBackground
+			set(value) {
+				properties.evictInBackground = value
+			}
+
+		/**
+		 * Maximum time to wait for the response of a request, no timeout by default.
+		 */
+		var responseTimeout: Duration?
+			get() = properties.responseTimeout
+			set(value) {
+				properties.responseTimeout = value
+			}
+
+		/**
+		 * Enable HTTP/2 over cleartext (h2c), via an upgrade of the HTTP/1.1 connections.
+		 */
+		fun http2() {
+			properties.isHttp2 = true
+		}
+
+		/**
+		 * Request compressed responses.
+		 */
+		fun compression() {
+			properties.isCompression = true
+		}
+	}
+
 	class WebFluxClientCodecDsl(private val init: WebFluxClientCodecDsl.() -> Unit) : AbstractDsl() {
 
 		override fun initialize(context: GenericApplicationContext) {
@@ -61,14 +174,14 @@ class WebFluxClientDsl(private val init: WebFluxClientDsl.() -> Unit) : Abstract
 		 * Enable [org.springframework.core.codec.CharSequenceEncoder] and [org.springframework.core.codec.StringDecoder]
 		 */
 		fun string(textPlainOnly: Boolean = false) {
-			StringCodecInitializer(true, textPlainOnly).initialize(context)
+			context.recordInitialization(StringCodecInitializer(true, textPlainOnly))
 		}
 
 		/**
 		 * Enable [org.springframework.http.codec.ResourceHttpMessageWriter] and [org.springframework.core.codec.ResourceDecoder]
 		 */
 		fun resource() {
-			ResourceCodecInitializer(true).initialize(context)
+			context.recordInitialization(ResourceCodecInitializer(true))
 		}
 
 		/**
@@ -81,8 +194,31 @@ class WebFluxClientDsl(private val init: WebFluxClientDsl.() -> Unit) : Abstract
 		 * @sample org.springframework.fu.kofu.samples.jacksonDsl
 		 */
 		fun jackson(dsl: JacksonDsl.() -> Unit = {}) {
-			JacksonDsl(dsl).initialize(context)
-			JacksonJsonCodecInitializer(true).initialize(context)
+			val codecProperties = JacksonJsonCodecProperties()
+			JacksonDsl(dsl, codecProperties).initialize(context)
+			context.recordInitialization(JacksonJsonCodecInitializer(true, codecProperties))
+		}
+
+		/**
+		 * Enable [org.springframework.http.codec.json.Jackson2SmileEncoder] and
+		 * [org.springframework.http.codec.json.Jackson2SmileDecoder] for the `application/x-jackson-smile` binary format,
+		 * configured like the JSON codec when a `jackson { }` block is declared.
+		 *
+		 * Requires `com.fasterxml.jackson.dataformat:jackson-dataformat-smile` dependency.
+		 */
+		fun smile() {
+			context.recordInitialization(JacksonSmileCodecInitializer(true))
+		}
+
+		/**
+		 * Enable [org.springframework.http.codec.cbor.Jackson2CborEncoder] and
+		 * [org.springframework.http.codec.cbor.Jackson2CborDecoder] for the `application/cbor` binary format,
+		 * configured like the JSON codec when a `jackson { }` block is declared.
+		 *
+		 * Requires `com.fasterxml.jackson.dataformat:jackson-dataformat-cbor` dependency.
+		 */
+		fun cbor() {
+			context.recordInitialization(JacksonCborCodecInitializer(true))
 		}
 
 		/**
@@ -92,14 +228,14 @@ class WebFluxClientDsl(private val init: WebFluxClientDsl.() -> Unit) : Abstract
 		 * supports `application/x-protobuf` and `application/octet-stream`.
 		 */
 		fun protobuf() {
-			ProtobufCodecInitializer(true).initialize(context)
+			context.recordInitialization(ProtobufCodecInitializer(true))
 		}
 
 		/**
 		 * Enable [org.springframework.http.codec.FormHttpMessageWriter] and [org.springframework.http.codec.FormHttpMessageReader]
 		 */
 		fun form() {
-			FormCodecInitializer(true).initialize(context)
+			context.recordInitialization(FormCodecInitializer(true))
 		}
 
 		/**
@@ -107,7 +243,7 @@ class WebFluxClientDsl(private val init: WebFluxClientDsl.() -> Unit) : Abstract
 		* [org.springframework.http.codec.multipart.MultipartHttpMessageReader]
 		*/
 		fun multipart() {
-			MultipartCodecInitializer(true).initialize(context)
+			context.recordInitialization(MultipartCodecInitializer(true))
 		}
 
 		/**
@@ -115,7 +251,7 @@ class WebFluxClientDsl(private val init: WebFluxClientDsl.() -> Unit) : Abstract
 		 * [org.springframework.http.codec.json.KotlinSerializationJsonEncoder]
 		 */
 		fun kotlinSerialization() {
-			KotlinSerializationCodecInitializer(true).initialize(context)
+			context.recordInitialization(KotlinSerializationCodecInitializer(true))
 		}
 	}
 }
@@ -125,5 +261,5 @@ class WebFluxClientDsl(private val init: WebFluxClientDsl.() -> Unit) : Abstract
  * @see WebFluxClientDsl
  */
 fun ConfigurationDsl.webClient(dsl: WebFluxClientDsl.() -> Unit =  {}) {
-	WebFluxClientDsl(dsl).initialize(context)
+	enable(WebFluxClientDsl(dsl))
 }
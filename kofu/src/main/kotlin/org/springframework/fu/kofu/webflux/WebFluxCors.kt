@@ -2,6 +2,7 @@ package org.springframework.fu.kofu.webflux
 
 import org.springframework.context.support.GenericApplicationContext
 import org.springframework.context.support.registerBean
+import org.springframework.fu.kofu.recordInitialization
 import org.springframework.fu.kofu.web.AbstractCorsDsl
 import org.springframework.web.cors.CorsConfiguration
 import org.springframework.web.cors.reactive.CorsWebFilter
@@ -44,5 +45,5 @@ class WebFluxCorsDsl(
  */
 fun WebFluxServerDsl.cors(defaults: Boolean = true,
 						  dsl: AbstractCorsDsl.() -> Unit = {}) {
-	WebFluxCorsDsl(defaults, dsl).initialize(context)
+	context.recordInitialization(WebFluxCorsDsl(defaults, dsl))
 }
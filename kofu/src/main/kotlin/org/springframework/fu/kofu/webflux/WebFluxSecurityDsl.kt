@@ -20,6 +20,7 @@ import org.springframework.beans.factory.ObjectProvider
 import org.springframework.beans.factory.getBeanProvider
 import org.springframework.context.support.GenericApplicationContext
 import org.springframework.fu.kofu.AbstractDsl
+import org.springframework.fu.kofu.recordInitialization
 import org.springframework.security.authentication.ReactiveAuthenticationManager
 import org.springframework.security.config.annotation.web.reactive.ServerHttpSecurityInitializer
 import org.springframework.security.config.annotation.web.reactive.WebFluxSecurityInitializer
@@ -67,16 +68,15 @@ class WebFluxSecurityDsl(private val init: WebFluxSecurityDsl.() -> Unit) : Abst
 				passwordEncoder,
 				userDetailsPasswordService
 		)
-		securityInitializer.initialize(context)
-		WebFluxSecurityInitializer {
+		context.recordInitialization(securityInitializer)
+		context.recordInitialization(WebFluxSecurityInitializer {
 			if (securityContextRepository != null) {
 				it.securityContextRepository(securityContextRepository)
 			} else {
 				it
 			}
 					.invoke(httpConfiguration)
-		}
-				.initialize(context)
+		})
 	}
 }
 
@@ -90,7 +90,7 @@ class WebFluxSecurityDsl(private val init: WebFluxSecurityDsl.() -> Unit) : Abst
  * @author Jonas Bark
  */
 fun WebFluxServerDsl.security(dsl: WebFluxSecurityDsl.() -> Unit = {}) {
-	WebFluxSecurityDsl(dsl).initialize(context)
+	context.recordInitialization(WebFluxSecurityDsl(dsl))
 }
 
 /**
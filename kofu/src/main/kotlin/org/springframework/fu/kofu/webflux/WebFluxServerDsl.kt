@@ -3,9 +3,16 @@ package org.springframework.fu.kofu.webflux
 import org.springframework.beans.factory.ObjectProvider
 import org.springframework.beans.factory.getBeanProvider
 import org.springframework.beans.factory.support.BeanDefinitionReaderUtils.uniqueBeanName
+import org.springframework.boot.autoconfigure.data.redis.RedisResponseCacheInitializer
+import org.springframework.boot.autoconfigure.data.redis.ResponseCacheProperties
 import org.springframework.boot.autoconfigure.web.ServerProperties
+import org.springframework.boot.autoconfigure.web.StaticResourceProperties
 import org.springframework.boot.autoconfigure.web.WebProperties
+import org.springframework.boot.autoconfigure.web.embedded.NettyServerInitializer
+import org.springframework.boot.autoconfigure.web.embedded.NettyServerProperties
 import org.springframework.boot.autoconfigure.web.reactive.*
+import org.springframework.boot.autoconfigure.web.reactive.function.server.IndexedRouterFunction
+import org.springframework.boot.autoconfigure.web.reactive.function.server.StaticResourceRouterFunction
 import org.springframework.boot.web.embedded.jetty.JettyReactiveWebServerFactory
 import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory
 import org.springframework.boot.web.embedded.tomcat.TomcatReactiveWebServerFactory
@@ -16,10 +23,16 @@ import org.springframework.context.support.registerBean
 import org.springframework.core.io.ClassPathResource
 import org.springframework.fu.kofu.AbstractDsl
 import org.springframework.fu.kofu.ConfigurationDsl
+import org.springframework.fu.kofu.recordInitialization
 import org.springframework.fu.kofu.web.JacksonDsl
+import org.springframework.fu.kofu.web.StaticResourcesDsl
 import org.springframework.web.reactive.function.server.CoRouterFunctionDsl
+import org.springframework.web.reactive.function.server.RouterFunction
 import org.springframework.web.reactive.function.server.RouterFunctionDsl
+import org.springframework.web.reactive.function.server.ServerResponse
+import org.springframework.util.unit.DataSize
 import org.springframework.web.server.WebFilter
+import java.time.Duration
 
 /**
  * Kofu DSL for WebFlux server.
@@ -55,6 +68,12 @@ open class WebFluxServerDsl(private val init: WebFluxServerDsl.() -> Unit): Abst
 
 	private var codecsConfigured: Boolean = false
 
+	private var nettyProperties: NettyServerProperties? = null
+
+	private val routers = mutableListOf<() -> RouterFunction<ServerResponse>>()
+
+	private var staticResourceProperties: StaticResourceProperties? = null
+
 	/**
 	 * Define the listening port of the webFlux.
 	 */
@@ -70,26 +89,49 @@ open class WebFluxServerDsl(private val init: WebFluxServerDsl.() -> Unit): Abst
 	 */
 	var engine: ConfigurableReactiveWebServerFactory? = null
 
+	/**
+	 * Dispatch requests via a single [IndexedRouterFunction] which indexes the [router] and [coRouter] blocks by HTTP method and
+	 * literal leading path segments, so that only the blocks which may match a request are tried instead of walking
+	 * all of them in declaration order. Useful with a large number of router blocks.
+	 */
+	var indexedRouting: Boolean = false
+
 	override fun initialize(context: GenericApplicationContext) {
 		super.initialize(context)
 		init()
-		context.registerBean(uniqueBeanName(RouterFunctionDsl::class.java.name, context)) {
-			org.springframework.web.reactive.function.server.router {
-				resources("/**", ClassPathResource("static/"))
+		if (indexedRouting) {
+			context.registerBean(uniqueBeanName(IndexedRouterFunction::class.java.name, context)) { IndexedRouterFunction(routers.map { it() }) }
+		}
+		else {
+			routers.forEach { router -> context.registerBean(uniqueBeanName(RouterFunction::class.java.name, context)) { router() } }
+		}
+		val staticResources = staticResourceProperties
+		if (staticResources != null) {
+			context.registerBean(uniqueBeanName(StaticResourceRouterFunction::class.java.name, context)) { StaticResourceRouterFunction(staticResources, context) }
+		}
+		else {
+			context.registerBean(uniqueBeanName(RouterFunctionDsl::class.java.name, context)) {
+				org.springframework.web.reactive.function.server.router {
+					resources("/**", ClassPathResource("static/"))
+				}
 			}
 		}
 		if (engine == null) {
 			engine = netty()
 		}
 		engine!!.setPort(port)
+		nettyProperties?.let {
+			val netty = engine as? NettyReactiveWebServerFactory ?: throw IllegalStateException("Netty tuning can't be used with ${engine!!.javaClass.simpleName}")
+			context.recordInitialization(NettyServerInitializer(it, netty))
+		}
 		if (!codecsConfigured) {
-			StringCodecInitializer(false, false).initialize(context)
-			ResourceCodecInitializer(false).initialize(context)
+			context.recordInitialization(StringCodecInitializer(false, false))
+			context.recordInitialization(ResourceCodecInitializer(false))
 		}
 		if (context.containsBeanDefinition("webHandler")) {
 			throw IllegalStateException("Only one webFlux per application is supported")
 		}
-		ReactiveWebServerInitializer(serverProperties, resourceProperties, webProperties, webFluxProperties, engine).initialize(context)
+		context.recordInitialization(ReactiveWebServerInitializer(serverProperties, resourceProperties, webProperties, webFluxProperties, engine))
 	}
 
 	/**
@@ -107,12 +149,35 @@ open class WebFluxServerDsl(private val init: WebFluxServerDsl.() -> Unit): Abst
 		context.registerBean<T>(uniqueBeanName(T::class.java.name, context))
 	}
 
+	/**
+	 * Cache successful GET responses in Redis via a [org.springframework.boot.autoconfigure.data.redis.RedisResponseCacheWebFilter]
+	 * configured with a [dedicated DSL][ResponseCacheDsl], so that hot endpoints are served without invoking their handler.
+	 *
+	 * Requires the `reactiveRedisTemplate` bean registered by [org.springframework.fu.kofu.redis.reactiveRedis].
+	 */
+	fun responseCache(dsl: ResponseCacheDsl.() -> Unit = {}) {
+		val properties = ResponseCacheProperties()
+		ResponseCacheDsl(properties).dsl()
+		context.recordInitialization(RedisResponseCacheInitializer(properties))
+	}
+
+	/**
+	 * Serve the static resources with a [StaticResourceRouterFunction], configured via a [dedicated DSL][StaticResourcesDsl],
+	 * which caches small resources off-heap, transfers files with zero-copy and serves their pre-compressed `.br` and `.gz`
+	 * variants, instead of the default resource handling of the `classpath:static/` directory. Uncached resources are
+	 * resolved on the bounded elastic scheduler, and `Range` requests are supported.
+	 */
+	fun staticResources(dsl: StaticResourcesDsl.() -> Unit = {}) {
+		val properties = staticResourceProperties ?: StaticResourceProperties().also { staticResourceProperties = it }
+		StaticResourcesDsl(properties).dsl()
+	}
+
 	/**
 	 * Configure routes via a [dedicated DSL][RouterFunctionDsl].
 	 * @sample org.springframework.fu.kofu.samples.webFluxRouter
 	 */
 	fun router(routes: (RouterFunctionDsl.() -> Unit)) {
-		context.registerBean(uniqueBeanName(RouterFunctionDsl::class.java.name, context)) { org.springframework.web.reactive.function.server.router(routes) }
+		routers.add { org.springframework.web.reactive.function.server.router(routes) }
 	}
 
 	/**
@@ -141,7 +206,7 @@ open class WebFluxServerDsl(private val init: WebFluxServerDsl.() -> Unit): Abst
 	 * @sample org.springframework.fu.kofu.samples.webFluxCoRouter
 	 */
 	fun coRouter(routes: (CoRouterFunctionDsl.() -> Unit)) {
-		context.registerBean(uniqueBeanName(CoRouterFunctionDsl::class.java.name, context)) { org.springframework.web.reactive.function.server.coRouter(routes) }
+		routers.add { org.springframework.web.reactive.function.server.coRouter(routes) }
 	}
 
 	/**
@@ -172,6 +237,14 @@ open class WebFluxServerDsl(private val init: WebFluxServerDsl.() -> Unit): Abst
 	 */
 	fun netty() = NettyDelegate().invoke()
 
+	/**
+	 * Use the Netty engine tuned via a [dedicated DSL][NettyDsl].
+	 */
+	fun netty(dsl: NettyDsl.() -> Unit) {
+		val properties = nettyProperties ?: NettyServerProperties().also { nettyProperties = it }
+		NettyDsl(properties, serverProperties).dsl()
+	}
+
 	/**
 	 * Tomcat engine.
 	 * TODO Use lazy val when supported by GraalVM
@@ -218,6 +291,133 @@ open class WebFluxServerDsl(private val init: WebFluxServerDsl.() -> Unit): Abst
 		}
 	}
 
+	/**
+	 * Kofu DSL for Netty engine tuning.
+	 */
+	class NettyDsl(private val properties: NettyServerProperties, private val serverProperties: ServerProperties) {
+
+		/**
+		 * Number of event loop threads handling the I/O of accepted connections, the number of available processors
+		 * (with a minimum of 4) by default.
+		 */
+		var workerThreads: Int?
+			get() = properties.workerThreads
+			set(value) {
+				properties.workerThreads = value
+			}
+
+		/**
+		 * Number of event loop threads accepting connections, shared with the worker ones by default.
+		 */
+		var selectorThreads: Int?
+			get() = properties.selectorThreads
+			set(value) {
+				properties.selectorThreads = value
+			}
+
+		/**
+		 * Whether to use the native transport (epoll or kqueue) when available on the classpath, `true` by default.
+		 */
+		var preferNative: Boolean?
+			get() = properties.preferNative
+			set(value) {
+				properties.preferNative = value
+			}
+
+		/**
+		 * Maximum length of the queue of incoming connections (`SO_BACKLOG`).
+		 */
+		var backlog: Int?
+			get() = properties.backlog
+			set(value) {
+				properties.backlog = value
+			}
+
+		/**
+		 * Time after which an idle connection is closed, no timeout by default.
+		 */
+		var idleTimeout: Duration?
+			get() = properties.idleTimeout
+			set(value) {
+				properties.idleTimeout = value
+			}
+
+		/**
+		 * Maximum size of the HTTP request headers, 8KB by default.
+		 */
+		var maxHeaderSize: DataSize?
+			get() = properties.maxHeaderSize
+			set(value) {
+				properties.maxHeaderSize = value
+			}
+
+		/**
+		 * Enable HTTP/2, over cleartext (h2c) unless SSL is configured.
+		 */
+		fun http2() {
+			serverProperties.http2.isEnabled = true
+		}
+
+		/**
+		 * Enable the compression of the responses larger than [minResponseSize] with one of the [mimeTypes], or one
+		 * of the default textual ones if none are specified.
+		 */
+		fun compression(minResponseSize: DataSize = DataSize.ofKilobytes(2), vararg mimeTypes: String) {
+			serverProperties.compression.isEnabled = true
+			serverProperties.compression.minResponseSize = minResponseSize
+			if (mimeTypes.isNotEmpty()) {
+				serverProperties.compression.mimeTypes = arrayOf(*mimeTypes)
+			}
+		}
+	}
+
+	/**
+	 * Kofu DSL for the Redis response cache.
+	 */
+	class ResponseCacheDsl(private val properties: ResponseCacheProperties) {
+
+		/**
+		 * Time to live of the cached responses, 1 minute by default.
+		 */
+		var ttl: Duration
+			get() = properties.timeToLive
+			set(value) {
+				properties.timeToLive = value
+			}
+
+		/**
+		 * Prefix of the Redis keys, `response-cache:` by default.
+		 */
+		var keyPrefix: String
+			get() = properties.keyPrefix
+			set(value) {
+				properties.keyPrefix = value
+			}
+
+		/**
+		 * Maximum time concurrent requests wait for the response of the request computing the same entry, 5 seconds by default.
+		 */
+		var lockTimeout: Duration
+			get() = properties.lockTimeout
+			set(value) {
+				properties.lockTimeout = value
+			}
+
+		/**
+		 * Path patterns of the cached GET endpoints, all GET endpoints are cached if not specified.
+		 */
+		fun paths(vararg pathPatterns: String) {
+			properties.pathPatterns.addAll(pathPatterns)
+		}
+
+		/**
+		 * Request headers taken into account in the cache key, in addition to the path and the query parameters.
+		 */
+		fun varyOn(vararg headers: String) {
+			properties.varyHeaders.addAll(headers)
+		}
+	}
+
 	class WebFluxServerCodecDsl(private val init: WebFluxServerCodecDsl.() -> Unit) : AbstractDsl() {
 
 		override fun initialize(context: GenericApplicationContext) {
@@ -229,14 +429,14 @@ open class WebFluxServerDsl(private val init: WebFluxServerDsl.() -> Unit): Abst
 		 * Enable [org.springframework.core.codec.CharSequenceEncoder] and [org.springframework.core.codec.StringDecoder]
 		 */
 		fun string(textPlainOnly: Boolean = false) {
-			StringCodecInitializer(false, textPlainOnly).initialize(context)
+			context.recordInitialization(StringCodecInitializer(false, textPlainOnly))
 		}
 
 		/**
 		 * Enable [org.springframework.http.codec.ResourceHttpMessageWriter] and [org.springframework.core.codec.ResourceDecoder]
 		 */
 		fun resource() {
-			ResourceCodecInitializer(false).initialize(context)
+			context.recordInitialization(ResourceCodecInitializer(false))
 		}
 
 		/**
@@ -249,8 +449,31 @@ open class WebFluxServerDsl(private val init: WebFluxServerDsl.() -> Unit): Abst
 		 * @sample org.springframework.fu.kofu.samples.jacksonDsl
 		 */
 		fun jackson(dsl: JacksonDsl.() -> Unit = {}) {
-			JacksonDsl(dsl).initialize(context)
-			JacksonJsonCodecInitializer(false).initialize(context)
+			val codecProperties = JacksonJsonCodecProperties()
+			JacksonDsl(dsl, codecProperties).initialize(context)
+			context.recordInitialization(JacksonJsonCodecInitializer(false, codecProperties))
+		}
+
+		/**
+		 * Enable [org.springframework.http.codec.json.Jackson2SmileEncoder] and
+		 * [org.springframework.http.codec.json.Jackson2SmileDecoder] for the `application/x-jackson-smile` binary format,
+		 * configured like the JSON codec when a `jackson { }` block is declared.
+		 *
+		 * Requires `com.fasterxml.jackson.dataformat:jackson-dataformat-smile` dependency.
+		 */
+		fun smile() {
+			context.recordInitialization(JacksonSmileCodecInitializer(false))
+		}
+
+		/**
+		 * Enable [org.springframework.http.codec.cbor.Jackson2CborEncoder] and
+		 * [org.springframework.http.codec.cbor.Jackson2CborDecoder] for the `application/cbor` binary format,
+		 * configured like the JSON codec when a `jackson { }` block is declared.
+		 *
+		 * Requires `com.fasterxml.jackson.dataformat:jackson-dataformat-cbor` dependency.
+		 */
+		fun cbor() {
+			context.recordInitialization(JacksonCborCodecInitializer(false))
 		}
 
 		/**
@@ -260,14 +483,14 @@ open class WebFluxServerDsl(private val init: WebFluxServerDsl.() -> Unit): Abst
 		 * supports `application/x-protobuf` and `application/octet-stream`.
 		 */
 		fun protobuf() {
-			ProtobufCodecInitializer(false).initialize(context)
+			context.recordInitialization(ProtobufCodecInitializer(false))
 		}
 
 		/**
 		 * Enable [org.springframework.http.codec.FormHttpMessageWriter] and [org.springframework.http.codec.FormHttpMessageReader]
 		 */
 		fun form() {
-			FormCodecInitializer(false).initialize(context)
+			context.recordInitialization(FormCodecInitializer(false))
 		}
 
 		/**
@@ -275,14 +498,14 @@ open class WebFluxServerDsl(private val init: WebFluxServerDsl.() -> Unit): Abst
 		 * [org.springframework.http.codec.multipart.MultipartHttpMessageReader]
 		 */
 		fun multipart() {
-			MultipartCodecInitializer(false).initialize(context)
+			context.recordInitialization(MultipartCodecInitializer(false))
 		}
 
 		/**
 		 * Enable [org.springframework.http.codec.json.KotlinSerializationJsonDecoder] and [org.springframework.http.codec.json.KotlinSerializationJsonEncoder]
 		 */
 		fun kotlinSerialization() {
-			KotlinSerializationCodecInitializer(false).initialize(context)
+			context.recordInitialization(KotlinSerializationCodecInitializer(false))
 		}
 	}
 
@@ -293,5 +516,5 @@ open class WebFluxServerDsl(private val init: WebFluxServerDsl.() -> Unit): Abst
  * @see WebFluxServerDsl
  */
 fun ConfigurationDsl.webFlux(dsl: WebFluxServerDsl.() -> Unit =  {}) {
-	WebFluxServerDsl(dsl).initialize(context)
+	enable(WebFluxServerDsl(dsl))
 }
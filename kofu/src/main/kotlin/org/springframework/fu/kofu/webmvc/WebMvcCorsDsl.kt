@@ -18,6 +18,7 @@ package org.springframework.fu.kofu.webmvc
 
 import org.springframework.context.support.GenericApplicationContext
 import org.springframework.context.support.registerBean
+import org.springframework.fu.kofu.recordInitialization
 import org.springframework.fu.kofu.web.AbstractCorsDsl
 import org.springframework.web.cors.CorsConfiguration
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource
@@ -60,6 +61,6 @@ class WebMvcCorsDsl(
  */
 fun WebMvcServerDsl.cors(defaults: Boolean = true,
 						 dsl: AbstractCorsDsl.() -> Unit = {}) {
-	WebMvcCorsDsl(defaults, dsl).initialize(context)
+	context.recordInitialization(WebMvcCorsDsl(defaults, dsl))
 }
 
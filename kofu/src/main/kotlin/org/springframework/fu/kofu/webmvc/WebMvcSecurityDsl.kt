@@ -20,6 +20,7 @@ import org.springframework.beans.factory.ObjectProvider
 import org.springframework.beans.factory.getBeanProvider
 import org.springframework.context.support.GenericApplicationContext
 import org.springframework.fu.kofu.AbstractDsl
+import org.springframework.fu.kofu.recordInitialization
 import org.springframework.security.authentication.AuthenticationManager
 import org.springframework.security.config.annotation.web.configuration.HttpSecurityInitializer
 import org.springframework.security.config.annotation.web.configuration.ObjectPostProcessorInitializer
@@ -63,23 +64,22 @@ class WebMvcSecurityDsl(private val init: WebMvcSecurityDsl.() -> Unit) : Abstra
 		super.initialize(context)
 		init()
 
-		ObjectPostProcessorInitializer().initialize(context)
+		context.recordInitialization(ObjectPostProcessorInitializer())
 
 		val securityInitializer = HttpSecurityInitializer(authenticationManager, userDetailsService, passwordEncoder,
 				userDetailsPasswordService)
 
-		securityInitializer.initialize(context)
+		context.recordInitialization(securityInitializer)
 
-		WebSecurityInitializer {
+		context.recordInitialization(WebSecurityInitializer {
 			if (securityContextRepository != null) {
 				it.securityContext().securityContextRepository(securityContextRepository).and()
 			} else {
 				it
 			}
 					.invoke(httpConfiguration)
-		}
-				.initialize(context)
-		WebMvcSecurityInitializer().initialize(context)
+		})
+		context.recordInitialization(WebMvcSecurityInitializer())
 	}
 }
 
@@ -93,7 +93,7 @@ class WebMvcSecurityDsl(private val init: WebMvcSecurityDsl.() -> Unit) : Abstra
  * @author Fred Montariol
  */
 fun WebMvcServerDsl.security(dsl: WebMvcSecurityDsl.() -> Unit = {}) {
-	WebMvcSecurityDsl(dsl).initialize(context)
+	context.recordInitialization(WebMvcSecurityDsl(dsl))
 }
 
 /**
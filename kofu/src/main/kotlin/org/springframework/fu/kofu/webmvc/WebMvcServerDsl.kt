@@ -4,8 +4,14 @@ import org.springframework.beans.factory.ObjectProvider
 import org.springframework.beans.factory.getBeanProvider
 import org.springframework.beans.factory.support.BeanDefinitionReaderUtils
 import org.springframework.boot.autoconfigure.web.ServerProperties
+import org.springframework.boot.autoconfigure.web.StaticResourceProperties
 import org.springframework.boot.autoconfigure.web.WebProperties
+import org.springframework.boot.autoconfigure.web.embedded.ServletServerInitializer
+import org.springframework.boot.autoconfigure.web.embedded.ServletServerProperties
+import org.springframework.boot.autoconfigure.web.embedded.VirtualThreadsInitializer
 import org.springframework.boot.autoconfigure.web.servlet.*
+import org.springframework.boot.autoconfigure.web.servlet.function.IndexedRouterFunction
+import org.springframework.boot.autoconfigure.web.servlet.function.StaticResourceRouterFunction
 import org.springframework.boot.web.embedded.jetty.JettyServletWebServerFactory
 import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory
 import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory
@@ -15,8 +21,14 @@ import org.springframework.context.support.registerBean
 import org.springframework.core.io.ClassPathResource
 import org.springframework.fu.kofu.AbstractDsl
 import org.springframework.fu.kofu.ConfigurationDsl
+import org.springframework.fu.kofu.recordInitialization
 import org.springframework.fu.kofu.web.JacksonDsl
+import org.springframework.fu.kofu.web.StaticResourcesDsl
+import org.springframework.util.unit.DataSize
+import org.springframework.web.servlet.function.RouterFunction
 import org.springframework.web.servlet.function.RouterFunctionDsl
+import org.springframework.web.servlet.function.ServerResponse
+import java.time.Duration
 
 /**
  * Kofu DSL for Spring MVC server.
@@ -43,6 +55,12 @@ open class WebMvcServerDsl(private val init: WebMvcServerDsl.() -> Unit): Abstra
 
 	private var convertersConfigured: Boolean = false
 
+	private var tuningProperties: ServletServerProperties? = null
+
+	private val routers = mutableListOf<() -> RouterFunction<ServerResponse>>()
+
+	private var staticResourceProperties: StaticResourceProperties? = null
+
 	/**
 	 * Define the listening port of Spring MVC.
 	 */
@@ -57,12 +75,38 @@ open class WebMvcServerDsl(private val init: WebMvcServerDsl.() -> Unit): Abstra
 	 */
 	var engine: ConfigurableServletWebServerFactory? = null
 
+	/**
+	 * Handle each request on a new virtual thread instead of a thread of the engine pool, so that blocking calls
+	 * in handlers do not exhaust the worker threads. Supported with Tomcat, Jetty and Undertow engines, the default
+	 * thread pool of the engine is kept when the JDK does not support virtual threads.
+	 */
+	var virtualThreads: Boolean = false
+
+	/**
+	 * Dispatch requests via a single [IndexedRouterFunction] which indexes the [router] blocks by HTTP method and
+	 * literal leading path segments, so that only the blocks which may match a request are tried instead of walking
+	 * all of them in declaration order. Useful with a large number of router blocks.
+	 */
+	var indexedRouting: Boolean = false
+
 	override fun initialize(context: GenericApplicationContext) {
 		super.initialize(context)
 		init()
-		context.registerBean(BeanDefinitionReaderUtils.uniqueBeanName(RouterFunctionDsl::class.java.name, context)) {
-			org.springframework.web.servlet.function.router {
-				resources("/**", ClassPathResource("static/"))
+		if (indexedRouting) {
+			context.registerBean(BeanDefinitionReaderUtils.uniqueBeanName(IndexedRouterFunction::class.java.name, context)) { IndexedRouterFunction(routers.map { it() }) }
+		}
+		else {
+			routers.forEach { router -> context.registerBean(BeanDefinitionReaderUtils.uniqueBeanName(RouterFunction::class.java.name, context)) { router() } }
+		}
+		val staticResources = staticResourceProperties
+		if (staticResources != null) {
+			context.registerBean(BeanDefinitionReaderUtils.uniqueBeanName(StaticResourceRouterFunction::class.java.name, context)) { StaticResourceRouterFunction(staticResources, context) }
+		}
+		else {
+			context.registerBean(BeanDefinitionReaderUtils.uniqueBeanName(RouterFunctionDsl::class.java.name, context)) {
+				org.springframework.web.servlet.function.router {
+					resources("/**", ClassPathResource("static/"))
+				}
 			}
 		}
 		serverProperties.servlet.isRegisterDefaultServlet = false
@@ -71,11 +115,28 @@ open class WebMvcServerDsl(private val init: WebMvcServerDsl.() -> Unit): Abstra
 			engine = tomcat()
 		}
 		engine!!.setPort(port)
+		tuningProperties?.let {
+			context.recordInitialization(ServletServerInitializer(it))
+		}
+		if (virtualThreads) {
+			context.recordInitialization(VirtualThreadsInitializer(engine))
+		}
 		if (!convertersConfigured) {
-			StringConverterInitializer().initialize(context)
-			ResourceConverterInitializer().initialize(context)
+			context.recordInitialization(StringConverterInitializer())
+			context.recordInitialization(ResourceConverterInitializer())
 		}
-		ServletWebServerInitializer(serverProperties, webMvcProperties, resourceProperties, webProperties, engine).initialize(context)
+		context.recordInitialization(ServletWebServerInitializer(serverProperties, webMvcProperties, resourceProperties, webProperties, engine))
+	}
+
+	/**
+	 * Serve the static resources with a [StaticResourceRouterFunction], configured via a [dedicated DSL][StaticResourcesDsl],
+	 * which caches small resources off-heap, transfers files with sendfile on Tomcat and Undertow and serves their pre-compressed `.br` and `.gz`
+	 * variants, instead of the default resource handling of the `classpath:static/` directory. Unlike the default resource
+	 * handling, `Range` requests are not supported and are answered with the full content.
+	 */
+	fun staticResources(dsl: StaticResourcesDsl.() -> Unit = {}) {
+		val properties = staticResourceProperties ?: StaticResourceProperties().also { staticResourceProperties = it }
+		StaticResourcesDsl(properties).dsl()
 	}
 
 	/**
@@ -83,7 +144,16 @@ open class WebMvcServerDsl(private val init: WebMvcServerDsl.() -> Unit): Abstra
 	 * @sample org.springframework.fu.kofu.samples.webMvcRouter
 	 */
 	fun router(routes: (RouterFunctionDsl.() -> Unit)) {
-		context.registerBean(BeanDefinitionReaderUtils.uniqueBeanName(RouterFunctionDsl::class.java.name, context)) { org.springframework.web.servlet.function.router(routes) }
+		routers.add { org.springframework.web.servlet.function.router(routes) }
+	}
+
+	/**
+	 * Tune the thread pool and the connector of the engine via a [dedicated DSL][TuningDsl], the same settings
+	 * apply to Tomcat, Jetty and Undertow.
+	 */
+	fun tuning(dsl: TuningDsl.() -> Unit) {
+		val properties = tuningProperties ?: ServletServerProperties().also { tuningProperties = it }
+		TuningDsl(properties).dsl()
 	}
 
 	/**
@@ -151,6 +221,93 @@ open class WebMvcServerDsl(private val init: WebMvcServerDsl.() -> Unit): Abstra
 		}
 	}
 
+	/**
+	 * Kofu DSL for servlet engine tuning.
+	 */
+	class TuningDsl(private val properties: ServletServerProperties) {
+
+		/**
+		 * Maximum number of worker threads.
+		 */
+		var maxThreads: Int?
+			get() = properties.maxThreads
+			set(value) {
+				properties.maxThreads = value
+			}
+
+		/**
+		 * Minimum number of worker threads kept alive.
+		 */
+		var minThreads: Int?
+			get() = properties.minThreads
+			set(value) {
+				properties.minThreads = value
+			}
+
+		/**
+		 * Maximum length of the queue of incoming connections when all the worker threads are busy.
+		 */
+		var acceptCount: Int?
+			get() = properties.acceptCount
+			set(value) {
+				properties.acceptCount = value
+			}
+
+		/**
+		 * Number of I/O threads, selectors for Jetty (ignored with Tomcat).
+		 */
+		var ioThreads: Int?
+			get() = properties.ioThreads
+			set(value) {
+				properties.ioThreads = value
+			}
+
+		/**
+		 * Size of the buffers used to read requests and write responses.
+		 */
+		var bufferSize: DataSize?
+			get() = properties.bufferSize
+			set(value) {
+				properties.bufferSize = value
+			}
+
+		/**
+		 * Whether to allocate the buffers outside of the Java heap.
+		 */
+		var directBuffers: Boolean?
+			get() = properties.directBuffers
+			set(value) {
+				properties.directBuffers = value
+			}
+
+		/**
+		 * Time a connection is kept open waiting for the next request.
+		 */
+		var keepAliveTimeout: Duration?
+			get() = properties.keepAliveTimeout
+			set(value) {
+				properties.keepAliveTimeout = value
+			}
+
+		/**
+		 * Maximum number of requests served by a kept alive connection (ignored with Jetty and Undertow).
+		 */
+		var maxKeepAliveRequests: Int?
+			get() = properties.maxKeepAliveRequests
+			set(value) {
+				properties.maxKeepAliveRequests = value
+			}
+
+		/**
+		 * Maximum number of connections accepted at the same time.
+		 */
+		var maxConnections: Int?
+			get() = properties.maxConnections
+			set(value) {
+				properties.maxConnections = value
+			}
+	}
+
 	class WebMvcConverterDsl(private val init: WebMvcConverterDsl.() -> Unit) : AbstractDsl() {
 
 		override fun initialize(context: GenericApplicationContext) {
@@ -162,14 +319,14 @@ open class WebMvcServerDsl(private val init: WebMvcServerDsl.() -> Unit): Abstra
 		 * Enable [org.springframework.http.converter.StringHttpMessageConverter]
 		 */
 		fun string() {
-			StringConverterInitializer().initialize(context)
+			context.recordInitialization(StringConverterInitializer())
 		}
 
 		/**
 		 * Enable [org.springframework.http.converter.ResourceHttpMessageConverter] and [org.springframework.http.converter.ResourceRegionHttpMessageConverter]
 		 */
 		fun resource() {
-			ResourceConverterInitializer().initialize(context)
+			context.recordInitialization(ResourceConverterInitializer())
 		}
 
 		/**
@@ -181,35 +338,69 @@ open class WebMvcServerDsl(private val init: WebMvcServerDsl.() -> Unit): Abstra
 		 */
 		fun jackson(dsl: JacksonDsl.() -> Unit = {}) {
 			JacksonDsl(dsl).initialize(context)
-			JacksonJsonConverterInitializer().initialize(context)
+			context.recordInitialization(JacksonJsonConverterInitializer())
+		}
+
+		/**
+		 * Enable [org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter] for the
+		 * `application/x-jackson-smile` binary format, configured like the JSON converter when a `jackson { }` block
+		 * is declared.
+		 *
+		 * Requires `com.fasterxml.jackson.dataformat:jackson-dataformat-smile` dependency.
+		 */
+		fun smile() {
+			context.recordInitialization(JacksonSmileConverterInitializer())
+		}
+
+		/**
+		 * Enable [org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter] for the
+		 * `application/cbor` binary format, configured like the JSON converter when a `jackson { }` block is declared.
+		 *
+		 * Requires `com.fasterxml.jackson.dataformat:jackson-dataformat-cbor` dependency.
+		 */
+		fun cbor() {
+			context.recordInitialization(JacksonCborConverterInitializer())
 		}
 
 		/**
 		 * Enable [org.springframework.http.converter.support.AllEncompassingFormHttpMessageConverter]
 		 */
 		fun form() {
-			FormConverterInitializer().initialize(context)
+			context.recordInitialization(FormConverterInitializer())
+		}
+
+		/**
+		 * Enable [org.springframework.http.converter.protobuf.ProtobufHttpMessageConverter] and
+		 * [org.springframework.boot.autoconfigure.web.servlet.ProtobufDelimitedHttpMessageConverter], which writes a
+		 * `Stream`, `Iterable` or `Iterator` of messages as length-delimited messages with the
+		 * `application/x-protobuf;delimited=true` content type.
+		 *
+		 * This converter requires Protobuf 3 or higher with the official `com.google.protobuf:protobuf-java` dependency, and
+		 * supports `application/x-protobuf` and `application/octet-stream`.
+		 */
+		fun protobuf() {
+			context.recordInitialization(ProtobufConverterInitializer())
 		}
 
 		/**
 		 * Enable [org.springframework.http.converter.feed.AtomFeedHttpMessageConverter]
 		 */
 		fun atom() {
-			AtomConverterInitializer().initialize(context)
+			context.recordInitialization(AtomConverterInitializer())
 		}
 
 		/**
 		 * Enable [org.springframework.http.converter.feed.RssChannelHttpMessageConverter]
 		 */
 		fun rss() {
-			RssConverterInitializer().initialize(context)
+			context.recordInitialization(RssConverterInitializer())
 		}
 
 		/**
 		 * Enable [org.springframework.http.converter.json.KotlinSerializationJsonHttpMessageConverter]
 		 */
 		fun kotlinSerialization() {
-			KotlinSerializationConverterInitializer().initialize(context)
+			context.recordInitialization(KotlinSerializationConverterInitializer())
 		}
 	}
 }
@@ -219,5 +410,5 @@ open class WebMvcServerDsl(private val init: WebMvcServerDsl.() -> Unit): Abstra
  * @see WebMvcServerDsl
  */
 fun ConfigurationDsl.webMvc(dsl: WebMvcServerDsl.() -> Unit =  {}) {
-	WebMvcServerDsl(dsl).initialize(context)
+	enable(WebMvcServerDsl(dsl))
 }
\ No newline at end of file
@@ -20,10 +20,14 @@ import io.mockk.every
 import io.mockk.mockk
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.Test
 import org.springframework.beans.factory.getBean
+import org.springframework.boot.autoconfigure.context.MessageSourceInitializer
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup
 import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext
 import org.springframework.context.MessageSource
+import org.springframework.context.support.BeanDefinitionDsl
 import java.util.*
 
 /**
@@ -95,6 +99,45 @@ class ApplicationDslTests {
 		}
 	}
 
+	@Test
+	fun `Create a lazy application with an eager bean`() {
+		val app = application {
+			lazy(warmUp = false)
+			beans {
+				bean<Foo>("foo")
+				bean("bar", isLazyInit = false) { Bar("eager") }
+			}
+		}
+		with(app.run()) {
+			assertTrue(beanFactory.getBeanDefinition("foo").isLazyInit)
+			assertFalse(beanFactory.containsSingleton("foo"))
+			assertTrue(beanFactory.containsSingleton("bar"))
+			close()
+		}
+	}
+
+	@Test
+	fun `Record the initialization of enabled features`() {
+		val startup = BufferingApplicationStartup(1000)
+		val app = application {
+			messageSource()
+			beans {
+				bean<Foo>()
+			}
+		}
+		app.applicationStartup(startup)
+		with(app.run()) {
+			val initializers = startup.bufferedTimeline.events
+					.map { it.startupStep }
+					.filter { it.name == INITIALIZE_STEP_NAME }
+					.flatMap { step -> step.tags.filter { it.key == "initializer" }.map { it.value } }
+			assertTrue(initializers.contains(ApplicationDsl::class.java.name))
+			assertTrue(initializers.contains(MessageSourceDsl::class.java.name))
+			assertTrue(initializers.contains(MessageSourceInitializer::class.java.name))
+			assertTrue(initializers.contains(BeanDefinitionDsl::class.java.name))
+			close()
+		}
+	}
 
 	class Foo
 	class Bar(val value: String)
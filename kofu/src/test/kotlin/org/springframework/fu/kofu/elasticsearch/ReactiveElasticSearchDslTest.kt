@@ -9,11 +9,14 @@ import org.elasticsearch.rest.RestStatus
 import org.junit.jupiter.api.Assertions
 import org.junit.jupiter.api.Test
 import org.springframework.beans.factory.getBean
+import org.springframework.boot.autoconfigure.data.elasticsearch.ReactiveElasticsearchBulkIndexer
 import org.springframework.data.elasticsearch.client.reactive.ReactiveElasticsearchClient
 import org.springframework.fu.kofu.application
 import org.testcontainers.containers.GenericContainer
 import org.xnio.XnioExecutor.Key.IMMEDIATE
+import reactor.core.publisher.Flux
 import reactor.test.StepVerifier
+import java.time.Duration
 import java.util.Collections.singletonMap
 
 
@@ -49,4 +52,42 @@ class ReactiveElasticSearchDslTest {
         }
         es.stop()
     }
-}
\ No newline at end of file
+
+    @Test
+    fun `enable reactive spring data elasticsearch with tuned client and bulk indexer`() {
+        val es = object : GenericContainer<Nothing>("elasticsearch:7.9.3") {
+            init {
+                withExposedPorts(9200)
+                withEnv("discovery.type", "single-node")
+            }
+        }
+        es.start()
+
+        val app = application {
+            reactiveElasticSearch {
+                hostAndPort = "localhost:${es.firstMappedPort}"
+                connectTimeout = Duration.ofSeconds(5)
+                socketTimeout = Duration.ofSeconds(30)
+                maxConnections = 4
+                compression()
+                bulkIndexer {
+                    maxActions = 100
+                    maxWaitTime = Duration.ofMillis(100)
+                    concurrency = 2
+                }
+            }
+        }
+        with(app.run()) {
+            val indexer = getBean<ReactiveElasticsearchBulkIndexer>()
+            val requests = Flux.range(0, 1000).map {
+                IndexRequest("logs").source(singletonMap("message", "log $it"))
+            }
+            StepVerifier
+                    .create(indexer.index(requests).map { it.items.size }.reduce(0) { a, b -> a + b })
+                    .expectNext(1000)
+                    .verifyComplete()
+            close()
+        }
+        es.stop()
+    }
+}
@@ -1,8 +1,10 @@
 package org.springframework.fu.kofu.jdbc
 
+import com.zaxxer.hikari.HikariDataSource
 import org.junit.Assert
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
 import org.springframework.beans.factory.getBean
 import org.springframework.fu.kofu.application
 import org.springframework.jdbc.core.JdbcTemplate
@@ -10,6 +12,7 @@ import org.springframework.jdbc.core.namedparam.MapSqlParameterSource
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate
 import org.testcontainers.containers.GenericContainer
 import java.sql.PreparedStatement
+import java.time.Duration
 
 class JdbcDslTests {
 
@@ -99,6 +102,45 @@ class JdbcDslTests {
         pg.stop()
     }
 
+    @Test
+    fun `enable jdbc H2 using Hikari datasource with pool settings`() {
+        val app = application {
+            jdbc(DataSourceType.Hikari) {
+                url = "jdbc:h2:mem:hikari"
+                hikari {
+                    maximumPoolSize = 4
+                    minimumIdle = 1
+                    connectionTimeout = Duration.ofSeconds(5)
+                    maxLifetime = Duration.ofMinutes(10)
+                    dataSourceProperties("foo" to "bar")
+                }
+            }
+        }
+
+        with(app.run()) {
+            val dataSource = getBean<HikariDataSource>()
+            assertEquals(4, dataSource.maximumPoolSize)
+            assertEquals(1, dataSource.minimumIdle)
+            assertEquals(5000, dataSource.connectionTimeout)
+            assertEquals(600000, dataSource.maxLifetime)
+            assertEquals("bar", dataSource.dataSourceProperties.getProperty("foo"))
+            close()
+        }
+    }
+
+    @Test
+    fun `fail to configure Hikari without the Hikari datasource type`() {
+        val app = application {
+            jdbc(DataSourceType.Embedded) {
+                hikari {
+                    maximumPoolSize = 4
+                }
+            }
+        }
+        val exception = assertThrows<IllegalStateException> { app.run() }
+        assertEquals("Hikari can only be configured with DataSourceType.Hikari, not DataSourceType.Embedded", exception.message)
+    }
+
     @Test
     fun `enable jdbc H2 embedded datasource`() {
         val app = application {
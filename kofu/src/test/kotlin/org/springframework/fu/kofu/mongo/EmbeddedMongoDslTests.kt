@@ -16,16 +16,24 @@
 
 package org.springframework.fu.kofu.mongo
 
+import com.mongodb.MongoClientSettings
+import com.mongodb.MongoCompressor
+import com.mongodb.ReadPreference
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Test
 import org.springframework.beans.factory.getBean
+import org.springframework.beans.factory.getBeanProvider
+import org.springframework.boot.autoconfigure.data.mongo.ReactiveMongoBatchWriter
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer
 import org.springframework.data.annotation.Id
 import org.springframework.data.mongodb.core.MongoTemplate
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate
 import org.springframework.data.mongodb.core.findById
 import org.springframework.fu.kofu.application
 import org.springframework.util.SocketUtils
+import reactor.core.publisher.Flux
 import java.time.Duration
+import java.util.concurrent.TimeUnit
 
 class EmbeddedMongoModuleTests {
 
@@ -49,6 +57,75 @@ class EmbeddedMongoModuleTests {
 		}
 	}
 
+	@Test
+	fun `enable mongodb embedded module with reactive batch writer`() {
+		val port = SocketUtils.findAvailableTcpPort()
+		val app = application {
+			beans {
+				bean<TestReactiveRepository>()
+			}
+			reactiveMongodb {
+				uri = "mongodb://localhost:$port/test"
+				embedded()
+				batchWriter {
+					batchSize = 100
+					maxWaitTime = Duration.ofMillis(50)
+					concurrency = 2
+				}
+			}
+		}
+		with(app.run()){
+			val writer = getBean<ReactiveMongoBatchWriter>()
+			val users = Flux.range(0, 1000).map { TestUser("$it", "user$it") }
+			val inserted = writer.insert(users, TestUser::class.java)
+					.map { it.insertedIds.size }
+					.reduce(0) { a, b -> a + b }
+					.block(Duration.ofSeconds(10))
+			assertEquals(1000, inserted)
+			val repository = getBean<TestReactiveRepository>()
+			assertEquals("user42", repository.findById("42").block(Duration.ofSeconds(3))?.name)
+			close()
+		}
+	}
+
+	@Test
+	fun `enable mongodb embedded module with tuned client settings`() {
+		val port = SocketUtils.findAvailableTcpPort()
+		val app = application {
+			beans {
+				bean<TestRepository>()
+			}
+			mongodb {
+				uri = "mongodb://localhost:$port/test"
+				embedded()
+				settings {
+					pool {
+						maxSize = 20
+						minSize = 2
+						maxWaitTime = Duration.ofSeconds(5)
+						maxConnectionIdleTime = Duration.ofMinutes(1)
+					}
+					compressors = listOf(MongoCompressor.createZlibCompressor())
+					readPreference = ReadPreference.primaryPreferred()
+				}
+			}
+		}
+		with(app.run()){
+			val builder = MongoClientSettings.builder()
+			getBeanProvider<MongoClientSettingsBuilderCustomizer>().orderedStream().forEach { it.customize(builder) }
+			val settings = builder.build()
+			assertEquals(20, settings.connectionPoolSettings.maxSize)
+			assertEquals(2, settings.connectionPoolSettings.minSize)
+			assertEquals(5000, settings.connectionPoolSettings.getMaxWaitTime(TimeUnit.MILLISECONDS))
+			assertEquals("zlib", settings.compressorList.single().name)
+			assertEquals(ReadPreference.primaryPreferred(), settings.readPreference)
+			val repository = getBean<TestRepository>()
+			repository.save(TestUser("1", "foo"))
+			assertEquals("foo", repository.findById("1")?.name)
+			close()
+		}
+	}
+
 	@Test
 	fun `enable mongodb embedded module`() {
 		val port = SocketUtils.findAvailableTcpPort()
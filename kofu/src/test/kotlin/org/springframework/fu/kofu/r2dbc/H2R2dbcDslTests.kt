@@ -1,5 +1,9 @@
 package org.springframework.fu.kofu.r2dbc
 
+import io.r2dbc.pool.ConnectionPool
+import io.r2dbc.spi.ConnectionFactory
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertThrows
 import org.junit.jupiter.api.io.TempDir
@@ -10,6 +14,7 @@ import org.springframework.transaction.reactive.TransactionalOperator
 import reactor.test.StepVerifier
 import java.nio.file.Files
 import java.nio.file.Path
+import java.time.Duration
 
 class H2R2dbcDslTests {
 
@@ -42,6 +47,41 @@ class H2R2dbcDslTests {
         }
     }
 
+    @Test
+    fun `enable r2dbc H2 embedded with pool`(@TempDir tempDir: Path) {
+        val dbPath = tempDir.resolve("test.db")
+        Files.createFile(dbPath)
+        val app = application {
+            r2dbc {
+                url = "r2dbc:h2:file:///${dbPath.toAbsolutePath()}"
+                pool {
+                    initialSize = 2
+                    maxSize = 5
+                    maxAcquireTime = Duration.ofSeconds(5)
+                    validationQuery = "SELECT 1"
+                }
+            }
+            beans {
+                bean<TestRepository>()
+            }
+        }
+
+        with(app.run()) {
+            val repository = getBean<TestRepository>()
+            val connectionPool = getBean<ConnectionFactory>() as ConnectionPool
+
+            StepVerifier
+                    .create(repository.createTable()
+                            .then(repository.save(user))
+                            .then(repository.findById(user.id)))
+                    .expectNext(user)
+                    .verifyComplete()
+            assertEquals(5, connectionPool.metrics.get().maxAllocatedSize)
+            close()
+            assertTrue(connectionPool.isDisposed)
+        }
+    }
+
     @Test
     fun `enable transactional`() {
         // Check that by default TransactionalOperator is not activated
@@ -7,9 +7,17 @@ import org.junit.jupiter.api.Test
 import org.springframework.beans.factory.getBean
 import org.springframework.data.redis.core.ReactiveRedisTemplate
 import org.springframework.fu.kofu.application
+import org.springframework.fu.kofu.localServerPort
+import org.springframework.fu.kofu.reactiveWebApplication
+import org.springframework.fu.kofu.webflux.webFlux
+import org.springframework.http.HttpHeaders
+import org.springframework.test.web.reactive.server.WebTestClient
+import org.springframework.test.web.reactive.server.expectBody
+import org.springframework.web.reactive.function.server.ServerResponse.ok
 import org.testcontainers.containers.GenericContainer
 import java.io.Serializable
 import java.time.Duration
+import java.util.concurrent.atomic.AtomicInteger
 
 class ReactiveRedisDslTests {
 
@@ -45,6 +53,36 @@ class ReactiveRedisDslTests {
 		}
 	}
 
+	@Test
+	fun `serve cached responses without invoking the handler`() {
+		val invocations = AtomicInteger()
+		val app = reactiveWebApplication {
+			reactiveRedis {
+				host = redis.containerIpAddress
+				port = redis.firstMappedPort
+			}
+			webFlux {
+				port = 0
+				router {
+					GET("/cached") { ok().bodyValue("cached-${invocations.incrementAndGet()}") }
+				}
+				responseCache {
+					paths("/cached")
+					ttl = Duration.ofMinutes(1)
+				}
+			}
+		}
+
+		with(app.run()) {
+			val client = WebTestClient.bindToServer().baseUrl("http://127.0.0.1:$localServerPort").build()
+			client.get().uri("/cached").exchange().expectBody<String>().isEqualTo("cached-1")
+			client.get().uri("/cached").exchange().expectBody<String>().isEqualTo("cached-1")
+			client.get().uri("/cached").header(HttpHeaders.COOKIE, "SESSION=1").exchange().expectBody<String>().isEqualTo("cached-2")
+			Assert.assertEquals(2, invocations.get())
+			close()
+		}
+	}
+
 	@AfterAll
 	fun tearDown() {
 		redis.stop()
@@ -1,10 +1,14 @@
 package org.springframework.fu.kofu.redis
 
+import io.lettuce.core.resource.ClientResources
 import org.junit.Assert.assertEquals
+import org.junit.Assert.assertSame
+import org.junit.Assert.assertTrue
 import org.junit.jupiter.api.AfterAll
 import org.junit.jupiter.api.BeforeAll
 import org.junit.jupiter.api.Test
 import org.springframework.beans.factory.getBean
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory
 import org.springframework.data.redis.core.RedisTemplate
 import org.springframework.fu.kofu.application
 import org.testcontainers.containers.GenericContainer
@@ -44,6 +48,31 @@ class RedisDslTests {
 		}
 	}
 
+	@Test
+	fun `enable redis with shared lettuce client resources`() {
+		val app = application {
+			redis {
+				host = redis.containerIpAddress
+				port = redis.firstMappedPort
+				lettuce {
+					clientResources {
+						ioThreadPoolSize = 2
+						computationThreadPoolSize = 2
+					}
+				}
+			}
+		}
+
+		with(app.run()) {
+			val clientResources = getBean<ClientResources>()
+			assertEquals(2, clientResources.ioThreadPoolSize())
+			assertEquals(2, clientResources.computationThreadPoolSize())
+			assertSame(clientResources, getBean<LettuceConnectionFactory>().clientResources)
+			close()
+			assertTrue(clientResources.eventExecutorGroup().isShuttingDown)
+		}
+	}
+
 	@Test
 	fun `enable redis with jedis`() {
 		val app = application {
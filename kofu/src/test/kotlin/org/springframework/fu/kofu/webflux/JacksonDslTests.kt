@@ -17,7 +17,10 @@
 package org.springframework.fu.kofu.webflux
 
 import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule
 import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.Test
 import org.springframework.beans.factory.getBean
 import org.springframework.beans.factory.getBeanProvider
@@ -25,11 +28,16 @@ import org.springframework.fu.kofu.localServerPort
 import org.springframework.fu.kofu.reactiveWebApplication
 import org.springframework.http.HttpHeaders.CONTENT_TYPE
 import org.springframework.http.HttpStatus
+import org.springframework.http.MediaType
 import org.springframework.http.MediaType.APPLICATION_JSON
 import org.springframework.http.MediaType.APPLICATION_JSON_VALUE
+import org.springframework.http.MediaType.APPLICATION_NDJSON
 import org.springframework.test.web.reactive.server.WebTestClient
 import org.springframework.test.web.reactive.server.expectBody
+import org.springframework.util.unit.DataSize
 import org.springframework.web.reactive.function.client.WebClient
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
 import reactor.kotlin.test.test
 
 /**
@@ -98,6 +106,118 @@ class JacksonDslTests {
 		}
 	}
 
+	@Test
+	fun `Enable accelerated jackson module on server, create and request a JSON endpoint`() {
+		val app = reactiveWebApplication {
+			webFlux {
+				port = 0
+				codecs {
+					jackson {
+						accelerated = true
+					}
+				}
+				router {
+					GET("/user") {
+						ok().header(CONTENT_TYPE, APPLICATION_JSON_VALUE).bodyValue(User("Brian"))
+					}
+				}
+			}
+		}
+		with(app.run()) {
+			val moduleIds = getBean<ObjectMapper>().registeredModuleIds
+			assertTrue(moduleIds.contains(AfterburnerModule::class.java.name))
+			assertTrue(moduleIds.contains(ParameterNamesModule::class.java.name))
+			val client = WebTestClient.bindToServer().baseUrl("http://127.0.0.1:$localServerPort").build()
+			client.get().uri("/user").exchange()
+					.expectStatus().is2xxSuccessful
+					.expectBody<User>()
+					.isEqualTo(User("Brian"))
+			close()
+		}
+	}
+
+	@Test
+	fun `Enable high-throughput jackson codecs on client and server, request JSON and NDJSON endpoints`() {
+		val app = reactiveWebApplication {
+			webFlux {
+				port = 0
+				codecs {
+					jackson {
+						highThroughput = true
+						maxInMemorySize = DataSize.ofKilobytes(16)
+					}
+				}
+				router {
+					POST("/user") {
+						it.bodyToMono(User::class.java).flatMap { user -> ok().bodyValue(user) }
+					}
+					GET("/users") {
+						ok().contentType(APPLICATION_NDJSON).body(Flux.just(User("Brian"), User("Stephane")), User::class.java)
+					}
+				}
+			}
+			webClient {
+				codecs {
+					jackson {
+						highThroughput = true
+					}
+				}
+			}
+		}
+		with(app.run()) {
+			val client = getBean<WebClient.Builder>().baseUrl("http://127.0.0.1:$localServerPort").build()
+			client.post().uri("/user").bodyValue(User("Brian")).retrieve().bodyToMono(User::class.java).test()
+					.expectNext(User("Brian"))
+					.verifyComplete()
+			client.get().uri("/users").accept(APPLICATION_NDJSON).retrieve().bodyToFlux(User::class.java).test()
+					.expectNext(User("Brian"), User("Stephane"))
+					.verifyComplete()
+			client.post().uri("/user").bodyValue(User("B".repeat(20_000))).exchangeToMono { Mono.just(it.statusCode()) }.test()
+					.expectNextMatches { it.isError }
+					.verifyComplete()
+			close()
+		}
+	}
+
+	@Test
+	fun `Enable smile and cbor codecs on client and server, exchange binary payloads`() {
+		val app = reactiveWebApplication {
+			webFlux {
+				port = 0
+				codecs {
+					jackson()
+					smile()
+					cbor()
+				}
+				router {
+					POST("/user") {
+						it.bodyToMono(User::class.java).flatMap { user -> ok().bodyValue(user) }
+					}
+				}
+			}
+			webClient {
+				codecs {
+					jackson()
+					smile()
+					cbor()
+				}
+			}
+		}
+		with(app.run()) {
+			val client = getBean<WebClient.Builder>().baseUrl("http://127.0.0.1:$localServerPort").build()
+			for (mediaType in listOf(MediaType("application", "x-jackson-smile"), MediaType.APPLICATION_CBOR)) {
+				client.post().uri("/user").contentType(mediaType).accept(mediaType).bodyValue(User("Brian"))
+						.retrieve().toEntity(User::class.java).test()
+						.consumeNextWith {
+							assertEquals(mediaType, it.headers.contentType)
+							assertEquals(User("Brian"), it.body)
+						}
+						.verifyComplete()
+			}
+			close()
+		}
+	}
+
 	@Test
 	fun `No Jackson codec on server when not declared`() {
 		val app = reactiveWebApplication {
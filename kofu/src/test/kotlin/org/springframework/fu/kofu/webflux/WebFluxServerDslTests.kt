@@ -17,24 +17,30 @@
 package org.springframework.fu.kofu.webflux
 
 import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertThrows
 import org.springframework.beans.factory.getBean
+import org.springframework.boot.autoconfigure.web.embedded.NettyServerInitializer
 import org.springframework.boot.logging.LogLevel
 import org.springframework.fu.kofu.localServerPort
 import org.springframework.fu.kofu.mongo.reactiveMongodb
 import org.springframework.fu.kofu.reactiveWebApplication
+import org.springframework.http.HttpHeaders
 import org.springframework.http.HttpStatus.NO_CONTENT
 import org.springframework.http.HttpStatus.UNAUTHORIZED
 import org.springframework.http.MediaType
 import org.springframework.test.web.reactive.server.WebTestClient
 import org.springframework.test.web.reactive.server.expectBody
+import org.springframework.util.unit.DataSize
 import org.springframework.web.reactive.function.client.WebClient
+import org.springframework.web.reactive.function.server.bodyValueAndAwait
 import org.springframework.web.server.ServerWebExchange
 import org.springframework.web.server.WebFilter
 import org.springframework.web.server.WebFilterChain
 import reactor.core.publisher.Mono
 import reactor.kotlin.test.test
+import java.time.Duration
 
 /**
  * @author Alexey Nesterov
@@ -104,6 +110,34 @@ class WebFluxServerDslTests {
 		}
 	}
 
+	@Test
+	fun `Create and request an endpoint with a tuned Netty engine`() {
+		val app = reactiveWebApplication {
+			webFlux {
+				port = 0
+				netty {
+					workerThreads = 2
+					backlog = 1024
+					idleTimeout = Duration.ofSeconds(30)
+					maxHeaderSize = DataSize.ofKilobytes(16)
+					http2()
+					compression(DataSize.ofBytes(16))
+				}
+				router {
+					GET("/foo") { ok().bodyValue("foo".repeat(100)) }
+				}
+			}
+		}
+		with(app.run()) {
+			assertTrue(containsBean(NettyServerInitializer.LOOP_RESOURCES_BEAN_NAME))
+			val client = WebTestClient.bindToServer().baseUrl("http://127.0.0.1:$localServerPort").build()
+			client.get().uri("/foo").header(HttpHeaders.ACCEPT_ENCODING, "gzip").exchange()
+					.expectStatus().is2xxSuccessful
+					.expectHeader().valueEquals(HttpHeaders.CONTENT_ENCODING, "gzip")
+			close()
+		}
+	}
+
 	@Test
 	fun `Create a WebClient and request an endpoint`() {
 		val app = reactiveWebApplication {
@@ -125,6 +159,63 @@ class WebFluxServerDslTests {
 		}
 	}
 
+	@Test
+	fun `Create a WebClient with a tuned connector and request an endpoint`() {
+		val app = reactiveWebApplication {
+			webFlux {
+				port = 0
+				router {
+					GET("/") { ok().bodyValue("foo") }
+				}
+			}
+			webClient {
+				connector {
+					name = "api"
+					maxConnections = 4
+					pendingAcquireMaxCount = 8
+					pendingAcquireTimeout = Duration.ofSeconds(5)
+					maxIdleTime = Duration.ofSeconds(30)
+					maxLifeTime = Duration.ofMinutes(5)
+					evictInBackground = Duration.ofSeconds(10)
+					responseTimeout = Duration.ofSeconds(5)
+					compression()
+				}
+			}
+		}
+		with(app.run()) {
+			assertTrue(containsBean("apiConnectionProvider"))
+			assertTrue(containsBean("apiLoopResources"))
+			val client = getBean<WebClient.Builder>().build()
+			client.get().uri("http://127.0.0.1:$localServerPort/").exchangeToMono {
+				assertTrue(Thread.currentThread().name.startsWith("api-"))
+				it.bodyToMono(String::class.java)
+			}.test().expectNext("foo").verifyComplete()
+			close()
+		}
+	}
+
+	@Test
+	fun `Fail to declare 2 connectors with the same name`() {
+		val app = reactiveWebApplication {
+			webFlux {
+				port = 0
+			}
+			webClient {
+				connector {
+					maxConnections = 4
+				}
+			}
+			webClient {
+				connector {
+					maxConnections = 8
+				}
+			}
+		}
+		val exception = assertThrows<IllegalStateException> { app.run() }
+		assertEquals("A Reactor Netty connector named 'webClient' is already declared, use a distinct name for each connector",
+				exception.message)
+	}
+
 	@Test
 	fun `Declare 2 router blocks`() {
 		val app = reactiveWebApplication {
@@ -146,6 +237,34 @@ class WebFluxServerDslTests {
 		}
 	}
 
+	@Test
+	fun `Declare indexed router blocks`() {
+		val app = reactiveWebApplication {
+			webFlux {
+				port = 0
+				indexedRouting = true
+				router {
+					"/api".nest {
+						GET("/users/{id}") { ok().bodyValue("user") }
+					}
+				}
+				coRouter {
+					GET("/{name}") { ok().bodyValueAndAwait(it.pathVariable("name")) }
+				}
+				router {
+					GET("/foo") { noContent().build() }
+				}
+			}
+		}
+		with(app.run()) {
+			val client = WebTestClient.bindToServer().baseUrl("http://127.0.0.1:$localServerPort").build()
+			client.get().uri("/api/users/1").exchange().expectBody<String>().isEqualTo("user")
+			client.get().uri("/foo").exchange().expectBody<String>().isEqualTo("foo")
+			client.delete().uri("/api/users/1").exchange().expectStatus().isNotFound
+			close()
+		}
+	}
+
 	@Test
 	fun `Declare 2 server blocks`() {
 		val app = reactiveWebApplication {
@@ -223,4 +342,26 @@ class WebFluxServerDslTests {
 		}
 	}
 
-}
\ No newline at end of file
+
+	@Test
+	fun `Request static files of the static resource router`() {
+		val app = reactiveWebApplication {
+			webFlux {
+				port = 0
+				staticResources {
+					brotli = false
+				}
+			}
+		}
+		with(app.run()) {
+			val client = WebTestClient.bindToServer().baseUrl("http://127.0.0.1:$localServerPort").build()
+			val eTag = client.get().uri("/test.txt").exchange()
+					.expectBody<String>().isEqualTo("Test")
+					.returnResult().responseHeaders.eTag
+			client.get().uri("/test.txt").ifNoneMatch(eTag).exchange().expectStatus().isNotModified
+			client.get().uri("/test.txt").header(HttpHeaders.ACCEPT_ENCODING, "gzip, br").exchange()
+					.expectHeader().valueEquals(HttpHeaders.CONTENT_ENCODING, "gzip")
+			close()
+		}
+	}
+}
@@ -99,6 +99,44 @@ class JacksonDslTests {
 		}
 	}
 
+	@Test
+	fun `Enable smile and cbor converters on server, request them with the client codecs`() {
+		val app = webApplication {
+			webMvc {
+				port = 0
+				converters {
+					jackson()
+					smile()
+					cbor()
+				}
+				router {
+					GET("/user") {
+						ok().body(User("Brian"))
+					}
+				}
+			}
+			webClient {
+				codecs {
+					jackson()
+					smile()
+					cbor()
+				}
+			}
+		}
+		with(app.run()) {
+			val client = getBean<WebClient.Builder>().baseUrl("http://127.0.0.1:$localServerPort").build()
+			for (mediaType in listOf(MediaType("application", "x-jackson-smile"), MediaType.APPLICATION_CBOR)) {
+				client.get().uri("/user").accept(mediaType).retrieve().toEntity(User::class.java).test()
+						.consumeNextWith {
+							assertEquals(mediaType, it.headers.contentType)
+							assertEquals(User("Brian"), it.body)
+						}
+						.verifyComplete()
+			}
+			close()
+		}
+	}
+
 	@Test
 	fun `No Jackson codec on server when not declared`() {
 		val app = webApplication {
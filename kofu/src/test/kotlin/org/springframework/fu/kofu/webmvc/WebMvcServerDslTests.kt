@@ -16,12 +16,26 @@
 
 package org.springframework.fu.kofu.webmvc
 
+import com.google.protobuf.StringValue
+import org.apache.coyote.AbstractProtocol
+import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Test
+import org.springframework.boot.autoconfigure.web.embedded.VirtualThreadsInitializer
+import org.springframework.boot.autoconfigure.web.servlet.ProtobufDelimitedHttpMessageConverter
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext
+import org.springframework.core.ParameterizedTypeReference
 import org.springframework.fu.kofu.localServerPort
 import org.springframework.fu.kofu.webApplication
+import org.springframework.http.HttpHeaders
 import org.springframework.http.MediaType
+import org.springframework.http.converter.protobuf.ProtobufHttpMessageConverter
 import org.springframework.test.web.reactive.server.WebTestClient
 import org.springframework.test.web.reactive.server.expectBody
+import org.springframework.test.web.reactive.server.expectBodyList
+import org.springframework.util.ReflectionUtils
+import java.time.Duration
+import java.util.stream.Stream
 
 /**
  * @author Sebastien Deleuze
@@ -83,6 +97,82 @@ class WebMvcServerDslTests {
 		}
 	}
 
+	@Test
+	fun `Request endpoints of indexed router blocks`() {
+		val app = webApplication {
+			webMvc {
+				port = 0
+				indexedRouting = true
+				router {
+					"/api".nest {
+						GET("/users/{id}") { ok().body("user") }
+					}
+				}
+				router {
+					GET("/{name}") { ok().body(it.pathVariable("name")) }
+				}
+				router {
+					GET("/foo") { noContent().build() }
+				}
+			}
+		}
+		with(app.run()) {
+			val client = WebTestClient.bindToServer().baseUrl("http://127.0.0.1:$localServerPort").build()
+			client.get().uri("/api/users/1").exchange().expectBody<String>().isEqualTo("user")
+			client.get().uri("/foo").exchange().expectBody<String>().isEqualTo("foo")
+			client.delete().uri("/api/users/1").exchange().expectStatus().isNotFound
+			close()
+		}
+	}
+
+	@Test
+	fun `Request an endpoint on a tuned server`() {
+		val app = webApplication {
+			webMvc {
+				port = 0
+				tuning {
+					maxThreads = 50
+					minThreads = 10
+					acceptCount = 200
+					keepAliveTimeout = Duration.ofSeconds(30)
+				}
+				router {
+					GET("/foo") { noContent().build() }
+				}
+			}
+		}
+		with(app.run()) {
+			val client = WebTestClient.bindToServer().baseUrl("http://127.0.0.1:$localServerPort").build()
+			client.get().uri("/foo").exchange().expectStatus().isNoContent
+			val webServer = (this as ServletWebServerApplicationContext).webServer as TomcatWebServer
+			val protocol = webServer.tomcat.connector.protocolHandler as AbstractProtocol<*>
+			assertEquals(50, protocol.maxThreads)
+			assertEquals(10, protocol.minSpareThreads)
+			close()
+		}
+	}
+
+	@Test
+	fun `Request an endpoint on virtual threads`() {
+		val isVirtual = ReflectionUtils.findMethod(Thread::class.java, "isVirtual")
+		val app = webApplication {
+			webMvc {
+				port = 0
+				virtualThreads = true
+				router {
+					GET("/foo") {
+						ok().body((isVirtual != null && ReflectionUtils.invokeMethod(isVirtual, Thread.currentThread()) as Boolean).toString())
+					}
+				}
+			}
+		}
+		with(app.run()) {
+			val client = WebTestClient.bindToServer().baseUrl("http://127.0.0.1:$localServerPort").build()
+			client.get().uri("/foo").exchange().expectBody<String>().isEqualTo(VirtualThreadsInitializer.isSupported().toString())
+			close()
+		}
+	}
+
 	@Test
 	fun `Request static file`() {
 		val app = webApplication {
@@ -96,4 +186,53 @@ class WebMvcServerDslTests {
 			close()
 		}
 	}
+
+	@Test
+	fun `Request static files of the static resource router`() {
+		val app = webApplication {
+			webMvc {
+				port = 0
+				staticResources {
+					brotli = false
+				}
+			}
+		}
+		with(app.run()) {
+			val client = WebTestClient.bindToServer().baseUrl("http://127.0.0.1:$localServerPort").build()
+			val eTag = client.get().uri("/test.txt").exchange()
+					.expectBody<String>().isEqualTo("Test")
+					.returnResult().responseHeaders.eTag
+			client.get().uri("/test.txt").ifNoneMatch(eTag).exchange().expectStatus().isNotModified
+			client.get().uri("/test.txt").header(HttpHeaders.ACCEPT_ENCODING, "gzip, br").exchange()
+					.expectHeader().valueEquals(HttpHeaders.CONTENT_ENCODING, "gzip")
+			close()
+		}
+	}
+
+	@Test
+	fun `Request protobuf message and length-delimited messages endpoints`() {
+		val foo = StringValue.newBuilder().setValue("foo").build()
+		val bar = StringValue.newBuilder().setValue("bar").build()
+		val app = webApplication {
+			webMvc {
+				port = 0
+				converters {
+					protobuf()
+				}
+				router {
+					GET("/message") { ok().body(foo) }
+					GET("/messages") { ok().body(Stream.of(foo, bar), object : ParameterizedTypeReference<Stream<StringValue>>() {}) }
+				}
+			}
+		}
+		with(app.run()) {
+			val client = WebTestClient.bindToServer().baseUrl("http://127.0.0.1:$localServerPort").build()
+			client.get().uri("/message").accept(ProtobufHttpMessageConverter.PROTOBUF).exchange()
+					.expectBody<StringValue>().isEqualTo(foo)
+			client.get().uri("/messages").accept(ProtobufHttpMessageConverter.PROTOBUF).exchange()
+					.expectHeader().contentType(ProtobufDelimitedHttpMessageConverter.PROTOBUF_DELIMITED)
+					.expectBodyList<StringValue>().hasSize(2).contains(foo, bar)
+			close()
+		}
+	}
 }
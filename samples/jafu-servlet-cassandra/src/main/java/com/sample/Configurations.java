@@ -20,7 +20,8 @@ public class Configurations {
             .contactPoints(Collections.singletonList("127.0.0.1:" + port))
             .localDatacenter("datacenter1")
             .keyspaceName("test")
-            .port(port);
+            .port(port)
+            .statements();
 
     public static final Consumer<ConfigurationDsl> cassandraConfig = conf -> conf
             .beans(b -> b.bean(UserRepository.class)).enable(cassandra(cassandraProperties));
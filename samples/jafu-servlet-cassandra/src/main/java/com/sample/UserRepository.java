@@ -1,29 +1,43 @@
 package com.sample;
 
-import org.springframework.data.cassandra.core.CassandraOperations;
+import com.datastax.oss.driver.api.core.cql.Row;
+import org.springframework.boot.autoconfigure.cassandra.CassandraStatementExecutor;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 public class UserRepository {
 
-    private final CassandraOperations operations;
+    private final CassandraStatementExecutor executor;
 
-    public UserRepository(CassandraOperations operations) {
-        this.operations = operations;
+    public UserRepository(CassandraStatementExecutor executor) {
+        this.executor = executor;
     }
 
     public List<User> findAll() {
-        return operations.select("select * from users", User.class);
+        return StreamSupport.stream(executor.execute("SELECT id, firstname, lastname FROM users").spliterator(), false)
+                .map(this::toUser)
+                .collect(Collectors.toList());
     }
 
     public User save(User user) {
         user.setId(UUID.randomUUID());
-       return operations.insert(user);
+        executor.execute("INSERT INTO users (id, firstname, lastname) VALUES (?, ?, ?)",
+                user.getId(), user.getFirstName(), user.getLastName());
+        return user;
     }
 
     public Optional<User> fineOne(UUID id) {
-        return Optional.ofNullable(operations.selectOneById(id, User.class));
+        return Optional.ofNullable(executor.execute("SELECT id, firstname, lastname FROM users WHERE id = ?", id).one())
+                .map(this::toUser);
+    }
+
+    private User toUser(Row row) {
+        User user = new User(row.getString("firstname"), row.getString("lastname"));
+        user.setId(row.getUuid("id"));
+        return user;
     }
 }
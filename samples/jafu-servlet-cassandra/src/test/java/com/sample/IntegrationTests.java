@@ -29,6 +29,25 @@ class IntegrationTests {
                 .jsonPath("$.lastName").isEqualTo("M");
     }
 
+    @Test
+    void testSaveAndFindOneUser() {
+        final User saved = client.post().uri("/users").bodyValue(new User("Jane", "D")).exchange()
+                .expectStatus().isCreated()
+                .expectBody(User.class)
+                .returnResult().getResponseBody();
+
+        client.get().uri("/users/" + saved.getId()).exchange()
+                .expectStatus().is2xxSuccessful()
+                .expectBody()
+                .jsonPath("$.firstName").isEqualTo("Jane")
+                .jsonPath("$.lastName").isEqualTo("D");
+
+        client.get().uri("/users").exchange()
+                .expectStatus().is2xxSuccessful()
+                .expectBody()
+                .jsonPath("$[?(@.firstName == 'Jane')]").exists();
+    }
+
     @Test
     void testFindAllUsers() {
         client.get().uri("/users").exchange()
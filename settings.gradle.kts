@@ -3,7 +3,8 @@ rootProject.name = "spring-fu-build"
 include(
 		"autoconfigure-adapter",
 		"kofu",
-		"jafu"
+		"jafu",
+		"benchmarks"
 )
 
 pluginManagement {